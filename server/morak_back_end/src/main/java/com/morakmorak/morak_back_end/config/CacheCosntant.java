@@ -4,4 +4,9 @@ public class CacheCosntant {
     public static final String USER_RANK = "userRankList";
     public static final String MAIN_ARTICLE_LIST = "mainArticleList";
     public static final String JOB_CALENDAR = "jobCalendar";
+    public static final String ARTICLE_DETAIL = "articleDetail";
+    public static final String ARTICLE_DETAIL_EVICT_CHANNEL = "articleDetailEvict";
+    public static final String ARTICLE_STREAM_CHANNEL = "articleStream";
+    public static final String NOTIFICATION_STREAM_CHANNEL = "notificationStream";
+    public static final String ARTICLE_INDEX_CHANNEL = "articleIndex";
 }
@@ -1,6 +1,8 @@
 package com.morakmorak.morak_back_end.config;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -17,4 +19,17 @@ public class JpaQuerydslConfiguration {
     public JPAQueryFactory jpaQueryFactory() {
         return new JPAQueryFactory(entityManager);
     }
+
+    /*
+     * application.yml 은 저장소에 포함되지 않으므로 batch 설정은 코드로 둡니다.
+     * 게시글/답변에 첨부 파일을 연결할 때 생기는 file update 들을 한 번의 batch 로 보냅니다.
+     * EntityManager 를 주입받는 이 설정 클래스보다 먼저 만들어져야 하므로 static 으로 둡니다.
+     * */
+    @Bean
+    public static HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, 100);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
 }
@@ -4,7 +4,12 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.morakmorak.morak_back_end.domain.ArticleDetailCache;
+import com.morakmorak.morak_back_end.domain.ArticleStreamBroker;
+import com.morakmorak.morak_back_end.domain.NotificationStreamBroker;
+import com.morakmorak.morak_back_end.service.ArticleIndexService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,6 +18,8 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -46,6 +53,24 @@ public class RedisConfig {
     }
 
     @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(ArticleDetailCache articleDetailCache,
+                                                                       ArticleStreamBroker articleStreamBroker,
+                                                                       NotificationStreamBroker notificationStreamBroker,
+                                                                       ArticleIndexService articleIndexService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(articleDetailCache, new ChannelTopic(ARTICLE_DETAIL_EVICT_CHANNEL));
+        container.addMessageListener(articleStreamBroker, new ChannelTopic(ARTICLE_STREAM_CHANNEL));
+        container.addMessageListener(notificationStreamBroker, new ChannelTopic(NOTIFICATION_STREAM_CHANNEL));
+        container.addMessageListener(articleIndexService, new ChannelTopic(ARTICLE_INDEX_CHANNEL));
+        return container;
+    }
+
+    /*
+     * spring.cache.type=none 이면 생성하지 않아, 스프링 부트가 캐싱하지 않는 CacheManager 를 대신 등록합니다.
+     * */
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis", matchIfMissing = true)
     public RedisCacheManager redisCacheManager() {
         RedisCacheConfiguration redisCacheConfig = RedisCacheConfiguration
                 .defaultCacheConfig()
@@ -65,6 +90,7 @@ public class RedisConfig {
         return RedisCacheManager.RedisCacheManagerBuilder
                 .fromConnectionFactory(redisConnectionFactory())
                 .cacheDefaults(redisCacheConfig)
+                .withInitialCacheConfigurations(cacheConfiguration)
                 .build();
     }
 
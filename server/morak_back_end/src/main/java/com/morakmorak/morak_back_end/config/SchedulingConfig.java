@@ -0,0 +1,23 @@
+package com.morakmorak.morak_back_end.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/*
+ * 기본 스케줄러는 스레드가 하나라서, 오래 걸리는 retention 정리가 도는 동안 outbox 처리와 조회수 반영이 멈춥니다.
+ * */
+@Configuration
+public class SchedulingConfig {
+    @Value("${scheduling.pool-size:4}")
+    private int poolSize;
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+}
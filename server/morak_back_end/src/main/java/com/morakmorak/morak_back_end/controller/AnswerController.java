@@ -1,19 +1,25 @@
 package com.morakmorak.morak_back_end.controller;
 
+import com.morakmorak.morak_back_end.controller.utility.PageRequestGenerator;
 import com.morakmorak.morak_back_end.dto.AnswerDto;
+import com.morakmorak.morak_back_end.dto.ResponseCursorPaging;
 import com.morakmorak.morak_back_end.dto.ResponseMultiplePaging;
 import com.morakmorak.morak_back_end.dto.UserDto;
 import com.morakmorak.morak_back_end.entity.Answer;
 import com.morakmorak.morak_back_end.entity.File;
+import com.morakmorak.morak_back_end.entity.Report;
 import com.morakmorak.morak_back_end.exception.BusinessLogicException;
 import com.morakmorak.morak_back_end.exception.ErrorCode;
+import com.morakmorak.morak_back_end.repository.redis.ResourceVersionRepository.Resource;
 import com.morakmorak.morak_back_end.security.resolver.RequestUser;
 import com.morakmorak.morak_back_end.service.AnswerService;
 import com.morakmorak.morak_back_end.service.FileService;
+import com.morakmorak.morak_back_end.service.ResourceVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
@@ -25,6 +31,7 @@ import java.util.List;
 public class AnswerController {
     private final AnswerService answerService;
     private final FileService fileService;
+    private final ResourceVersionService resourceVersionService;
 
     @PostMapping("/answers")
     @ResponseStatus(HttpStatus.CREATED)
@@ -59,11 +66,14 @@ public class AnswerController {
     }
 
     @GetMapping("/answers")
-    @ResponseStatus(HttpStatus.OK)
     public ResponseMultiplePaging<AnswerDto.ResponseListTypeAnswer> getAllAnswers(@Positive @RequestParam(value = "page", defaultValue = "1") int page,
                                                                                   @Positive @RequestParam(value = "size", defaultValue = "5") int size,
                                                                                   @PathVariable("article-id") Long articleId,
-                                                                                @RequestUser UserDto.UserInfo user) {
+                                                                                @RequestUser UserDto.UserInfo user,
+                                                                                  WebRequest webRequest) {
+        if (resourceVersionService.etagOf(Resource.ANSWERS, articleId, user).filter(webRequest::checkNotModified).isPresent()) {
+            return null;
+        }
         Long temp =-1L;
         if (user == null) {
            return answerService.readAllAnswers(articleId, page-1, size);
@@ -72,6 +82,18 @@ public class AnswerController {
         }
     }
 
+    @GetMapping(value = "/answers", params = "cursor")
+    public ResponseCursorPaging<AnswerDto.ResponseListTypeAnswer> getAnswersByCursor(@RequestParam("cursor") String cursor,
+                                                                                     @Positive @RequestParam(value = "size", defaultValue = "5") int size,
+                                                                                     @PathVariable("article-id") Long articleId,
+                                                                                     @RequestUser UserDto.UserInfo user,
+                                                                                     WebRequest webRequest) {
+        if (resourceVersionService.etagOf(Resource.ANSWERS, articleId, user).filter(webRequest::checkNotModified).isPresent()) {
+            return null;
+        }
+        Long userId = user == null ? null : user.getId();
+        return answerService.readAllAnswersAsCursor(articleId, userId, cursor, PageRequestGenerator.sizeOf(size));
+    }
 
     @DeleteMapping("/answers/{answer-id}")
     @ResponseStatus(HttpStatus.OK)
@@ -89,4 +111,18 @@ public class AnswerController {
 
         return new ResponseEntity(responseAnswerLike, HttpStatus.OK);
     }
+
+    @PostMapping("/answers/{answer-id}/reports")
+    @ResponseStatus(HttpStatus.CREATED)
+    public AnswerDto.ResponseReportAnswer reportAnswer(@PathVariable("article-id") Long articleId,
+                                                       @PathVariable("answer-id") Long answerId,
+                                                       @RequestBody AnswerDto.RequestReportAnswer request,
+                                                       @RequestUser UserDto.UserInfo userInfo) {
+        Report report = Report.builder()
+                .reason(request.getReason())
+                .content(request.getContent())
+                .build();
+
+        return answerService.reportAnswer(articleId, answerId, userInfo, report);
+    }
 }
@@ -1,13 +1,17 @@
 package com.morakmorak.morak_back_end.controller;
 
+import com.morakmorak.morak_back_end.controller.utility.PageRequestGenerator;
 import com.morakmorak.morak_back_end.dto.*;
 import com.morakmorak.morak_back_end.entity.*;
+import com.morakmorak.morak_back_end.entity.enums.CategoryName;
 import com.morakmorak.morak_back_end.mapper.ArticleMapper;
 import com.morakmorak.morak_back_end.mapper.CategoryMapper;
 import com.morakmorak.morak_back_end.mapper.FileMapper;
 import com.morakmorak.morak_back_end.mapper.TagMapper;
+import com.morakmorak.morak_back_end.repository.redis.ResourceVersionRepository.Resource;
 import com.morakmorak.morak_back_end.security.resolver.RequestUser;
 import com.morakmorak.morak_back_end.service.ArticleService;
+import com.morakmorak.morak_back_end.service.ResourceVersionService;
 import io.lettuce.core.dynamic.annotation.Param;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,8 +19,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
+import java.util.List;
 
 @RestController
 @RequestMapping("/articles")
@@ -27,6 +33,7 @@ public class ArticleController {
 
     private final ArticleService articleService;
     private final ArticleMapper articleMapper;
+    private final ResourceVersionService resourceVersionService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -66,10 +73,42 @@ public class ArticleController {
         return responseMultiplePaging;
     }
 
-    @GetMapping("/{article-id}")
+    @GetMapping(params = "cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseCursorPaging<ArticleDto.ResponseListTypeArticle> searchArticleByCursor(@Param("category") String category,
+                                                                                         @Param("keyword") String keyword,
+                                                                                         @Param("target") String target,
+                                                                                         @Param("sort") String sort,
+                                                                                         @RequestParam("cursor") String cursor,
+                                                                                         @RequestParam(value = "size", defaultValue = "20") Integer size) {
+        return articleService.searchArticleAsCursor(category, keyword, target, sort, cursor, PageRequestGenerator.sizeOf(size));
+    }
+
+    @GetMapping("/suggest")
+    @ResponseStatus(HttpStatus.OK)
+    public List<ArticleDto.ResponseSuggestedArticle> suggestTitles(@RequestParam("prefix") String prefix,
+                                                                  @RequestParam(value = "size", defaultValue = "10") Integer size) {
+        return articleService.suggestTitles(prefix, PageRequestGenerator.sizeOf(size));
+    }
+
+    @GetMapping("/trending")
     @ResponseStatus(HttpStatus.OK)
+    public List<ArticleDto.ResponseListTypeArticle> findTrendingArticles(@RequestParam(value = "category", required = false) CategoryName category,
+                                                                        @RequestParam(value = "size", defaultValue = "10") Integer size) {
+        return articleService.findTrendingArticles(category, PageRequestGenerator.sizeOf(size));
+    }
+
+    /*
+     * If-None-Match 가 현재 버전과 같으면 응답을 만들지 않고 304 를 반환합니다.
+     * 304 를 덮어쓰지 않도록 @ResponseStatus 를 붙이지 않습니다.
+     * */
+    @GetMapping("/{article-id}")
     public ArticleDto.ResponseDetailArticle findDetailArticle(@RequestUser UserDto.UserInfo userInfo,
-                                                              @PathVariable("article-id") Long articleId) {
+                                                              @PathVariable("article-id") Long articleId,
+                                                              WebRequest webRequest) {
+        if (resourceVersionService.etagOf(Resource.ARTICLE, articleId, userInfo).filter(webRequest::checkNotModified).isPresent()) {
+            return null;
+        }
         return articleService.findDetailArticle(articleId, userInfo);
     }
 
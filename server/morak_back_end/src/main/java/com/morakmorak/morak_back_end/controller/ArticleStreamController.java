@@ -0,0 +1,28 @@
+package com.morakmorak.morak_back_end.controller;
+
+import com.morakmorak.morak_back_end.service.ArticleStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.servlet.http.HttpServletResponse;
+
+@RestController
+@RequestMapping("/articles")
+@RequiredArgsConstructor
+public class ArticleStreamController {
+    private final ArticleStreamService articleStreamService;
+
+    /*
+     * nginx 가 이벤트를 모아서 보내지 않도록 버퍼링을 끕니다.
+     * */
+    @GetMapping(value = "/{article-id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable("article-id") Long articleId, HttpServletResponse response) {
+        response.setHeader("X-Accel-Buffering", "no");
+        return articleStreamService.subscribe(articleId);
+    }
+}
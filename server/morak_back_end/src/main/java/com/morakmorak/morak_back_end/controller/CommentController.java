@@ -1,13 +1,18 @@
 package com.morakmorak.morak_back_end.controller;
 
+import com.morakmorak.morak_back_end.controller.utility.PageRequestGenerator;
 import com.morakmorak.morak_back_end.dto.CommentDto;
+import com.morakmorak.morak_back_end.dto.ResponseCursorPaging;
 import com.morakmorak.morak_back_end.dto.UserDto;
 import com.morakmorak.morak_back_end.entity.Comment;
+import com.morakmorak.morak_back_end.repository.redis.ResourceVersionRepository.Resource;
 import com.morakmorak.morak_back_end.security.resolver.RequestUser;
 import com.morakmorak.morak_back_end.service.CommentService;
+import com.morakmorak.morak_back_end.service.ResourceVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
@@ -17,10 +22,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CommentController {
     private final CommentService commentService;
+    private final ResourceVersionService resourceVersionService;
 
     @PostMapping("/articles/{article-id}/comments")
     @ResponseStatus(HttpStatus.CREATED)
-    public List<CommentDto.Response> requestPostCommentOnArticle(@RequestBody @Valid CommentDto.Request request,
+    public ResponseCursorPaging<CommentDto.Response> requestPostCommentOnArticle(@RequestBody @Valid CommentDto.Request request,
                                                            @PathVariable("article-id") Long articleId,
                                                            @RequestUser UserDto.UserInfo user) {
         Comment commentNotSaved = Comment.builder().content(request.getContent()).build();
@@ -29,7 +35,7 @@ public class CommentController {
 
     @PatchMapping("/articles/{article-id}/comments/{comment-id}")
     @ResponseStatus(HttpStatus.OK)
-    public List<CommentDto.Response> requestUpdateCommentOnArticle(@RequestBody @Valid CommentDto.Request request,
+    public ResponseCursorPaging<CommentDto.Response> requestUpdateCommentOnArticle(@RequestBody @Valid CommentDto.Request request,
                                                           @PathVariable("article-id") Long articleId,
                                                           @PathVariable("comment-id") Long commentId,
                                                           @RequestUser UserDto.UserInfo user) throws Exception {
@@ -39,23 +45,40 @@ public class CommentController {
 
     @DeleteMapping("/articles/{article-id}/comments/{comment-id}")
     @ResponseStatus(HttpStatus.OK)
-    public List<CommentDto.Response> requestDeleteOnArticle(@PathVariable("article-id") Long articleId,
+    public ResponseCursorPaging<CommentDto.Response> requestDeleteOnArticle(@PathVariable("article-id") Long articleId,
                                                           @PathVariable("comment-id") Long commentId,
                                                           @RequestUser UserDto.UserInfo user) throws Exception {
         return commentService.deleteComment(user.getId(), articleId, commentId,true);
     }
 
+    /*
+     * 게시글 댓글은 게시글 상세 조회와 같은 버전을 사용합니다.
+     * */
     @GetMapping("/articles/{article-id}/comments")
-    @ResponseStatus(HttpStatus.OK)
     public List<CommentDto.Response> requestGetCommentsByArticle(@PathVariable("article-id") Long articleId,
                                                                  @Positive @RequestParam(value = "page",defaultValue = "0") int page,
-                                                                 @Positive @RequestParam(value = "size",defaultValue = "10") int size) {
+                                                                 @Positive @RequestParam(value = "size",defaultValue = "10") int size,
+                                                                 WebRequest webRequest) {
+        if (resourceVersionService.etagOf(Resource.ARTICLE, articleId, null).filter(webRequest::checkNotModified).isPresent()) {
+            return null;
+        }
         return commentService.findAllComments(articleId, true);
     }
 
+    @GetMapping(value = "/articles/{article-id}/comments", params = "cursor")
+    public ResponseCursorPaging<CommentDto.Response> requestGetCommentsByArticleAsCursor(@PathVariable("article-id") Long articleId,
+                                                                                      @RequestParam("cursor") String cursor,
+                                                                                      @Positive @RequestParam(value = "size", defaultValue = "10") int size,
+                                                                                      WebRequest webRequest) {
+        if (resourceVersionService.etagOf(Resource.ARTICLE, articleId, null).filter(webRequest::checkNotModified).isPresent()) {
+            return null;
+        }
+        return commentService.findCommentsAsCursor(articleId, true, cursor, PageRequestGenerator.sizeOf(size));
+    }
+
     @PostMapping("/answers/{answer-id}/comments")
     @ResponseStatus(HttpStatus.CREATED)
-    public List<CommentDto.Response> requestPostCommentOnAnswer(@RequestBody @Valid CommentDto.Request request,
+    public ResponseCursorPaging<CommentDto.Response> requestPostCommentOnAnswer(@RequestBody @Valid CommentDto.Request request,
                                                            @PathVariable("answer-id") Long answerId,
                                                            @RequestUser UserDto.UserInfo user) {
         Comment commentNotSaved = Comment.builder().content(request.getContent()).build();
@@ -64,7 +87,7 @@ public class CommentController {
 
     @PatchMapping("/answers/{answer-id}/comments/{comment-id}")
     @ResponseStatus(HttpStatus.OK)
-    public List<CommentDto.Response> requestUpdateCommentOnAnswer(@RequestBody @Valid CommentDto.Request request,
+    public ResponseCursorPaging<CommentDto.Response> requestUpdateCommentOnAnswer(@RequestBody @Valid CommentDto.Request request,
                                                           @PathVariable("answer-id") Long articleId,
                                                           @PathVariable("comment-id") Long commentId,
                                                           @RequestUser UserDto.UserInfo user) throws Exception {
@@ -74,17 +97,31 @@ public class CommentController {
 
     @DeleteMapping("/answers/{answer-id}/comments/{comment-id}")
     @ResponseStatus(HttpStatus.OK)
-    public List<CommentDto.Response> requestDeleteCommentOnAnswer(@PathVariable("answer-id") Long answerId,
+    public ResponseCursorPaging<CommentDto.Response> requestDeleteCommentOnAnswer(@PathVariable("answer-id") Long answerId,
                                                           @PathVariable("comment-id") Long commentId,
                                                           @RequestUser UserDto.UserInfo user) throws Exception {
         return commentService.deleteComment(user.getId(), answerId, commentId,false);
 
     }
     @GetMapping("/answers/{answer-id}/comments")
-    @ResponseStatus(HttpStatus.OK)
     public List<CommentDto.Response> requestGetCommentsByAnswer(@PathVariable("answer-id") Long articleId,
                                                                  @Positive @RequestParam(value = "page",defaultValue = "0") int page,
-                                                                 @Positive @RequestParam(value = "size",defaultValue = "10") int size) {
+                                                                 @Positive @RequestParam(value = "size",defaultValue = "10") int size,
+                                                                 WebRequest webRequest) {
+        if (resourceVersionService.etagOf(Resource.ANSWER_COMMENTS, articleId, null).filter(webRequest::checkNotModified).isPresent()) {
+            return null;
+        }
         return commentService.findAllComments(articleId,false);
     }
+
+    @GetMapping(value = "/answers/{answer-id}/comments", params = "cursor")
+    public ResponseCursorPaging<CommentDto.Response> requestGetCommentsByAnswerAsCursor(@PathVariable("answer-id") Long answerId,
+                                                                                     @RequestParam("cursor") String cursor,
+                                                                                     @Positive @RequestParam(value = "size", defaultValue = "10") int size,
+                                                                                     WebRequest webRequest) {
+        if (resourceVersionService.etagOf(Resource.ANSWER_COMMENTS, answerId, null).filter(webRequest::checkNotModified).isPresent()) {
+            return null;
+        }
+        return commentService.findCommentsAsCursor(answerId, false, cursor, PageRequestGenerator.sizeOf(size));
+    }
 }
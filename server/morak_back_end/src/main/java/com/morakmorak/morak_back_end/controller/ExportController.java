@@ -0,0 +1,33 @@
+package com.morakmorak.morak_back_end.controller;
+
+import com.morakmorak.morak_back_end.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/admin/exports")
+@RequiredArgsConstructor
+public class ExportController {
+    private final ExportService exportService;
+
+    /*
+     * 응답 길이를 정하지 않고 읽는 대로 응답 스트림에 쓰므로 chunked 로 전송됩니다.
+     * 비동기(StreamingResponseBody)로 보내면 async 요청 타임아웃에 걸리므로 요청 스레드에서 끝까지 씁니다.
+     * */
+    @GetMapping("/articles")
+    public void exportArticles(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"articles.ndjson\"");
+
+        exportService.exportPostingArticles(response.getOutputStream());
+    }
+}
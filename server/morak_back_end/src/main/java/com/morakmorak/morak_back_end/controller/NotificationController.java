@@ -2,16 +2,20 @@ package com.morakmorak.morak_back_end.controller;
 
 import com.morakmorak.morak_back_end.controller.utility.PageRequestGenerator;
 import com.morakmorak.morak_back_end.dto.NotificationDto;
+import com.morakmorak.morak_back_end.dto.ResponseCursorPaging;
 import com.morakmorak.morak_back_end.dto.ResponseMultiplePaging;
 import com.morakmorak.morak_back_end.dto.UserDto;
 import com.morakmorak.morak_back_end.security.resolver.RequestUser;
 import com.morakmorak.morak_back_end.service.NotificationService;
+import com.morakmorak.morak_back_end.service.NotificationStreamService;
 import io.lettuce.core.dynamic.annotation.Param;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.servlet.http.HttpServletResponse;
 
@@ -20,6 +24,7 @@ import javax.servlet.http.HttpServletResponse;
 @RequiredArgsConstructor
 public class NotificationController {
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
     private final String BASE_URL = "localhost:8080.com";
 
     @GetMapping
@@ -32,6 +37,31 @@ public class NotificationController {
         return notificationService.findNotificationsBy(userInfo.getId(), pageRequest);
     }
 
+    @GetMapping(params = "cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseCursorPaging<NotificationDto.SimpleResponse> getNotificationsByCursor(@RequestParam("cursor") String cursor,
+                                                                                         @RequestParam(value = "size", defaultValue = "10") Integer size,
+                                                                                         @RequestUser UserDto.UserInfo userInfo) {
+        return notificationService.findNotificationsBy(userInfo.getId(), cursor, PageRequestGenerator.sizeOf(size));
+    }
+
+    @GetMapping("/unread-count")
+    @ResponseStatus(HttpStatus.OK)
+    public NotificationDto.UnreadCount getUnreadCount(@RequestUser UserDto.UserInfo userInfo) {
+        return notificationService.findUnreadCount(userInfo);
+    }
+
+    /*
+     * 재연결 시 브라우저가 보내는 Last-Event-ID 이후의 알림을 먼저 다시 보냅니다.
+     * */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                @RequestUser UserDto.UserInfo userInfo,
+                                HttpServletResponse response) {
+        response.setHeader("X-Accel-Buffering", "no");
+        return notificationStreamService.subscribe(userInfo, lastEventId);
+    }
+
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.PERMANENT_REDIRECT)
     public void getNotificationUri(@PathVariable Long id, HttpServletResponse response) {
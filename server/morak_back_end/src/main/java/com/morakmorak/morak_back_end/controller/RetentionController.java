@@ -0,0 +1,28 @@
+package com.morakmorak.morak_back_end.controller;
+
+import com.morakmorak.morak_back_end.dto.RetentionDto;
+import com.morakmorak.morak_back_end.service.RetentionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/retention")
+@RequiredArgsConstructor
+public class RetentionController {
+    private final RetentionService retentionService;
+
+    /*
+     * 정책별로 마지막 실행의 진행 구간과 지운 행 수를 보여줍니다.
+     * */
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public List<RetentionDto.Progress> getProgresses() {
+        return retentionService.findProgresses();
+    }
+}
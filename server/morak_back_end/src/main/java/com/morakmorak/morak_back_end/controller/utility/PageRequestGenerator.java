@@ -21,4 +21,8 @@ public class PageRequestGenerator {
 
         return PageRequest.of(page, size);
     }
+
+    public static Integer sizeOf(Integer size) {
+        return Math.max(Math.min(size, MAX_SIZE), 1);
+    }
 }
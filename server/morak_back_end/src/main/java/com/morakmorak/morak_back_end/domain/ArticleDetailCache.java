@@ -0,0 +1,185 @@
+package com.morakmorak.morak_back_end.domain;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.morakmorak.morak_back_end.dto.ArticleDto;
+import com.morakmorak.morak_back_end.repository.redis.RedisRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.morakmorak.morak_back_end.config.CacheCosntant.ARTICLE_DETAIL;
+import static com.morakmorak.morak_back_end.config.CacheCosntant.ARTICLE_DETAIL_EVICT_CHANNEL;
+
+/*
+ * 게시글 상세 조회 응답 중 조회자와 무관한 부분을 캐싱합니다.
+ * L1 은 서버 메모리(Caffeine), L2 는 Redis 이며 L1 -> L2 -> DB 순으로 조회합니다.
+ * 무효화 시에는 두 단계를 모두 지우고, 다른 서버의 L1 도 지우도록 Redis 채널로 게시글 id 를 전파합니다.
+ * isLiked, isBookmarked 는 캐싱하지 않고 조회할 때마다 덧씌웁니다.
+ * 조회수 반영은 내용 변경이 아니므로 무효화하지 않고, 캐싱한 뒤 DB 에 반영된 조회수를 Redis 에 따로 누적해 응답에 더합니다.
+ * */
+@Slf4j
+@Component
+public class ArticleDetailCache implements MessageListener {
+    private static final long LOCAL_MAXIMUM_SIZE = 1000L;
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(1);
+    private static final Duration REMOTE_TTL = Duration.ofMinutes(10);
+    private static final Duration FLUSHED_CLICKS_TTL = REMOTE_TTL.plusMinutes(5);
+
+    /*
+     * 캐싱된 게시글의 키에만 더합니다. 캐싱되지 않은 게시글은 다음 조회 때 DB 값을 읽으므로 누적할 필요가 없습니다.
+     * */
+    private static final RedisScript<Long> ADD_FLUSHED_CLICKS_SCRIPT = new DefaultRedisScript<>(
+            "for i, key in ipairs(KEYS) do " +
+                    "if redis.call('EXISTS', key) == 1 then redis.call('INCRBY', key, ARGV[i]) end " +
+                    "end " +
+                    "return 0", Long.class);
+
+    private final Cache<Long, ArticleDto.ResponseDetailArticle> localCache = Caffeine.newBuilder()
+            .maximumSize(LOCAL_MAXIMUM_SIZE)
+            .expireAfterWrite(LOCAL_TTL)
+            .build();
+
+    private final RedisRepository<ArticleDto.ResponseDetailArticle> remoteCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+
+    public ArticleDetailCache(RedisRepository<ArticleDto.ResponseDetailArticle> remoteCache,
+                              RedisTemplate<String, String> redisTemplate,
+                              @Value("${cache.article-detail.enabled:true}") boolean enabled) {
+        this.remoteCache = remoteCache;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+    }
+
+    public Optional<ArticleDto.ResponseDetailArticle> get(Long articleId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        ArticleDto.ResponseDetailArticle local = localCache.getIfPresent(articleId);
+        if (local != null) {
+            return Optional.of(local);
+        }
+
+        Optional<ArticleDto.ResponseDetailArticle> remote = getRemote(articleId);
+        remote.ifPresent(response -> localCache.put(articleId, response));
+        return remote;
+    }
+
+    public void put(Long articleId, ArticleDto.ResponseDetailArticle response) {
+        if (!enabled) {
+            return;
+        }
+
+        localCache.put(articleId, response);
+
+        try {
+            remoteCache.saveData(keyOf(articleId), response, REMOTE_TTL.toMillis());
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+        }
+    }
+
+    /*
+     * DB 에서 응답을 다시 만들기 직전에 호출합니다. 이후 반영되는 조회수만 새 응답에 더해집니다.
+     * 호출과 DB 조회 사이에 반영된 조회수는 한 번 더 세어질 수 있지만 캐시가 만료되면 DB 값으로 맞춰집니다.
+     * */
+    public void resetFlushedClicks(Long articleId) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForValue().set(flushedClicksKeyOf(articleId), "0", FLUSHED_CLICKS_TTL);
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+        }
+    }
+
+    public void addFlushedClicks(Map<Long, Long> clicksByArticleId) {
+        if (!enabled || clicksByArticleId.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>();
+        List<String> clicks = new ArrayList<>();
+        clicksByArticleId.forEach((articleId, count) -> {
+            keys.add(flushedClicksKeyOf(articleId));
+            clicks.add(String.valueOf(count));
+        });
+
+        try {
+            redisTemplate.execute(ADD_FLUSHED_CLICKS_SCRIPT, keys, clicks.toArray());
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+        }
+    }
+
+    public long flushedClicksOf(Long articleId) {
+        if (!enabled) {
+            return 0L;
+        }
+
+        try {
+            String clicks = redisTemplate.opsForValue().get(flushedClicksKeyOf(articleId));
+            return clicks == null ? 0L : Long.parseLong(clicks);
+        } catch (DataAccessException | NumberFormatException e) {
+            log.error(e.getMessage());
+            return 0L;
+        }
+    }
+
+    public void evict(Long articleId) {
+        localCache.invalidate(articleId);
+
+        try {
+            remoteCache.deleteData(keyOf(articleId));
+            redisTemplate.convertAndSend(ARTICLE_DETAIL_EVICT_CHANNEL, String.valueOf(articleId));
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+        }
+    }
+
+    /*
+     * 다른 서버에서 전파된 무효화 메시지입니다. 자신이 보낸 메시지도 받지만 L1 만 지우므로 문제되지 않습니다.
+     * */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            localCache.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.error(e.getMessage());
+        }
+    }
+
+    private Optional<ArticleDto.ResponseDetailArticle> getRemote(Long articleId) {
+        try {
+            return remoteCache.getData(keyOf(articleId), ArticleDto.ResponseDetailArticle.class);
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private String keyOf(Long articleId) {
+        return ARTICLE_DETAIL + ":" + articleId;
+    }
+
+    private String flushedClicksKeyOf(Long articleId) {
+        return ARTICLE_DETAIL + ":clicks:" + articleId;
+    }
+}
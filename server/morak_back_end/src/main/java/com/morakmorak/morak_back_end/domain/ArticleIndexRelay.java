@@ -0,0 +1,67 @@
+package com.morakmorak.morak_back_end.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morakmorak.morak_back_end.event.ArticleChangedEvent;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.morakmorak.morak_back_end.config.CacheCosntant.ARTICLE_INDEX_CHANNEL;
+
+/*
+ * 검색/태그/연관 게시글/자동완성 인덱스는 서버마다 메모리에 있으므로, 이 서버에서 반영한 변경을 Redis 채널로 다른 서버에 전달합니다.
+ * 쓰기를 처리한 서버는 커밋 직후 바로 반영하므로, 채널로 돌아온 자신의 메시지는 origin 으로 걸러 냅니다.
+ * 발행에 실패하거나 구독이 끊긴 동안의 변경은 다른 서버에 반영되지 않으므로 ArticleIndexService 가 주기적으로 다시 만듭니다.
+ * */
+@Slf4j
+@Component
+public class ArticleIndexRelay {
+    private final String origin = UUID.randomUUID().toString();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ArticleIndexRelay(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void publish(ArticleChangedEvent event) {
+        try {
+            redisTemplate.convertAndSend(ARTICLE_INDEX_CHANNEL, objectMapper.writeValueAsString(new Envelope(origin, event)));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.error(e.getMessage());
+        }
+    }
+
+    /*
+     * 다른 서버가 보낸 변경이면 꺼내고, 이 서버가 보낸 메시지거나 읽을 수 없으면 비어 있습니다.
+     * */
+    public Optional<ArticleChangedEvent> receive(Message message) {
+        try {
+            Envelope envelope = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), Envelope.class);
+            return origin.equals(envelope.getOrigin()) ? Optional.empty() : Optional.ofNullable(envelope.getEvent());
+        } catch (JsonProcessingException e) {
+            log.error(e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    static class Envelope {
+        private String origin;
+        private ArticleChangedEvent event;
+    }
+}
@@ -0,0 +1,290 @@
+package com.morakmorak.morak_back_end.domain;
+
+import com.morakmorak.morak_back_end.entity.enums.CategoryName;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/*
+ * 게시글 제목/본문에 대한 메모리 역색인입니다.
+ * 토큰 -> (게시글 id -> 출현 빈도) 형태의 posting 을 제목과 본문에 대해 따로 유지합니다.
+ * 검색어의 모든 토큰을 포함한 게시글만 결과가 되며, 점수는 tf * idf 의 합으로 계산하되 제목 출현에 가중치를 줍니다.
+ * 색인이 준비되기 전(기동 직후 재구축 중)에는 Optional.empty() 를 돌려주어 호출하는 쪽이 DB 검색으로 대체하게 합니다.
+ * */
+@Component
+public class ArticleSearchIndex {
+    private static final int TITLE_WEIGHT = 3;
+
+    private final HangulBigramTokenizer tokenizer = new HangulBigramTokenizer();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Map<Long, Integer>> titlePostings = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> contentPostings = new HashMap<>();
+    private final Map<Long, IndexedArticle> articles = new HashMap<>();
+
+    private volatile boolean ready = false;
+
+    public enum Field {
+        TITLE, CONTENT, TITLE_AND_CONTENT
+    }
+
+    public enum Order {
+        RELEVANCE, ID_DESC, ID_ASC
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SearchResult {
+        private final List<Long> articleIds;
+        private final long total;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+        private final Long articleId;
+        private final Double score;
+    }
+
+    @AllArgsConstructor
+    private static class IndexedArticle {
+        private final Set<String> titleTokens;
+        private final Set<String> contentTokens;
+        private final CategoryName category;
+        private final Boolean isClosed;
+    }
+
+    public void index(Long articleId, String title, String content, CategoryName category, Boolean isClosed) {
+        Map<String, Integer> titleFrequencies = countFrequencies(title);
+        Map<String, Integer> contentFrequencies = countFrequencies(content);
+
+        lock.writeLock().lock();
+        try {
+            removeWithoutLock(articleId);
+
+            titleFrequencies.forEach((token, tf) ->
+                    titlePostings.computeIfAbsent(token, key -> new HashMap<>()).put(articleId, tf));
+            contentFrequencies.forEach((token, tf) ->
+                    contentPostings.computeIfAbsent(token, key -> new HashMap<>()).put(articleId, tf));
+
+            articles.put(articleId, new IndexedArticle(
+                    titleFrequencies.keySet(), contentFrequencies.keySet(), category, isClosed));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeWithoutLock(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            titlePostings.clear();
+            contentPostings.clear();
+            articles.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return articles.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<SearchResult> search(String keyword, Field field, CategoryName category, Boolean isClosed,
+                                         Order order, long offset, int limit) {
+        return match(keyword, field, category, isClosed, order).map(matched -> {
+            List<Long> page = matched.stream()
+                    .skip(offset)
+                    .limit(limit)
+                    .collect(Collectors.toList());
+            return new SearchResult(page, matched.size());
+        });
+    }
+
+    public Optional<List<Long>> match(String keyword, Field field, CategoryName category, Boolean isClosed, Order order) {
+        return rank(keyword, field, category, isClosed, order).map(ranked -> ranked.stream()
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList()));
+    }
+
+    /*
+     * 커서 기반 조회용입니다. (점수, id) 정렬 순서에서 after 다음에 오는 게시글을 limit 건까지 반환합니다.
+     * */
+    public Optional<List<Hit>> searchAfter(String keyword, Field field, CategoryName category, Boolean isClosed,
+                                           Order order, Hit after, int limit) {
+        Comparator<Map.Entry<Long, Double>> comparator = comparatorOf(order);
+        Map.Entry<Long, Double> afterEntry = after != null
+                ? new AbstractMap.SimpleImmutableEntry<>(after.getArticleId(), after.getScore())
+                : null;
+
+        return rank(keyword, field, category, isClosed, order).map(ranked -> ranked.stream()
+                .filter(entry -> afterEntry == null || comparator.compare(entry, afterEntry) > 0)
+                .limit(limit)
+                .map(entry -> new Hit(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList()));
+    }
+
+    private Optional<List<Map.Entry<Long, Double>>> rank(String keyword, Field field, CategoryName category,
+                                                         Boolean isClosed, Order order) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        Set<String> queryTokens = new LinkedHashSet<>(tokenizer.tokenize(keyword));
+        if (queryTokens.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+
+            for (String token : queryTokens) {
+                Map<Long, Double> tokenScores = scoreToken(token, field);
+                scores = (scores == null) ? tokenScores : intersect(scores, tokenScores);
+
+                if (scores.isEmpty()) {
+                    return Optional.of(Collections.emptyList());
+                }
+            }
+
+            return Optional.of(scores.entrySet().stream()
+                    .filter(entry -> matchesFilter(articles.get(entry.getKey()), category, isClosed))
+                    .sorted(comparatorOf(order))
+                    .collect(Collectors.toList()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> scoreToken(String token, Field field) {
+        Map<Long, Double> scores = new HashMap<>();
+
+        if (field != Field.CONTENT) {
+            accumulate(scores, findPostings(titlePostings, token), TITLE_WEIGHT);
+        }
+
+        if (field != Field.TITLE) {
+            accumulate(scores, findPostings(contentPostings, token), 1);
+        }
+
+        return scores;
+    }
+
+    /*
+     * 한 글자 검색어는 같은 글자를 포함한 모든 2-gram 을 하나의 posting 으로 합쳐서 봅니다.
+     * */
+    private Map<Long, Integer> findPostings(Map<String, Map<Long, Integer>> postings, String token) {
+        if (token.length() != 1) {
+            return postings.getOrDefault(token, Collections.emptyMap());
+        }
+
+        Map<Long, Integer> merged = new HashMap<>();
+        postings.forEach((key, posting) -> {
+            if (key.contains(token)) {
+                posting.forEach((articleId, tf) -> merged.merge(articleId, tf, Integer::sum));
+            }
+        });
+        return merged;
+    }
+
+    private void accumulate(Map<Long, Double> scores, Map<Long, Integer> posting, int weight) {
+        if (posting.isEmpty()) {
+            return;
+        }
+
+        double idf = Math.log(1.0 + (double) articles.size() / posting.size());
+        posting.forEach((articleId, tf) -> scores.merge(articleId, weight * tf * idf, Double::sum));
+    }
+
+    private Map<Long, Double> intersect(Map<Long, Double> left, Map<Long, Double> right) {
+        Map<Long, Double> result = new HashMap<>();
+        left.forEach((articleId, score) -> {
+            Double other = right.get(articleId);
+            if (other != null) {
+                result.put(articleId, score + other);
+            }
+        });
+        return result;
+    }
+
+    private boolean matchesFilter(IndexedArticle indexedArticle, CategoryName category, Boolean isClosed) {
+        if (indexedArticle == null) {
+            return false;
+        }
+        if (category != null && indexedArticle.category != category) {
+            return false;
+        }
+        return isClosed == null || isClosed.equals(indexedArticle.isClosed);
+    }
+
+    private Comparator<Map.Entry<Long, Double>> comparatorOf(Order order) {
+        Comparator<Map.Entry<Long, Double>> byIdDesc = Map.Entry.<Long, Double>comparingByKey().reversed();
+
+        switch (order) {
+            case ID_ASC:
+                return Map.Entry.comparingByKey();
+            case ID_DESC:
+                return byIdDesc;
+            default:
+                return Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(byIdDesc);
+        }
+    }
+
+    private Map<String, Integer> countFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenizer.tokenize(text).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        return frequencies;
+    }
+
+    private void removeWithoutLock(Long articleId) {
+        IndexedArticle previous = articles.remove(articleId);
+
+        if (previous == null) {
+            return;
+        }
+
+        removePostings(titlePostings, previous.titleTokens, articleId);
+        removePostings(contentPostings, previous.contentTokens, articleId);
+    }
+
+    private void removePostings(Map<String, Map<Long, Integer>> postings, Set<String> tokens, Long articleId) {
+        tokens.forEach(token -> {
+            Map<Long, Integer> posting = postings.get(token);
+            if (posting == null) {
+                return;
+            }
+
+            posting.remove(articleId);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.morakmorak.morak_back_end.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morakmorak.morak_back_end.event.ArticleActivityEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static com.morakmorak.morak_back_end.config.CacheCosntant.ARTICLE_STREAM_CHANNEL;
+
+/*
+ * 게시글별 SSE 구독자에게 변경분을 전달합니다.
+ * 구독자는 여러 서버에 흩어져 있으므로 변경분은 Redis 채널로 발행하고, 채널에서 받은 변경분을 이 서버의 구독자에게 보냅니다.
+ * 자신이 발행한 메시지도 채널로 돌려받으므로 발행한 서버에서 따로 전달하지 않습니다. 발행에 실패하면 이 서버의 구독자에게만 전달합니다.
+ * */
+@Slf4j
+@Component
+public class ArticleStreamBroker implements MessageListener {
+    private static final Duration TIMEOUT = Duration.ofMinutes(30);
+
+    private final SseEmitterRegistry<Long> registry = new SseEmitterRegistry<>(TIMEOUT);
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ArticleStreamBroker(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /*
+     * 프록시가 응답 헤더를 바로 내려보내도록 연결 직후 주석 한 줄을 보냅니다.
+     * */
+    public SseEmitter subscribe(Long articleId) {
+        SseEmitter emitter = registry.register(articleId);
+        registry.send(articleId, emitter, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    public void publish(ArticleActivityEvent event) {
+        String payload;
+
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error(e.getMessage());
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(ARTICLE_STREAM_CHANNEL, payload);
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+            deliver(event.getArticleId(), event.getType(), payload);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            ArticleActivityEvent event = objectMapper.readValue(payload, ArticleActivityEvent.class);
+            deliver(event.getArticleId(), event.getType(), payload);
+        } catch (JsonProcessingException e) {
+            log.error(e.getMessage());
+        }
+    }
+
+    public void heartbeat() {
+        registry.heartbeat();
+    }
+
+    public int subscriberCount(Long articleId) {
+        return registry.count(articleId);
+    }
+
+    private void deliver(Long articleId, ArticleActivityEvent.Type type, String payload) {
+        registry.send(articleId, () -> SseEmitter.event()
+                .name(type.name())
+                .data(payload, MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,219 @@
+package com.morakmorak.morak_back_end.domain;
+
+import com.morakmorak.morak_back_end.entity.enums.CategoryName;
+import com.morakmorak.morak_back_end.entity.enums.TagName;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * 태그/카테고리/채택 여부별로 게시글 id 비트맵을 유지하는 메모리 색인입니다.
+ * 게시글 id 는 IDENTITY 로 촘촘하게 증가하므로 id 를 그대로 비트 위치로 씁니다.
+ * 여러 태그의 AND/OR 조건과 카테고리, 채택 여부를 비트 연산으로 계산하고, DB 에서는 최종 페이지의 id 만 조회하도록 합니다.
+ * 색인이 준비되기 전에는 Optional.empty() 를 돌려주어 호출하는 쪽이 DB 검색으로 대체하게 합니다.
+ * */
+@Component
+public class ArticleTagBitmapIndex {
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<TagName, BitSet> tagBitmaps = new EnumMap<>(TagName.class);
+    private final Map<CategoryName, BitSet> categoryBitmaps = new EnumMap<>(CategoryName.class);
+    private final BitSet closedBitmap = new BitSet();
+    private final BitSet postingBitmap = new BitSet();
+
+    private volatile boolean ready = false;
+
+    public enum Match {
+        ALL, ANY
+    }
+
+    /*
+     * tags 가 null 이면 기존에 색인된 태그를 그대로 두고 카테고리와 채택 여부만 갱신합니다.
+     * */
+    public void index(Long articleId, Set<TagName> tags, CategoryName category, Boolean isClosed) {
+        int bit = bitOf(articleId);
+
+        lock.writeLock().lock();
+        try {
+            postingBitmap.set(bit);
+            closedBitmap.set(bit, Boolean.TRUE.equals(isClosed));
+            categoryBitmaps.values().forEach(bitmap -> bitmap.clear(bit));
+            if (category != null) {
+                categoryBitmaps.computeIfAbsent(category, key -> new BitSet()).set(bit);
+            }
+
+            if (tags != null) {
+                tagBitmaps.values().forEach(bitmap -> bitmap.clear(bit));
+                tags.forEach(tag -> tagBitmaps.computeIfAbsent(tag, key -> new BitSet()).set(bit));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long articleId) {
+        int bit = bitOf(articleId);
+
+        lock.writeLock().lock();
+        try {
+            postingBitmap.clear(bit);
+            closedBitmap.clear(bit);
+            categoryBitmaps.values().forEach(bitmap -> bitmap.clear(bit));
+            tagBitmaps.values().forEach(bitmap -> bitmap.clear(bit));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            tagBitmaps.clear();
+            categoryBitmaps.clear();
+            closedBitmap.clear();
+            postingBitmap.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return postingBitmap.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<ArticleSearchIndex.SearchResult> search(Set<TagName> tags, Match match, CategoryName category, Boolean isClosed,
+                                                            boolean ascending, long offset, int limit) {
+        return filter(tags, match, category, isClosed).map(bitmap -> {
+            List<Long> page = new ArrayList<>();
+            long skipped = 0;
+
+            for (int bit = first(bitmap, ascending); bit >= 0 && page.size() < limit; bit = next(bitmap, bit, ascending)) {
+                if (skipped++ >= offset) {
+                    page.add((long) bit);
+                }
+            }
+
+            return new ArticleSearchIndex.SearchResult(page, bitmap.cardinality());
+        });
+    }
+
+    /*
+     * 조건에 맞는 모든 게시글 id 를 id 내림차순으로 반환합니다. 좋아요/댓글/답변 수 정렬처럼 DB 정렬이 필요한 경우에 씁니다.
+     * */
+    public Optional<List<Long>> match(Set<TagName> tags, Match match, CategoryName category, Boolean isClosed) {
+        return filter(tags, match, category, isClosed).map(bitmap -> {
+            List<Long> matched = new ArrayList<>(bitmap.cardinality());
+
+            for (int bit = first(bitmap, false); bit >= 0; bit = next(bitmap, bit, false)) {
+                matched.add((long) bit);
+            }
+            return matched;
+        });
+    }
+
+    /*
+     * 커서 기반 조회용입니다. id 정렬 순서에서 afterId 다음에 오는 게시글을 limit 건까지 반환합니다.
+     * */
+    public Optional<List<Long>> searchAfter(Set<TagName> tags, Match match, CategoryName category, Boolean isClosed,
+                                            boolean ascending, Long afterId, int limit) {
+        return filter(tags, match, category, isClosed).map(bitmap -> {
+            List<Long> page = new ArrayList<>();
+            int bit = afterId == null ? first(bitmap, ascending) : next(bitmap, bitOf(afterId), ascending);
+
+            for (; bit >= 0 && page.size() < limit; bit = next(bitmap, bit, ascending)) {
+                page.add((long) bit);
+            }
+            return page;
+        });
+    }
+
+    private Optional<BitSet> filter(Set<TagName> tags, Match match, CategoryName category, Boolean isClosed) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) postingBitmap.clone();
+
+            if (tags != null && !tags.isEmpty()) {
+                result.and(match == Match.ANY ? union(tags) : intersection(tags));
+            }
+
+            if (category != null) {
+                result.and(categoryBitmaps.getOrDefault(category, new BitSet()));
+            }
+
+            if (isClosed != null) {
+                if (isClosed) {
+                    result.and(closedBitmap);
+                } else {
+                    result.andNot(closedBitmap);
+                }
+            }
+
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet intersection(Set<TagName> tags) {
+        BitSet result = null;
+
+        for (TagName tag : tags) {
+            BitSet bitmap = tagBitmaps.get(tag);
+            if (bitmap == null) {
+                return new BitSet();
+            }
+
+            if (result == null) {
+                result = (BitSet) bitmap.clone();
+            } else {
+                result.and(bitmap);
+            }
+        }
+        return result;
+    }
+
+    private BitSet union(Set<TagName> tags) {
+        BitSet result = new BitSet();
+        tags.forEach(tag -> {
+            BitSet bitmap = tagBitmaps.get(tag);
+            if (bitmap != null) {
+                result.or(bitmap);
+            }
+        });
+        return result;
+    }
+
+    private int first(BitSet bitmap, boolean ascending) {
+        return ascending ? bitmap.nextSetBit(0) : bitmap.previousSetBit(bitmap.length() - 1);
+    }
+
+    private int next(BitSet bitmap, int bit, boolean ascending) {
+        if (ascending) {
+            return bit == Integer.MAX_VALUE ? -1 : bitmap.nextSetBit(bit + 1);
+        }
+        return bit <= 0 ? -1 : bitmap.previousSetBit(bit - 1);
+    }
+
+    private int bitOf(Long articleId) {
+        return Math.toIntExact(articleId);
+    }
+}
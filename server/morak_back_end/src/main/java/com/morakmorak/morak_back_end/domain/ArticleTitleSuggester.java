@@ -0,0 +1,104 @@
+package com.morakmorak.morak_back_end.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/*
+ * 검색창 자동완성용 게시글 제목 색인입니다.
+ * 정규화한 제목을 단어 시작 위치마다 잘라 정렬된 map 에 넣어두고, 접두어 범위(subMap)만 읽어서 제안합니다.
+ * (ex. "스프링 빈 등록" -> "스프링 빈 등록", "빈 등록", "등록")
+ * key 뒤에 게시글 id 를 붙여 같은 제목의 게시글도 따로 보관합니다.
+ * */
+@Component
+public class ArticleTitleSuggester {
+    private static final char ID_SEPARATOR = '\u0000';
+    private static final char PREFIX_END = '\uffff';
+
+    private final ConcurrentSkipListMap<String, Suggestion> entries = new ConcurrentSkipListMap<>();
+    private final Map<Long, List<String>> keysByArticle = new ConcurrentHashMap<>();
+
+    @Getter
+    @AllArgsConstructor
+    public static class Suggestion {
+        private final Long articleId;
+        private final String title;
+    }
+
+    public synchronized void index(Long articleId, String title) {
+        remove(articleId);
+
+        if (title == null || title.isBlank()) {
+            return;
+        }
+
+        Suggestion suggestion = new Suggestion(articleId, title);
+        List<String> keys = new ArrayList<>();
+
+        for (String suffix : wordSuffixesOf(normalize(title))) {
+            String key = suffix + ID_SEPARATOR + articleId;
+            entries.put(key, suggestion);
+            keys.add(key);
+        }
+
+        keysByArticle.put(articleId, keys);
+    }
+
+    public synchronized void remove(Long articleId) {
+        List<String> keys = keysByArticle.remove(articleId);
+
+        if (keys != null) {
+            keys.forEach(entries::remove);
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        keysByArticle.clear();
+    }
+
+    /*
+     * 접두어로 시작하는 단어를 가진 제목을 limit 건까지 반환합니다. 한 게시글은 한 번만 제안합니다.
+     * */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        List<Suggestion> result = new ArrayList<>();
+        String normalized = normalize(prefix);
+
+        if (normalized.isEmpty()) {
+            return result;
+        }
+
+        Set<Long> suggested = new HashSet<>();
+        for (Suggestion suggestion : entries.subMap(normalized, normalized + PREFIX_END).values()) {
+            if (suggested.add(suggestion.getArticleId())) {
+                result.add(suggestion);
+            }
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private List<String> wordSuffixesOf(String normalized) {
+        List<String> suffixes = new ArrayList<>();
+
+        for (int i = 0; i < normalized.length(); i++) {
+            if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                suffixes.add(normalized.substring(i));
+            }
+        }
+        return suffixes;
+    }
+
+    private String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
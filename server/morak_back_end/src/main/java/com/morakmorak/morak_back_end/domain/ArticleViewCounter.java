@@ -0,0 +1,47 @@
+package com.morakmorak.morak_back_end.domain;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 게시글 조회수를 DB 에 바로 쓰지 않고 메모리에 모아두는 버퍼입니다.
+ * 조회할 때마다 article row 를 update 하면 인기 글의 조회 요청이 같은 row lock 에 줄을 서게 되므로,
+ * 게시글별로 누적한 뒤 스케줄러가 주기적으로 drain() 하여 한 번에 반영합니다.
+ * 누적(merge)과 꺼내기(remove)가 모두 ConcurrentHashMap 의 원자적 연산이므로 drain 도중에 들어온 조회수도 잃지 않습니다.
+ * */
+@Component
+public class ArticleViewCounter {
+    private final ConcurrentHashMap<Long, Long> pendingClicks = new ConcurrentHashMap<>();
+
+    public void increase(Long articleId) {
+        add(articleId, 1L);
+    }
+
+    public void add(Long articleId, long clicks) {
+        pendingClicks.merge(articleId, clicks, Long::sum);
+    }
+
+    public long pendingOf(Long articleId) {
+        return pendingClicks.getOrDefault(articleId, 0L);
+    }
+
+    /*
+     * 누적된 조회수를 꺼내고 버퍼에서 제거합니다. 꺼낸 뒤 들어온 조회수는 다음 drain 에 반영됩니다.
+     * */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+
+        for (Long articleId : pendingClicks.keySet()) {
+            Long clicks = pendingClicks.remove(articleId);
+
+            if (clicks != null && clicks > 0) {
+                drained.put(articleId, clicks);
+            }
+        }
+
+        return drained;
+    }
+}
@@ -0,0 +1,45 @@
+package com.morakmorak.morak_back_end.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/*
+ * 커서 기반 조회 결과입니다. 전체 개수 대신 다음 페이지 존재 여부와 다음 커서만 가집니다.
+ * 조회는 size + 1 건을 가져와서 마지막 한 건으로 다음 페이지 존재 여부를 판단합니다.
+ * */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorSlice<T> {
+    private final List<T> content;
+    private final Integer size;
+    private final Boolean hasNext;
+    private final PageCursor nextCursor;
+
+    public static <T> CursorSlice<T> of(List<T> fetched, int size, Function<T, PageCursor> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? new ArrayList<>(fetched.subList(0, size)) : fetched;
+        PageCursor nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : PageCursor.first();
+
+        return new CursorSlice<>(content, size, hasNext, nextCursor);
+    }
+
+    /*
+     * 조회 결과가 아닌 응답(등록/수정된 한 건 등)에 이어서 읽을 커서를 붙일 때 사용합니다.
+     * */
+    public static <T> CursorSlice<T> of(List<T> content, boolean hasNext, PageCursor nextCursor) {
+        return new CursorSlice<>(content, content.size(), hasNext, nextCursor);
+    }
+
+    public static <T> CursorSlice<T> empty(int size) {
+        return new CursorSlice<>(new ArrayList<>(), size, false, PageCursor.first());
+    }
+
+    public <R> CursorSlice<R> withContent(List<R> content) {
+        return new CursorSlice<>(content, size, hasNext, nextCursor);
+    }
+}
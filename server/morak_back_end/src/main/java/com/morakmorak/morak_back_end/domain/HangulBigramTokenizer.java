@@ -0,0 +1,62 @@
+package com.morakmorak.morak_back_end.domain;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/*
+ * 검색 색인용 토크나이저입니다.
+ * 문자/숫자 구간을 한글과 그 외 문자로 다시 나눈 뒤, 각 구간을 2-gram 으로 자릅니다.
+ * 한 글자짜리 구간은 그대로 1-gram 으로 남깁니다. (ex. "C언어" -> "c", "언어")
+ * */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+class HangulBigramTokenizer {
+
+    List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean boundary = i == normalized.length()
+                    || !Character.isLetterOrDigit(normalized.charAt(i))
+                    || (start != -1 && isHangul(normalized.charAt(i)) != isHangul(normalized.charAt(start)));
+
+            if (boundary && start != -1) {
+                addSegment(normalized.substring(start, i), tokens);
+                start = -1;
+            }
+
+            if (i < normalized.length() && start == -1 && Character.isLetterOrDigit(normalized.charAt(i))) {
+                start = i;
+            }
+        }
+
+        return tokens;
+    }
+
+    private void addSegment(String segment, List<String> tokens) {
+        if (segment.length() == 1) {
+            tokens.add(segment);
+            return;
+        }
+
+        for (int i = 0; i < segment.length() - 1; i++) {
+            tokens.add(segment.substring(i, i + 2));
+        }
+    }
+
+    private boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣')
+                || (c >= '\u1100' && c <= '\u11FF')
+                || (c >= '\u3130' && c <= '\u318F');
+    }
+}
@@ -0,0 +1,49 @@
+package com.morakmorak.morak_back_end.domain;
+
+import com.morakmorak.morak_back_end.dto.OutboxDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 한 번에 처리하는 알림을 coalesceKey 별로 모아 같은 대상에 같은 종류로 쌓인 알림을 하나로 합칩니다.
+ * 답변/댓글은 "새 댓글 5개가 달렸어요." 처럼 건수를 담은 알림 하나로, 좋아요는 마지막 돌파 알림 하나로 남깁니다.
+ * 넘겨받은 순서(outbox 에 쌓인 순서)를 유지하며, 합칠 수 없는 알림은 그대로 반환합니다.
+ * */
+@Component
+public class NotificationCoalescer {
+    public List<OutboxDto.NotificationPayload> coalesce(List<OutboxDto.NotificationPayload> payloads) {
+        Map<String, List<OutboxDto.NotificationPayload>> window = new LinkedHashMap<>();
+
+        for (int i = 0; i < payloads.size(); i++) {
+            OutboxDto.NotificationPayload payload = payloads.get(i);
+            String key = payload.getCoalesceKey() == null ? "single:" + i : payload.getCoalesceKey();
+
+            window.computeIfAbsent(key, k -> new ArrayList<>()).add(payload);
+        }
+
+        List<OutboxDto.NotificationPayload> coalesced = new ArrayList<>(window.size());
+        window.values().forEach(group -> coalesced.add(merge(group)));
+        return coalesced;
+    }
+
+    private OutboxDto.NotificationPayload merge(List<OutboxDto.NotificationPayload> group) {
+        OutboxDto.NotificationPayload last = group.get(group.size() - 1);
+
+        if (group.size() == 1 || last.getDigestType().isLatestOnly()) {
+            return last;
+        }
+
+        return OutboxDto.NotificationPayload.builder()
+                .receiverId(last.getReceiverId())
+                .message(new NotificationMessage().generateDigestMessage(last.getDigestType(), last.getTargetTitle(), group.size()))
+                .uri(last.getUri())
+                .digestType(last.getDigestType())
+                .coalesceKey(last.getCoalesceKey())
+                .targetTitle(last.getTargetTitle())
+                .build();
+    }
+}
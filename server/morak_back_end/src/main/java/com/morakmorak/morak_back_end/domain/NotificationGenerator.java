@@ -1,6 +1,8 @@
 package com.morakmorak.morak_back_end.domain;
 
+import com.morakmorak.morak_back_end.dto.OutboxDto;
 import com.morakmorak.morak_back_end.entity.*;
+import com.morakmorak.morak_back_end.entity.enums.NotificationDigestType;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -60,7 +62,61 @@ public final class NotificationGenerator {
                 .build();
     }
 
-    public Notification generateNotification() {
+    /*
+     * 알림은 바로 저장하지 않고 outbox 에 쌓으므로 payload 로만 만듭니다. 받는 사람의 알림 목록은 건드리지 않습니다.
+     * */
+    public OutboxDto.NotificationPayload generatePayload() {
+        Notification notification = buildNotification();
+        User notificationSender = review != null ? review.getSender() : sender;
+
+        return withDigest(OutboxDto.NotificationPayload.builder(), notification.getUser())
+                .receiverId(notification.getUser().getId())
+                .senderId(notificationSender == null ? null : notificationSender.getId())
+                .message(notification.getMessage())
+                .uri(notification.getUri())
+                .build();
+    }
+
+    /*
+     * 같은 받는 사람, 같은 대상, 같은 종류의 알림은 같은 coalesceKey 를 가지며 NotificationCoalescer 에서 하나로 합쳐집니다.
+     * 후원/채택 알림은 합치지 않습니다.
+     * */
+    private OutboxDto.NotificationPayload.NotificationPayloadBuilder withDigest(OutboxDto.NotificationPayload.NotificationPayloadBuilder builder, User receiver) {
+        if (answer != null) {
+            return digest(builder, NotificationDigestType.ANSWER, receiver, answer.getArticle().getId(), answer.getArticle().getTitle());
+        }
+
+        if (articleLike != null) {
+            Article article = articleLike.getArticle();
+            return digest(builder, NotificationDigestType.ARTICLE_LIKE, receiver, article.getId(), article.getTitle());
+        }
+
+        if (answerLike != null) {
+            Answer likedAnswer = answerLike.getAnswer();
+            return digest(builder, NotificationDigestType.ANSWER_LIKE, receiver, likedAnswer.getId(), likedAnswer.getArticle().getTitle());
+        }
+
+        if (comment != null) {
+            if (comment.getAnswer() == null) {
+                Article article = comment.getArticle();
+                return digest(builder, NotificationDigestType.ARTICLE_COMMENT, receiver, article.getId(), article.getTitle());
+            }
+
+            Answer commentedAnswer = comment.getAnswer();
+            return digest(builder, NotificationDigestType.ANSWER_COMMENT, receiver, commentedAnswer.getId(), commentedAnswer.getArticle().getTitle());
+        }
+
+        return builder;
+    }
+
+    private OutboxDto.NotificationPayload.NotificationPayloadBuilder digest(OutboxDto.NotificationPayload.NotificationPayloadBuilder builder,
+                                                                            NotificationDigestType digestType, User receiver, Long targetId, String targetTitle) {
+        return builder.digestType(digestType)
+                .coalesceKey(digestType.name() + ":" + receiver.getId() + ":" + targetId)
+                .targetTitle(targetTitle);
+    }
+
+    private Notification buildNotification() {
         String message = null;
         String uri = null;
         User receiver = null;
@@ -102,10 +158,6 @@ public final class NotificationGenerator {
 
         if (!StringUtils.hasText(message) || !StringUtils.hasText(uri) || receiver == null) throw new IllegalArgumentException("유효하지 않은 요청");
 
-
-        Notification notification = Notification.of(message, uri, receiver);
-        receiver.addNotification(notification);
-
-        return notification;
+        return Notification.of(message, uri, receiver);
     }
 }
@@ -1,6 +1,7 @@
 package com.morakmorak.morak_back_end.domain;
 
 import com.morakmorak.morak_back_end.entity.*;
+import com.morakmorak.morak_back_end.entity.enums.NotificationDigestType;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -105,6 +106,31 @@ class NotificationMessage {
         return message;
     }
 
+    /*
+     * 같은 대상에 쌓인 답변/댓글 알림을 하나로 합친 메시지입니다.
+     * */
+    String generateDigestMessage(NotificationDigestType digestType, String title, int count) {
+        stringBuilder.append("회원님께서 작성하신 ")
+                .append("\"")
+                .append(title)
+                .append("\"");
+
+        if (digestType == NotificationDigestType.ANSWER) {
+            stringBuilder.append("에 새 답변 ").append(count).append("개가 달렸어요.");
+        } else if (digestType == NotificationDigestType.ARTICLE_COMMENT) {
+            stringBuilder.append("에 새 댓글 ").append(count).append("개가 달렸어요.");
+        } else if (digestType == NotificationDigestType.ANSWER_COMMENT) {
+            stringBuilder.append("의 답변에 새 댓글 ").append(count).append("개가 달렸어요.");
+        } else {
+            cleanBuilder();
+            throw new IllegalArgumentException("합칠 수 없는 알림 종류");
+        }
+
+        String message = stringBuilder.toString();
+        cleanBuilder();
+        return message;
+    }
+
     private void cleanBuilder() {
         stringBuilder.delete(0, stringBuilder.length());
     }
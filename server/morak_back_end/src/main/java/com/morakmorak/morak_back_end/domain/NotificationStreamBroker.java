@@ -0,0 +1,123 @@
+package com.morakmorak.morak_back_end.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morakmorak.morak_back_end.dto.NotificationDto;
+import com.morakmorak.morak_back_end.event.NotificationCreatedEvent;
+import com.morakmorak.morak_back_end.repository.redis.NotificationReplayRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.morakmorak.morak_back_end.config.CacheCosntant.NOTIFICATION_STREAM_CHANNEL;
+
+/*
+ * 유저별 SSE 연결로 새 알림을 보냅니다.
+ * 받는 사람이 어느 서버에 연결되어 있는지 모르므로 알림은 Redis 채널로 발행하고, 채널에서 받은 알림을 이 서버의 연결로 보냅니다.
+ * 발행하는 서버는 재연결 시 다시 보낼 수 있도록 유저별 버퍼에도 넣습니다. 이벤트 id 는 notification_id 입니다.
+ * */
+@Slf4j
+@Component
+public class NotificationStreamBroker implements MessageListener {
+    private static final Duration TIMEOUT = Duration.ofMinutes(30);
+    private static final String EVENT_NAME = "notification";
+
+    private final SseEmitterRegistry<Long> registry = new SseEmitterRegistry<>(TIMEOUT);
+    private final NotificationReplayRepository notificationReplayRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public NotificationStreamBroker(NotificationReplayRepository notificationReplayRepository,
+                                    RedisTemplate<String, String> redisTemplate,
+                                    ObjectMapper objectMapper) {
+        this.notificationReplayRepository = notificationReplayRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /*
+     * 연결을 먼저 등록한 뒤 버퍼를 다시 보내므로 그 사이에 온 알림을 놓치지 않습니다. 대신 같은 알림이 두 번 갈 수 있어 클라이언트는 id 로 중복을 거릅니다.
+     * */
+    public SseEmitter subscribe(Long userId, Long lastNotificationId) {
+        SseEmitter emitter = registry.register(userId);
+
+        if (!registry.send(userId, emitter, SseEmitter.event().comment("connected")) || lastNotificationId == null) {
+            return emitter;
+        }
+
+        for (String payload : notificationReplayRepository.findAfter(userId, lastNotificationId)) {
+            Optional<NotificationCreatedEvent> event = read(payload);
+
+            if (event.isPresent() && !registry.send(userId, emitter, eventOf(event.get()))) {
+                break;
+            }
+        }
+
+        return emitter;
+    }
+
+    public void publish(NotificationCreatedEvent event) {
+        String payload;
+
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error(e.getMessage());
+            return;
+        }
+
+        notificationReplayRepository.append(event.getUserId(), event.getNotificationId(), payload);
+
+        try {
+            redisTemplate.convertAndSend(NOTIFICATION_STREAM_CHANNEL, payload);
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+            deliver(event);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        read(new String(message.getBody(), StandardCharsets.UTF_8)).ifPresent(this::deliver);
+    }
+
+    public void heartbeat() {
+        registry.heartbeat();
+    }
+
+    public int subscriberCount(Long userId) {
+        return registry.count(userId);
+    }
+
+    private void deliver(NotificationCreatedEvent event) {
+        registry.send(event.getUserId(), () -> eventOf(event));
+    }
+
+    private SseEmitter.SseEventBuilder eventOf(NotificationCreatedEvent event) {
+        NotificationDto.SimpleResponse notification = new NotificationDto.SimpleResponse(
+                event.getNotificationId(), event.getMessage(), false, event.getCreatedAt());
+
+        return SseEmitter.event()
+                .id(String.valueOf(event.getNotificationId()))
+                .name(EVENT_NAME)
+                .data(notification, MediaType.APPLICATION_JSON);
+    }
+
+    private Optional<NotificationCreatedEvent> read(String payload) {
+        try {
+            return Optional.of(objectMapper.readValue(payload, NotificationCreatedEvent.class));
+        } catch (JsonProcessingException e) {
+            log.error(e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
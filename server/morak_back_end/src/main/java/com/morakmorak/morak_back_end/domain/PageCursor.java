@@ -0,0 +1,117 @@
+package com.morakmorak.morak_back_end.domain;
+
+import com.morakmorak.morak_back_end.exception.BusinessLogicException;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.morakmorak.morak_back_end.exception.ErrorCode.INVALID_CURSOR;
+
+/*
+ * 커서 기반 페이지네이션에서 마지막으로 읽은 행의 정렬 키 값을 담는 커서입니다.
+ * 클라이언트에게는 Base64(URL safe) 로 인코딩된 문자열로만 노출됩니다.
+ * 빈 커서는 첫 페이지를 의미합니다.
+ * */
+public class PageCursor {
+    private static final String DELIMITER = "|";
+
+    private final List<String> values;
+
+    private PageCursor(List<String> values) {
+        this.values = values;
+    }
+
+    public static PageCursor first() {
+        return new PageCursor(Collections.emptyList());
+    }
+
+    public static PageCursor of(Object... values) {
+        return new PageCursor(Arrays.stream(values)
+                .map(String::valueOf)
+                .collect(Collectors.toList()));
+    }
+
+    public static PageCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return first();
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return new PageCursor(Arrays.asList(decoded.split("\\" + DELIMITER, -1)));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessLogicException(INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        if (isFirst()) {
+            return null;
+        }
+
+        String joined = String.join(DELIMITER, values);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Boolean isFirst() {
+        return values.isEmpty();
+    }
+
+    public String getString(int index) {
+        checkIndex(index);
+        return values.get(index);
+    }
+
+    public Long getLong(int index) {
+        try {
+            return Long.valueOf(getString(index));
+        } catch (NumberFormatException e) {
+            throw new BusinessLogicException(INVALID_CURSOR);
+        }
+    }
+
+    public Integer getInteger(int index) {
+        try {
+            return Integer.valueOf(getString(index));
+        } catch (NumberFormatException e) {
+            throw new BusinessLogicException(INVALID_CURSOR);
+        }
+    }
+
+    public Double getDouble(int index) {
+        try {
+            return Double.valueOf(getString(index));
+        } catch (NumberFormatException e) {
+            throw new BusinessLogicException(INVALID_CURSOR);
+        }
+    }
+
+    public Boolean getBoolean(int index) {
+        String value = getString(index);
+
+        if (!"true".equals(value) && !"false".equals(value)) {
+            throw new BusinessLogicException(INVALID_CURSOR);
+        }
+        return Boolean.valueOf(value);
+    }
+
+    public LocalDateTime getDateTime(int index) {
+        try {
+            return LocalDateTime.parse(getString(index));
+        } catch (RuntimeException e) {
+            throw new BusinessLogicException(INVALID_CURSOR);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index >= values.size()) {
+            throw new BusinessLogicException(INVALID_CURSOR);
+        }
+    }
+}
@@ -24,4 +24,11 @@ public class PointCalculator {
 
         throw new IllegalArgumentException("유효하지 않은 객체 타입");
     }
+
+    /*
+     * 게시글/답변 좋아요 한 건의 포인트입니다. 좋아요 엔티티 없이 건수만으로 포인트를 계산할 때 사용합니다.
+     * */
+    public Integer calculateLikePoint() {
+        return LIKE_POINT;
+    }
 }
@@ -0,0 +1,186 @@
+package com.morakmorak.morak_back_end.domain;
+
+import com.morakmorak.morak_back_end.entity.enums.TagName;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * 태그를 기준으로 비슷한 게시글을 찾는 메모리 색인입니다.
+ * 태그별 게시글 posting 과 태그 쌍의 동시 출현 횟수를 게시글 태그가 바뀔 때마다 증분으로 갱신합니다.
+ * 후보는 같은 태그를 하나 이상 가진 게시글이며, 점수는 다음 두 값의 합입니다.
+ *   - 공유 태그마다 드문 태그일수록 큰 가중치(idf)
+ *   - 공유하지 않은 후보의 태그가 기준 게시글의 태그와 함께 쓰이는 비율 (ex. SPRING 글에 JAVA 태그가 붙은 후보)
+ * 점수가 같으면 최신 글(id 가 큰 글)을 먼저 돌려줍니다.
+ * */
+@Component
+public class RelatedArticleIndex {
+    private static final double COOCCURRENCE_WEIGHT = 0.5;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, IndexedArticle> articles = new HashMap<>();
+    private final Map<TagName, Set<Long>> postings = new EnumMap<>(TagName.class);
+    private final int[][] cooccurrences = new int[TagName.values().length][TagName.values().length];
+
+    @Getter
+    @AllArgsConstructor
+    public static class Related {
+        private final Long articleId;
+        private final String title;
+    }
+
+    @AllArgsConstructor
+    private static class IndexedArticle {
+        private final String title;
+        private final Set<TagName> tags;
+    }
+
+    /*
+     * tags 가 null 이면 기존에 색인된 태그를 그대로 두고 제목만 갱신합니다.
+     * */
+    public void index(Long articleId, String title, Set<TagName> tags) {
+        lock.writeLock().lock();
+        try {
+            IndexedArticle previous = articles.get(articleId);
+
+            if (tags == null) {
+                if (previous != null) {
+                    articles.put(articleId, new IndexedArticle(title, previous.tags));
+                }
+                return;
+            }
+
+            if (previous != null) {
+                removeWithoutLock(articleId);
+            }
+
+            Set<TagName> copied = tags.isEmpty() ? EnumSet.noneOf(TagName.class) : EnumSet.copyOf(tags);
+            articles.put(articleId, new IndexedArticle(title, copied));
+            copied.forEach(tag -> postings.computeIfAbsent(tag, key -> new HashSet<>()).add(articleId));
+            countCooccurrences(copied, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeWithoutLock(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            articles.clear();
+            postings.clear();
+            Arrays.stream(cooccurrences).forEach(row -> Arrays.fill(row, 0));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Related> findRelated(Long articleId, int limit) {
+        lock.readLock().lock();
+        try {
+            IndexedArticle target = articles.get(articleId);
+            if (target == null || target.tags.isEmpty()) {
+                return new ArrayList<>();
+            }
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (TagName tag : target.tags) {
+                Set<Long> posting = postings.getOrDefault(tag, Collections.emptySet());
+                double idf = Math.log(1.0 + (double) articles.size() / Math.max(posting.size(), 1));
+
+                posting.forEach(candidateId -> scores.merge(candidateId, idf, Double::sum));
+            }
+            scores.remove(articleId);
+
+            PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(byScore());
+            scores.forEach((candidateId, score) -> {
+                double total = score + COOCCURRENCE_WEIGHT * associationOf(target.tags, articles.get(candidateId).tags);
+                top.offer(new AbstractMap.SimpleImmutableEntry<>(candidateId, total));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            });
+
+            List<Related> result = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                Long candidateId = top.poll().getKey();
+                result.add(new Related(candidateId, articles.get(candidateId).title));
+            }
+            Collections.reverse(result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * 후보에만 있는 태그들이 기준 게시글의 태그와 함께 쓰인 비율의 합입니다.
+     * */
+    private double associationOf(Set<TagName> targetTags, Set<TagName> candidateTags) {
+        double association = 0.0;
+
+        for (TagName candidateTag : candidateTags) {
+            if (targetTags.contains(candidateTag)) {
+                continue;
+            }
+
+            for (TagName targetTag : targetTags) {
+                int together = cooccurrences[targetTag.ordinal()][candidateTag.ordinal()];
+                int targetCount = cooccurrences[targetTag.ordinal()][targetTag.ordinal()];
+
+                if (targetCount > 0) {
+                    association += (double) together / targetCount;
+                }
+            }
+        }
+        return association;
+    }
+
+    private Comparator<Map.Entry<Long, Double>> byScore() {
+        return Map.Entry.<Long, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey());
+    }
+
+    /*
+     * 대각선 원소(i, i)에는 태그별 게시글 수를 함께 보관합니다.
+     * */
+    private void countCooccurrences(Set<TagName> tags, int delta) {
+        for (TagName left : tags) {
+            for (TagName right : tags) {
+                cooccurrences[left.ordinal()][right.ordinal()] += delta;
+            }
+        }
+    }
+
+    private void removeWithoutLock(Long articleId) {
+        IndexedArticle previous = articles.remove(articleId);
+
+        if (previous == null) {
+            return;
+        }
+
+        previous.tags.forEach(tag -> {
+            Set<Long> posting = postings.get(tag);
+            if (posting == null) {
+                return;
+            }
+
+            posting.remove(articleId);
+            if (posting.isEmpty()) {
+                postings.remove(tag);
+            }
+        });
+        countCooccurrences(previous.tags, -1);
+    }
+}
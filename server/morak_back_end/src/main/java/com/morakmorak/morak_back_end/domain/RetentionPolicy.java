@@ -0,0 +1,25 @@
+package com.morakmorak.morak_back_end.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/*
+ * 테이블 하나의 보관 정책입니다. RetentionService 가 idColumn 의 최솟값부터 최댓값까지 chunkSize 구간으로 나누어 purger 를 호출합니다.
+ * purger 는 구간 안에서 보관 기간이 지난 행만 지우고 지운 행 수를 반환합니다.
+ * */
+@Getter
+@Builder
+public class RetentionPolicy {
+    private final String name;
+    private final String table;
+    private final String idColumn;
+    private final long chunkSize;
+    private final Purger purger;
+
+    @FunctionalInterface
+    public interface Purger {
+        int purge(Long fromId, Long toId, LocalDateTime now);
+    }
+}
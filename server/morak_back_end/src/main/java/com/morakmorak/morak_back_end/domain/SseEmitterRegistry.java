@@ -0,0 +1,88 @@
+package com.morakmorak.morak_back_end.domain;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/*
+ * 키(게시글 id, 유저 id 등)별로 연결된 SseEmitter 를 보관하고 전송합니다.
+ * 연결은 timeout 이 지나면 끊기며(클라이언트 EventSource 가 다시 연결합니다), 끊기거나 전송에 실패한 emitter 는 바로 제거합니다.
+ * 클라이언트가 말없이 사라진 연결은 heartbeat() 의 전송 실패로 정리됩니다.
+ * SseEventBuilder 는 build() 할 때 내부 상태가 바뀌므로 emitter 마다 새로 만들도록 Supplier 로 받습니다.
+ * */
+@Slf4j
+public class SseEmitterRegistry<K> {
+    private final Map<K, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Duration timeout;
+
+    public SseEmitterRegistry(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public SseEmitter register(K key) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+
+        emitters.compute(key, (k, targets) -> {
+            Set<SseEmitter> registered = targets == null ? ConcurrentHashMap.newKeySet() : targets;
+            registered.add(emitter);
+            return registered;
+        });
+        emitter.onCompletion(() -> remove(key, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(key, emitter));
+
+        return emitter;
+    }
+
+    public void send(K key, Supplier<SseEmitter.SseEventBuilder> event) {
+        Set<SseEmitter> targets = emitters.get(key);
+
+        if (targets == null) {
+            return;
+        }
+
+        targets.forEach(emitter -> send(key, emitter, event.get()));
+    }
+
+    /*
+     * 성공하면 true 를 반환합니다. 실패한 emitter 는 제거합니다.
+     * */
+    public boolean send(K key, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("failed to send sse event. key = {}", key);
+            remove(key, emitter);
+            emitter.complete();
+            return false;
+        }
+    }
+
+    public void heartbeat() {
+        emitters.forEach((key, targets) ->
+                targets.forEach(emitter -> send(key, emitter, SseEmitter.event().comment("ping"))));
+    }
+
+    public int count(K key) {
+        Set<SseEmitter> targets = emitters.get(key);
+        return targets == null ? 0 : targets.size();
+    }
+
+    public int size() {
+        return emitters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void remove(K key, SseEmitter emitter) {
+        emitters.computeIfPresent(key, (k, targets) -> {
+            targets.remove(emitter);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+}
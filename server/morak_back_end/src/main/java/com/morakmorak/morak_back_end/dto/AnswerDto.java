@@ -1,6 +1,7 @@
 package com.morakmorak.morak_back_end.dto;
 
 import com.morakmorak.morak_back_end.entity.Answer;
+import com.morakmorak.morak_back_end.entity.enums.ReportReason;
 import lombok.*;
 import org.hibernate.validator.constraints.Length;
 
@@ -78,7 +79,7 @@ public class AnswerDto {
                     .answerId(answer.getId())
                     .userInfo(UserDto.ResponseSimpleUserDto.of(answer.getUser()))
                     .avatar(AvatarDto.SimpleResponse.of(answer.getUser().getAvatar()))
-                    .content(answer.getContent())
+                    .content(answer.getVisibleContent())
                     .createdAt(answer.getCreatedAt())
                     .isPicked(answer.getIsPicked())
                     .isLiked(false)
@@ -100,6 +101,23 @@ public class AnswerDto {
         private Integer likeCount;
     }
 
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class RequestReportAnswer {
+        private ReportReason reason;
+        private String content;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class ResponseReportAnswer {
+        private Long reportId;
+    }
+
     @Getter
     @Builder
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
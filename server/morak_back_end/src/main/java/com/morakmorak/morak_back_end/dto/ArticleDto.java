@@ -1,14 +1,17 @@
 package com.morakmorak.morak_back_end.dto;
 
 import com.morakmorak.morak_back_end.entity.enums.CategoryName;
+import com.morakmorak.morak_back_end.entity.enums.Grade;
 import com.morakmorak.morak_back_end.entity.enums.ReportReason;
 import com.morakmorak.morak_back_end.service.EnumValid;
+import com.querydsl.core.annotations.QueryProjection;
 import lombok.*;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -62,7 +65,7 @@ public class ArticleDto {
     @Builder
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
     @AllArgsConstructor(access = AccessLevel.PROTECTED)
-    public static class ResponseListTypeArticle {
+    public static class ResponseListTypeArticle implements Serializable {
         private Long articleId;
         @EnumValid
         private CategoryName category;
@@ -80,9 +83,42 @@ public class ArticleDto {
 
         private UserDto.ResponseSimpleUserDto  userInfo;
         private AvatarDto.SimpleResponse avatar;
+
+        @QueryProjection
+        public ResponseListTypeArticle(Long articleId, CategoryName category, String title, Integer clicks, Integer likes,
+                                       Boolean isClosed, Integer commentCount, Integer answerCount,
+                                       LocalDateTime createdAt, LocalDateTime lastModifiedAt,
+                                       Long userId, String nickname, Grade grade,
+                                       Long avatarId, String filename, String remotePath) {
+            this.articleId = articleId;
+            this.category = category;
+            this.title = title;
+            this.clicks = clicks;
+            this.likes = likes;
+            this.isClosed = isClosed;
+            this.tags = new ArrayList<>();
+            this.commentCount = commentCount;
+            this.answerCount = answerCount;
+            this.createdAt = createdAt;
+            this.lastModifiedAt = lastModifiedAt;
+            this.userInfo = UserDto.ResponseSimpleUserDto.builder()
+                    .userId(userId)
+                    .nickname(nickname)
+                    .grade(grade)
+                    .build();
+            this.avatar = AvatarDto.SimpleResponse.builder()
+                    .avatarId(avatarId)
+                    .filename(filename)
+                    .remotePath(remotePath)
+                    .build();
+        }
+
+        public void addTags(List<TagDto.SimpleTag> tags) {
+            this.tags = tags;
+        }
     }
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
     @AllArgsConstructor(access = AccessLevel.PROTECTED)
     public static class ResponseDetailArticle {
@@ -105,6 +141,26 @@ public class ArticleDto {
         private AvatarDto.SimpleResponse avatar;
 
         private List<CommentDto.Response> comments;
+
+        private List<ResponseRelatedArticle> relatedArticles;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class ResponseRelatedArticle {
+        private Long articleId;
+        private String title;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class ResponseSuggestedArticle {
+        private Long articleId;
+        private String title;
     }
 
     @Getter
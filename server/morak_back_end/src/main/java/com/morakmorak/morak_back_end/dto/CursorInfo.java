@@ -0,0 +1,15 @@
+package com.morakmorak.morak_back_end.dto;
+
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class CursorInfo implements Serializable {
+    private Integer size;
+    private Boolean hasNext;
+    private String nextCursor;
+}
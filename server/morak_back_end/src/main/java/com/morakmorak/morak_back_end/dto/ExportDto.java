@@ -0,0 +1,63 @@
+package com.morakmorak.morak_back_end.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/*
+ * 분석용 내보내기(NDJSON)의 한 줄입니다. 게시글, 답변, 댓글을 type 으로 구분해 한 줄에 하나씩 내보냅니다.
+ * */
+public class ExportDto {
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class ArticleRow {
+        @Builder.Default
+        private String type = "article";
+        private Long articleId;
+        private Long userId;
+        private String category;
+        private String title;
+        private String content;
+        private Integer clicks;
+        private Integer likeCount;
+        private Integer commentCount;
+        private Integer answerCount;
+        private Boolean isClosed;
+        private LocalDateTime createdAt;
+        private LocalDateTime lastModifiedAt;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class AnswerRow {
+        @Builder.Default
+        private String type = "answer";
+        private Long answerId;
+        private Long articleId;
+        private Long userId;
+        private String content;
+        private Boolean isPicked;
+        private LocalDateTime createdAt;
+        private LocalDateTime lastModifiedAt;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class CommentRow {
+        @Builder.Default
+        private String type = "comment";
+        private Long commentId;
+        private Long articleId;
+        private Long answerId;
+        private Long userId;
+        private String content;
+        private LocalDateTime createdAt;
+        private LocalDateTime lastModifiedAt;
+    }
+}
@@ -3,12 +3,13 @@ package com.morakmorak.morak_back_end.dto;
 import com.querydsl.core.annotations.QueryProjection;
 import lombok.*;
 
+import java.io.Serializable;
 import java.util.Date;
 
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class JobInfoDto {
+public class JobInfoDto implements Serializable {
     private Long jobId;
     private String name;
     private String state;
@@ -25,4 +25,11 @@ public class NotificationDto {
             this.createdAt = createdAt;
         }
     }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class UnreadCount {
+        private Long unreadCount;
+    }
 }
@@ -0,0 +1,44 @@
+package com.morakmorak.morak_back_end.dto;
+
+import com.morakmorak.morak_back_end.entity.enums.NotificationDigestType;
+import com.morakmorak.morak_back_end.entity.enums.OutboxEventType;
+import lombok.*;
+
+/*
+ * outbox_event.payload 에 JSON 으로 저장되는 값과, 처리할 때 읽어오는 outbox 한 건입니다.
+ * */
+public class OutboxDto {
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class NotificationPayload {
+        private Long receiverId;
+        private Long senderId;
+        private String message;
+        private String uri;
+        private NotificationDigestType digestType;
+        private String coalesceKey;
+        private String targetTitle;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class PointPayload {
+        private Long userId;
+        private Integer delta;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Pending {
+        private Long outboxEventId;
+        private OutboxEventType eventType;
+        private String idempotencyKey;
+        private String payload;
+        private Integer attempts;
+    }
+}
@@ -0,0 +1,27 @@
+package com.morakmorak.morak_back_end.dto;
+
+import com.morakmorak.morak_back_end.domain.CursorSlice;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class ResponseCursorPaging<T> implements Serializable {
+    private List<T> data = new ArrayList<>();
+
+    private CursorInfo cursorInfo;
+
+    public ResponseCursorPaging(List<T> data, CursorSlice slice) {
+        this.data = data;
+        this.cursorInfo = CursorInfo.builder()
+                .size(slice.getSize())
+                .hasNext(slice.getHasNext())
+                .nextCursor(slice.getNextCursor().encode())
+                .build();
+    }
+}
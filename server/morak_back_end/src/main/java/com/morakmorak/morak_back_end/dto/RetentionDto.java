@@ -0,0 +1,25 @@
+package com.morakmorak.morak_back_end.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+public class RetentionDto {
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Progress {
+        private String policy;
+        private Boolean running;
+        private LocalDateTime lastStartedAt;
+        private LocalDateTime lastFinishedAt;
+        private Long scannedUpToId;
+        private Long maxId;
+        private Long nextId;
+        private Long chunks;
+        private Long deletedRows;
+        private Long totalDeletedRows;
+    }
+}
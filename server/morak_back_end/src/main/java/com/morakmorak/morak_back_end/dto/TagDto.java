@@ -6,13 +6,14 @@ import com.querydsl.core.annotations.QueryProjection;
 import lombok.*;
 
 import javax.validation.constraints.NotBlank;
+import java.io.Serializable;
 
 public class TagDto {
 
     @Getter
     @Builder
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
-    public static class SimpleTag {
+    public static class SimpleTag implements Serializable {
 
         private Long tagId;
 //        @EnumValid
@@ -31,7 +31,7 @@ public class UserDto {
     @Builder
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
     @AllArgsConstructor(access = AccessLevel.PROTECTED)
-    public static class ResponseSimpleUserDto {
+    public static class ResponseSimpleUserDto implements Serializable {
         private Long userId;
         private String nickname;
         private Grade grade;
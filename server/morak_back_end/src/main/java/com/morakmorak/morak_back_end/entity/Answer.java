@@ -30,6 +30,17 @@ public class Answer extends BaseTime{
     @Builder.Default
     private Boolean isPicked = false;
 
+    /*
+     * 신고 누적 수와 차단 여부입니다. 신고가 저장될 때 AnswerRepository.addReportCount 로만 함께 반영합니다.
+     * */
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Integer reportCount = 0;
+
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Boolean isBlocked = false;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
@@ -108,4 +119,19 @@ public class Answer extends BaseTime{
     public void injectReview(Review newReview) {
         this.review = newReview;
     }
+
+    /*
+     * 신고가 누적되어 차단된 답변은 본문 대신 안내 문구를 보여줍니다.
+     * */
+    public String getVisibleContent() {
+        return Boolean.TRUE.equals(this.isBlocked) ? Report.BLOCKED_CONTENT : this.content;
+    }
+
+    public void increaseReportCount() {
+        this.reportCount++;
+
+        if (this.reportCount >= Report.BLOCKING_REPORT_COUNT) {
+            this.isBlocked = true;
+        }
+    }
 }
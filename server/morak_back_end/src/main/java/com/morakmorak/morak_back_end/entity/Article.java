@@ -19,6 +19,12 @@ import java.util.List;
 @Getter
 @ToString(onlyExplicitlyIncluded = true)
 @Builder
+@Table(indexes = {
+        @Index(name = "idx_article_status_blocked", columnList = "article_status, is_blocked, article_id"),
+        @Index(name = "idx_article_status_like_count", columnList = "article_status, is_blocked, like_count, article_id"),
+        @Index(name = "idx_article_status_comment_count", columnList = "article_status, is_blocked, comment_count, article_id"),
+        @Index(name = "idx_article_status_answer_count", columnList = "article_status, is_blocked, answer_count, article_id")
+})
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Article extends BaseTime {
@@ -29,8 +35,12 @@ public class Article extends BaseTime {
     @Column(name = "article_id")
     private Long id;
 
+    /*
+     * 조회수는 ArticleViewCounter 에 모아두었다가 ArticleCounterScheduler 가 batch 로 반영합니다.
+     * */
     @Builder.Default
     @ToString.Include
+    @Column(updatable = false)
     private Integer clicks = 0;
 
     @ToString.Include
@@ -50,6 +60,33 @@ public class Article extends BaseTime {
     @Builder.Default
     private ArticleStatus articleStatus = ArticleStatus.POSTING;
 
+    /*
+     * 좋아요/댓글/답변 수 카운터입니다. dirty checking 으로 덮어쓰지 않도록 updatable = false 로 두고,
+     * DB 에는 ArticleRepository 의 증감 쿼리로만 반영합니다.
+     * */
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Integer likeCount = 0;
+
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Integer commentCount = 0;
+
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Integer answerCount = 0;
+
+    /*
+     * 신고 누적 수와 차단 여부입니다. 신고가 저장될 때 ArticleRepository.addReportCount / blockIfReported 로만 반영합니다.
+     * */
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Integer reportCount = 0;
+
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Boolean isBlocked = false;
+
     @CreatedDate
     @DateTimeFormat(pattern = "yyyy-MM-dd")
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
@@ -151,8 +188,23 @@ public class Article extends BaseTime {
         this.reviews.add(review);
     }
 
-    public Article plusClicks() {
-        this.clicks++;
-        return this;
+    public void changeLikeCount(int delta) {
+        this.likeCount = Math.max(this.likeCount + delta, 0);
+    }
+
+    public void changeCommentCount(int delta) {
+        this.commentCount = Math.max(this.commentCount + delta, 0);
+    }
+
+    public void changeAnswerCount(int delta) {
+        this.answerCount = Math.max(this.answerCount + delta, 0);
+    }
+
+    public void increaseReportCount() {
+        this.reportCount++;
+
+        if (this.reportCount >= Report.BLOCKING_REPORT_COUNT) {
+            this.isBlocked = true;
+        }
     }
 }
@@ -0,0 +1,59 @@
+package com.morakmorak.morak_back_end.entity;
+
+import com.morakmorak.morak_back_end.entity.enums.OutboxEventType;
+import com.morakmorak.morak_back_end.entity.enums.OutboxStatus;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/*
+ * 요청 트랜잭션 안에서 바로 처리하지 않고 OutboxDispatchScheduler 가 나중에 처리할 부수 효과(알림 생성, 포인트 적립)입니다.
+ * 쓰기와 처리는 모두 OutboxBatchRepository(JDBC)로 하며, 이 엔티티는 테이블 구조를 나타냅니다.
+ * 같은 idempotency_key 는 한 번만 쌓이므로 같은 원인으로 두 번 적립되거나 알림이 두 번 가지 않습니다.
+ * */
+@Entity
+@Getter
+@Builder
+@Table(name = "outbox_event",
+        uniqueConstraints = @UniqueConstraint(name = "uk_outbox_event_idempotency_key", columnNames = "idempotency_key"),
+        indexes = {
+                @Index(name = "idx_outbox_event_status_next_attempt", columnList = "status, next_attempt_at, outbox_event_id"),
+                @Index(name = "idx_outbox_event_coalesce_key", columnList = "coalesce_key, status")
+        })
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseTime {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxEventType eventType;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    /*
+     * 같은 값을 가진 알림은 처리할 때 하나로 합쳐집니다. 합치지 않는 이벤트는 null 입니다.
+     * */
+    @Column(name = "coalesce_key", length = 100)
+    private String coalesceKey;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+}
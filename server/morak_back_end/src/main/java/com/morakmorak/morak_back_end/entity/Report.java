@@ -12,6 +12,11 @@ import javax.persistence.*;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Report extends BaseTime {
+    /*
+     * 신고가 이 횟수만큼 누적되면 게시글/답변을 차단합니다.
+     * */
+    public static final int BLOCKING_REPORT_COUNT = 5;
+    public static final String BLOCKED_CONTENT = "이 글은 신고가 누적되어 더이상 확인하실 수 없습니다.";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -42,4 +47,9 @@ public class Report extends BaseTime {
         this.user = user;
         this.article = article;
     }
+
+    public void injectTo(User user, Answer answer) {
+        this.user = user;
+        this.answer = answer;
+    }
 }
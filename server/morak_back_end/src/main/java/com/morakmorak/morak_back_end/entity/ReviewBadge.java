@@ -28,4 +28,11 @@ public class ReviewBadge extends BaseTime{
         this.review.getReviewBadges().add(this);
         this.badge.getReviewBadges().add(this);
     }
+
+    /*
+     * badge 가 참조(프록시)일 때 초기화되지 않도록 review 쪽 연관관계만 맺습니다.
+     * */
+    public void mapReview() {
+        this.review.getReviewBadges().add(this);
+    }
 }
@@ -235,10 +235,4 @@ public class User extends BaseTime {
     public void addNotification(Notification notification) {
         this.notifications.add(notification);
     }
-    public void sendPoint(Integer pointToSend) {
-        this.point -=pointToSend;
-    }
-    public void receivePoint(Integer pointToReceive) {
-        this.point +=pointToReceive;
-    }
 }
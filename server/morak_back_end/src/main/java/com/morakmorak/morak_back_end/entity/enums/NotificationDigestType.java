@@ -0,0 +1,20 @@
+package com.morakmorak.morak_back_end.entity.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * 같은 대상에 같은 종류로 쌓인 알림을 하나로 합치는 기준입니다.
+ * 좋아요 알림은 건수를 세지 않고 가장 마지막(가장 큰) 돌파 알림만 남깁니다.
+ * */
+@Getter
+@RequiredArgsConstructor
+public enum NotificationDigestType {
+    ANSWER(false),
+    ARTICLE_COMMENT(false),
+    ANSWER_COMMENT(false),
+    ARTICLE_LIKE(true),
+    ANSWER_LIKE(true);
+
+    private final boolean latestOnly;
+}
@@ -0,0 +1,9 @@
+package com.morakmorak.morak_back_end.entity.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum OutboxEventType {
+    NOTIFICATION,
+    POINT
+}
@@ -0,0 +1,10 @@
+package com.morakmorak.morak_back_end.entity.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum OutboxStatus {
+    PENDING,
+    DONE,
+    FAILED
+}
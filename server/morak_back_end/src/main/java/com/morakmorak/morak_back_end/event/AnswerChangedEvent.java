@@ -0,0 +1,19 @@
+package com.morakmorak.morak_back_end.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * 답변 목록 응답에 포함되는 값(답변, 답변 댓글, 좋아요 수, 신고 누적)이 바뀌었을 때 발행되는 이벤트입니다.
+ * */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AnswerChangedEvent {
+    private final Long articleId;
+    private final Long answerId;
+
+    public static AnswerChangedEvent of(Long articleId, Long answerId) {
+        return new AnswerChangedEvent(articleId, answerId);
+    }
+}
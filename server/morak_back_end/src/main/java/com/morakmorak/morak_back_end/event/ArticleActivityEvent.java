@@ -0,0 +1,49 @@
+package com.morakmorak.morak_back_end.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 게시글 상세 화면에 실시간으로 반영할 변경분입니다. 커밋 이후 SSE 로 그대로 전송되므로 필요한 값만 담습니다.
+ * 서버 간에는 Redis 채널로 JSON 을 주고받으므로 기본 생성자가 필요합니다.
+ * */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ArticleActivityEvent {
+    public enum Type {
+        ANSWER_ADDED, ANSWER_PICKED, COMMENT_ADDED, LIKE_COUNT_CHANGED
+    }
+
+    private Type type;
+    private Long articleId;
+    private Long answerId;
+    private Long commentId;
+    private Long likeCount;
+
+    public static ArticleActivityEvent answerAdded(Long articleId, Long answerId) {
+        return new ArticleActivityEvent(Type.ANSWER_ADDED, articleId, answerId, null, null);
+    }
+
+    public static ArticleActivityEvent answerPicked(Long articleId, Long answerId) {
+        return new ArticleActivityEvent(Type.ANSWER_PICKED, articleId, answerId, null, null);
+    }
+
+    /*
+     * 게시글에 달린 댓글이면 answerId 가 비어 있습니다.
+     * */
+    public static ArticleActivityEvent commentAdded(Long articleId, Long answerId, Long commentId) {
+        return new ArticleActivityEvent(Type.COMMENT_ADDED, articleId, answerId, commentId, null);
+    }
+
+    /*
+     * 게시글 좋아요면 answerId 가 비어 있습니다.
+     * */
+    public static ArticleActivityEvent likeCountChanged(Long articleId, Long answerId, long likeCount) {
+        return new ArticleActivityEvent(Type.LIKE_COUNT_CHANGED, articleId, answerId, null, likeCount);
+    }
+}
@@ -0,0 +1,60 @@
+package com.morakmorak.morak_back_end.event;
+
+import com.morakmorak.morak_back_end.entity.Article;
+import com.morakmorak.morak_back_end.entity.enums.CategoryName;
+import com.morakmorak.morak_back_end.entity.enums.TagName;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/*
+ * 게시글이 등록/수정/삭제/채택 되었을 때 발행되는 이벤트입니다.
+ * 커밋 이후 리스너에서 지연 로딩이 일어나지 않도록 필요한 값만 복사해 둡니다.
+ * tags 가 null 이면 태그는 바뀌지 않은 것입니다. (ex. 채택)
+ * 신고 누적으로 차단된 게시글은 수정되더라도 목록에 다시 나타나지 않도록 삭제로 취급합니다.
+ * 다른 서버의 인덱스에도 반영하도록 Redis 채널로 JSON 을 주고받으므로 기본 생성자가 필요합니다.
+ * */
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ArticleChangedEvent {
+    private Long articleId;
+    private Boolean removed;
+    private String title;
+    private String content;
+    private CategoryName category;
+    private Boolean isClosed;
+    private Set<TagName> tags;
+
+    public static ArticleChangedEvent saved(Article article) {
+        return saved(article, null);
+    }
+
+    public static ArticleChangedEvent saved(Article article, Set<TagName> tags) {
+        if (Boolean.TRUE.equals(article.getIsBlocked())) {
+            return removed(article.getId());
+        }
+
+        return ArticleChangedEvent.builder()
+                .articleId(article.getId())
+                .removed(false)
+                .title(article.getTitle())
+                .content(article.getContent())
+                .category(article.getCategory() != null ? article.getCategory().getName() : null)
+                .isClosed(article.getIsClosed())
+                .tags(tags)
+                .build();
+    }
+
+    public static ArticleChangedEvent removed(Long articleId) {
+        return ArticleChangedEvent.builder()
+                .articleId(articleId)
+                .removed(true)
+                .build();
+    }
+}
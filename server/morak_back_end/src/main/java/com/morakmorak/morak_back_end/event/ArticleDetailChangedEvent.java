@@ -0,0 +1,18 @@
+package com.morakmorak.morak_back_end.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * 게시글 본문 외에 상세 조회 응답에 포함되는 값(댓글, 좋아요 수, 신고 누적)이 바뀌었을 때 발행되는 이벤트입니다.
+ * */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ArticleDetailChangedEvent {
+    private final Long articleId;
+
+    public static ArticleDetailChangedEvent of(Long articleId) {
+        return new ArticleDetailChangedEvent(articleId);
+    }
+}
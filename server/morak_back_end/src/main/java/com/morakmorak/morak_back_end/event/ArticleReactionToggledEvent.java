@@ -0,0 +1,18 @@
+package com.morakmorak.morak_back_end.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * 게시글 좋아요/북마크가 Redis 에서 바뀌었을 때 발행되는 이벤트입니다. 게시글 버전(ETag)을 커밋 이후에 올리기 위해 씁니다.
+ * */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ArticleReactionToggledEvent {
+    private final Long articleId;
+
+    public static ArticleReactionToggledEvent of(Long articleId) {
+        return new ArticleReactionToggledEvent(articleId);
+    }
+}
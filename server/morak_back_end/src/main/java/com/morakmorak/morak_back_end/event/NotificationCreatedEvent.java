@@ -0,0 +1,32 @@
+package com.morakmorak.morak_back_end.event;
+
+import com.morakmorak.morak_back_end.entity.Notification;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/*
+ * 알림이 저장되었을 때 발행되는 이벤트입니다. 커밋 이후 받는 사람의 SSE 연결로 전송됩니다.
+ * 서버 간에는 Redis 채널로 JSON 을 주고받으므로 기본 생성자가 필요합니다.
+ * */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class NotificationCreatedEvent {
+    private Long userId;
+    private Long notificationId;
+    private String message;
+    private LocalDateTime createdAt;
+
+    public static NotificationCreatedEvent of(Notification notification) {
+        return new NotificationCreatedEvent(notification.getUser().getId(), notification.getId(),
+                notification.getMessage(), notification.getCreatedAt());
+    }
+
+    public static NotificationCreatedEvent of(Long userId, Long notificationId, String message, LocalDateTime createdAt) {
+        return new NotificationCreatedEvent(userId, notificationId, message, createdAt);
+    }
+}
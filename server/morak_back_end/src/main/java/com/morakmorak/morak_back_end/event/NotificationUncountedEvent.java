@@ -0,0 +1,18 @@
+package com.morakmorak.morak_back_end.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * 읽지 않은 알림을 읽거나 지웠을 때 발행되는 이벤트입니다. 롤백된 변경은 세지 않도록 커밋 이후에 읽지 않은 알림 수를 줄입니다.
+ * */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class NotificationUncountedEvent {
+    private final Long userId;
+
+    public static NotificationUncountedEvent of(Long userId) {
+        return new NotificationUncountedEvent(userId);
+    }
+}
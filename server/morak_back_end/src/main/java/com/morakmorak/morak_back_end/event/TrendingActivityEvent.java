@@ -0,0 +1,28 @@
+package com.morakmorak.morak_back_end.event;
+
+import com.morakmorak.morak_back_end.entity.Article;
+import com.morakmorak.morak_back_end.entity.enums.CategoryName;
+import com.morakmorak.morak_back_end.service.TrendingArticleService;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * 게시글 인기 점수에 반영할 활동입니다. 커밋된 활동만 점수에 남도록 TrendingArticleService 가 커밋 이후에 받아 반영합니다.
+ * */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TrendingActivityEvent {
+    private final Long articleId;
+    private final CategoryName category;
+    private final TrendingArticleService.Activity activity;
+
+    public static TrendingActivityEvent of(Article article, TrendingArticleService.Activity activity) {
+        return new TrendingActivityEvent(article.getId(),
+                article.getCategory() != null ? article.getCategory().getName() : null, activity);
+    }
+
+    public static TrendingActivityEvent of(Long articleId, CategoryName category, TrendingArticleService.Activity activity) {
+        return new TrendingActivityEvent(articleId, category, activity);
+    }
+}
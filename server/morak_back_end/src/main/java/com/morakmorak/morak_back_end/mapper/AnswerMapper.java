@@ -12,7 +12,7 @@ public interface AnswerMapper {
 
     AnswerDto.ResponseAnswerLike makingResponseAnswerLikeDto(Long answerId, Long userId, Boolean isLiked, Integer likeCount);
     @Mapping(source="answer.id",target="answerId")
-    @Mapping(source="answer.content",target="content")
+    @Mapping(source="answer.visibleContent",target="content")
     @Mapping(source="answer.user.id",target="userInfo.userId")
     @Mapping(source="answer.user.nickname",target="userInfo.nickname")
     @Mapping(source="answer.user.grade",target="userInfo.grade")
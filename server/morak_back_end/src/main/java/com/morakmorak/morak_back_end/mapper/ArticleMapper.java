@@ -90,12 +90,15 @@ public interface ArticleMapper {
     @Mapping(source = "article.user.avatar.originalFilename", target = "avatar.filename")
     @Mapping(source = "article.user.avatar.remotePath", target = "avatar.remotePath")
     @Mapping(source = "comments", target = "comments")
+    @Mapping(source = "clicks", target = "clicks")
+    @Mapping(target = "relatedArticles", ignore = true)
     ArticleDto.ResponseDetailArticle articleToResponseDetailArticle(Article article,
                                                                     Boolean isLiked,
                                                                     Boolean isBookmarked,
                                                                     List<TagDto.SimpleTag> tags,
                                                                     List<CommentDto.Response> comments,
-                                                                    Integer likes
+                                                                    Integer likes,
+                                                                    Integer clicks
     );
 
 
@@ -111,14 +114,16 @@ public interface ArticleMapper {
     @Mapping(source = "article.user.avatar.remotePath", target = "avatar.remotePath")
     @Mapping(source = "tags", target = "tags")
     @Mapping(source = "comments", target = "comments")
+    @Mapping(source = "clicks", target = "clicks")
+    @Mapping(target = "relatedArticles", ignore = true)
     ArticleDto.ResponseDetailArticle articleToResponseBlockedArticle(Article article,
                                                                      Boolean isLiked,
                                                                      Boolean isBookmarked,
                                                                      String report,
                                                                      List<TagDto.SimpleTag> tags,
                                                                      List<CommentDto.Response> comments,
-                                                                     Integer likes
-
+                                                                     Integer likes,
+                                                                     Integer clicks
     );
 
     ArticleDto.ResponseArticleLike makingResponseArticleLikeDto(Long articleId, Long userId, Boolean isLiked, Integer likeCount);
@@ -4,6 +4,7 @@ import com.morakmorak.morak_back_end.entity.Bookmark;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface BookmarkRepository extends JpaRepository<Bookmark,Long> {
@@ -12,4 +13,7 @@ public interface BookmarkRepository extends JpaRepository<Bookmark,Long> {
 
     @Query("select b from Bookmark b where b.user.id = :userId and b.article.id = :articleId")
     Optional<Bookmark> checkUserBookmarked(Long userId, Long articleId);
+
+    @Query("select b.user.id from Bookmark b where b.article.id = :articleId")
+    List<Long> findUserIdsByArticleId(Long articleId);
 }
@@ -0,0 +1,67 @@
+package com.morakmorak.morak_back_end.repository;
+
+import com.morakmorak.morak_back_end.domain.CursorSlice;
+import com.morakmorak.morak_back_end.domain.PageCursor;
+import com.morakmorak.morak_back_end.entity.Comment;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.morakmorak.morak_back_end.entity.QAvatar.avatar;
+import static com.morakmorak.morak_back_end.entity.QComment.comment;
+import static com.morakmorak.morak_back_end.entity.QUser.user;
+
+/*
+ * 댓글 목록을 작성 순서(comment_id 오름차순) 키셋으로 조회합니다.
+ * 응답에 필요한 작성자와 아바타를 함께 조회하고, count 쿼리를 실행하지 않습니다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class CommentQueryRepository {
+    private final JPAQueryFactory jpaQueryFactory;
+
+    public CursorSlice<Comment> findAllByArticleId(Long articleId, PageCursor cursor, int size) {
+        return findAll(comment.article.id.eq(articleId), cursor, size);
+    }
+
+    public CursorSlice<Comment> findAllByAnswerId(Long answerId, PageCursor cursor, int size) {
+        return findAll(comment.answer.id.eq(answerId), cursor, size);
+    }
+
+    /*
+     * 댓글 등록/수정/삭제 응답의 다음 페이지 존재 여부를 판단합니다.
+     * */
+    public boolean existsAfterByArticleId(Long articleId, Long commentId) {
+        return existsAfter(comment.article.id.eq(articleId), commentId);
+    }
+
+    public boolean existsAfterByAnswerId(Long answerId, Long commentId) {
+        return existsAfter(comment.answer.id.eq(answerId), commentId);
+    }
+
+    private CursorSlice<Comment> findAll(BooleanExpression target, PageCursor cursor, int size) {
+        List<Comment> result = jpaQueryFactory.selectFrom(comment)
+                .leftJoin(comment.user, user).fetchJoin()
+                .leftJoin(user.avatar, avatar).fetchJoin()
+                .where(target, afterCursor(cursor))
+                .orderBy(comment.id.asc())
+                .limit(size + 1)
+                .fetch();
+
+        return CursorSlice.of(result, size, last -> PageCursor.of(last.getId()));
+    }
+
+    private boolean existsAfter(BooleanExpression target, Long commentId) {
+        return jpaQueryFactory.selectOne()
+                .from(comment)
+                .where(target, comment.id.gt(commentId))
+                .fetchFirst() != null;
+    }
+
+    private BooleanExpression afterCursor(PageCursor cursor) {
+        return cursor.isFirst() ? null : comment.id.gt(cursor.getLong(0));
+    }
+}
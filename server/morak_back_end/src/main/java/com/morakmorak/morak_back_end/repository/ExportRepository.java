@@ -0,0 +1,130 @@
+package com.morakmorak.morak_back_end.repository;
+
+import com.morakmorak.morak_back_end.dto.ExportDto;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/*
+ * 게시중인 게시글과 그 답변, 댓글을 DB 커서로 한 행씩 읽어 Stream 으로 반환합니다.
+ * 결과 전체를 메모리에 올리지 않으므로 반환된 Stream 은 반드시 닫아야 하고, 다 읽을 때까지 커넥션을 점유합니다.
+ * 같은 커넥션에서 커서를 동시에 두 개 열 수 없으므로(MySQL) 하나를 다 읽고 닫은 뒤 다음 것을 엽니다.
+ * */
+@Repository
+public class ExportRepository {
+    private static final int FETCH_SIZE = 1000;
+    private static final String POSTING_ARTICLE = "a.article_status = 'POSTING' AND a.is_blocked = false";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean fetchSizeResolved;
+
+    public ExportRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public Stream<ExportDto.ArticleRow> streamArticles() {
+        String sql =
+                " SELECT a.article_id, a.user_id, c.name AS category, a.title, a.content, a.clicks," +
+                        " a.like_count, a.comment_count, a.answer_count, a.is_closed, a.created_at, a.last_modified_at" +
+                        " FROM article a LEFT JOIN category c ON c.category_id = a.category_id" +
+                        " WHERE " + POSTING_ARTICLE +
+                        " ORDER BY a.article_id";
+
+        return jdbcTemplate().queryForStream(sql, (rs, rowNum) -> ExportDto.ArticleRow.builder()
+                .articleId(rs.getLong("article_id"))
+                .userId(longOrNull(rs, "user_id"))
+                .category(rs.getString("category"))
+                .title(rs.getString("title"))
+                .content(rs.getString("content"))
+                .clicks(rs.getInt("clicks"))
+                .likeCount(rs.getInt("like_count"))
+                .commentCount(rs.getInt("comment_count"))
+                .answerCount(rs.getInt("answer_count"))
+                .isClosed(rs.getBoolean("is_closed"))
+                .createdAt(dateTimeOf(rs, "created_at"))
+                .lastModifiedAt(dateTimeOf(rs, "last_modified_at"))
+                .build());
+    }
+
+    /*
+     * 신고 누적으로 차단된 답변은 내보내지 않습니다.
+     * */
+    public Stream<ExportDto.AnswerRow> streamAnswers() {
+        String sql =
+                " SELECT w.answer_id, w.article_id, w.user_id, w.content, w.is_picked, w.created_at, w.last_modified_at" +
+                        " FROM answer w JOIN article a ON a.article_id = w.article_id" +
+                        " WHERE " + POSTING_ARTICLE + " AND w.is_blocked = false" +
+                        " ORDER BY w.answer_id";
+
+        return jdbcTemplate().queryForStream(sql, (rs, rowNum) -> ExportDto.AnswerRow.builder()
+                .answerId(rs.getLong("answer_id"))
+                .articleId(rs.getLong("article_id"))
+                .userId(longOrNull(rs, "user_id"))
+                .content(rs.getString("content"))
+                .isPicked(rs.getBoolean("is_picked"))
+                .createdAt(dateTimeOf(rs, "created_at"))
+                .lastModifiedAt(dateTimeOf(rs, "last_modified_at"))
+                .build());
+    }
+
+    /*
+     * 답변에 달린 댓글은 답변이 속한 게시글 id 를 함께 내보냅니다.
+     * */
+    public Stream<ExportDto.CommentRow> streamComments() {
+        String sql =
+                " SELECT m.comment_id, a.article_id, m.answer_id, m.user_id, m.content, m.created_at, m.last_modified_at" +
+                        " FROM comment m LEFT JOIN answer w ON w.answer_id = m.answer_id" +
+                        " JOIN article a ON a.article_id = COALESCE(m.article_id, w.article_id)" +
+                        " WHERE " + POSTING_ARTICLE + " AND (w.answer_id IS NULL OR w.is_blocked = false)" +
+                        " ORDER BY m.comment_id";
+
+        return jdbcTemplate().queryForStream(sql, (rs, rowNum) -> ExportDto.CommentRow.builder()
+                .commentId(rs.getLong("comment_id"))
+                .articleId(rs.getLong("article_id"))
+                .answerId(longOrNull(rs, "answer_id"))
+                .userId(longOrNull(rs, "user_id"))
+                .content(rs.getString("content"))
+                .createdAt(dateTimeOf(rs, "created_at"))
+                .lastModifiedAt(dateTimeOf(rs, "last_modified_at"))
+                .build());
+    }
+
+    /*
+     * MySQL 드라이버는 fetchSize 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 받아오고, 그 외에는 결과 전체를 메모리에 올립니다.
+     * 다른 DB(테스트용 H2 등)는 음수 fetchSize 를 허용하지 않으므로 일반적인 값을 사용합니다.
+     * */
+    /*
+     * 빈을 만들 때 커넥션을 열지 않도록, fetch size 는 처음 내보낼 때 DB 종류를 확인해 정합니다.
+     * */
+    private JdbcTemplate jdbcTemplate() {
+        if (!fetchSizeResolved) {
+            jdbcTemplate.setFetchSize(fetchSizeOf(jdbcTemplate));
+            fetchSizeResolved = true;
+        }
+        return jdbcTemplate;
+    }
+
+    private static int fetchSizeOf(JdbcTemplate jdbcTemplate) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+
+        return "MySQL".equalsIgnoreCase(product) ? Integer.MIN_VALUE : FETCH_SIZE;
+    }
+
+    private static Long longOrNull(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static LocalDateTime dateTimeOf(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -0,0 +1,127 @@
+package com.morakmorak.morak_back_end.repository;
+
+import com.morakmorak.morak_back_end.dto.OutboxDto;
+import com.morakmorak.morak_back_end.entity.enums.OutboxEventType;
+import com.morakmorak.morak_back_end.entity.enums.OutboxStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * outbox_event 를 JDBC 로 쌓고 꺼냅니다.
+ * 쌓을 때는 요청 트랜잭션의 커넥션을 그대로 쓰므로 요청이 롤백되면 outbox 도 함께 롤백됩니다.
+ * 꺼낼 때는 FOR UPDATE SKIP LOCKED 로 잠그므로 여러 서버가 동시에 처리해도 같은 건을 두 번 처리하지 않습니다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class OutboxBatchRepository {
+    private static final String COLUMNS = " outbox_event_id, event_type, idempotency_key, payload, attempts ";
+
+    private static final RowMapper<OutboxDto.Pending> PENDING_MAPPER = (rs, rowNum) -> OutboxDto.Pending.builder()
+            .outboxEventId(rs.getLong("outbox_event_id"))
+            .eventType(OutboxEventType.valueOf(rs.getString("event_type")))
+            .idempotencyKey(rs.getString("idempotency_key"))
+            .payload(rs.getString("payload"))
+            .attempts(rs.getInt("attempts"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /*
+     * 이미 같은 idempotency_key 가 있으면 아무것도 하지 않습니다. 요청 트랜잭션을 실패시키지 않도록 중복 키 예외 대신 no-op update 를 사용합니다.
+     * */
+    public void insert(OutboxEventType type, String idempotencyKey, String coalesceKey, String payload,
+                       LocalDateTime nextAttemptAt, LocalDateTime now) {
+        String sql =
+                " INSERT INTO outbox_event (event_type, idempotency_key, coalesce_key, payload, status, attempts, next_attempt_at, created_at, last_modified_at)" +
+                        " VALUES (?, ?, ?, ?, ?, 0, ?, ?, ?)" +
+                        " ON DUPLICATE KEY UPDATE outbox_event_id = outbox_event_id";
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        jdbcTemplate.update(sql, type.name(), idempotencyKey, coalesceKey, payload, OutboxStatus.PENDING.name(),
+                Timestamp.valueOf(nextAttemptAt), timestamp, timestamp);
+    }
+
+    public List<OutboxDto.Pending> claim(int limit, LocalDateTime now) {
+        String sql =
+                " SELECT" + COLUMNS + "FROM outbox_event" +
+                        " WHERE status = ? AND next_attempt_at <= ?" +
+                        " ORDER BY outbox_event_id LIMIT ?" +
+                        " FOR UPDATE SKIP LOCKED";
+
+        return jdbcTemplate.query(sql, PENDING_MAPPER, OutboxStatus.PENDING.name(), Timestamp.valueOf(now), limit);
+    }
+
+    public Optional<OutboxDto.Pending> claim(Long outboxEventId) {
+        String sql =
+                " SELECT" + COLUMNS + "FROM outbox_event" +
+                        " WHERE outbox_event_id = ? AND status = ?" +
+                        " FOR UPDATE SKIP LOCKED";
+
+        return jdbcTemplate.query(sql, PENDING_MAPPER, outboxEventId, OutboxStatus.PENDING.name()).stream().findFirst();
+    }
+
+    /*
+     * 처리할 차례가 아니어도 같은 coalesceKey 로 대기 중인 outbox 를 함께 잠급니다. 합쳐서 한 번에 처리하기 위함입니다.
+     * */
+    public List<OutboxDto.Pending> claimByCoalesceKeys(Collection<String> coalesceKeys) {
+        if (coalesceKeys.isEmpty()) {
+            return List.of();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(coalesceKeys.size(), "?"));
+        String sql =
+                " SELECT" + COLUMNS + "FROM outbox_event" +
+                        " WHERE status = ? AND coalesce_key IN (" + placeholders + ")" +
+                        " ORDER BY outbox_event_id" +
+                        " FOR UPDATE SKIP LOCKED";
+
+        List<Object> params = new ArrayList<>();
+        params.add(OutboxStatus.PENDING.name());
+        params.addAll(coalesceKeys);
+
+        return jdbcTemplate.query(sql, PENDING_MAPPER, params.toArray());
+    }
+
+    /*
+     * 잠그지 않고 처리할 차례인 id 만 조회합니다. 한 건씩 다시 처리할 때 사용합니다.
+     * */
+    public List<Long> findPendingIds(int limit, LocalDateTime now) {
+        String sql =
+                " SELECT outbox_event_id FROM outbox_event" +
+                        " WHERE status = ? AND next_attempt_at <= ?" +
+                        " ORDER BY outbox_event_id LIMIT ?";
+
+        return jdbcTemplate.queryForList(sql, Long.class, OutboxStatus.PENDING.name(), Timestamp.valueOf(now), limit);
+    }
+
+    public void markDone(List<Long> outboxEventIds, LocalDateTime now) {
+        if (outboxEventIds.isEmpty()) {
+            return;
+        }
+
+        String sql = "UPDATE outbox_event SET status = ?, last_modified_at = ? WHERE outbox_event_id = ?";
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        jdbcTemplate.batchUpdate(sql, outboxEventIds, outboxEventIds.size(), (ps, outboxEventId) -> {
+            ps.setString(1, OutboxStatus.DONE.name());
+            ps.setTimestamp(2, timestamp);
+            ps.setLong(3, outboxEventId);
+        });
+    }
+
+    public void markRetry(Long outboxEventId, int attempts, OutboxStatus status, LocalDateTime nextAttemptAt, LocalDateTime now) {
+        String sql = "UPDATE outbox_event SET attempts = ?, status = ?, next_attempt_at = ?, last_modified_at = ? WHERE outbox_event_id = ?";
+
+        jdbcTemplate.update(sql, attempts, status.name(), Timestamp.valueOf(nextAttemptAt), Timestamp.valueOf(now), outboxEventId);
+    }
+}
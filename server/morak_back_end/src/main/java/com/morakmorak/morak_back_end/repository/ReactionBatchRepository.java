@@ -0,0 +1,167 @@
+package com.morakmorak.morak_back_end.repository;
+
+import com.morakmorak.morak_back_end.repository.redis.ReactionRepository.Operation;
+import com.morakmorak.morak_back_end.repository.redis.ReactionRepository.Type;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * Redis 에서 처리한 좋아요/북마크를 article_like, answer_like, bookmark 테이블에 batch 로 반영합니다.
+ * 이미 있는 행은 다시 넣지 않고 없는 행은 지워도 0 건이므로, 같은 건을 여러 번 반영해도 결과가 같습니다.
+ * 대상 게시글/답변이 이미 삭제되었다면 insert 되지 않습니다.
+ * batch 의 건별 반영 행 수는 드라이버 설정(rewriteBatchedStatements)에 따라 SUCCESS_NO_INFO 로 돌아오므로 쓰지 않고,
+ * 반영 전에 이미 있는 행과 대상이 남아 있는지를 조회해 실제로 바뀌는 건만 골라 반영하고 반환합니다.
+ * 호출하는 쪽의 트랜잭션 안에서 ReactionFlushScheduler 가 락을 잡고 하나씩만 반영하므로 조회와 반영 사이에 바뀌지 않습니다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class ReactionBatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Operation> insert(Type type, List<Operation> operations) {
+        if (operations.isEmpty()) {
+            return operations;
+        }
+
+        Set<String> existing = findExistingKeys(type, operations);
+        Set<Long> targetIds = findTargetIds(type, operations);
+        List<Operation> inserted = operations.stream()
+                .filter(operation -> !existing.contains(operation.reactionKey()) && targetIds.contains(operation.getTargetId()))
+                .collect(Collectors.toList());
+
+        String table = tableOf(type);
+        String targetTable = targetTableOf(type);
+        String targetColumn = targetColumnOf(type);
+
+        String sql =
+                " INSERT INTO " + table + " (user_id, " + targetColumn + ", created_at, last_modified_at)" +
+                        " SELECT ?, t." + targetColumn + ", ?, ? FROM " + targetTable + " t" +
+                        " WHERE t." + targetColumn + " = ?" +
+                        " AND NOT EXISTS (SELECT 1 FROM " + table + " r WHERE r.user_id = ? AND r." + targetColumn + " = ?)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        batchUpdate(sql, inserted, (ps, operation) -> {
+            ps.setLong(1, operation.getUserId());
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            ps.setLong(4, operation.getTargetId());
+            ps.setLong(5, operation.getUserId());
+            ps.setLong(6, operation.getTargetId());
+        });
+        return inserted;
+    }
+
+    public List<Operation> delete(Type type, List<Operation> operations) {
+        if (operations.isEmpty()) {
+            return operations;
+        }
+
+        Set<String> existing = findExistingKeys(type, operations);
+        List<Operation> deleted = operations.stream()
+                .filter(operation -> existing.contains(operation.reactionKey()))
+                .collect(Collectors.toList());
+
+        String sql = "DELETE FROM " + tableOf(type) + " WHERE user_id = ? AND " + targetColumnOf(type) + " = ?";
+
+        batchUpdate(sql, deleted, (ps, operation) -> {
+            ps.setLong(1, operation.getUserId());
+            ps.setLong(2, operation.getTargetId());
+        });
+        return deleted;
+    }
+
+    /*
+     * 대상 id 로 좁힌 뒤 회원 id 를 걸러 이미 있는 (회원, 대상) 쌍을 Operation.reactionKey() 형태로 반환합니다.
+     * */
+    private Set<String> findExistingKeys(Type type, List<Operation> operations) {
+        String targetColumn = targetColumnOf(type);
+        List<Long> targetIds = distinct(operations, Operation::getTargetId);
+        List<Long> userIds = distinct(operations, Operation::getUserId);
+
+        String sql = "SELECT user_id, " + targetColumn + " FROM " + tableOf(type) +
+                " WHERE " + targetColumn + " IN (" + placeholders(targetIds.size()) + ")" +
+                " AND user_id IN (" + placeholders(userIds.size()) + ")";
+        List<Object> params = new ArrayList<>(targetIds);
+        params.addAll(userIds);
+
+        return new HashSet<>(jdbcTemplate.query(sql,
+                (rs, rowNum) -> new Operation(type, rs.getLong(2), rs.getLong(1), true).reactionKey(),
+                params.toArray()));
+    }
+
+    private Set<Long> findTargetIds(Type type, List<Operation> operations) {
+        String targetColumn = targetColumnOf(type);
+        List<Long> targetIds = distinct(operations, Operation::getTargetId);
+
+        String sql = "SELECT " + targetColumn + " FROM " + targetTableOf(type) +
+                " WHERE " + targetColumn + " IN (" + placeholders(targetIds.size()) + ")";
+
+        return new HashSet<>(jdbcTemplate.queryForList(sql, Long.class, targetIds.toArray()));
+    }
+
+    private List<Long> distinct(List<Operation> operations, Function<Operation, Long> idOf) {
+        return operations.stream()
+                .map(idOf)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private String placeholders(int size) {
+        return String.join(",", Collections.nCopies(size, "?"));
+    }
+
+    private void batchUpdate(String sql, List<Operation> operations, OperationSetter setter) {
+        if (operations.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                sql,
+                new BatchPreparedStatementSetter() {
+
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        setter.setValues(ps, operations.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return operations.size();
+                    }
+                }
+        );
+    }
+
+    private interface OperationSetter {
+        void setValues(PreparedStatement ps, Operation operation) throws SQLException;
+    }
+
+    private String tableOf(Type type) {
+        switch (type) {
+            case ARTICLE_LIKE:
+                return "article_like";
+            case ANSWER_LIKE:
+                return "answer_like";
+            default:
+                return "bookmark";
+        }
+    }
+
+    private String targetTableOf(Type type) {
+        return type == Type.ANSWER_LIKE ? "answer" : "article";
+    }
+
+    private String targetColumnOf(Type type) {
+        return type == Type.ANSWER_LIKE ? "answer_id" : "article_id";
+    }
+}
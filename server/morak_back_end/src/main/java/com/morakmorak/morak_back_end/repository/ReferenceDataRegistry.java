@@ -0,0 +1,128 @@
+package com.morakmorak.morak_back_end.repository;
+
+import com.morakmorak.morak_back_end.entity.Badge;
+import com.morakmorak.morak_back_end.entity.Category;
+import com.morakmorak.morak_back_end.entity.Role;
+import com.morakmorak.morak_back_end.entity.Tag;
+import com.morakmorak.morak_back_end.entity.enums.BadgeName;
+import com.morakmorak.morak_back_end.entity.enums.CategoryName;
+import com.morakmorak.morak_back_end.entity.enums.RoleName;
+import com.morakmorak.morak_back_end.entity.enums.TagName;
+import com.morakmorak.morak_back_end.exception.BusinessLogicException;
+import com.morakmorak.morak_back_end.exception.ErrorCode;
+import com.morakmorak.morak_back_end.repository.user.RoleRepository;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/*
+ * 태그, 카테고리, 뱃지, 권한처럼 enum 으로 구분되고 거의 바뀌지 않는 기준 데이터의 id 를 메모리에 올려둡니다.
+ * 이름으로 매번 조회하는 대신 id 로 만든 참조(getReference)를 돌려주므로, 연관관계를 맺을 때 select 가 나가지 않습니다.
+ * 기동 시 한 번 적재하며, 기준 데이터를 바꾼 뒤에는 refresh() 로 다시 적재합니다.
+ * */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ReferenceDataRegistry {
+    private final EntityManager em;
+    private final TagRepository tagRepository;
+    private final CategoryRepository categoryRepository;
+    private final BadgeRepository badgeRepository;
+    private final RoleRepository roleRepository;
+
+    private volatile Snapshot snapshot = Snapshot.empty();
+
+    @AllArgsConstructor
+    private static class Snapshot {
+        private final Map<TagName, Long> tagIds;
+        private final Map<CategoryName, Long> categoryIds;
+        private final Map<BadgeName, Long> badgeIds;
+        private final Map<RoleName, Long> roleIds;
+
+        private static Snapshot empty() {
+            return new Snapshot(
+                    Collections.unmodifiableMap(new EnumMap<>(TagName.class)),
+                    Collections.unmodifiableMap(new EnumMap<>(CategoryName.class)),
+                    Collections.unmodifiableMap(new EnumMap<>(BadgeName.class)),
+                    Collections.unmodifiableMap(new EnumMap<>(RoleName.class)));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void refresh() {
+        this.snapshot = new Snapshot(
+                idsOf(TagName.class, tagRepository.findAll(), Tag::getName, Tag::getId),
+                idsOf(CategoryName.class, categoryRepository.findAll(), Category::getName, Category::getId),
+                idsOf(BadgeName.class, badgeRepository.findAll(), Badge::getName, Badge::getId),
+                idsOf(RoleName.class, roleRepository.findAll(), Role::getRoleName, Role::getId));
+
+        log.info("reference data loaded. tags = {}, categories = {}, badges = {}, roles = {}",
+                snapshot.tagIds.size(), snapshot.categoryIds.size(), snapshot.badgeIds.size(), snapshot.roleIds.size());
+    }
+
+    public Tag getTag(TagName name) {
+        return find(Tag.class, snapshot.tagIds, name,
+                () -> tagRepository.findTagByName(name), ErrorCode.TAG_NOT_FOUND);
+    }
+
+    public Category getCategory(CategoryName name) {
+        return find(Category.class, snapshot.categoryIds, name,
+                () -> categoryRepository.findCategoryByName(name), ErrorCode.CATEGORY_NOT_FOUND);
+    }
+
+    public Badge getBadge(BadgeName name) {
+        return find(Badge.class, snapshot.badgeIds, name,
+                () -> badgeRepository.findBadgeByName(name), ErrorCode.BADGE_NOT_FOUND);
+    }
+
+    /*
+     * 권한은 기존 RoleRepository 와 같이 없으면 null 을 돌려줍니다.
+     * */
+    public Role getRole(RoleName name) {
+        Long id = snapshot.roleIds.get(name);
+        return id != null ? em.getReference(Role.class, id) : roleRepository.findRoleByRoleName(name);
+    }
+
+    /*
+     * 적재 이후에 추가된 행은 이름으로 직접 조회합니다. 커밋되지 않았을 수 있는 값이므로 여기서 적재하지는 않습니다.
+     * */
+    private <E extends Enum<E>, T> T find(Class<T> type, Map<E, Long> ids, E name,
+                                          Supplier<Optional<T>> fallback, ErrorCode errorCode) {
+        if (name == null) {
+            throw new BusinessLogicException(errorCode);
+        }
+
+        Long id = ids.get(name);
+
+        if (id != null) {
+            return em.getReference(type, id);
+        }
+
+        return fallback.get().orElseThrow(() -> new BusinessLogicException(errorCode));
+    }
+
+    private <E extends Enum<E>, T> Map<E, Long> idsOf(Class<E> type, List<T> entities,
+                                                       Function<T, E> nameOf, Function<T, Long> idOf) {
+        EnumMap<E, Long> ids = new EnumMap<>(type);
+        entities.forEach(entity -> {
+            if (nameOf.apply(entity) != null) {
+                ids.put(nameOf.apply(entity), idOf.apply(entity));
+            }
+        });
+        return Collections.unmodifiableMap(ids);
+    }
+}
@@ -0,0 +1,143 @@
+package com.morakmorak.morak_back_end.repository;
+
+import com.morakmorak.morak_back_end.entity.enums.ArticleStatus;
+import com.morakmorak.morak_back_end.entity.enums.OutboxStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ * 보관 기간이 지난 행을 primary key 구간 단위로 지웁니다.
+ * 한 번에 잡는 row lock 범위와 트랜잭션 길이를 줄이기 위해 RetentionService 가 작은 구간으로 나누어 호출합니다.
+ * 반환값은 구간 안에서 지운 행 수입니다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class RetentionRepository {
+    private static final String REMOVED_ARTICLE =
+            " a.article_id BETWEEN ? AND ? AND a.article_status = '" + ArticleStatus.REMOVED.name() + "' AND a.last_modified_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Long findMinId(String table, String idColumn) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MIN(" + idColumn + "), 1) FROM " + table, Long.class);
+    }
+
+    public Long findMaxId(String table, String idColumn) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+    }
+
+    /*
+     * 확인한 알림은 checkedBefore, 확인하지 않은 알림은 uncheckedBefore 이전에 만들어졌다면 지웁니다.
+     * */
+    public int deleteNotifications(Long fromId, Long toId, LocalDateTime checkedBefore, LocalDateTime uncheckedBefore) {
+        String sql =
+                " DELETE FROM notification" +
+                        " WHERE notification_id BETWEEN ? AND ?" +
+                        " AND ((is_checked = true AND created_at < ?) OR created_at < ?)";
+
+        return jdbcTemplate.update(sql, fromId, toId, Timestamp.valueOf(checkedBefore), Timestamp.valueOf(uncheckedBefore));
+    }
+
+    public int deleteOutboxEvents(Long fromId, Long toId, LocalDateTime doneBefore, LocalDateTime failedBefore) {
+        String sql =
+                " DELETE FROM outbox_event" +
+                        " WHERE outbox_event_id BETWEEN ? AND ?" +
+                        " AND ((status = ? AND last_modified_at < ?) OR (status = ? AND last_modified_at < ?))";
+
+        return jdbcTemplate.update(sql, fromId, toId,
+                OutboxStatus.DONE.name(), Timestamp.valueOf(doneBefore),
+                OutboxStatus.FAILED.name(), Timestamp.valueOf(failedBefore));
+    }
+
+    /*
+     * 업로드만 하고 게시글/답변에 연결되지 않은 파일입니다. S3 객체를 먼저 지운 뒤 deleteUnlinkedFiles 로 행을 지웁니다.
+     * */
+    public List<UnlinkedFile> findUnlinkedFiles(Long fromId, Long toId, LocalDateTime before) {
+        String sql =
+                " SELECT file_id, remote_path FROM file" +
+                        " WHERE file_id BETWEEN ? AND ?" +
+                        " AND article_id IS NULL AND answer_id IS NULL AND created_at < ?";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new UnlinkedFile(rs.getLong("file_id"), rs.getString("remote_path")),
+                fromId, toId, Timestamp.valueOf(before));
+    }
+
+    /*
+     * 조회 이후 다시 연결된 파일은 지우지 않습니다.
+     * */
+    public int deleteUnlinkedFiles(List<Long> fileIds) {
+        if (fileIds.isEmpty()) {
+            return 0;
+        }
+
+        String sql = "DELETE FROM file WHERE file_id = ? AND article_id IS NULL AND answer_id IS NULL";
+        int deleted = 0;
+
+        for (int[] counts : jdbcTemplate.batchUpdate(sql, fileIds, fileIds.size(), (ps, fileId) -> ps.setLong(1, fileId))) {
+            for (int count : counts) {
+                deleted += Math.max(count, 0);
+            }
+        }
+        return deleted;
+    }
+
+    /*
+     * 삭제된 지 before 이상 지난 게시글과 답변/댓글/좋아요/북마크/신고/태그를 한 트랜잭션에서 지웁니다.
+     * 파일은 연결만 끊어 만료된 미연결 파일로 정리되게 하고, 후원 기록인 리뷰는 게시글 연결만 끊어 남깁니다.
+     * 반환값은 지운 게시글 수입니다.
+     * */
+    @Transactional
+    public int deleteRemovedArticles(Long fromId, Long toId, LocalDateTime before) {
+        Object[] params = {fromId, toId, Timestamp.valueOf(before)};
+        Long removed = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM article a WHERE" + REMOVED_ARTICLE, Long.class, params);
+
+        if (removed == null || removed == 0) {
+            return 0;
+        }
+
+        jdbcTemplate.update("DELETE r FROM report r JOIN comment c ON r.comment_id = c.comment_id JOIN answer w ON c.answer_id = w.answer_id" +
+                " JOIN article a ON w.article_id = a.article_id WHERE" + REMOVED_ARTICLE, params);
+        jdbcTemplate.update("DELETE r FROM report r JOIN comment c ON r.comment_id = c.comment_id" +
+                " JOIN article a ON c.article_id = a.article_id WHERE" + REMOVED_ARTICLE, params);
+        jdbcTemplate.update("DELETE r FROM report r JOIN answer w ON r.answer_id = w.answer_id" +
+                " JOIN article a ON w.article_id = a.article_id WHERE" + REMOVED_ARTICLE, params);
+        jdbcTemplate.update("DELETE r FROM report r JOIN article a ON r.article_id = a.article_id WHERE" + REMOVED_ARTICLE, params);
+
+        jdbcTemplate.update("DELETE l FROM answer_like l JOIN answer w ON l.answer_id = w.answer_id" +
+                " JOIN article a ON w.article_id = a.article_id WHERE" + REMOVED_ARTICLE, params);
+        jdbcTemplate.update("DELETE b FROM bookmark b JOIN answer w ON b.answer_id = w.answer_id" +
+                " JOIN article a ON w.article_id = a.article_id WHERE" + REMOVED_ARTICLE, params);
+        jdbcTemplate.update("DELETE b FROM bookmark b JOIN article a ON b.article_id = a.article_id WHERE" + REMOVED_ARTICLE, params);
+
+        jdbcTemplate.update("DELETE c FROM comment c JOIN answer w ON c.answer_id = w.answer_id" +
+                " JOIN article a ON w.article_id = a.article_id WHERE" + REMOVED_ARTICLE, params);
+        jdbcTemplate.update("DELETE c FROM comment c JOIN article a ON c.article_id = a.article_id WHERE" + REMOVED_ARTICLE, params);
+
+        jdbcTemplate.update("UPDATE file f JOIN answer w ON f.answer_id = w.answer_id JOIN article a ON w.article_id = a.article_id" +
+                " SET f.answer_id = NULL, f.article_id = NULL WHERE" + REMOVED_ARTICLE, params);
+        jdbcTemplate.update("UPDATE file f JOIN article a ON f.article_id = a.article_id" +
+                " SET f.article_id = NULL WHERE" + REMOVED_ARTICLE, params);
+        jdbcTemplate.update("UPDATE review v JOIN article a ON v.article_id = a.article_id" +
+                " SET v.article_id = NULL WHERE" + REMOVED_ARTICLE, params);
+
+        jdbcTemplate.update("DELETE w FROM answer w JOIN article a ON w.article_id = a.article_id WHERE" + REMOVED_ARTICLE, params);
+        jdbcTemplate.update("DELETE l FROM article_like l JOIN article a ON l.article_id = a.article_id WHERE" + REMOVED_ARTICLE, params);
+        jdbcTemplate.update("DELETE t FROM article_tag t JOIN article a ON t.article_id = a.article_id WHERE" + REMOVED_ARTICLE, params);
+
+        return jdbcTemplate.update("DELETE a FROM article a WHERE" + REMOVED_ARTICLE, params);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class UnlinkedFile {
+        private final Long fileId;
+        private final String remotePath;
+    }
+}
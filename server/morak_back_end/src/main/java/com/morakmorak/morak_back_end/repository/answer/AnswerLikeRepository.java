@@ -4,10 +4,18 @@ import com.morakmorak.morak_back_end.entity.AnswerLike;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AnswerLikeRepository extends JpaRepository<AnswerLike, Long> {
 
     @Query("select a from AnswerLike a where a.user.id = :userId and a.answer.id = :answerId")
     Optional<AnswerLike> checkUserLiked(Long userId, Long answerId);
+
+    @Query("select a.user.id from AnswerLike a where a.answer.id = :answerId")
+    List<Long> findUserIdsByAnswerId(Long answerId);
+
+    @Query("select a.answer.id from AnswerLike a where a.user.id = :userId and a.answer.id in :answerIds")
+    List<Long> findLikedAnswerIds(Long userId, Collection<Long> answerIds);
 }
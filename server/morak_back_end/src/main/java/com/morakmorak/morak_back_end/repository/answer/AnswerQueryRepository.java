@@ -1,27 +1,58 @@
 package com.morakmorak.morak_back_end.repository.answer;
 
+import com.morakmorak.morak_back_end.domain.CursorSlice;
+import com.morakmorak.morak_back_end.domain.PageCursor;
 import com.morakmorak.morak_back_end.entity.Answer;
+import com.morakmorak.morak_back_end.entity.Comment;
+import com.morakmorak.morak_back_end.entity.QComment;
 import com.morakmorak.morak_back_end.entity.enums.ArticleStatus;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.morakmorak.morak_back_end.entity.QAnswer.answer;
+import static com.morakmorak.morak_back_end.entity.QAnswerLike.answerLike;
+import static com.morakmorak.morak_back_end.entity.QAvatar.avatar;
+import static com.morakmorak.morak_back_end.entity.QComment.comment;
+import static com.morakmorak.morak_back_end.entity.QUser.user;
 
 @Repository
 @RequiredArgsConstructor
 public class AnswerQueryRepository {
     private final JPAQueryFactory jpaQueryFactory;
 
+    @Getter
+    @AllArgsConstructor
+    public static class Counts {
+        public static final Counts EMPTY = new Counts(0L, 0L);
+
+        private final Long likeCount;
+        private final Long commentCount;
+    }
+
+    /*
+     * 답변 목록 응답에 필요한 작성자와 아바타를 함께 조회합니다.
+     * */
     public Page<Answer> findAllByArticleId_PickedFirst(Long articleId, Pageable pageable) {
         List<Answer> result;
         result = jpaQueryFactory.select(answer)
                 .from(answer)
+                .leftJoin(answer.user, user).fetchJoin()
+                .leftJoin(user.avatar, avatar).fetchJoin()
                 .where(answer.article.id.eq(articleId))
                 .orderBy(answer.isPicked.desc(), answer.createdAt.desc())
                 .offset(pageable.getOffset())
@@ -37,6 +68,73 @@ public class AnswerQueryRepository {
         return new PageImpl<>(result, pageable, count);
     }
 
+    /*
+     * (isPicked, createdAt, id) 내림차순 키셋 조회입니다. count 쿼리를 실행하지 않습니다.
+     * */
+    public CursorSlice<Answer> findAllByArticleId_PickedFirst(Long articleId, PageCursor cursor, int size) {
+        List<Answer> result = jpaQueryFactory.select(answer)
+                .from(answer)
+                .leftJoin(answer.user, user).fetchJoin()
+                .leftJoin(user.avatar, avatar).fetchJoin()
+                .where(answer.article.id.eq(articleId), afterCursor(cursor))
+                .orderBy(answer.isPicked.desc(), answer.createdAt.desc(), answer.id.desc())
+                .limit(size + 1)
+                .fetch();
+
+        return CursorSlice.of(result, size,
+                last -> PageCursor.of(last.getIsPicked(), last.getCreatedAt(), last.getId()));
+    }
+
+    /*
+     * 답변 id 별 좋아요 수와 댓글 수를 한 번의 집계 쿼리로 조회합니다. (답변의 좋아요/댓글 컬렉션을 불러오지 않기 위함)
+     * */
+    public Map<Long, Counts> countLikesAndComments(List<Long> answerIds) {
+        List<Tuple> result = jpaQueryFactory.select(answer.id,
+                        JPAExpressions.select(answerLike.count()).from(answerLike).where(answerLike.answer.id.eq(answer.id)),
+                        JPAExpressions.select(comment.count()).from(comment).where(comment.answer.id.eq(answer.id)))
+                .from(answer)
+                .where(answer.id.in(answerIds))
+                .fetch();
+
+        return result.stream().collect(Collectors.toMap(
+                tuple -> tuple.get(0, Long.class),
+                tuple -> new Counts(tuple.get(1, Long.class), tuple.get(2, Long.class))));
+    }
+
+    /*
+     * 답변마다 가장 먼저 달린 댓글(미리보기)을 작성자, 아바타와 함께 한 번에 조회합니다.
+     * JPQL 에서 window 함수(ROW_NUMBER)를 쓸 수 없으므로 답변별 최소 comment_id 를 서브쿼리로 구합니다.
+     * */
+    public Map<Long, Comment> findFirstComments(List<Long> answerIds) {
+        QComment firstComment = new QComment("firstComment");
+
+        List<Comment> result = jpaQueryFactory.selectFrom(comment)
+                .leftJoin(comment.user, user).fetchJoin()
+                .leftJoin(user.avatar, avatar).fetchJoin()
+                .where(comment.id.in(JPAExpressions.select(firstComment.id.min())
+                        .from(firstComment)
+                        .where(firstComment.answer.id.in(answerIds))
+                        .groupBy(firstComment.answer.id)))
+                .fetch();
+
+        return result.stream().collect(Collectors.toMap(c -> c.getAnswer().getId(), Function.identity()));
+    }
+
+    private BooleanExpression afterCursor(PageCursor cursor) {
+        if (cursor.isFirst()) {
+            return null;
+        }
+
+        Boolean lastIsPicked = cursor.getBoolean(0);
+        LocalDateTime lastCreatedAt = cursor.getDateTime(1);
+        Long lastId = cursor.getLong(2);
+
+        BooleanExpression sameIsPickedAfter = answer.isPicked.eq(lastIsPicked)
+                .and(answer.createdAt.lt(lastCreatedAt)
+                        .or(answer.createdAt.eq(lastCreatedAt).and(answer.id.lt(lastId))));
+
+        return lastIsPicked ? answer.isPicked.eq(false).or(sameIsPickedAfter) : sameIsPickedAfter;
+    }
 
     public Page<Answer> findAnswersByUserId(Long userId, Pageable pageable) {
         List<Answer> result;
@@ -4,6 +4,8 @@ import com.morakmorak.morak_back_end.entity.Answer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 
@@ -15,4 +17,9 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
     Optional<Answer> findAnswerByContent(String content);
 
     Optional<Answer> findTopByUserId(Long id);
+
+    @Modifying
+    @Query("update Answer a set a.isBlocked = case when a.reportCount + 1 >= :blockingCount then true else a.isBlocked end," +
+            " a.reportCount = a.reportCount + 1 where a.id = :answerId")
+    int addReportCount(Long answerId, int blockingCount);
 }
@@ -0,0 +1,88 @@
+package com.morakmorak.morak_back_end.repository.article;
+
+import com.morakmorak.morak_back_end.entity.Report;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@Transactional
+@RequiredArgsConstructor
+public class ArticleCounterRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public Long findMaxArticleId() {
+        String sql = "SELECT COALESCE(MAX(article_id), 0) FROM article";
+
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    /*
+     * 구간 안의 게시글 카운터를 실제 좋아요/댓글/답변/신고 행 수로 다시 맞춥니다.
+     * 구간 안 게시글에 달린 답변의 신고 수와 차단 여부도 함께 맞춥니다.
+     * 한 번에 잡는 row lock 범위를 줄이기 위해 article_id 구간 단위로 실행합니다.
+     * */
+    public int reconcileCounters(Long fromArticleId, Long toArticleId) {
+        String sql =
+                " UPDATE article a SET" +
+                        " a.like_count = (SELECT COUNT(*) FROM article_like l WHERE l.article_id = a.article_id)," +
+                        " a.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.article_id = a.article_id)," +
+                        " a.answer_count = (SELECT COUNT(*) FROM answer w WHERE w.article_id = a.article_id)," +
+                        " a.report_count = (SELECT COUNT(*) FROM report r WHERE r.article_id = a.article_id)," +
+                        " a.is_blocked = (a.report_count >= ?)" +
+                        " WHERE a.article_id BETWEEN ? AND ?";
+
+        String answerSql =
+                " UPDATE answer w SET" +
+                        " w.report_count = (SELECT COUNT(*) FROM report r WHERE r.answer_id = w.answer_id)," +
+                        " w.is_blocked = (w.report_count >= ?)" +
+                        " WHERE w.article_id BETWEEN ? AND ?";
+
+        jdbcTemplate.update(answerSql, Report.BLOCKING_REPORT_COUNT, fromArticleId, toArticleId);
+        return jdbcTemplate.update(sql, Report.BLOCKING_REPORT_COUNT, fromArticleId, toArticleId);
+    }
+
+    /*
+     * 메모리에 모아둔 조회수를 게시글별 한 번의 update 로 묶어 batch 로 반영합니다.
+     * */
+    public void addClicks(Map<Long, Long> clicksByArticleId) {
+        addCounts("UPDATE article SET clicks = clicks + ? WHERE article_id = ?", clicksByArticleId);
+    }
+
+    /*
+     * Redis 에서 처리한 좋아요의 게시글별 증감을 batch 로 반영합니다.
+     * */
+    public void addLikeCounts(Map<Long, Long> likesByArticleId) {
+        addCounts("UPDATE article SET like_count = like_count + ? WHERE article_id = ?", likesByArticleId);
+    }
+
+    private void addCounts(String sql, Map<Long, Long> countsByArticleId) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(countsByArticleId.entrySet());
+
+        jdbcTemplate.batchUpdate(
+                sql,
+                new BatchPreparedStatementSetter() {
+
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Map.Entry<Long, Long> entry = entries.get(i);
+                        ps.setLong(1, entry.getValue());
+                        ps.setLong(2, entry.getKey());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return entries.size();
+                    }
+                }
+        );
+    }
+}
@@ -4,6 +4,7 @@ import com.morakmorak.morak_back_end.entity.ArticleLike;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ArticleLikeRepository extends JpaRepository<ArticleLike, Long> {
@@ -11,4 +12,7 @@ public interface ArticleLikeRepository extends JpaRepository<ArticleLike, Long>
     @Query("select a from ArticleLike a where a.user.id = :userId and a.article.id = :articleId")
     Optional<ArticleLike> checkUserLiked(Long userId, Long articleId);
 
+    @Query("select a.user.id from ArticleLike a where a.article.id = :articleId")
+    List<Long> findUserIdsByArticleId(Long articleId);
+
 }
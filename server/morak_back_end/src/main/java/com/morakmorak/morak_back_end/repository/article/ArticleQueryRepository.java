@@ -1,13 +1,28 @@
 package com.morakmorak.morak_back_end.repository.article;
 
+import com.morakmorak.morak_back_end.domain.CursorSlice;
+import com.morakmorak.morak_back_end.domain.PageCursor;
+import com.morakmorak.morak_back_end.dto.ArticleDto;
 import com.morakmorak.morak_back_end.entity.Article;
+import com.morakmorak.morak_back_end.entity.enums.TagName;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 
 public interface ArticleQueryRepository {
 
     public Page<Article> search(String category, String keyword, String target, String sort, Pageable pageable);
 
+    public Page<ArticleDto.ResponseListTypeArticle> searchListTypeArticles(String category, String keyword, String target, String sort, Pageable pageable);
+
+    public CursorSlice<ArticleDto.ResponseListTypeArticle> searchAfter(String category, String keyword, String target, String sort, PageCursor cursor, int size);
+
+    public List<ArticleDto.ResponseListTypeArticle> findListTypeArticlesByIds(List<Long> articleIds);
+
+    public List<Article> findPostingArticlesAfter(Long lastArticleId, int size);
+
+    public Map<Long, List<TagName>> findTagNamesByArticleIds(List<Long> articleIds);
+
 }
@@ -1,25 +1,45 @@
 package com.morakmorak.morak_back_end.repository.article;
 
+import com.morakmorak.morak_back_end.domain.ArticleSearchIndex;
+import com.morakmorak.morak_back_end.domain.ArticleTagBitmapIndex;
+import com.morakmorak.morak_back_end.domain.CursorSlice;
+import com.morakmorak.morak_back_end.domain.PageCursor;
+import com.morakmorak.morak_back_end.dto.ArticleDto;
+import com.morakmorak.morak_back_end.dto.QArticleDto_ResponseListTypeArticle;
+import com.morakmorak.morak_back_end.dto.QTagDto_SimpleTag;
+import com.morakmorak.morak_back_end.dto.TagDto;
 import com.morakmorak.morak_back_end.entity.*;
 import com.morakmorak.morak_back_end.entity.enums.ArticleStatus;
 import com.morakmorak.morak_back_end.entity.enums.CategoryName;
 import com.morakmorak.morak_back_end.entity.enums.TagName;
+import com.morakmorak.morak_back_end.exception.BusinessLogicException;
+import com.morakmorak.morak_back_end.exception.ErrorCode;
 import com.morakmorak.morak_back_end.repository.article.ArticleQueryRepository;
+import com.morakmorak.morak_back_end.repository.redis.SearchSnapshotRepository;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.Getter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
-import java.util.List;
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static com.morakmorak.morak_back_end.entity.QAnswer.answer;
 import static com.morakmorak.morak_back_end.entity.QArticle.article;
 import static com.morakmorak.morak_back_end.entity.QArticleLike.articleLike;
 import static com.morakmorak.morak_back_end.entity.QArticleTag.articleTag;
+import static com.morakmorak.morak_back_end.entity.QAvatar.avatar;
+import static com.morakmorak.morak_back_end.entity.QCategory.category;
 import static com.morakmorak.morak_back_end.entity.QBookmark.bookmark;
 import static com.morakmorak.morak_back_end.entity.QComment.comment;
 import static com.morakmorak.morak_back_end.entity.QFile.file;
@@ -31,21 +51,101 @@ import static com.morakmorak.morak_back_end.entity.enums.ArticleStatus.*;
 
 @Repository
 public class ArticleQueryRepositoryImpl implements ArticleQueryRepository {
+    private static final int MAX_RELEVANCE_HITS = 1000;
+    private static final int MAX_MATCHED_IDS_IN_QUERY = 1000;
+    private static final int MAX_FILL_ROUNDS = 3;
 
     private final JPAQueryFactory queryFactory;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleTagBitmapIndex articleTagBitmapIndex;
+    private final SearchSnapshotRepository searchSnapshotRepository;
 
-    public ArticleQueryRepositoryImpl(EntityManager em) {
+    public ArticleQueryRepositoryImpl(EntityManager em, ArticleSearchIndex articleSearchIndex,
+                                      ArticleTagBitmapIndex articleTagBitmapIndex,
+                                      SearchSnapshotRepository searchSnapshotRepository) {
         this.queryFactory = new JPAQueryFactory(em);
+        this.articleSearchIndex = articleSearchIndex;
+        this.articleTagBitmapIndex = articleTagBitmapIndex;
+        this.searchSnapshotRepository = searchSnapshotRepository;
     }
 
 
     @Override
     public Page<Article> search(String category, String keyword, String target, String sort, Pageable pageable) {
-        List<Article> result = queryFactory
+        return searchAs(this::selectArticle, Article::getId, category, keyword, target, sort, pageable);
+    }
+
+    /*
+     * 목록 응답에 필요한 컬럼과 카운터만 DTO 로 바로 조회합니다. 태그는 페이지 단위로 한 번에 조회해서 붙입니다.
+     * */
+    @Override
+    public Page<ArticleDto.ResponseListTypeArticle> searchListTypeArticles(String category, String keyword, String target,
+                                                                          String sort, Pageable pageable) {
+        Page<ArticleDto.ResponseListTypeArticle> result = searchAs(this::selectListTypeArticle,
+                ArticleDto.ResponseListTypeArticle::getArticleId, category, keyword, target, sort, pageable);
+
+        attachTags(result.getContent());
+        return result;
+    }
+
+    /*
+     * 커서 기반 검색입니다. count 쿼리 없이 size + 1 건만 조회하고, 정렬 키 값으로 다음 페이지의 시작 위치를 찾습니다.
+     * 커서에는 (정렬 기준, 정렬 컬럼 값..., id) 가 담깁니다. 관련도순은 예외로 (relevance, 순위 id, 다음 위치) 가 담깁니다.
+     * */
+    @Override
+    public CursorSlice<ArticleDto.ResponseListTypeArticle> searchAfter(String category, String keyword, String target, String sort,
+                                                                      PageCursor cursor, int size) {
+        CursorSlice<ArticleDto.ResponseListTypeArticle> result = searchAfterWithIndex(category, keyword, target, sort, cursor, size)
+                .or(() -> searchAfterWithTagIndex(category, keyword, target, sort, cursor, size))
+                .orElseGet(() -> fetchAfter(keywordEq(keyword, target), category, sortKeyOf(sort), cursor, size));
+
+        attachTags(result.getContent());
+        return result;
+    }
+
+    /*
+     * 주어진 id 순서를 유지한 채 게시 중인 게시글만 목록 DTO 로 조회합니다.
+     * */
+    @Override
+    public List<ArticleDto.ResponseListTypeArticle> findListTypeArticlesByIds(List<Long> articleIds) {
+        List<ArticleDto.ResponseListTypeArticle> result = findInOrder(this::selectListTypeArticle,
+                ArticleDto.ResponseListTypeArticle::getArticleId, articleIds);
+
+        attachTags(result);
+        return result;
+    }
+
+    private JPAQuery<Article> selectArticle() {
+        return queryFactory
                 .select(article)
+                .from(article);
+    }
+
+    private JPAQuery<ArticleDto.ResponseListTypeArticle> selectListTypeArticle() {
+        return queryFactory
+                .select(new QArticleDto_ResponseListTypeArticle(
+                        article.id, article.category.name, article.title, article.clicks, article.likeCount,
+                        article.isClosed, article.commentCount, article.answerCount,
+                        article.createdAt, article.lastModifiedAt,
+                        user.id, user.nickname, user.grade,
+                        avatar.id, avatar.originalFilename, avatar.remotePath))
                 .from(article)
+                .leftJoin(article.user, user)
+                .leftJoin(user.avatar, avatar);
+    }
+
+    private <T> Page<T> searchAs(Supplier<JPAQuery<T>> select, Function<T, Long> idOf,
+                                 String category, String keyword, String target, String sort, Pageable pageable) {
+        Optional<Page<T>> indexedResult = searchWithIndex(select, idOf, category, keyword, target, sort, pageable)
+                .or(() -> searchWithTagIndex(select, idOf, category, keyword, target, sort, pageable));
+
+        if (indexedResult.isPresent()) {
+            return indexedResult.get();
+        }
+
+        List<T> result = select.get()
                 .where(categoryEq(category), (keywordEq(keyword, target)),
-                        (article.articleStatus.eq(POSTING)))
+                        statusPosting())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .orderBy(sortEq(sort))
@@ -56,15 +156,524 @@ public class ArticleQueryRepositoryImpl implements ArticleQueryRepository {
                 .from(article)
                 .where(categoryEq(category)
                                 ,(keywordEq(keyword, target))
-                                ,(article.articleStatus.eq(POSTING))
+                                ,statusPosting()
                         )
-                .orderBy(sortEq(sort))
                 .fetchOne();
 
 
         return new PageImpl<>(result, pageable, count);
     }
 
+    private void attachTags(List<ArticleDto.ResponseListTypeArticle> articles) {
+        if (articles.isEmpty()) {
+            return;
+        }
+
+        List<Long> articleIds = articles.stream()
+                .map(ArticleDto.ResponseListTypeArticle::getArticleId)
+                .collect(Collectors.toList());
+
+        Map<Long, List<TagDto.SimpleTag>> tagsByArticleId = queryFactory
+                .select(articleTag.article.id, new QTagDto_SimpleTag(tag.id, tag.name))
+                .from(articleTag)
+                .join(articleTag.tag, tag)
+                .where(articleTag.article.id.in(articleIds))
+                .orderBy(articleTag.id.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(tuple -> tuple.get(0, Long.class),
+                        Collectors.mapping(tuple -> tuple.get(1, TagDto.SimpleTag.class), Collectors.toList())));
+
+        articles.forEach(listTypeArticle -> listTypeArticle.addTags(
+                tagsByArticleId.getOrDefault(listTypeArticle.getArticleId(), new ArrayList<>())));
+    }
+
+    private Optional<CursorSlice<ArticleDto.ResponseListTypeArticle>> searchAfterWithIndex(String category, String keyword, String target,
+                                                                                           String sort, PageCursor cursor, int size) {
+        if (keyword == null || target == null) {
+            return Optional.empty();
+        }
+
+        ArticleSearchIndex.Field field = fieldOf(target);
+        if (field == null) {
+            return Optional.empty();
+        }
+
+        CategoryName categoryName = category != null ? CategoryName.valueOf(category) : null;
+        Boolean isClosed = isClosedOf(target);
+        ArticleSearchIndex.Order order = orderOf(sort);
+
+        if (order == null) {
+            return articleSearchIndex.match(keyword, field, categoryName, isClosed, ArticleSearchIndex.Order.ID_DESC)
+                    .filter(this::fitsInQuery)
+                    .map(matchedIds -> matchedIds.isEmpty()
+                            ? CursorSlice.<ArticleDto.ResponseListTypeArticle>empty(size)
+                            : fetchAfter(article.id.in(matchedIds), category, sortKeyOf(sort), cursor, size));
+        }
+
+        String sortKey = sort == null ? "relevance" : sortKeyOf(sort);
+        checkCursorSort(cursor, sortKey);
+
+        if (sortKey.equals("relevance")) {
+            return searchAfterByRelevance(keyword, field, categoryName, isClosed, cursor, size);
+        }
+
+        return articleSearchIndex.searchAfter(keyword, field, categoryName, isClosed, order, hitOf(cursor), size + 1)
+                .map(hits -> {
+                    Filled<ArticleSearchIndex.Hit, ArticleDto.ResponseListTypeArticle> filled = fillInOrder(this::selectListTypeArticle,
+                            ArticleDto.ResponseListTypeArticle::getArticleId, ArticleSearchIndex.Hit::getArticleId, hits, size + 1,
+                            (last, consumed, limit) -> articleSearchIndex
+                                    .searchAfter(keyword, field, categoryName, isClosed, order, last, limit)
+                                    .orElse(List.of()));
+                    CursorSlice<ArticleSearchIndex.Hit> slice = CursorSlice.of(filled.getHits(), size, hit -> cursorOf(sortKey, hit));
+
+                    return slice.withContent(filled.rowsOf(slice.getContent().size()));
+                });
+    }
+
+    /*
+     * 관련도 점수는 게시글이 추가/수정될 때마다 idf 가 바뀌므로, 커서에 점수를 담으면 다음 페이지에서 건너뛰거나 반복되는 게시글이 생깁니다.
+     * 첫 페이지에서 정한 순위(최대 MAX_RELEVANCE_HITS 건)를 저장해 두고 다음 페이지는 그 순위에서 위치로 이어서 읽습니다.
+     * 순위를 저장하지 못했거나 만료되었으면 현재 순위에서 위치로만 이어서 읽으므로 그 사이의 변경만큼 어긋날 수 있습니다.
+     * */
+    private Optional<CursorSlice<ArticleDto.ResponseListTypeArticle>> searchAfterByRelevance(String keyword, ArticleSearchIndex.Field field,
+                                                                                             CategoryName categoryName, Boolean isClosed,
+                                                                                             PageCursor cursor, int size) {
+        String snapshotId = cursor.isFirst() ? "" : cursor.getString(1);
+        long position = cursor.isFirst() ? 0L : cursor.getLong(2);
+
+        if (!snapshotId.isEmpty()) {
+            Optional<List<Long>> snapshot = searchSnapshotRepository.find(snapshotId, position, size + 1);
+            if (snapshot.isPresent()) {
+                return Optional.of(relevanceSliceOf(snapshot.get(), snapshotId, position, size,
+                        (consumed, limit) -> searchSnapshotRepository.find(snapshotId, position + consumed, limit).orElse(List.of())));
+            }
+        }
+
+        return articleSearchIndex.match(keyword, field, categoryName, isClosed, ArticleSearchIndex.Order.RELEVANCE)
+                .map(ranked -> {
+                    List<Long> hits = ranked.subList(0, Math.min(ranked.size(), MAX_RELEVANCE_HITS));
+                    String savedId = cursor.isFirst() && hits.size() > size
+                            ? searchSnapshotRepository.save(hits).orElse("")
+                            : "";
+                    List<Long> page = hits.stream()
+                            .skip(position)
+                            .limit(size + 1)
+                            .collect(Collectors.toList());
+
+                    return relevanceSliceOf(page, savedId, position, size, (consumed, limit) -> hits.stream()
+                            .skip(position + consumed)
+                            .limit(limit)
+                            .collect(Collectors.toList()));
+                });
+    }
+
+    /*
+     * 다음 페이지는 이번 페이지의 마지막 게시글까지 순위에서 읽은 위치부터 이어서 읽습니다.
+     * */
+    private CursorSlice<ArticleDto.ResponseListTypeArticle> relevanceSliceOf(List<Long> articleIds, String snapshotId, long position, int size,
+                                                                             BiFunction<Long, Integer, List<Long>> nextIds) {
+        Filled<Long, ArticleDto.ResponseListTypeArticle> filled = fillInOrder(this::selectListTypeArticle,
+                ArticleDto.ResponseListTypeArticle::getArticleId, Function.identity(), articleIds, size + 1,
+                (last, consumed, limit) -> nextIds.apply((long) consumed, limit));
+        CursorSlice<Long> slice = CursorSlice.of(filled.getHits(), size,
+                last -> PageCursor.of("relevance", snapshotId, position + filled.consumedThrough(size - 1)));
+
+        return slice.withContent(filled.rowsOf(slice.getContent().size()));
+    }
+
+    private Optional<CursorSlice<ArticleDto.ResponseListTypeArticle>> searchAfterWithTagIndex(String category, String keyword, String target,
+                                                                                              String sort, PageCursor cursor, int size) {
+        if (keyword == null || target == null) {
+            return Optional.empty();
+        }
+
+        ArticleTagBitmapIndex.Match match = tagMatchOf(target);
+        if (match == null) {
+            return Optional.empty();
+        }
+
+        Set<TagName> tagNames = tagNamesOf(keyword);
+        CategoryName categoryName = category != null ? CategoryName.valueOf(category) : null;
+        Boolean isClosed = isClosedOf(target);
+        String sortKey = sortKeyOf(sort);
+
+        if (!isIdSort(sortKey)) {
+            return articleTagBitmapIndex.match(tagNames, match, categoryName, isClosed)
+                    .filter(this::fitsInQuery)
+                    .map(matchedIds -> matchedIds.isEmpty()
+                            ? CursorSlice.<ArticleDto.ResponseListTypeArticle>empty(size)
+                            : fetchAfter(article.id.in(matchedIds), category, sortKey, cursor, size));
+        }
+
+        checkCursorSort(cursor, sortKey);
+        Long afterId = cursor.isFirst() ? null : cursor.getLong(1);
+
+        return articleTagBitmapIndex.searchAfter(tagNames, match, categoryName, isClosed, sortKey.equals("asc"), afterId, size + 1)
+                .map(matchedIds -> {
+                    Filled<Long, ArticleDto.ResponseListTypeArticle> filled = fillInOrder(this::selectListTypeArticle,
+                            ArticleDto.ResponseListTypeArticle::getArticleId, Function.identity(), matchedIds, size + 1,
+                            (last, consumed, limit) -> articleTagBitmapIndex
+                                    .searchAfter(tagNames, match, categoryName, isClosed, sortKey.equals("asc"), last, limit)
+                                    .orElse(List.of()));
+                    CursorSlice<Long> slice = CursorSlice.of(filled.getHits(), size, last -> PageCursor.of(sortKey, last));
+
+                    return slice.withContent(filled.rowsOf(slice.getContent().size()));
+                });
+    }
+
+    private CursorSlice<ArticleDto.ResponseListTypeArticle> fetchAfter(BooleanExpression condition, String category, String sortKey,
+                                                                       PageCursor cursor, int size) {
+        checkCursorSort(cursor, sortKey);
+
+        List<ArticleDto.ResponseListTypeArticle> result = selectListTypeArticle()
+                .where(categoryEq(category), condition, statusPosting(), afterCursor(sortKey, cursor))
+                .orderBy(sortEq(sortKey), sortKey.endsWith("asc") ? article.id.asc() : article.id.desc())
+                .limit(size + 1)
+                .fetch();
+
+        return CursorSlice.of(result, size, last -> cursorOf(sortKey, last));
+    }
+
+    private BooleanExpression afterCursor(String sortKey, PageCursor cursor) {
+        if (cursor.isFirst()) {
+            return null;
+        }
+
+        if (sortKey.equals("desc")) {
+            return article.id.lt(cursor.getLong(1));
+        }
+        if (sortKey.equals("asc")) {
+            return article.id.gt(cursor.getLong(1));
+        }
+
+        NumberExpression<Integer> count = countOf(sortKey);
+        Integer lastCount = cursor.getInteger(1);
+        Long lastId = cursor.getLong(2);
+
+        if (sortKey.endsWith("asc")) {
+            return count.gt(lastCount).or(count.eq(lastCount).and(article.id.gt(lastId)));
+        }
+        return count.lt(lastCount).or(count.eq(lastCount).and(article.id.lt(lastId)));
+    }
+
+    private PageCursor cursorOf(String sortKey, ArticleDto.ResponseListTypeArticle last) {
+        switch (sortKey) {
+            case "comment-desc":
+            case "comment-asc":
+                return PageCursor.of(sortKey, last.getCommentCount(), last.getArticleId());
+            case "like-desc":
+            case "like-asc":
+                return PageCursor.of(sortKey, last.getLikes(), last.getArticleId());
+            case "answer-desc":
+            case "answer-asc":
+                return PageCursor.of(sortKey, last.getAnswerCount(), last.getArticleId());
+            default:
+                return PageCursor.of(sortKey, last.getArticleId());
+        }
+    }
+
+    private PageCursor cursorOf(String sortKey, ArticleSearchIndex.Hit last) {
+        return PageCursor.of(sortKey, last.getArticleId());
+    }
+
+    private ArticleSearchIndex.Hit hitOf(PageCursor cursor) {
+        if (cursor.isFirst()) {
+            return null;
+        }
+        return new ArticleSearchIndex.Hit(cursor.getLong(1), 0.0);
+    }
+
+    private void checkCursorSort(PageCursor cursor, String sortKey) {
+        if (!cursor.isFirst() && !cursor.getString(0).equals(sortKey)) {
+            throw new BusinessLogicException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private String sortKeyOf(String sort) {
+        if (sort == null) {
+            return "desc";
+        }
+        switch (sort) {
+            case "asc":
+            case "comment-desc":
+            case "comment-asc":
+            case "like-desc":
+            case "like-asc":
+            case "answer-desc":
+            case "answer-asc":
+                return sort;
+            default:
+                return "desc";
+        }
+    }
+
+    private NumberExpression<Integer> countOf(String sortKey) {
+        if (sortKey.startsWith("comment")) {
+            return article.commentCount;
+        }
+        if (sortKey.startsWith("like")) {
+            return article.likeCount;
+        }
+        return article.answerCount;
+    }
+
+    @Override
+    public List<Article> findPostingArticlesAfter(Long lastArticleId, int size) {
+        return queryFactory
+                .selectFrom(article)
+                .leftJoin(article.category, category).fetchJoin()
+                .where(article.id.gt(lastArticleId), statusPosting())
+                .orderBy(article.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, List<TagName>> findTagNamesByArticleIds(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        return queryFactory
+                .select(articleTag.article.id, tag.name)
+                .from(articleTag)
+                .join(articleTag.tag, tag)
+                .where(articleTag.article.id.in(articleIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(tuple -> tuple.get(articleTag.article.id),
+                        Collectors.mapping(tuple -> tuple.get(tag.name), Collectors.toList())));
+    }
+
+    /*
+     * 제목/본문 키워드 검색은 LIKE 대신 메모리 역색인으로 id 를 찾고, 해당 id 만 DB 에서 조회합니다.
+     * 색인이 아직 준비되지 않았거나 색인 대상이 아닌 검색이면 Optional.empty() 를 반환합니다.
+     * */
+    private <T> Optional<Page<T>> searchWithIndex(Supplier<JPAQuery<T>> select, Function<T, Long> idOf,
+                                                  String category, String keyword, String target, String sort, Pageable pageable) {
+        if (keyword == null || target == null) {
+            return Optional.empty();
+        }
+
+        ArticleSearchIndex.Field field = fieldOf(target);
+        if (field == null) {
+            return Optional.empty();
+        }
+
+        CategoryName categoryName = category != null ? CategoryName.valueOf(category) : null;
+        Boolean isClosed = isClosedOf(target);
+        ArticleSearchIndex.Order order = orderOf(sort);
+
+        if (order == null) {
+            return articleSearchIndex.match(keyword, field, categoryName, isClosed, ArticleSearchIndex.Order.ID_DESC)
+                    .filter(this::fitsInQuery)
+                    .map(matchedIds -> sortMatched(select, matchedIds, sort, pageable));
+        }
+
+        return articleSearchIndex.search(keyword, field, categoryName, isClosed, order, pageable.getOffset(), pageable.getPageSize())
+                .map(result -> pageOf(select, idOf, result, pageable, (last, consumed, limit) -> articleSearchIndex
+                        .search(keyword, field, categoryName, isClosed, order, pageable.getOffset() + consumed, limit)
+                        .map(ArticleSearchIndex.SearchResult::getArticleIds)
+                        .orElse(List.of())));
+    }
+
+    /*
+     * 태그 검색은 태그/카테고리/채택 여부 비트맵의 교집합으로 id 를 찾고, 최종 페이지의 id 만 DB 에서 조회합니다.
+     * id 정렬이 아니면 매칭된 id 목록 안에서 DB 정렬을 하고, 매칭된 id 가 너무 많으면 SQL 검색으로 넘깁니다.
+     * */
+    private <T> Optional<Page<T>> searchWithTagIndex(Supplier<JPAQuery<T>> select, Function<T, Long> idOf,
+                                                     String category, String keyword, String target, String sort, Pageable pageable) {
+        if (keyword == null || target == null) {
+            return Optional.empty();
+        }
+
+        ArticleTagBitmapIndex.Match match = tagMatchOf(target);
+        if (match == null) {
+            return Optional.empty();
+        }
+
+        Set<TagName> tagNames = tagNamesOf(keyword);
+        CategoryName categoryName = category != null ? CategoryName.valueOf(category) : null;
+        Boolean isClosed = isClosedOf(target);
+        String sortKey = sortKeyOf(sort);
+
+        if (!isIdSort(sortKey)) {
+            return articleTagBitmapIndex.match(tagNames, match, categoryName, isClosed)
+                    .filter(this::fitsInQuery)
+                    .map(matchedIds -> sortMatched(select, matchedIds, sort, pageable));
+        }
+
+        return articleTagBitmapIndex.search(tagNames, match, categoryName, isClosed, sortKey.equals("asc"),
+                        pageable.getOffset(), pageable.getPageSize())
+                .map(result -> pageOf(select, idOf, result, pageable, (last, consumed, limit) -> articleTagBitmapIndex
+                        .search(tagNames, match, categoryName, isClosed, sortKey.equals("asc"), pageable.getOffset() + consumed, limit)
+                        .map(ArticleSearchIndex.SearchResult::getArticleIds)
+                        .orElse(List.of())));
+    }
+
+    private <T> Page<T> sortMatched(Supplier<JPAQuery<T>> select, List<Long> matchedIds, String sort, Pageable pageable) {
+        if (matchedIds.isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageable, 0);
+        }
+
+        List<T> result = select.get()
+                .where(article.id.in(matchedIds), statusPosting())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(sortEq(sort), article.id.desc())
+                .fetch();
+
+        return new PageImpl<>(result, pageable, matchedIds.size());
+    }
+
+    /*
+     * 전체 개수에서 이번 페이지를 채우며 걸러낸 게시글 수를 뺍니다. 앞 페이지에서 걸러진 게시글은 알 수 없으므로,
+     * 색인에서 빠지기 전의 짧은 시간 동안에는 뒤 페이지의 시작 위치가 그만큼 밀릴 수 있습니다.
+     * */
+    private <T> Page<T> pageOf(Supplier<JPAQuery<T>> select, Function<T, Long> idOf, ArticleSearchIndex.SearchResult result,
+                               Pageable pageable, NextHits<Long> next) {
+        Filled<Long, T> filled = fillInOrder(select, idOf, Function.identity(), result.getArticleIds(), pageable.getPageSize(), next);
+
+        return new PageImpl<>(filled.getRows(), pageable, Math.max(result.getTotal() - filled.getHidden(), 0));
+    }
+
+    /*
+     * 색인에서 꺼낸 순서대로 게시 중인 게시글만 limit 건까지 조회합니다.
+     * 차단/삭제된 게시글은 커밋 후 이벤트로 색인에서 빠지므로, 그 사이에는 색인 결과에 남아 있다가 DB 조회에서 걸러집니다.
+     * 걸러낸 만큼 색인의 다음 결과를 최대 MAX_FILL_ROUNDS 번 더 꺼내 페이지를 채웁니다.
+     * */
+    private <H, T> Filled<H, T> fillInOrder(Supplier<JPAQuery<T>> select, Function<T, Long> idOf, Function<H, Long> articleIdOf,
+                                            List<H> first, int limit, NextHits<H> next) {
+        Filled<H, T> filled = new Filled<>();
+        List<H> batch = first;
+        int requested = limit;
+
+        for (int round = 0; ; round++) {
+            Map<Long, T> rows = findPosting(select, idOf, batch.stream().map(articleIdOf).collect(Collectors.toList()));
+            batch.forEach(hit -> filled.add(hit, rows.get(articleIdOf.apply(hit))));
+
+            int needed = limit - filled.rows.size();
+            if (needed <= 0 || batch.size() < requested || round >= MAX_FILL_ROUNDS) {
+                return filled;
+            }
+
+            requested = needed;
+            batch = next.after(batch.get(batch.size() - 1), filled.consumed, needed);
+        }
+    }
+
+    private <T> List<T> findInOrder(Supplier<JPAQuery<T>> select, Function<T, Long> idOf, List<Long> articleIds) {
+        Map<Long, T> rows = findPosting(select, idOf, articleIds);
+
+        return articleIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private <T> Map<Long, T> findPosting(Supplier<JPAQuery<T>> select, Function<T, Long> idOf, List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        return select.get()
+                .where(article.id.in(articleIds), statusPosting())
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+    }
+
+    private ArticleSearchIndex.Field fieldOf(String target) {
+        switch (target) {
+            case "title":
+                return ArticleSearchIndex.Field.TITLE;
+            case "content":
+                return ArticleSearchIndex.Field.CONTENT;
+            case "titleAndContent":
+            case "titleAndContentIsCheckedTrue":
+            case "titleAndContentIsCheckedFalse":
+                return ArticleSearchIndex.Field.TITLE_AND_CONTENT;
+            default:
+                return null;
+        }
+    }
+
+    private ArticleTagBitmapIndex.Match tagMatchOf(String target) {
+        switch (target) {
+            case "tag":
+            case "tagIsCheckedTrue":
+            case "tagIsCheckedFalse":
+                return ArticleTagBitmapIndex.Match.ALL;
+            case "tagAny":
+                return ArticleTagBitmapIndex.Match.ANY;
+            default:
+                return null;
+        }
+    }
+
+    /*
+     * 태그 검색어는 쉼표로 구분된 TagName 목록입니다. (ex. "JAVA,SPRING")
+     * 사용자 입력이므로 없는 태그 이름은 400 으로 응답합니다.
+     * */
+    private Set<TagName> tagNamesOf(String keyword) {
+        Set<TagName> tagNames = EnumSet.noneOf(TagName.class);
+
+        for (String tagName : keyword.split(",")) {
+            if (!tagName.isBlank()) {
+                tagNames.add(tagNameOf(tagName.trim()));
+            }
+        }
+        return tagNames;
+    }
+
+    private TagName tagNameOf(String tagName) {
+        try {
+            return TagName.valueOf(tagName);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessLogicException(ErrorCode.INVALID_TAG_NAME);
+        }
+    }
+
+    /*
+     * 색인이 id 순서로만 정렬할 수 있는 검색은 매칭된 id 전체를 IN 절로 넘겨 DB 에서 정렬합니다.
+     * 매칭된 id 가 MAX_MATCHED_IDS_IN_QUERY 건을 넘으면 IN 절이 너무 커지므로 색인을 쓰지 않고 SQL 검색으로 넘깁니다.
+     * */
+    private boolean fitsInQuery(List<Long> matchedIds) {
+        return matchedIds.size() <= MAX_MATCHED_IDS_IN_QUERY;
+    }
+
+    private boolean isIdSort(String sortKey) {
+        return sortKey.equals("desc") || sortKey.equals("asc");
+    }
+
+    private Boolean isClosedOf(String target) {
+        switch (target) {
+            case "titleAndContentIsCheckedTrue":
+            case "tagIsCheckedTrue":
+                return true;
+            case "titleAndContentIsCheckedFalse":
+            case "tagIsCheckedFalse":
+                return false;
+            default:
+                return null;
+        }
+    }
+
+    private ArticleSearchIndex.Order orderOf(String sort) {
+        if (sort == null) {
+            return ArticleSearchIndex.Order.RELEVANCE;
+        }
+        switch (sort) {
+            case "desc":
+                return ArticleSearchIndex.Order.ID_DESC;
+            case "asc":
+                return ArticleSearchIndex.Order.ID_ASC;
+            default:
+                return null;
+        }
+    }
+
     private BooleanExpression categoryEq(String category) {
         return category != null ? article.category.name.eq(CategoryName.valueOf(category)) : null;
     }
@@ -83,7 +692,15 @@ public class ArticleQueryRepositoryImpl implements ArticleQueryRepository {
             case "content":
                 return article.content.contains(keyword).and(statusPosting());
             case "tag":
-                return article.articleTags.any().tag.name.eq(TagName.valueOf(keyword)).and(statusPosting());
+                return allTagsEq(keyword).and(statusPosting());
+            case "tagAny":
+                return anyTagEq(keyword).and(statusPosting());
+            case "tagIsCheckedTrue":
+                return allTagsEq(keyword).and(article.isClosed.eq(true)
+                        .and(statusPosting()));
+            case "tagIsCheckedFalse":
+                return allTagsEq(keyword).and(article.isClosed.eq(false)
+                        .and(statusPosting()));
             case "bookmark":
                 return article.bookmarks.any().user.id.eq(Long.parseLong(keyword)).and(statusPosting());
             case "titleAndContent":
@@ -103,8 +720,23 @@ public class ArticleQueryRepositoryImpl implements ArticleQueryRepository {
         }
     }
 
+    private BooleanExpression allTagsEq(String keyword) {
+        return tagNamesOf(keyword).stream()
+                .map(tagName -> article.articleTags.any().tag.name.eq(tagName))
+                .reduce(BooleanExpression::and)
+                .orElseGet(this::statusPosting);
+    }
+
+    private BooleanExpression anyTagEq(String keyword) {
+        Set<TagName> tagNames = tagNamesOf(keyword);
+        return tagNames.isEmpty() ? statusPosting() : article.articleTags.any().tag.name.in(tagNames);
+    }
+
+    /*
+     * 신고 누적으로 차단된 게시글은 목록에서 제외합니다. (article_status, is_blocked) 인덱스로 걸러집니다.
+     * */
     private BooleanExpression statusPosting() {
-        return article.articleStatus.eq(POSTING);
+        return article.articleStatus.eq(POSTING).and(article.isBlocked.isFalse());
     }
 
     private OrderSpecifier sortEq(String sort) {
@@ -117,21 +749,66 @@ public class ArticleQueryRepositoryImpl implements ArticleQueryRepository {
             case "asc":
                 return article.id.asc();
             case "comment-desc":
-                return article.comments.size().desc();
+                return article.commentCount.desc();
             case "comment-asc":
-                return article.comments.size().asc();
+                return article.commentCount.asc();
             case "like-desc":
-                return article.articleLikes.size().desc();
+                return article.likeCount.desc();
             case "like-asc":
-                return article.articleLikes.size().asc();
+                return article.likeCount.asc();
             case "answer-desc":
-                return article.answers.size().desc();
+                return article.answerCount.desc();
             case "answer-asc":
-                return article.answers.size().asc();
+                return article.answerCount.asc();
 
             default:
                 article.id.desc();
         }
         return article.id.desc();
     }
+
+    /*
+     * 색인에서 last 다음(또는 처음부터 consumed 건 다음)의 결과를 limit 건까지 꺼냅니다.
+     * */
+    @FunctionalInterface
+    private interface NextHits<H> {
+        List<H> after(H last, int consumed, int limit);
+    }
+
+    /*
+     * 색인 결과 중 게시 중인 게시글과 그 행, 걸러낸 건수입니다.
+     * */
+    private static class Filled<H, T> {
+        @Getter
+        private final List<H> hits = new ArrayList<>();
+        @Getter
+        private final List<T> rows = new ArrayList<>();
+        private final List<Integer> consumedUntil = new ArrayList<>();
+        private int consumed;
+        @Getter
+        private int hidden;
+
+        private void add(H hit, T row) {
+            consumed++;
+
+            if (row == null) {
+                hidden++;
+                return;
+            }
+            hits.add(hit);
+            rows.add(row);
+            consumedUntil.add(consumed);
+        }
+
+        private List<T> rowsOf(int count) {
+            return new ArrayList<>(rows.subList(0, count));
+        }
+
+        /*
+         * index 번째 게시글까지 읽은 색인 결과 수입니다.
+         * */
+        private int consumedThrough(int index) {
+            return consumedUntil.get(index);
+        }
+    }
 }
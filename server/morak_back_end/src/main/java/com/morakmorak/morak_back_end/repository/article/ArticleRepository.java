@@ -3,6 +3,7 @@ package com.morakmorak.morak_back_end.repository.article;
 
 import com.morakmorak.morak_back_end.entity.Article;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
@@ -14,4 +15,29 @@ public interface ArticleRepository extends JpaRepository<Article, Long> , Articl
 
     @Query("select a from Article a left join fetch a.user where a.id = :articleId")
     Optional<Article> findArticleRelationWithUser(Long articleId);
+
+    @Modifying
+    @Query("update Article a set a.likeCount = a.likeCount + :delta where a.id = :articleId")
+    int addLikeCount(Long articleId, int delta);
+
+    @Modifying
+    @Query("update Article a set a.commentCount = a.commentCount + :delta where a.id = :articleId")
+    int addCommentCount(Long articleId, int delta);
+
+    @Modifying
+    @Query("update Article a set a.answerCount = a.answerCount + :delta where a.id = :articleId")
+    int addAnswerCount(Long articleId, int delta);
+
+    @Modifying
+    @Query("update Article a set a.reportCount = a.reportCount + 1 where a.id = :articleId")
+    int addReportCount(Long articleId);
+
+    /*
+     * 신고 수가 기준 이상인데 아직 차단되지 않은 게시글만 차단합니다. 바뀐 행 수가 1 이면 이번 신고로 차단된 것입니다.
+     * 같은 게시글을 동시에 신고해도 update 가 행을 잠그고 최신 값으로 조건을 확인하므로 한 트랜잭션만 1 을 받습니다.
+     * */
+    @Modifying
+    @Query("update Article a set a.isBlocked = true" +
+            " where a.id = :articleId and a.isBlocked = false and a.reportCount >= :blockingCount")
+    int blockIfReported(Long articleId, int blockingCount);
 }
@@ -0,0 +1,12 @@
+package com.morakmorak.morak_back_end.repository.article;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ArticleTagBatchRepository {
+    List<Long> findTagIdsByArticleId(Long articleId);
+
+    void insertTags(Long articleId, Collection<Long> tagIds);
+
+    void deleteTags(Long articleId, Collection<Long> tagIds);
+}
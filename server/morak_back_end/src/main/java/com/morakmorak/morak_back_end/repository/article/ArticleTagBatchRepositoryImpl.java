@@ -0,0 +1,86 @@
+package com.morakmorak.morak_back_end.repository.article;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * article_tag 는 IDENTITY 키라 JPA 로는 insert 를 batch 로 묶을 수 없어 JdbcTemplate 으로 직접 처리합니다.
+ * JPA 를 거치지 않으므로 영속성 컨텍스트의 Article.articleTags 에는 반영되지 않습니다.
+ * */
+@RequiredArgsConstructor
+public class ArticleTagBatchRepositoryImpl implements ArticleTagBatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> findTagIdsByArticleId(Long articleId) {
+        String sql = "SELECT tag_id FROM article_tag WHERE article_id = ?";
+
+        return jdbcTemplate.queryForList(sql, Long.class, articleId);
+    }
+
+    @Override
+    public void insertTags(Long articleId, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+
+        String sql = "INSERT INTO article_tag (article_id, tag_id, created_at, last_modified_at) VALUES (?, ?, ?, ?)";
+        List<Long> ids = new ArrayList<>(tagIds);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(
+                sql,
+                new BatchPreparedStatementSetter() {
+
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, articleId);
+                        ps.setLong(2, ids.get(i));
+                        ps.setTimestamp(3, now);
+                        ps.setTimestamp(4, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return ids.size();
+                    }
+                }
+        );
+    }
+
+    @Override
+    public void deleteTags(Long articleId, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+
+        String sql = "DELETE FROM article_tag WHERE article_id = ? AND tag_id = ?";
+        List<Long> ids = new ArrayList<>(tagIds);
+
+        jdbcTemplate.batchUpdate(
+                sql,
+                new BatchPreparedStatementSetter() {
+
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, articleId);
+                        ps.setLong(2, ids.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return ids.size();
+                    }
+                }
+        );
+    }
+}
@@ -4,7 +4,7 @@ import com.morakmorak.morak_back_end.entity.ArticleTag;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 
-public interface ArticleTagRepository extends JpaRepository<ArticleTag,Long> {
+public interface ArticleTagRepository extends JpaRepository<ArticleTag,Long>, ArticleTagBatchRepository {
 
 
 }
@@ -0,0 +1,62 @@
+package com.morakmorak.morak_back_end.repository.notification;
+
+import com.morakmorak.morak_back_end.dto.OutboxDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * outbox 로 쌓인 알림을 한 번의 batch 로 저장합니다. User 엔티티를 거치지 않으므로 받는 사람의 행은 잠그지 않습니다.
+ * 반환하는 id 는 넘겨받은 payload 와 같은 순서입니다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> insert(List<OutboxDto.NotificationPayload> payloads, LocalDateTime now) {
+        if (payloads.isEmpty()) {
+            return List.of();
+        }
+
+        String sql =
+                " INSERT INTO notification (user_id, sender_id, message, uri, is_checked, created_at, last_modified_at)" +
+                        " VALUES (?, ?, ?, ?, false, ?, ?)";
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        return jdbcTemplate.execute(connection -> connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS),
+                (PreparedStatement ps) -> {
+                    for (OutboxDto.NotificationPayload payload : payloads) {
+                        ps.setLong(1, payload.getReceiverId());
+                        if (payload.getSenderId() == null) {
+                            ps.setNull(2, Types.BIGINT);
+                        } else {
+                            ps.setLong(2, payload.getSenderId());
+                        }
+                        ps.setString(3, payload.getMessage());
+                        ps.setString(4, payload.getUri());
+                        ps.setTimestamp(5, timestamp);
+                        ps.setTimestamp(6, timestamp);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+
+                    List<Long> ids = new ArrayList<>(payloads.size());
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        while (keys.next()) {
+                            ids.add(keys.getLong(1));
+                        }
+                    }
+                    return ids;
+                });
+    }
+}
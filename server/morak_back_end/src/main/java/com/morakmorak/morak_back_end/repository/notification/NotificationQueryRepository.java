@@ -1,8 +1,11 @@
 package com.morakmorak.morak_back_end.repository.notification;
 
+import com.morakmorak.morak_back_end.domain.CursorSlice;
+import com.morakmorak.morak_back_end.domain.PageCursor;
 import com.morakmorak.morak_back_end.dto.NotificationDto;
 import com.morakmorak.morak_back_end.dto.QNotificationDto_SimpleResponse;
 import com.morakmorak.morak_back_end.entity.QNotification;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.EntityPathBase;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -11,7 +14,13 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.morakmorak.morak_back_end.entity.QNotification.*;
 
@@ -39,4 +48,65 @@ public class NotificationQueryRepository {
 
         return new PageImpl<>(result, pageable, count);
     }
+
+    /*
+     * (createdAt, id) 내림차순 키셋 조회입니다. count 쿼리를 실행하지 않습니다.
+     * */
+    public CursorSlice<NotificationDto.SimpleResponse> getNotifications(Long userId, PageCursor cursor, int size) {
+        List<NotificationDto.SimpleResponse> result = queryFactory.select(new QNotificationDto_SimpleResponse(
+                        notification.id, notification.message, notification.isChecked, notification.createdAt
+                ))
+                .from(notification)
+                .where(notification.user.id.eq(userId), afterCursor(cursor))
+                .orderBy(notification.createdAt.desc(), notification.id.desc())
+                .limit(size + 1)
+                .fetch();
+
+        return CursorSlice.of(result, size,
+                last -> PageCursor.of(last.getCreatedAt(), last.getNotificationId()));
+    }
+
+    /*
+     * 읽지 않은 알림이 있는 유저별 알림 수를 user_id 순서로 afterUserId 다음부터 limit 명까지 반환합니다.
+     * Redis 의 읽지 않은 알림 수를 맞출 때만 사용합니다.
+     * */
+    public Map<Long, Long> countUncheckedByUser(Long afterUserId, int limit) {
+        return queryFactory.select(notification.user.id, notification.count())
+                .from(notification)
+                .where(notification.isChecked.isFalse(), notification.user.id.gt(afterUserId))
+                .groupBy(notification.user.id)
+                .orderBy(notification.user.id.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(notification.user.id), tuple -> tuple.get(notification.count()),
+                        (a, b) -> a, LinkedHashMap::new));
+    }
+
+    /*
+     * 주어진 유저 중 읽지 않은 알림이 있는 유저의 id 입니다.
+     * */
+    public Set<Long> findUserIdsWithUnchecked(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        return new HashSet<>(queryFactory.select(notification.user.id)
+                .distinct()
+                .from(notification)
+                .where(notification.isChecked.isFalse(), notification.user.id.in(userIds))
+                .fetch());
+    }
+
+    private BooleanExpression afterCursor(PageCursor cursor) {
+        if (cursor.isFirst()) {
+            return null;
+        }
+
+        LocalDateTime lastCreatedAt = cursor.getDateTime(0);
+        Long lastId = cursor.getLong(1);
+
+        return notification.createdAt.lt(lastCreatedAt)
+                .or(notification.createdAt.eq(lastCreatedAt).and(notification.id.lt(lastId)));
+    }
 }
@@ -0,0 +1,36 @@
+package com.morakmorak.morak_back_end.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+/*
+ * 같은 사용자가 짧은 시간 안에 같은 게시글을 다시 조회(새로고침)해도 조회수가 한 번만 오르도록 조회 기록을 남깁니다.
+ * */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ArticleViewHistoryRepository {
+    private static final String KEY_PREFIX = "article:view:";
+    private static final Duration VIEW_WINDOW = Duration.ofMinutes(30);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /*
+     * 처음 조회한 경우에만 true 를 반환합니다. Redis 장애 시에는 조회수를 버리지 않도록 true 로 처리합니다.
+     * */
+    public boolean markViewed(Long articleId, Long userId) {
+        String key = KEY_PREFIX + articleId + ":" + userId;
+
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, "1", VIEW_WINDOW));
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+            return true;
+        }
+    }
+}
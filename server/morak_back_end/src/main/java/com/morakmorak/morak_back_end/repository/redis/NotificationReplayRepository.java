@@ -0,0 +1,63 @@
+package com.morakmorak.morak_back_end.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * SSE 재연결(Last-Event-ID) 시 놓친 알림을 다시 보내기 위한 유저별 최근 알림 버퍼입니다.
+ * notification_id 를 score 로 하는 sorted set 에 최근 MAX_SIZE 건만, 마지막 알림 이후 TTL 동안만 보관합니다.
+ * 버퍼보다 오래 끊겨 있었다면 클라이언트는 GET /notifications 로 다시 조회해야 합니다.
+ * */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class NotificationReplayRepository {
+    private static final String KEY_PREFIX = "notification:replay:";
+    private static final int MAX_SIZE = 50;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1)) " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+                    "return 1", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void append(Long userId, Long notificationId, String payload) {
+        try {
+            redisTemplate.execute(APPEND_SCRIPT, List.of(keyOf(userId)),
+                    String.valueOf(notificationId), payload, String.valueOf(MAX_SIZE), String.valueOf(TTL.toMillis()));
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+        }
+    }
+
+    /*
+     * lastNotificationId 보다 뒤의 알림을 오래된 순으로 반환합니다.
+     * */
+    public List<String> findAfter(Long userId, Long lastNotificationId) {
+        try {
+            Set<String> payloads = redisTemplate.opsForZSet()
+                    .rangeByScore(keyOf(userId), lastNotificationId + 1, Double.POSITIVE_INFINITY);
+            return payloads == null ? List.of() : new ArrayList<>(payloads);
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+            return List.of();
+        }
+    }
+
+    private String keyOf(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
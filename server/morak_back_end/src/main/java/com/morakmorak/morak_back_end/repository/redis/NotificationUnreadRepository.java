@@ -0,0 +1,156 @@
+package com.morakmorak.morak_back_end.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * 유저별 읽지 않은 알림 수입니다. 뱃지를 보여줄 때 MySQL 을 조회하지 않도록 Redis 에서만 읽습니다.
+ * 키가 없으면 읽지 않은 알림이 없는 것으로 봅니다. 어긋난 값은 reconcile() 로 notification 테이블 기준에 다시 맞춥니다.
+ * */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class NotificationUnreadRepository {
+    private static final String KEY_PREFIX = "notification:unread:";
+
+    private static final RedisScript<Long> DECREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('DECRBY', KEYS[1], ARGV[1]) " +
+                    "if count <= 0 then redis.call('DEL', KEYS[1]) return 0 end " +
+                    "return count", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public long find(Long userId) {
+        try {
+            String count = redisTemplate.opsForValue().get(keyOf(userId));
+            return count == null ? 0L : Long.parseLong(count);
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+            return 0L;
+        }
+    }
+
+    public void increment(Long userId) {
+        try {
+            redisTemplate.opsForValue().increment(keyOf(userId));
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+        }
+    }
+
+    /*
+     * 0 보다 작아지지 않도록 0 이 되면 키를 지웁니다.
+     * */
+    public void decrement(Long userId) {
+        try {
+            redisTemplate.execute(DECREMENT_SCRIPT, List.of(keyOf(userId)), "1");
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+        }
+    }
+
+    /*
+     * notification 테이블에서 센 값으로 덮어씁니다. 한 번의 MGET 으로 비교하고 바뀐 키만 pipeline 으로 씁니다.
+     * 반환값은 값을 바꾼 키의 수입니다.
+     * */
+    public long overwrite(Map<Long, Long> unreadCounts) {
+        if (unreadCounts.isEmpty()) {
+            return 0L;
+        }
+
+        List<String> keys = unreadCounts.keySet().stream()
+                .map(this::keyOf)
+                .collect(Collectors.toList());
+        List<String> current = redisTemplate.opsForValue().multiGet(keys);
+
+        Map<String, String> changed = new LinkedHashMap<>();
+        int i = 0;
+        for (Long count : unreadCounts.values()) {
+            String value = String.valueOf(count);
+            if (current == null || !value.equals(current.get(i))) {
+                changed.put(keys.get(i), value);
+            }
+            i++;
+        }
+
+        if (!changed.isEmpty()) {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                changed.forEach((key, value) -> connection.set(key.getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8)));
+                return null;
+            });
+        }
+        return changed.size();
+    }
+
+    /*
+     * 키를 SCAN 하며 chunkSize 개씩 findUserIdsWithUnread 로 확인하고, 읽지 않은 알림이 없는 유저의 키는 지웁니다.
+     * 반환값은 지운 키의 수입니다.
+     * */
+    public long removeStale(int chunkSize, Function<List<Long>, Set<Long>> findUserIdsWithUnread) {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(chunkSize).build();
+
+        Long removed = redisTemplate.execute((RedisCallback<Long>) connection -> {
+            long count = 0;
+            List<Long> userIds = new ArrayList<>();
+
+            try (Cursor<byte[]> cursor = connection.scan(options)) {
+                while (cursor.hasNext()) {
+                    Long userId = userIdOf(new String(cursor.next(), StandardCharsets.UTF_8));
+                    if (userId != null) {
+                        userIds.add(userId);
+                    }
+
+                    if (userIds.size() >= chunkSize || (!cursor.hasNext() && !userIds.isEmpty())) {
+                        count += removeStale(userIds, findUserIdsWithUnread.apply(userIds));
+                        userIds = new ArrayList<>();
+                    }
+                }
+            }
+            return count;
+        });
+        return removed == null ? 0L : removed;
+    }
+
+    private long removeStale(List<Long> userIds, Set<Long> userIdsWithUnread) {
+        List<String> staleKeys = userIds.stream()
+                .filter(userId -> !userIdsWithUnread.contains(userId))
+                .map(this::keyOf)
+                .collect(Collectors.toList());
+
+        if (staleKeys.isEmpty()) {
+            return 0L;
+        }
+
+        Long deleted = redisTemplate.delete(staleKeys);
+        return deleted == null ? 0L : deleted;
+    }
+
+    private Long userIdOf(String key) {
+        try {
+            return Long.valueOf(key.substring(KEY_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String keyOf(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,297 @@
+package com.morakmorak.morak_back_end.repository.redis;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/*
+ * 좋아요/북마크 여부는 대상별 Set 에, 개수는 대상별 카운터에 보관하고 누르기(toggle)를 Redis 에서 바로 처리합니다.
+ * toggle 은 Set, 카운터 갱신과 DB 반영 대기열(queue) 적재를 하나의 Lua 스크립트로 실행하므로 연속 클릭에도 상태가 어긋나지 않습니다.
+ * 대상의 Set 이 아직 없으면 DB 에서 한 번 읽어 load() 로 채운 뒤 사용합니다. 이후에는 Redis 가 기준이므로 만료시키지 않고,
+ * DB 에 반영할 건이 남지 않았을 때만 evictIdle() 로 비웁니다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class ReactionRepository {
+    private static final String QUEUE_KEY = "reaction:queue";
+    private static final String PROCESSING_KEY = "reaction:queue:processing";
+    private static final String DEAD_LETTER_KEY = "reaction:queue:dead";
+    private static final String DROPPED_KEY = "reaction:queue:dropped";
+    private static final String FLUSH_LOCK_KEY = "reaction:queue:lock";
+    private static final String LOADED_MEMBER = "loaded";
+
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+                    "for i = 1, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end " +
+                    "redis.call('SET', KEYS[2], #ARGV - 1) " +
+                    "return 1", Long.class);
+
+    private static final RedisScript<List> TOGGLE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {-1, 0} end " +
+                    "local on = 1 " +
+                    "if redis.call('SREM', KEYS[1], ARGV[1]) == 1 then " +
+                    "  on = 0 " +
+                    "  redis.call('DECR', KEYS[2]) " +
+                    "else " +
+                    "  redis.call('SADD', KEYS[1], ARGV[1]) " +
+                    "  redis.call('INCR', KEYS[2]) " +
+                    "end " +
+                    "redis.call('LPUSH', KEYS[3], ARGV[2] .. ':' .. on) " +
+                    "return {on, tonumber(redis.call('GET', KEYS[2]))}", List.class);
+
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('LLEN', KEYS[3]) > 0 or redis.call('LLEN', KEYS[4]) > 0 then return -1 end " +
+                    "return redis.call('DEL', KEYS[1], KEYS[2])", Long.class);
+
+    /*
+     * 처리 중 목록을 남길 건(ARGV[2] ~ ARGV[ARGV[1] + 1])으로 바꾸고, 나머지 건은 dead-letter 목록으로 옮긴 뒤 버린 건수를 셉니다.
+     * */
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "local retained = tonumber(ARGV[1]) " +
+                    "redis.call('DEL', KEYS[1]) " +
+                    "for i = 2, retained + 1 do redis.call('LPUSH', KEYS[1], ARGV[i]) end " +
+                    "for i = retained + 2, #ARGV do redis.call('LPUSH', KEYS[2], ARGV[i]) end " +
+                    "return redis.call('INCRBY', KEYS[3], #ARGV - retained - 1)", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLockRepository redisLockRepository;
+
+    @Getter
+    @AllArgsConstructor
+    public enum Type {
+        ARTICLE_LIKE("like:article"),
+        ANSWER_LIKE("like:answer"),
+        BOOKMARK("bookmark:article");
+
+        private final String keyPrefix;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Toggled {
+        private final boolean on;
+        private final long count;
+    }
+
+    /*
+     * DB 반영 대기열의 한 건입니다. toggle 직후의 상태(on)를 기록하므로 같은 대상에 대해서는 마지막 건만 반영하면 됩니다.
+     * 반영에 실패해 처리 중 목록에 다시 남긴 건은 실패 횟수(attempts)를 함께 기록합니다.
+     * */
+    @Getter
+    @AllArgsConstructor
+    public static class Operation {
+        private final Type type;
+        private final Long targetId;
+        private final Long userId;
+        private final boolean on;
+        private final int attempts;
+
+        public Operation(Type type, Long targetId, Long userId, boolean on) {
+            this(type, targetId, userId, on, 0);
+        }
+
+        public static Operation parse(String value) {
+            String[] tokens = value.split(":");
+            int attempts = tokens.length > 4 ? Integer.parseInt(tokens[4]) : 0;
+            return new Operation(Type.valueOf(tokens[0]), Long.valueOf(tokens[1]), Long.valueOf(tokens[2]), "1".equals(tokens[3]), attempts);
+        }
+
+        public String reactionKey() {
+            return type.name() + ":" + targetId + ":" + userId;
+        }
+
+        public Operation failed() {
+            return new Operation(type, targetId, userId, on, attempts + 1);
+        }
+
+        public String value() {
+            String value = reactionKey() + ":" + (on ? 1 : 0);
+            return attempts > 0 ? value + ":" + attempts : value;
+        }
+    }
+
+    public boolean isLoaded(Type type, Long targetId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(membersKey(type, targetId)));
+    }
+
+    /*
+     * 다른 요청이 먼저 채웠다면 아무것도 하지 않습니다.
+     * */
+    public void load(Type type, Long targetId, Collection<Long> userIds) {
+        List<String> members = new ArrayList<>();
+        members.add(LOADED_MEMBER);
+        new LinkedHashSet<>(userIds).forEach(userId -> members.add(userId.toString()));
+
+        redisTemplate.execute(LOAD_SCRIPT, List.of(membersKey(type, targetId), countKey(type, targetId)), members.toArray());
+    }
+
+    /*
+     * 대상의 Set 이 아직 채워지지 않았으면 빈 값을 반환합니다.
+     * */
+    public Optional<Toggled> toggle(Type type, Long targetId, Long userId) {
+        String reactionKey = new Operation(type, targetId, userId, false).reactionKey();
+        List<?> result = redisTemplate.execute(TOGGLE_SCRIPT,
+                List.of(membersKey(type, targetId), countKey(type, targetId), QUEUE_KEY), userId.toString(), reactionKey);
+
+        if (result == null || ((Long) result.get(0)) < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new Toggled((Long) result.get(0) == 1L, (Long) result.get(1)));
+    }
+
+    public Optional<Boolean> contains(Type type, Long targetId, Long userId) {
+        if (!isLoaded(type, targetId)) {
+            return Optional.empty();
+        }
+        return Optional.of(Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(membersKey(type, targetId), userId.toString())));
+    }
+
+    public Optional<Long> countOf(Type type, Long targetId) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(countKey(type, targetId)))
+                .map(Long::valueOf);
+    }
+
+    /*
+     * 여러 대상의 누른 여부를 한 번의 pipeline 으로 조회합니다. Redis 에 올라온 대상만 결과에 담깁니다.
+     * */
+    public Map<Long, Boolean> containsAll(Type type, List<Long> targetIds, Long userId) {
+        byte[] member = userId.toString().getBytes(StandardCharsets.UTF_8);
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long targetId : targetIds) {
+                byte[] key = membersKey(type, targetId).getBytes(StandardCharsets.UTF_8);
+                connection.exists(key);
+                connection.sIsMember(key, member);
+            }
+            return null;
+        });
+
+        Map<Long, Boolean> contained = new HashMap<>();
+        for (int i = 0; i < targetIds.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i * 2))) {
+                contained.put(targetIds.get(i), Boolean.TRUE.equals(results.get(i * 2 + 1)));
+            }
+        }
+        return contained;
+    }
+
+    /*
+     * 여러 대상의 개수를 한 번에 조회합니다. Redis 에 올라온 대상만 결과에 담깁니다.
+     * */
+    public Map<Long, Long> countsOf(Type type, List<Long> targetIds) {
+        List<String> keys = new ArrayList<>();
+        targetIds.forEach(targetId -> keys.add(countKey(type, targetId)));
+
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        Map<Long, Long> counts = new HashMap<>();
+
+        for (int i = 0; values != null && i < targetIds.size(); i++) {
+            if (values.get(i) != null) {
+                counts.put(targetIds.get(i), Long.valueOf(values.get(i)));
+            }
+        }
+        return counts;
+    }
+
+    /*
+     * 처리 중 목록이 max 건이 되도록 대기열에서 옮기고, 이전에 반영하지 못하고 남은 건을 포함해 처리 중 목록 전체를 오래된 순서로 반환합니다.
+     * 반영이 끝나면 complete() 로 반영하지 못한 건만 남깁니다. 중간에 서버가 내려가도 처리 중 목록이 남아 다음 주기에 다시 반영됩니다.
+     * */
+    public List<Operation> claim(int max) {
+        Long processing = redisTemplate.opsForList().size(PROCESSING_KEY);
+        long room = max - (processing == null ? 0L : processing);
+
+        for (long i = 0; i < room; i++) {
+            if (redisTemplate.opsForList().rightPopAndLeftPush(QUEUE_KEY, PROCESSING_KEY) == null) {
+                break;
+            }
+        }
+
+        List<String> claimed = redisTemplate.opsForList().range(PROCESSING_KEY, 0, -1);
+        List<Operation> operations = new ArrayList<>();
+
+        if (claimed != null) {
+            for (int i = claimed.size() - 1; i >= 0; i--) {
+                operations.add(Operation.parse(claimed.get(i)));
+            }
+        }
+        return operations;
+    }
+
+    /*
+     * 처리 중 목록에 retained 만 남겨 다음 claim() 에서 다시 반영하게 하고, dropped 는 dead-letter 목록으로 옮깁니다.
+     * 둘 다 오래된 순서로 넘겨야 하며, 지금까지 버린 건수를 반환합니다.
+     * */
+    public long complete(List<Operation> retained, List<Operation> dropped) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(retained.size()));
+        retained.forEach(operation -> args.add(operation.value()));
+        dropped.forEach(operation -> args.add(operation.value()));
+
+        Long droppedTotal = redisTemplate.execute(COMPLETE_SCRIPT, List.of(PROCESSING_KEY, DEAD_LETTER_KEY, DROPPED_KEY), args.toArray());
+        return droppedTotal == null ? 0L : droppedTotal;
+    }
+
+    /*
+     * 여러 서버가 같은 처리 중 목록을 동시에 반영하지 않도록 잡는 잠금입니다. 잡으면 unlockFlush() 에 넘길 토큰을 반환합니다.
+     * */
+    public Optional<String> lockFlush(Duration timeout) {
+        return redisLockRepository.lock(FLUSH_LOCK_KEY, timeout);
+    }
+
+    public void unlockFlush(String token) {
+        redisLockRepository.unlock(FLUSH_LOCK_KEY, token);
+    }
+
+    /*
+     * DB 에 반영되지 않은 건이 하나도 없을 때만 대상의 Set 과 카운터를 지웁니다. 지운 대상은 다음 누르기에서 DB 기준으로 다시 채워집니다.
+     * Redis 와 DB 가 어긋난 상태를 바로잡고, 오래 쓰이지 않는 대상이 메모리에 계속 남지 않도록 하기 위함입니다.
+     * */
+    public long evictIdle() {
+        long evicted = 0;
+
+        for (Type type : Type.values()) {
+            ScanOptions options = ScanOptions.scanOptions().match(type.getKeyPrefix() + ":*").count(1000).build();
+            List<String> keys = new ArrayList<>();
+
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                try (Cursor<byte[]> cursor = connection.scan(options)) {
+                    cursor.forEachRemaining(key -> keys.add(new String(key, StandardCharsets.UTF_8)));
+                }
+                return null;
+            });
+
+            for (String key : keys) {
+                if (key.endsWith(":count")) {
+                    continue;
+                }
+
+                Long deleted = redisTemplate.execute(EVICT_SCRIPT, List.of(key, key + ":count", QUEUE_KEY, PROCESSING_KEY));
+                if (deleted == null || deleted < 0) {
+                    return evicted;
+                }
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private String membersKey(Type type, Long targetId) {
+        return type.getKeyPrefix() + ":" + targetId;
+    }
+
+    private String countKey(Type type, Long targetId) {
+        return type.getKeyPrefix() + ":" + targetId + ":count";
+    }
+}
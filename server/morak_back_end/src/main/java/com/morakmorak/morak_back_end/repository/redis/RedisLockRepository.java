@@ -0,0 +1,42 @@
+package com.morakmorak.morak_back_end.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+ * 여러 서버 중 한 대만 작업하도록 잡는 Redis 락입니다.
+ * 락마다 임의의 토큰을 값으로 저장하고 같은 토큰일 때만 지우므로, 작업이 길어져 락이 만료된 뒤 다른 서버가 잡은 락을 지우지 않습니다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class RedisLockRepository {
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+                    "return 0", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /*
+     * 락을 잡으면 풀 때 넘길 토큰을, 다른 서버가 잡고 있으면 빈 값을 반환합니다.
+     * */
+    public Optional<String> lock(String key, Duration timeout) {
+        String token = UUID.randomUUID().toString();
+
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, timeout))) {
+            return Optional.of(token);
+        }
+        return Optional.empty();
+    }
+
+    public void unlock(String key, String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+    }
+}
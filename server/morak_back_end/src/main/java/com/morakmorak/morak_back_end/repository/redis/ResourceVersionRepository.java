@@ -0,0 +1,77 @@
+package com.morakmorak.morak_back_end.repository.redis;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * 조회 응답의 ETag 로 쓰는 자원별 버전입니다. 자원이 바뀔 때마다 bump() 로 올립니다.
+ * 버전은 현재 시각(ms)보다 작아지지 않도록 올리므로, 키가 만료되거나 지워진 뒤 다시 만들어져도 예전 버전과 겹치지 않습니다.
+ * */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ResourceVersionRepository {
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>(
+            "local version = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+                    "local now = tonumber(ARGV[1]) " +
+                    "if now <= version then now = version + 1 end " +
+                    "redis.call('SET', KEYS[1], now, 'PX', ARGV[2]) " +
+                    "return now", Long.class);
+
+    private static final RedisScript<Long> GET_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('GET', KEYS[1]) " +
+                    "if version then return tonumber(version) end " +
+                    "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+                    "return tonumber(ARGV[1])", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Getter
+    @AllArgsConstructor
+    public enum Resource {
+        ARTICLE("version:article"),
+        ANSWERS("version:answers"),
+        ANSWER_COMMENTS("version:comments:answer");
+
+        private final String keyPrefix;
+    }
+
+    /*
+     * Redis 장애 시에는 빈 값을 반환하고, 호출하는 쪽은 조건부 요청을 처리하지 않고 전체 응답을 돌려줍니다.
+     * */
+    public Optional<Long> versionOf(Resource resource, Long id) {
+        try {
+            return Optional.ofNullable(redisTemplate.execute(GET_SCRIPT, List.of(keyOf(resource, id)),
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(VERSION_TTL.toMillis())));
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void bump(Resource resource, Long id) {
+        try {
+            redisTemplate.execute(BUMP_SCRIPT, List.of(keyOf(resource, id)),
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(VERSION_TTL.toMillis()));
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+        }
+    }
+
+    private String keyOf(Resource resource, Long id) {
+        return resource.getKeyPrefix() + ":" + id;
+    }
+}
@@ -0,0 +1,123 @@
+package com.morakmorak.morak_back_end.repository.redis;
+
+import com.morakmorak.morak_back_end.dto.RetentionDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/*
+ * 보관 정책별 실행 락과 진행 상황입니다. 모든 서버가 같은 시각에 RetentionScheduler 를 실행하므로,
+ * 락을 잡은 서버 한 대만 지우고 진행 상황(다음에 이어서 지울 id 포함)은 Redis Hash 에 남겨 어느 서버에서든 이어서 지우고 조회할 수 있게 합니다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class RetentionProgressRepository {
+    private static final String LOCK_KEY_PREFIX = "retention:lock:";
+    private static final String PROGRESS_KEY_PREFIX = "retention:progress:";
+
+    private static final RedisScript<Long> CHUNK_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], 'scannedUpToId', ARGV[1]) " +
+                    "redis.call('HINCRBY', KEYS[1], 'chunks', 1) " +
+                    "redis.call('HINCRBY', KEYS[1], 'deletedRows', ARGV[2]) " +
+                    "redis.call('HINCRBY', KEYS[1], 'totalDeletedRows', ARGV[2]) " +
+                    "return 0", Long.class);
+
+    /*
+     * 실패한 구간부터 다시 지우도록 nextId 를 마지막으로 끝낸 구간 다음으로 둡니다.
+     * */
+    private static final RedisScript<Long> FAIL_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], 'running') == '1' then " +
+                    "local scanned = tonumber(redis.call('HGET', KEYS[1], 'scannedUpToId') or '0') " +
+                    "redis.call('HSET', KEYS[1], 'nextId', scanned + 1) " +
+                    "end " +
+                    "redis.call('HSET', KEYS[1], 'running', '0') " +
+                    "return 0", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLockRepository redisLockRepository;
+
+    public Optional<String> lock(String policy, Duration timeout) {
+        return redisLockRepository.lock(LOCK_KEY_PREFIX + policy, timeout);
+    }
+
+    public void unlock(String policy, String token) {
+        redisLockRepository.unlock(LOCK_KEY_PREFIX + policy, token);
+    }
+
+    public long findNextId(String policy) {
+        Object nextId = redisTemplate.opsForHash().get(keyOf(policy), "nextId");
+        return nextId == null ? 0L : Long.parseLong(nextId.toString());
+    }
+
+    public void start(String policy, LocalDateTime now, long scannedUpToId, long maxId) {
+        redisTemplate.opsForHash().putAll(keyOf(policy), Map.of(
+                "running", "1",
+                "lastStartedAt", now.toString(),
+                "scannedUpToId", String.valueOf(scannedUpToId),
+                "maxId", String.valueOf(maxId),
+                "chunks", "0",
+                "deletedRows", "0"));
+    }
+
+    public void chunk(String policy, long scannedUpToId, int deleted) {
+        redisTemplate.execute(CHUNK_SCRIPT, List.of(keyOf(policy)), String.valueOf(scannedUpToId), String.valueOf(deleted));
+    }
+
+    public void pause(String policy, long nextId) {
+        redisTemplate.opsForHash().putAll(keyOf(policy), Map.of(
+                "running", "0",
+                "nextId", String.valueOf(nextId)));
+    }
+
+    public void finish(String policy, LocalDateTime now) {
+        redisTemplate.opsForHash().putAll(keyOf(policy), Map.of(
+                "running", "0",
+                "lastFinishedAt", now.toString(),
+                "nextId", "0"));
+    }
+
+    public void fail(String policy) {
+        redisTemplate.execute(FAIL_SCRIPT, List.of(keyOf(policy)));
+    }
+
+    public Optional<RetentionDto.Progress> find(String policy) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(keyOf(policy));
+
+        if (fields == null || fields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(RetentionDto.Progress.builder()
+                .policy(policy)
+                .running("1".equals(fields.get("running")))
+                .lastStartedAt(dateTimeOf(fields.get("lastStartedAt")))
+                .lastFinishedAt(dateTimeOf(fields.get("lastFinishedAt")))
+                .scannedUpToId(longOf(fields.get("scannedUpToId")))
+                .maxId(longOf(fields.get("maxId")))
+                .nextId(longOf(fields.get("nextId")))
+                .chunks(longOf(fields.get("chunks")))
+                .deletedRows(longOf(fields.get("deletedRows")))
+                .totalDeletedRows(longOf(fields.get("totalDeletedRows")))
+                .build());
+    }
+
+    private LocalDateTime dateTimeOf(Object value) {
+        return value == null ? null : LocalDateTime.parse(value.toString());
+    }
+
+    private Long longOf(Object value) {
+        return value == null ? 0L : Long.valueOf(value.toString());
+    }
+
+    private String keyOf(String policy) {
+        return PROGRESS_KEY_PREFIX + policy;
+    }
+}
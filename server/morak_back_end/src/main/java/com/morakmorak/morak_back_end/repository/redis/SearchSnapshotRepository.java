@@ -0,0 +1,63 @@
+package com.morakmorak.morak_back_end.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/*
+ * 관련도순 검색의 첫 페이지에서 정한 게시글 순위입니다. 다음 페이지는 점수를 다시 계산하지 않고 이 순위에서 이어서 읽습니다.
+ * 어느 서버로 요청이 가더라도 같은 순위를 읽도록 Redis 에 두고, 검색을 이어가는 동안만 필요하므로 짧게 보관합니다.
+ * */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class SearchSnapshotRepository {
+    private static final String KEY_PREFIX = "search:snapshot:";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /*
+     * 저장한 순위의 id 를 반환합니다. Redis 에 저장하지 못하면 비어 있습니다.
+     * */
+    public Optional<String> save(List<Long> articleIds) {
+        String snapshotId = UUID.randomUUID().toString();
+        String key = KEY_PREFIX + snapshotId;
+
+        try {
+            redisTemplate.opsForList().rightPushAll(key, articleIds.stream().map(String::valueOf).collect(Collectors.toList()));
+            redisTemplate.expire(key, TTL);
+            return Optional.of(snapshotId);
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /*
+     * offset 부터 limit 건을 반환합니다. 순위가 만료되었거나 Redis 를 읽지 못하면 비어 있습니다.
+     * */
+    public Optional<List<Long>> find(String snapshotId, long offset, int limit) {
+        String key = KEY_PREFIX + snapshotId;
+
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                return Optional.empty();
+            }
+
+            List<String> articleIds = redisTemplate.opsForList().range(key, offset, offset + limit - 1);
+            return Optional.of(articleIds == null ? List.of() : articleIds.stream().map(Long::valueOf).collect(Collectors.toList()));
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
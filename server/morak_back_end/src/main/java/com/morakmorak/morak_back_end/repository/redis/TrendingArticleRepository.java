@@ -0,0 +1,117 @@
+package com.morakmorak.morak_back_end.repository.redis;
+
+import com.morakmorak.morak_back_end.entity.enums.CategoryName;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/*
+ * 게시글별 인기 점수를 Redis Sorted Set 에 보관합니다.
+ * 전체 게시글용 key 와 카테고리별 key 에 같은 점수를 함께 올려두어, 어느 쪽이든 상위 N 건을 O(log n) 으로 꺼낼 수 있습니다.
+ * */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TrendingArticleRepository {
+    private static final String KEY = "trending:articles";
+    private static final String DECAY_LOCK_KEY = KEY + ":decay:lock";
+    private static final String LAST_DECAYED_AT_KEY = KEY + ":decay:last";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLockRepository redisLockRepository;
+
+    /*
+     * 인기 점수는 부가 기능이므로 Redis 장애 시에도 원래 요청은 실패시키지 않습니다.
+     * */
+    public void increase(Long articleId, CategoryName category, double score) {
+        String member = articleId.toString();
+
+        try {
+            redisTemplate.opsForZSet().incrementScore(KEY, member, score);
+            if (category != null) {
+                redisTemplate.opsForZSet().incrementScore(keyOf(category), member, score);
+            }
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+        }
+    }
+
+    public void remove(Long articleId) {
+        String member = articleId.toString();
+
+        try {
+            allKeys().forEach(key -> redisTemplate.opsForZSet().remove(key, member));
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+        }
+    }
+
+    /*
+     * Redis 장애 시에는 인기 게시글 없이 빈 목록을 반환합니다.
+     * */
+    public List<Long> findTopIds(CategoryName category, int size) {
+        Set<String> members;
+
+        try {
+            members = redisTemplate.opsForZSet().reverseRange(category != null ? keyOf(category) : KEY, 0, size - 1L);
+        } catch (DataAccessException e) {
+            log.error(e.getMessage());
+            return new ArrayList<>();
+        }
+
+        if (members == null) {
+            return new ArrayList<>();
+        }
+
+        return members.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    /*
+     * 모든 점수에 factor 를 곱하고 minScore 미만으로 내려간 게시글은 제거합니다.
+     * ZUNIONSTORE 에 가중치를 주어 key 하나당 한 번의 명령으로 전체 점수를 갱신합니다.
+     * */
+    public void decay(double factor, double minScore) {
+        allKeys().forEach(key -> {
+            redisTemplate.opsForZSet().unionAndStore(key, Collections.emptyList(), key,
+                    RedisZSetCommands.Aggregate.SUM, RedisZSetCommands.Weights.of(factor));
+            redisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, minScore);
+        });
+    }
+
+    public Optional<String> lockDecay(Duration timeout) {
+        return redisLockRepository.lock(DECAY_LOCK_KEY, timeout);
+    }
+
+    public void unlockDecay(String token) {
+        redisLockRepository.unlock(DECAY_LOCK_KEY, token);
+    }
+
+    public Long findLastDecayedAt() {
+        String lastDecayedAt = redisTemplate.opsForValue().get(LAST_DECAYED_AT_KEY);
+        return lastDecayedAt != null ? Long.valueOf(lastDecayedAt) : null;
+    }
+
+    public void saveLastDecayedAt(long epochMillis) {
+        redisTemplate.opsForValue().set(LAST_DECAYED_AT_KEY, String.valueOf(epochMillis));
+    }
+
+    private List<String> allKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(KEY);
+        Arrays.stream(CategoryName.values()).forEach(category -> keys.add(keyOf(category)));
+        return keys;
+    }
+
+    private String keyOf(CategoryName category) {
+        return KEY + ":" + category.name();
+    }
+}
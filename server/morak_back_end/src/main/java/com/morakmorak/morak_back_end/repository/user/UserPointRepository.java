@@ -0,0 +1,66 @@
+package com.morakmorak.morak_back_end.repository.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 포인트를 읽어서 다시 쓰지 않고 point = point + ? 로 증감해, 같은 회원의 포인트를 동시에 바꾸는 다른 트랜잭션과 값을 덮어쓰지 않습니다.
+ * 등급은 같은 update 에서 증감한 포인트로 다시 계산합니다. 기준은 User.checkGradeUpdatable() 과 같아야 합니다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class UserPointRepository {
+    private static final String GRADE =
+            " u.grade = CASE" +
+                    " WHEN u.point >= 20000 THEN 'MORAKMORAK'" +
+                    " WHEN u.point >= 10000 THEN 'BONFIRE'" +
+                    " WHEN u.point >= 5000 THEN 'CANDLE'" +
+                    " ELSE 'MATCH' END";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addPoint(Long userId, Integer point) {
+        String sql = " UPDATE user u SET u.point = u.point + ?," + GRADE + " WHERE u.user_id = ?";
+        jdbcTemplate.update(sql, point, userId);
+    }
+
+    /*
+     * 남은 포인트가 point 이상일 때만 차감합니다. 잔액 확인과 차감을 한 update 로 처리하므로 동시에 보내도 포인트가 음수가 되지 않습니다.
+     * 차감했으면 true 를 반환합니다.
+     * */
+    public boolean subtractPointIfEnough(Long userId, Integer point) {
+        String sql = " UPDATE user u SET u.point = u.point - ?," + GRADE + " WHERE u.user_id = ? AND u.point >= ?";
+        return jdbcTemplate.update(sql, point, userId, point) == 1;
+    }
+
+    public void addPoints(Map<Long, Integer> pointsByUserId) {
+        String sql = " UPDATE user u SET u.point = u.point + ?," + GRADE + " WHERE u.user_id = ?";
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(pointsByUserId.entrySet());
+
+        jdbcTemplate.batchUpdate(
+                sql,
+                new BatchPreparedStatementSetter() {
+
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Map.Entry<Long, Integer> entry = entries.get(i);
+                        ps.setInt(1, entry.getValue());
+                        ps.setLong(2, entry.getKey());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return entries.size();
+                    }
+                }
+        );
+    }
+}
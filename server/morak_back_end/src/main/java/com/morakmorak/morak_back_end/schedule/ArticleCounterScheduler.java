@@ -0,0 +1,60 @@
+package com.morakmorak.morak_back_end.schedule;
+
+import com.morakmorak.morak_back_end.domain.ArticleDetailCache;
+import com.morakmorak.morak_back_end.domain.ArticleViewCounter;
+import com.morakmorak.morak_back_end.repository.article.ArticleCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleCounterScheduler {
+    private static final long CHUNK_SIZE = 1000L;
+
+    private final ArticleCounterRepository articleCounterRepository;
+    private final ArticleViewCounter articleViewCounter;
+    private final ArticleDetailCache articleDetailCache;
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcileCounters() {
+        Long maxArticleId = articleCounterRepository.findMaxArticleId();
+        int reconciled = 0;
+
+        for (long from = 1; from <= maxArticleId; from += CHUNK_SIZE) {
+            reconciled += articleCounterRepository.reconcileCounters(from, from + CHUNK_SIZE - 1);
+        }
+
+        log.info("article counters reconciled. rows = {}", reconciled);
+    }
+
+    /*
+     * 메모리에 모아둔 조회수를 주기적으로 DB 에 반영합니다.
+     * 반영에 실패하면 꺼낸 조회수를 다시 버퍼에 돌려놓아 다음 주기에 재시도합니다.
+     * 캐싱된 상세 응답의 조회수는 캐싱 당시의 DB 값이므로, 캐시를 지우지 않고 반영한 조회수를 캐시 쪽에 누적해 응답에 더합니다.
+     * */
+    @PreDestroy
+    @Scheduled(fixedDelay = 10000L)
+    public void flushClicks() {
+        Map<Long, Long> clicks = articleViewCounter.drain();
+
+        if (clicks.isEmpty()) {
+            return;
+        }
+
+        try {
+            articleCounterRepository.addClicks(clicks);
+        } catch (RuntimeException e) {
+            clicks.forEach(articleViewCounter::add);
+            log.error("failed to flush article clicks. articles = {}", clicks.size(), e);
+            return;
+        }
+
+        articleDetailCache.addFlushedClicks(clicks);
+    }
+}
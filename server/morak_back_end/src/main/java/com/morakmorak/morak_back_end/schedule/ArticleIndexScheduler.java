@@ -0,0 +1,21 @@
+package com.morakmorak.morak_back_end.schedule;
+
+import com.morakmorak.morak_back_end.service.ArticleIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * Redis 채널로 전달받지 못한 변경이 인덱스에 계속 남지 않도록 하루에 한 번 DB 기준으로 다시 만듭니다.
+ * 다시 만드는 동안 검색과 태그 필터는 SQL 로 조회합니다.
+ * */
+@Component
+@RequiredArgsConstructor
+public class ArticleIndexScheduler {
+    private final ArticleIndexService articleIndexService;
+
+    @Scheduled(cron = "${article-index.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        articleIndexService.rebuild();
+    }
+}
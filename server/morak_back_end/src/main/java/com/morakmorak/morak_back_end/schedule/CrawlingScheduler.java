@@ -3,9 +3,12 @@ package com.morakmorak.morak_back_end.schedule;
 import com.morakmorak.morak_back_end.crawler.Crawler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import static com.morakmorak.morak_back_end.config.CacheCosntant.JOB_CALENDAR;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -13,6 +16,7 @@ public class CrawlingScheduler {
     private final Crawler crawler;
 
     @Scheduled(cron = "0 0 4 * * MON-SAT")
+    @CacheEvict(value = JOB_CALENDAR, allEntries = true)
     public void runCrawler() {
         crawler.run();
     }
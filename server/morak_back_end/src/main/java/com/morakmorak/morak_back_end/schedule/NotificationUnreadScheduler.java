@@ -0,0 +1,26 @@
+package com.morakmorak.morak_back_end.schedule;
+
+import com.morakmorak.morak_back_end.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * Redis 장애나 롤백 등으로 어긋난 읽지 않은 알림 수를 notification 테이블 기준으로 다시 맞춥니다.
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadScheduler {
+    private final NotificationService notificationService;
+
+    @Scheduled(cron = "0 */30 * * * *")
+    public void reconcile() {
+        try {
+            log.info("unread notification counts reconciled. keys = {}", notificationService.reconcileUnreadCounts());
+        } catch (RuntimeException e) {
+            log.error("failed to reconcile unread notification counts.", e);
+        }
+    }
+}
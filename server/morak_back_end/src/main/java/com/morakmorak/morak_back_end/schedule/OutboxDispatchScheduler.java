@@ -0,0 +1,60 @@
+package com.morakmorak.morak_back_end.schedule;
+
+import com.morakmorak.morak_back_end.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * outbox 에 쌓인 알림/포인트를 주기적으로 처리합니다.
+ * 처리할 행은 SKIP LOCKED 로 잠그므로 여러 서버에서 동시에 돌아도 같은 건을 두 번 처리하지 않습니다.
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxDispatchScheduler {
+    private static final int BATCH_SIZE = 200;
+
+    private final OutboxService outboxService;
+
+    @Scheduled(fixedDelay = 1000L)
+    public void dispatch() {
+        try {
+            int dispatched;
+
+            do {
+                dispatched = outboxService.dispatch(BATCH_SIZE);
+            } while (dispatched >= BATCH_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("failed to dispatch outbox in batch.", e);
+            dispatchOneByOne();
+        }
+    }
+
+    /*
+     * 한 건 때문에 batch 전체가 계속 실패하지 않도록, 한 건씩 다시 처리하고 실패한 건은 시도 횟수를 늘려 뒤로 미룹니다.
+     * */
+    private void dispatchOneByOne() {
+        try {
+            outboxService.findPendingIds(BATCH_SIZE).forEach(outboxEventId -> {
+                try {
+                    outboxService.dispatchOne(outboxEventId);
+                } catch (RuntimeException e) {
+                    log.error("failed to dispatch outbox. id = {}", outboxEventId, e);
+                    recordFailure(outboxEventId);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("failed to read pending outbox.", e);
+        }
+    }
+
+    private void recordFailure(Long outboxEventId) {
+        try {
+            outboxService.recordFailure(outboxEventId);
+        } catch (RuntimeException e) {
+            log.error("failed to record outbox failure. id = {}", outboxEventId, e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.morakmorak.morak_back_end.schedule;
+
+import com.morakmorak.morak_back_end.repository.redis.ReactionRepository;
+import com.morakmorak.morak_back_end.repository.redis.ReactionRepository.Operation;
+import com.morakmorak.morak_back_end.service.ReactionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/*
+ * Redis 에 쌓인 좋아요/북마크 대기열을 주기적으로 DB 에 반영합니다.
+ * 대기열은 Redis 에 남아 있으므로 서버가 내려가도 잃지 않고, 처리 중이던 건과 반영하지 못한 건은 다음 주기에 다시 반영합니다.
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactionFlushScheduler {
+    private static final int BATCH_SIZE = 500;
+    private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(1);
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final ReactionRepository reactionRepository;
+    private final ReactionService reactionService;
+
+    @Scheduled(fixedDelay = 3000L)
+    public void flush() {
+        String token;
+
+        try {
+            Optional<String> locked = reactionRepository.lockFlush(LOCK_TIMEOUT);
+            if (locked.isEmpty()) {
+                return;
+            }
+            token = locked.get();
+        } catch (RuntimeException e) {
+            log.error("failed to lock reaction queue.", e);
+            return;
+        }
+
+        try {
+            List<Operation> operations;
+
+            List<Operation> remaining;
+
+            do {
+                operations = reactionRepository.claim(BATCH_SIZE);
+                remaining = persist(operations);
+                complete(remaining);
+            } while (remaining.isEmpty() && operations.size() >= BATCH_SIZE);
+        } catch (RuntimeException e) {
+            log.error("failed to flush reactions.", e);
+        } finally {
+            reactionRepository.unlockFlush(token);
+        }
+    }
+
+    /*
+     * Redis 에 올라온 좋아요/북마크를 비워 DB 기준으로 다시 채워지게 합니다. 대기열에 남은 건이 있으면 건너뜁니다.
+     * */
+    @Scheduled(cron = "0 0 5 * * *")
+    public void reconcile() {
+        try {
+            log.info("reactions reconciled. evicted = {}", reactionRepository.evictIdle());
+        } catch (RuntimeException e) {
+            log.error("failed to reconcile reactions.", e);
+        }
+    }
+
+    /*
+     * 반영하지 못해 처리 중 목록에 남길 건을 반환합니다.
+     * 한 건 때문에 batch 전체가 계속 실패하지 않도록, 실패하면 대상별 마지막 건만 한 건씩 다시 반영하고 실패한 건의 실패 횟수를 늘립니다.
+     * DB 에 연결할 수 없는 실패는 건의 문제가 아니므로 실패 횟수를 늘리지 않고 남은 건을 그대로 남겨 다음 주기에 다시 반영합니다.
+     * */
+    private List<Operation> persist(List<Operation> operations) {
+        if (operations.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            reactionService.persist(operations);
+            return List.of();
+        } catch (RuntimeException e) {
+            if (isUnavailable(e)) {
+                log.error("failed to persist reactions. database unavailable. size = {}", operations.size(), e);
+                return operations;
+            }
+            log.warn("failed to persist reactions in batch. size = {}", operations.size(), e);
+        }
+
+        Map<String, Operation> latest = new LinkedHashMap<>();
+        operations.forEach(operation -> latest.put(operation.reactionKey(), operation));
+
+        List<Operation> pending = new ArrayList<>(latest.values());
+        List<Operation> remaining = new ArrayList<>();
+
+        for (int i = 0; i < pending.size(); i++) {
+            Operation operation = pending.get(i);
+
+            try {
+                reactionService.persist(List.of(operation));
+            } catch (RuntimeException e) {
+                if (isUnavailable(e)) {
+                    log.error("failed to persist reactions. database unavailable. size = {}", pending.size() - i, e);
+                    remaining.addAll(pending.subList(i, pending.size()));
+                    break;
+                }
+                log.warn("failed to persist reaction. {}", operation.reactionKey(), e);
+                remaining.add(operation.failed());
+            }
+        }
+        return remaining;
+    }
+
+    /*
+     * MAX_ATTEMPTS 번 실패한 건만 dead-letter 목록으로 옮겨 버리고, 나머지는 처리 중 목록에 남겨 다음 claim() 에서 다시 반영합니다.
+     * 버린 건으로 어긋난 Redis 상태는 reconcile() 에서 DB 기준으로 다시 맞춰집니다.
+     * */
+    private void complete(List<Operation> remaining) {
+        List<Operation> dropped = remaining.stream()
+                .filter(operation -> operation.getAttempts() >= MAX_ATTEMPTS)
+                .collect(Collectors.toList());
+        List<Operation> retained = remaining.stream()
+                .filter(operation -> operation.getAttempts() < MAX_ATTEMPTS)
+                .collect(Collectors.toList());
+
+        long droppedTotal = reactionRepository.complete(retained, dropped);
+
+        if (!dropped.isEmpty()) {
+            dropped.forEach(operation -> log.error("dropped reaction after {} attempts. {}", MAX_ATTEMPTS, operation.reactionKey()));
+            log.error("reactions dropped. count = {}, total = {}", dropped.size(), droppedTotal);
+        }
+    }
+
+    private boolean isUnavailable(RuntimeException e) {
+        return e instanceof CannotCreateTransactionException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof TransientDataAccessException;
+    }
+}
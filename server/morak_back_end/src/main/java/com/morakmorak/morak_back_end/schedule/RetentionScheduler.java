@@ -0,0 +1,20 @@
+package com.morakmorak.morak_back_end.schedule;
+
+import com.morakmorak.morak_back_end.service.RetentionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * 사용량이 적은 새벽에 보관 기간이 지난 행을 지웁니다. 카운터 재계산(04:30)이 끝난 뒤에 시작합니다.
+ * */
+@Component
+@RequiredArgsConstructor
+public class RetentionScheduler {
+    private final RetentionService retentionService;
+
+    @Scheduled(cron = "${retention.cron:0 0 5 * * *}")
+    public void purge() {
+        retentionService.purgeAll();
+    }
+}
@@ -0,0 +1,24 @@
+package com.morakmorak.morak_back_end.schedule;
+
+import com.morakmorak.morak_back_end.domain.ArticleStreamBroker;
+import com.morakmorak.morak_back_end.domain.NotificationStreamBroker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * 변경분이 없어도 주기적으로 주석 한 줄을 보내, 프록시의 idle timeout 으로 연결이 끊기지 않게 하고
+ * 클라이언트가 이미 떠난 emitter 는 전송 실패로 찾아 제거합니다.
+ * */
+@Component
+@RequiredArgsConstructor
+public class SseHeartbeatScheduler {
+    private final ArticleStreamBroker articleStreamBroker;
+    private final NotificationStreamBroker notificationStreamBroker;
+
+    @Scheduled(fixedDelay = 20000L)
+    public void heartbeat() {
+        articleStreamBroker.heartbeat();
+        notificationStreamBroker.heartbeat();
+    }
+}
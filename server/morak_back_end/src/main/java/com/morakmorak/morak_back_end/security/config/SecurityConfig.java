@@ -52,6 +52,7 @@ public class SecurityConfig {
                 .mvcMatchers("/test/user/**").hasAnyRole("USER", "MANAGER", "ADMIN")
                 .mvcMatchers("/test/manager/**").hasAnyRole("MANAGER", "ADMIN")
                 .mvcMatchers("/test/admin/**").hasAnyRole("ADMIN")
+                .mvcMatchers(GET, "/admin/**").hasAnyRole("ADMIN")
                 .mvcMatchers(GET, "/articles/**").permitAll()
                 .mvcMatchers(POST, "/articles/**").hasAnyRole("USER", "MANAGER", "ADMIN")
                 .mvcMatchers(PUT, "/articles/**").hasAnyRole("USER", "MANAGER", "ADMIN")
@@ -5,7 +5,7 @@ import com.morakmorak.morak_back_end.entity.Role;
 import com.morakmorak.morak_back_end.entity.User;
 import com.morakmorak.morak_back_end.entity.UserRole;
 import com.morakmorak.morak_back_end.mapper.UserMapper;
-import com.morakmorak.morak_back_end.repository.user.RoleRepository;
+import com.morakmorak.morak_back_end.repository.ReferenceDataRegistry;
 import com.morakmorak.morak_back_end.repository.user.UserRepository;
 import com.morakmorak.morak_back_end.repository.user.UserRoleRepository;
 import lombok.RequiredArgsConstructor;
@@ -31,7 +31,7 @@ public class CustomOauth2Service implements OAuth2UserService<OAuth2UserRequest,
     private final UserRoleRepository userRoleRepository;
     private final RandomKeyGenerator randomKeyGenerator;
     private final UserMapper userMapper;
-    private final RoleRepository roleRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final UserRepository userRepository;
 
     @Override
@@ -66,7 +66,7 @@ public class CustomOauth2Service implements OAuth2UserService<OAuth2UserRequest,
     }
 
     private void saveUserAndAddBasicRole(User user) {
-        Role role_user = roleRepository.findRoleByRoleName(ROLE_USER);
+        Role role_user = referenceDataRegistry.getRole(ROLE_USER);
 
         UserRole userRole = UserRole.builder()
                 .user(user)
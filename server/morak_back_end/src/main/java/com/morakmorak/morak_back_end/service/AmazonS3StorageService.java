@@ -22,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URL;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
 import static com.morakmorak.morak_back_end.exception.ErrorCode.*;
@@ -100,6 +101,26 @@ public class AmazonS3StorageService {
         avatarRepository.deleteById(avatar.getId());
     }
 
+    /*
+     * remotePath 의 마지막 경로가 업로드할 때 쓴 객체 키입니다. 없는 키를 지워도 S3 는 성공으로 응답합니다.
+     * */
+    public void deleteFiles(List<String> remotePaths) {
+        if (remotePaths.isEmpty()) {
+            return;
+        }
+
+        String[] keys = remotePaths.stream()
+                .map(remotePath -> remotePath.substring(remotePath.lastIndexOf('/') + 1))
+                .toArray(String[]::new);
+
+        try {
+            amazonS3.deleteObjects(new DeleteObjectsRequest(bucketName).withKeys(keys).withQuiet(true));
+        } catch (SdkClientException e) {
+            log.error("", e);
+            throw new BusinessLogicException(CAN_NOT_ACCESS_S3);
+        }
+    }
+
     private String getPreSignedUrl(String filename) {
         Date expiration = new Date();
         long expTimeMillis = expiration.getTime() + EXP_TIME;
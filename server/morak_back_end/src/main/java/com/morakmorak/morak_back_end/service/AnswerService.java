@@ -1,30 +1,35 @@
 package com.morakmorak.morak_back_end.service;
 
+import com.morakmorak.morak_back_end.domain.CursorSlice;
 import com.morakmorak.morak_back_end.domain.NotificationGenerator;
+import com.morakmorak.morak_back_end.domain.PageCursor;
 import com.morakmorak.morak_back_end.domain.PointCalculator;
 import com.morakmorak.morak_back_end.dto.AnswerDto;
 import com.morakmorak.morak_back_end.dto.CommentDto;
+import com.morakmorak.morak_back_end.dto.ResponseCursorPaging;
 import com.morakmorak.morak_back_end.dto.ResponseMultiplePaging;
 import com.morakmorak.morak_back_end.dto.UserDto;
 import com.morakmorak.morak_back_end.entity.*;
+import com.morakmorak.morak_back_end.event.AnswerChangedEvent;
+import com.morakmorak.morak_back_end.event.ArticleActivityEvent;
 import com.morakmorak.morak_back_end.exception.BusinessLogicException;
 import com.morakmorak.morak_back_end.exception.ErrorCode;
 import com.morakmorak.morak_back_end.mapper.AnswerMapper;
 import com.morakmorak.morak_back_end.repository.BookmarkRepository;
 import com.morakmorak.morak_back_end.repository.FileRepository;
-import com.morakmorak.morak_back_end.repository.answer.AnswerLikeRepository;
+import com.morakmorak.morak_back_end.repository.ReportRepository;
 import com.morakmorak.morak_back_end.repository.answer.AnswerQueryRepository;
 import com.morakmorak.morak_back_end.repository.answer.AnswerRepository;
-import com.morakmorak.morak_back_end.repository.notification.NotificationRepository;
+import com.morakmorak.morak_back_end.repository.redis.ReactionRepository;
 import com.morakmorak.morak_back_end.service.auth_user_service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,10 +40,12 @@ public class AnswerService {
     private final UserService userService;
     private final AnswerRepository answerRepository;
     private final AnswerQueryRepository answerQueryRepository;
-    private final AnswerLikeRepository answerLikeRepository;
     private final AnswerMapper answerMapper;
-    private final NotificationRepository notificationRepository;
+    private final OutboxService outboxService;
     private final PointCalculator pointCalculator;
+    private final ReportRepository reportRepository;
+    private final ReactionService reactionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     int page=0;
     int size=5;
@@ -56,15 +63,15 @@ public class AnswerService {
 
         answerNotSaved.injectTo(verifiedArticle);
         answerRepository.save(answerNotSaved);
+        articleService.changeAnswerCount(verifiedArticle, 1);
 
         fileList.stream().forEach(file -> file.injectTo(answerNotSaved));
         Answer savedAnswer = answerRepository.save(answerNotSaved);
+        eventPublisher.publishEvent(AnswerChangedEvent.of(articleId, savedAnswer.getId()));
+        eventPublisher.publishEvent(ArticleActivityEvent.answerAdded(articleId, savedAnswer.getId()));
 
-        NotificationGenerator generator = NotificationGenerator.of(verifiedUser, savedAnswer);
-        Notification notification = generator.generateNotification();
-
-        verifiedUser.plusPoint(savedAnswer, pointCalculator);
-        notificationRepository.save(notification);
+        outboxService.enqueueNotification("notification:answer:" + savedAnswer.getId(), NotificationGenerator.of(verifiedUser, savedAnswer));
+        outboxService.enqueuePoint("point:answer:" + savedAnswer.getId(), verifiedUser.getId(), pointCalculator.calculatePaymentPoint(savedAnswer));
 
         return readAllAnswersForUser(articleId, userId, page, size);
     }
@@ -95,6 +102,7 @@ public class AnswerService {
 
         attachFilesToAnswer(verifiedAnswer, answerChanges.getFiles());
         verifiedAnswer.changeAnswer(answerChanges);
+        eventPublisher.publishEvent(AnswerChangedEvent.of(articleId, answerId));
 
         return readAllAnswersForUser(articleId, userId, page, size);
     }
@@ -109,8 +117,7 @@ public class AnswerService {
 
     public ResponseMultiplePaging<AnswerDto.ResponseListTypeAnswer> readAllAnswers(Long articleId, int page, int size) {
         Page<Answer> answersInPage = answerQueryRepository.findAllByArticleId_PickedFirst(articleId, PageRequest.of(page, size));
-        List<AnswerDto.ResponseListTypeAnswer> answers = answersInPage.getContent().stream()
-                        .map(AnswerDto.ResponseListTypeAnswer::of).collect(Collectors.toList());
+        List<AnswerDto.ResponseListTypeAnswer> answers = toResponseListTypeAnswers(answersInPage.getContent(), null);
 
         return new ResponseMultiplePaging<>(answers, answersInPage);
     }
@@ -130,8 +137,10 @@ public class AnswerService {
         checkAnswerIsPicked(verifiedAnswer);
 
         answerRepository.deleteById(answerId);
+        articleService.changeAnswerCount(verifiedArticle, -1);
+        eventPublisher.publishEvent(AnswerChangedEvent.of(articleId, answerId));
 
-        verifiedUser.minusPoint(verifiedAnswer, pointCalculator);
+        outboxService.enqueuePoint("point:answer:" + answerId + ":removed", verifiedUser.getId(), -pointCalculator.calculatePaymentPoint(verifiedAnswer));
 
         return readAllAnswersForUser(articleId, userId, page, size);
 
@@ -139,6 +148,9 @@ public class AnswerService {
 
 
 
+    /*
+     * 좋아요 여부와 개수는 Redis 에서 바로 바꾸고 응답합니다. answer_like 와 포인트는 ReactionFlushScheduler 가 모아서 반영합니다.
+     * */
     public AnswerDto.ResponseAnswerLike pressLikeButton(Long answerId, UserDto.UserInfo userInfo) {
 
         Optional.ofNullable(userInfo).orElseThrow(() -> new BusinessLogicException(ErrorCode.USER_NOT_FOUND));
@@ -148,33 +160,43 @@ public class AnswerService {
 
         User dbUser = userService.findVerifiedUserById(userInfo.getId());
 
-        answerLikeRepository.checkUserLiked(dbUser.getId(), dbAnswer.getId()).ifPresentOrElse(
-                answerLike -> {
-                    dbUser.minusPoint(answerLike, pointCalculator);
-                    answerLikeRepository.deleteById(answerLike.getId());
-                },
-                () -> {
-                    AnswerLike answerLike = AnswerLike.builder().answer(dbAnswer).user(dbUser).build();
-                    dbAnswer.getAnswerLike().add(answerLike);
-                    dbUser.getAnswerLikes().add(answerLike);
-                    dbUser.plusPoint(answerLike, pointCalculator);
-
-                    if (dbAnswer.getAnswerLike().size() % 10 == 0) {
-                        NotificationGenerator generator = NotificationGenerator.of(answerLike, dbAnswer.getAnswerLike().size());
-                        Notification notification = generator.generateNotification();
-                        notificationRepository.save(notification);
-                    }
-                }
-        );
-
-        Boolean isLiked = answerLikeRepository
-                .checkUserLiked(dbUser.getId(), dbAnswer.getId()).isPresent();
-
-        Integer likeCount = dbAnswer.getAnswerLike().size();
-
-        return answerMapper.makingResponseAnswerLikeDto(dbAnswer.getId(), dbUser.getId(), isLiked, likeCount);
+        ReactionRepository.Toggled toggled = reactionService.toggle(ReactionRepository.Type.ANSWER_LIKE, dbAnswer.getId(), dbUser.getId());
+        int likeCount = (int) toggled.getCount();
+        eventPublisher.publishEvent(AnswerChangedEvent.of(dbAnswer.getArticle().getId(), dbAnswer.getId()));
+        eventPublisher.publishEvent(ArticleActivityEvent.likeCountChanged(dbAnswer.getArticle().getId(), dbAnswer.getId(), likeCount));
+
+        if (toggled.isOn() && likeCount % 10 == 0) {
+            AnswerLike answerLike = AnswerLike.builder().answer(dbAnswer).user(dbUser).build();
+            outboxService.enqueueNotification("notification:answer-like:" + dbAnswer.getId() + ":" + likeCount,
+                    NotificationGenerator.of(answerLike, likeCount));
+        }
+
+        return answerMapper.makingResponseAnswerLikeDto(dbAnswer.getId(), dbUser.getId(), toggled.isOn(), likeCount);
     }
 
+    /*
+     * 신고 컬렉션을 불러오지 않고 답변의 신고 수와 차단 여부를 한 번의 update 로 반영합니다.
+     * */
+    public AnswerDto.ResponseReportAnswer reportAnswer(Long articleId, Long answerId, UserDto.UserInfo userInfo, Report report) {
+        Optional.ofNullable(userInfo).orElseThrow(() -> new BusinessLogicException(ErrorCode.USER_NOT_FOUND));
+
+        Answer dbAnswer = findVerifiedAnswerById(answerId);
+        checkArticleStatusPosting(dbAnswer.getArticle());
+
+        if (!dbAnswer.getArticle().getId().equals(articleId)) {
+            throw new BusinessLogicException(ErrorCode.ANSWER_NOT_FOUND);
+        }
+
+        User dbUser = userService.findVerifiedUserById(userInfo.getId());
+        report.injectTo(dbUser, dbAnswer);
+
+        Report dbReport = reportRepository.save(report);
+        dbAnswer.increaseReportCount();
+        answerRepository.addReportCount(dbAnswer.getId(), Report.BLOCKING_REPORT_COUNT);
+        eventPublisher.publishEvent(AnswerChangedEvent.of(articleId, dbAnswer.getId()));
+
+        return AnswerDto.ResponseReportAnswer.builder().reportId(dbReport.getId()).build();
+    }
 
     public void attachFilesToAnswer(Answer answer, List<File> fileList) {
         fileList.stream().forEach(file -> {
@@ -185,22 +207,48 @@ public class AnswerService {
     public ResponseMultiplePaging<AnswerDto.ResponseListTypeAnswer> readAllAnswersForUser(Long articleId, Long userId, int page, int size) {
         if (userId == -1L) { return readAllAnswers(articleId, page, size); }
 
-        userService.findVerifiedUserById(userId);
-        articleService.findVerifiedArticle(articleId);
-
         Page<Answer> answersInPage = answerQueryRepository.findAllByArticleId_PickedFirst(articleId, PageRequest.of(page, size));
-
-        List<AnswerDto.ResponseListTypeAnswer> answers = answersInPage.getContent().stream()
-                .map(answer -> {
-                            Boolean isPicked = answer.getIsPicked();
-                            Boolean isLiked = answerLikeRepository.checkUserLiked(userId, answer.getId()).isPresent();
-                            Integer answerLikeCount = answer.getAnswerLike().size();
-                            CommentDto.Response commentPreview = CommentDto.Response.previewOfAnswer(answer.getComments());
-                            Integer commentCount = answer.getComments().size();
-                            return answerMapper.answerToResponseListTypeAnswer(answer, isPicked, isLiked, answerLikeCount, commentPreview, commentCount);
-                        }
-                ).collect(Collectors.toList());
+        List<AnswerDto.ResponseListTypeAnswer> answers = toResponseListTypeAnswers(answersInPage.getContent(), userId);
 
         return new ResponseMultiplePaging<>(answers, answersInPage);
     }
+
+    public ResponseCursorPaging<AnswerDto.ResponseListTypeAnswer> readAllAnswersAsCursor(Long articleId, Long userId, String cursor, int size) {
+        CursorSlice<Answer> answersInSlice = answerQueryRepository.findAllByArticleId_PickedFirst(articleId, PageCursor.decode(cursor), size);
+
+        List<AnswerDto.ResponseListTypeAnswer> answers = toResponseListTypeAnswers(answersInSlice.getContent(), userId);
+
+        return new ResponseCursorPaging<>(answers, answersInSlice);
+    }
+
+    /*
+     * 답변 수와 상관없이 고정된 횟수로 목록 응답을 만듭니다.
+     * 좋아요 여부(Redis pipeline 1회 + IN 조회 1회), 좋아요/댓글 수(집계 1회), 첫 댓글 미리보기(1회)
+     * 좋아요 수는 Redis 에 올라온 답변이면 아직 DB 에 반영되지 않은 값까지 포함된 Redis 값을 사용합니다.
+     * userId 가 null 이면 좋아요 여부를 조회하지 않습니다.
+     * */
+    private List<AnswerDto.ResponseListTypeAnswer> toResponseListTypeAnswers(List<Answer> answers, Long userId) {
+        if (answers.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> answerIds = answers.stream().map(Answer::getId).collect(Collectors.toList());
+
+        Set<Long> likedAnswerIds = userId == null ? Set.of() : reactionService.findLikedAnswerIds(userId, answerIds);
+        Map<Long, Long> cachedLikeCounts = reactionService.countsOf(ReactionRepository.Type.ANSWER_LIKE, answerIds);
+        Map<Long, AnswerQueryRepository.Counts> counts = answerQueryRepository.countLikesAndComments(answerIds);
+        Map<Long, Comment> firstComments = answerQueryRepository.findFirstComments(answerIds);
+
+        return answers.stream()
+                .map(answer -> {
+                    AnswerQueryRepository.Counts count = counts.getOrDefault(answer.getId(), AnswerQueryRepository.Counts.EMPTY);
+                    Boolean isLiked = likedAnswerIds.contains(answer.getId());
+                    Integer answerLikeCount = cachedLikeCounts.getOrDefault(answer.getId(), count.getLikeCount()).intValue();
+                    Comment firstComment = firstComments.get(answer.getId());
+                    CommentDto.Response commentPreview = CommentDto.Response.previewOfAnswer(firstComment == null ? List.of() : List.of(firstComment));
+                    Integer commentCount = count.getCommentCount().intValue();
+                    return answerMapper.answerToResponseListTypeAnswer(answer, answer.getIsPicked(), isLiked, answerLikeCount, commentPreview, commentCount);
+                })
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,31 @@
+package com.morakmorak.morak_back_end.service;
+
+import com.morakmorak.morak_back_end.domain.ArticleDetailCache;
+import com.morakmorak.morak_back_end.event.ArticleChangedEvent;
+import com.morakmorak.morak_back_end.event.ArticleDetailChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static com.morakmorak.morak_back_end.config.CacheCosntant.MAIN_ARTICLE_LIST;
+
+/*
+ * 커밋 이후에 캐시를 지워, 롤백된 변경이나 커밋 전의 값이 다시 캐싱되지 않도록 합니다.
+ * */
+@Service
+@RequiredArgsConstructor
+public class ArticleCacheService {
+    private final ArticleDetailCache articleDetailCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(value = MAIN_ARTICLE_LIST, allEntries = true)
+    public void evict(ArticleChangedEvent event) {
+        articleDetailCache.evict(event.getArticleId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(ArticleDetailChangedEvent event) {
+        articleDetailCache.evict(event.getArticleId());
+    }
+}
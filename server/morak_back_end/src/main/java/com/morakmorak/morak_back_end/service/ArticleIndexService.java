@@ -0,0 +1,106 @@
+package com.morakmorak.morak_back_end.service;
+
+import com.morakmorak.morak_back_end.domain.ArticleIndexRelay;
+import com.morakmorak.morak_back_end.domain.ArticleSearchIndex;
+import com.morakmorak.morak_back_end.domain.ArticleTagBitmapIndex;
+import com.morakmorak.morak_back_end.domain.ArticleTitleSuggester;
+import com.morakmorak.morak_back_end.domain.RelatedArticleIndex;
+import com.morakmorak.morak_back_end.entity.Article;
+import com.morakmorak.morak_back_end.entity.enums.CategoryName;
+import com.morakmorak.morak_back_end.entity.enums.TagName;
+import com.morakmorak.morak_back_end.event.ArticleChangedEvent;
+import com.morakmorak.morak_back_end.repository.article.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleIndexService implements MessageListener {
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleTagBitmapIndex articleTagBitmapIndex;
+    private final RelatedArticleIndex relatedArticleIndex;
+    private final ArticleTitleSuggester articleTitleSuggester;
+    private final ArticleIndexRelay articleIndexRelay;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        articleSearchIndex.clear();
+        articleTagBitmapIndex.clear();
+        relatedArticleIndex.clear();
+        articleTitleSuggester.clear();
+
+        Long lastArticleId = 0L;
+        List<Article> chunk;
+
+        do {
+            chunk = articleRepository.findPostingArticlesAfter(lastArticleId, REBUILD_CHUNK_SIZE);
+            Map<Long, List<TagName>> tagNames = articleRepository.findTagNamesByArticleIds(
+                    chunk.stream().map(Article::getId).collect(Collectors.toList()));
+            chunk.forEach(article -> index(article, tagNames.getOrDefault(article.getId(), Collections.emptyList())));
+
+            if (!chunk.isEmpty()) {
+                lastArticleId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+        articleSearchIndex.markReady();
+        articleTagBitmapIndex.markReady();
+        log.info("article search index rebuilt. size = {}, tag bitmap size = {}",
+                articleSearchIndex.size(), articleTagBitmapIndex.size());
+    }
+
+    /*
+     * 이 서버의 인덱스에 바로 반영하고, 다른 서버의 인덱스에도 반영하도록 전파합니다.
+     * */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void apply(ArticleChangedEvent event) {
+        applyLocally(event);
+        articleIndexRelay.publish(event);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        articleIndexRelay.receive(message).ifPresent(this::applyLocally);
+    }
+
+    private void applyLocally(ArticleChangedEvent event) {
+        if (event.getRemoved()) {
+            articleSearchIndex.remove(event.getArticleId());
+            articleTagBitmapIndex.remove(event.getArticleId());
+            relatedArticleIndex.remove(event.getArticleId());
+            articleTitleSuggester.remove(event.getArticleId());
+            return;
+        }
+
+        articleSearchIndex.index(event.getArticleId(), event.getTitle(), event.getContent(),
+                event.getCategory(), event.getIsClosed());
+        articleTagBitmapIndex.index(event.getArticleId(), event.getTags(), event.getCategory(), event.getIsClosed());
+        relatedArticleIndex.index(event.getArticleId(), event.getTitle(), event.getTags());
+        articleTitleSuggester.index(event.getArticleId(), event.getTitle());
+    }
+
+    private void index(Article article, List<TagName> tagNames) {
+        CategoryName category = article.getCategory() != null ? article.getCategory().getName() : null;
+        Set<TagName> tags = tagNames.isEmpty() ? EnumSet.noneOf(TagName.class) : EnumSet.copyOf(tagNames);
+
+        articleSearchIndex.index(article.getId(), article.getTitle(), article.getContent(), category, article.getIsClosed());
+        articleTagBitmapIndex.index(article.getId(), tags, category, article.getIsClosed());
+        relatedArticleIndex.index(article.getId(), article.getTitle(), tags);
+        articleTitleSuggester.index(article.getId(), article.getTitle());
+    }
+}
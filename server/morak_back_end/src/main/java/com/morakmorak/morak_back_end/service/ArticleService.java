@@ -1,25 +1,40 @@
 package com.morakmorak.morak_back_end.service;
 
+import com.morakmorak.morak_back_end.domain.ArticleDetailCache;
+import com.morakmorak.morak_back_end.domain.ArticleTitleSuggester;
+import com.morakmorak.morak_back_end.domain.ArticleViewCounter;
+import com.morakmorak.morak_back_end.domain.CursorSlice;
 import com.morakmorak.morak_back_end.domain.NotificationGenerator;
+import com.morakmorak.morak_back_end.domain.PageCursor;
 import com.morakmorak.morak_back_end.domain.PointCalculator;
+import com.morakmorak.morak_back_end.domain.RelatedArticleIndex;
 import com.morakmorak.morak_back_end.dto.*;
 import com.morakmorak.morak_back_end.entity.*;
 import com.morakmorak.morak_back_end.entity.enums.ArticleStatus;
+import com.morakmorak.morak_back_end.entity.enums.CategoryName;
+import com.morakmorak.morak_back_end.entity.enums.TagName;
+import com.morakmorak.morak_back_end.event.ArticleActivityEvent;
+import com.morakmorak.morak_back_end.event.ArticleChangedEvent;
+import com.morakmorak.morak_back_end.event.ArticleDetailChangedEvent;
+import com.morakmorak.morak_back_end.event.TrendingActivityEvent;
 import com.morakmorak.morak_back_end.exception.BusinessLogicException;
 import com.morakmorak.morak_back_end.exception.ErrorCode;
 import com.morakmorak.morak_back_end.mapper.ArticleMapper;
 import com.morakmorak.morak_back_end.mapper.CommentMapper;
 import com.morakmorak.morak_back_end.mapper.TagMapper;
 import com.morakmorak.morak_back_end.repository.*;
-import com.morakmorak.morak_back_end.repository.article.ArticleLikeRepository;
 import com.morakmorak.morak_back_end.repository.article.ArticleRepository;
 import com.morakmorak.morak_back_end.repository.article.ArticleTagRepository;
-import com.morakmorak.morak_back_end.repository.notification.NotificationRepository;
+import com.morakmorak.morak_back_end.repository.redis.ArticleViewHistoryRepository;
+import com.morakmorak.morak_back_end.repository.redis.ReactionRepository;
 import com.morakmorak.morak_back_end.service.auth_user_service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
@@ -27,26 +42,36 @@ import java.util.List;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static com.morakmorak.morak_back_end.config.CacheCosntant.MAIN_ARTICLE_LIST;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class ArticleService {
+    private static final int RELATED_ARTICLE_SIZE = 5;
+    private static final int MAX_SUGGESTION_SIZE = 10;
 
     private final ArticleRepository articleRepository;
     private final ArticleMapper articleMapper;
     private final UserService userService;
-    private final ArticleLikeRepository articleLikeRepository;
-    private final BookmarkRepository bookmarkRepository;
     private final CommentMapper commentMapper;
     private final TagMapper tagMapper;
     private final PointCalculator pointCalculator;
-    private final NotificationRepository notificationRepository;
+    private final OutboxService outboxService;
     private final ReportRepository reportRepository;
     private final FileService fileService;
     private final CategoryService categoryService;
     private final TagService tagService;
 
     private final ArticleTagRepository articleTagRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArticleViewCounter articleViewCounter;
+    private final ArticleViewHistoryRepository articleViewHistoryRepository;
+    private final ArticleDetailCache articleDetailCache;
+    private final TrendingArticleService trendingArticleService;
+    private final RelatedArticleIndex relatedArticleIndex;
+    private final ArticleTitleSuggester articleTitleSuggester;
+    private final ReactionService reactionService;
 
     public ArticleDto.ResponseSimpleArticle upload(Article article, UserDto.UserInfo userInfo) {
         User dbUser = userService.findVerifiedUserById(userInfo.getId());
@@ -64,11 +89,12 @@ public class ArticleService {
         dbUser.getArticles().add(reBuildArticle);
 
         bridgeFileToArticle(article, reBuildArticle);
-        bridgeTagToArticle(article, reBuildArticle);
 
         Article dbArticle = articleRepository.save(reBuildArticle);
+        bridgeTagToArticle(article, dbArticle);
 
-        dbUser.plusPoint(dbArticle, pointCalculator);
+        outboxService.enqueuePoint("point:article:" + dbArticle.getId(), dbUser.getId(), pointCalculator.calculatePaymentPoint(dbArticle));
+        eventPublisher.publishEvent(ArticleChangedEvent.saved(dbArticle, tagNamesOf(article)));
 
         return articleMapper.articleToResponseSimpleArticle(dbArticle.getId());
     }
@@ -80,35 +106,45 @@ public class ArticleService {
         checkArticlePerMission(dbArticle, userInfo);
         dbArticle.changeArticle(article);
 
-        deleteOriginTagInArticle(dbArticle);
         bridgeFileToArticle(article, dbArticle);
         bridgeTagToArticle(article,dbArticle);
+        eventPublisher.publishEvent(ArticleChangedEvent.saved(dbArticle, tagNamesOf(article)));
 
         return articleMapper.articleToResponseSimpleArticle(dbArticle.getId());
     }
 
-    private void deleteOriginTagInArticle(Article dbArticle) {
-        dbArticle.getArticleTags().stream()
-                .forEach(articleTag -> {
-                    articleTag.removeTo(dbArticle, articleTag.getTag());
-                    articleTagRepository.delete(articleTag);
-                });
+    private void bridgeFileToArticle(Article article, Article reBuildArticle) {
+        List<Long> fileIds = article.getFiles().stream().map(File::getId).collect(Collectors.toList());
+
+        fileService.findAllVerifiedFilesById(fileIds)
+                .forEach(dbFile -> dbFile.injectTo(reBuildArticle));
     }
 
-    private void bridgeFileToArticle(Article article, Article reBuildArticle) {
-        article.getFiles().stream().forEach(file -> {
-            File dbFile = fileService.findVerifiedFileById(file.getId());
-            dbFile.injectTo(reBuildArticle);
-        });
+    /*
+     * 기존 태그와 요청한 태그를 비교해 달라진 태그만 batch 로 추가/삭제합니다.
+     * */
+    private void bridgeTagToArticle(Article article, Article dbArticle) {
+        Set<Long> requestTagIds = article.getArticleTags().stream()
+                .map(articleTag -> tagService.findVerifiedTagByTagName(articleTag.getTag().getName()).getId())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Set<Long> originTagIds = new HashSet<>(articleTagRepository.findTagIdsByArticleId(dbArticle.getId()));
+
+        List<Long> removedTagIds = originTagIds.stream()
+                .filter(tagId -> !requestTagIds.contains(tagId))
+                .collect(Collectors.toList());
+        List<Long> addedTagIds = requestTagIds.stream()
+                .filter(tagId -> !originTagIds.contains(tagId))
+                .collect(Collectors.toList());
+
+        articleTagRepository.deleteTags(dbArticle.getId(), removedTagIds);
+        articleTagRepository.insertTags(dbArticle.getId(), addedTagIds);
     }
 
-    private void bridgeTagToArticle(Article article, Article reBuildArticle) {
-        article.getArticleTags().stream()
-                .forEach(articleTag -> {
-                    Tag dbTag = tagService.findVerifiedTagByTagName(articleTag.getTag().getName());
-                    ArticleTag reBuildArticleTag = ArticleTag.builder().article(reBuildArticle).tag(dbTag).build();
-                    articleTagRepository.save(reBuildArticleTag);
-                });
+    private Set<TagName> tagNamesOf(Article article) {
+        return article.getArticleTags().stream()
+                .map(articleTag -> articleTag.getTag().getName())
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(TagName.class)));
     }
 
     public Boolean deleteArticle(Long articleId, UserDto.UserInfo userInfo) {
@@ -120,9 +156,10 @@ public class ArticleService {
         checkArticlePerMission(dbArticle, userInfo);
 
         dbArticle.changeArticleStatus(ArticleStatus.REMOVED);
+        eventPublisher.publishEvent(ArticleChangedEvent.removed(dbArticle.getId()));
 
-        User user = dbArticle.getUser();
-        user.minusPoint(dbArticle, pointCalculator);
+        outboxService.enqueuePoint("point:article:" + dbArticle.getId() + ":removed",
+                dbArticle.getUser().getId(), -pointCalculator.calculatePaymentPoint(dbArticle));
         return true;
     }
 
@@ -141,48 +178,93 @@ public class ArticleService {
         }
     }
 
+    /*
+     * 검색어 없이 첫 페이지를 조회하는 요청(메인 페이지, 게시판 첫 화면)만 캐싱합니다.
+     * 클라이언트가 검색어가 없을 때 "null" 문자열을 보내므로 이 경우도 검색어가 없는 것으로 봅니다.
+     * 게시글 등록/수정/삭제 시 ArticleCacheService 가 비우며, 좋아요/댓글 수 변화는 TTL(3분) 동안 늦게 반영됩니다.
+     * */
+    @Transactional(readOnly = true)
+    @Cacheable(value = MAIN_ARTICLE_LIST,
+            key = "#category + ':' + #keyword + ':' + #target + ':' + #sort + ':' + #size",
+            condition = "#page == 1 && (#keyword == null || #keyword == 'null') && (#target == null || #target == 'null')")
     public ResponseMultiplePaging<ArticleDto.ResponseListTypeArticle> searchArticleAsPaging(
             String category, String keyword, String target, String sort, Integer page, Integer size) {
 
         PageRequest pageRequest = PageRequest.of(page - 1, size);
 
-        Page<Article> articles = articleRepository.search(category, keyword, target, sort, pageRequest);
+        Page<ArticleDto.ResponseListTypeArticle> articles =
+                articleRepository.searchListTypeArticles(category, keyword, target, sort, pageRequest);
 
-        List<ArticleDto.ResponseListTypeArticle> mapper = getResponseListTypeArticles(articles);
+        return new ResponseMultiplePaging<>(articles.getContent(), articles);
+    }
 
-        return new ResponseMultiplePaging<>(mapper, articles);
+    public List<ArticleDto.ResponseListTypeArticle> findTrendingArticles(CategoryName category, Integer size) {
+        return trendingArticleService.findTrendingArticles(category, size);
     }
 
-    private List<ArticleDto.ResponseListTypeArticle> getResponseListTypeArticles(Page<Article> articles) {
-        return articles.getContent().stream().map(article -> {
+    /*
+     * 자동완성은 DB 를 조회하지 않고 메모리의 제목 색인에서만 찾으므로 트랜잭션(커넥션)도 열지 않습니다.
+     * */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ArticleDto.ResponseSuggestedArticle> suggestTitles(String prefix, Integer size) {
+        return articleTitleSuggester.suggest(prefix, Math.min(size, MAX_SUGGESTION_SIZE)).stream()
+                .map(suggestion -> ArticleDto.ResponseSuggestedArticle.builder()
+                        .articleId(suggestion.getArticleId())
+                        .title(suggestion.getTitle())
+                        .build())
+                .collect(Collectors.toList());
+    }
 
-            Integer likes = article.getArticleLikes().size();
-            Integer commentCount = article.getComments().size();
-            Integer answerCount = article.getAnswers().size();
+    public ResponseCursorPaging<ArticleDto.ResponseListTypeArticle> searchArticleAsCursor(
+            String category, String keyword, String target, String sort, String cursor, Integer size) {
 
-            List<TagDto.SimpleTag> tags = article.getArticleTags().stream()
-                    .map(articleTag -> tagMapper.tagEntityToTagDto(articleTag.getTag()))
-                    .collect(Collectors.toList());
+        CursorSlice<ArticleDto.ResponseListTypeArticle> articles =
+                articleRepository.searchAfter(category, keyword, target, sort, PageCursor.decode(cursor), size);
 
-            return articleMapper.articleToResponseSearchResultArticle(article, commentCount, answerCount, tags, likes);
-        }).collect(Collectors.toList());
+        return new ResponseCursorPaging<>(articles.getContent(), articles);
     }
 
+    /*
+     * 조회자와 무관한 부분은 ArticleDetailCache 에서 가져오고, isLiked / isBookmarked / 좋아요 수 / 조회수와 관련 게시글은 요청마다 덧씌웁니다.
+     * 좋아요 수는 DB 에 아직 반영되지 않았을 수 있으므로 Redis 에 올라온 게시글이면 Redis 의 값을 씁니다.
+     * 조회수는 캐싱 당시의 값에 그 뒤로 DB 에 반영된 조회수와 아직 반영되지 않은 이 서버의 조회수를 더합니다.
+     * */
+    @Transactional(readOnly = true)
     public ArticleDto.ResponseDetailArticle findDetailArticle(Long articleId, UserDto.UserInfo userInfo) {
-        Article article = findVerifiedArticle(articleId);
-        checkArticleStatus(article);
-        Article dbArticle = article.plusClicks();
+        ArticleDto.ResponseDetailArticle cached = articleDetailCache.get(articleId)
+                .orElseGet(() -> loadDetailArticle(articleId));
+
+        countView(articleId, cached.getCategory(), userInfo);
 
         Boolean isLiked = Boolean.FALSE;
         Boolean isBookmarked = Boolean.FALSE;
 
         if (userInfo != null) {
             Long userId = userInfo.getId();
-            isLiked = articleLikeRepository.checkUserLiked(userId, dbArticle.getId()).isPresent();
-            isBookmarked = bookmarkRepository.checkUserBookmarked(userId, dbArticle.getId()).isPresent();
+            isLiked = reactionService.contains(ReactionRepository.Type.ARTICLE_LIKE, articleId, userId);
+            isBookmarked = reactionService.contains(ReactionRepository.Type.BOOKMARK, articleId, userId);
         }
 
-        Integer likes = dbArticle.getArticleLikes().size();
+        return cached.toBuilder()
+                .isLiked(isLiked)
+                .isBookmarked(isBookmarked)
+                .likes(reactionService.countOf(ReactionRepository.Type.ARTICLE_LIKE, articleId)
+                        .map(Long::intValue)
+                        .orElse(cached.getLikes()))
+                .clicks(cached.getClicks()
+                        + (int) articleDetailCache.flushedClicksOf(articleId)
+                        + (int) articleViewCounter.pendingOf(articleId))
+                .relatedArticles(findRelatedArticles(articleId))
+                .build();
+    }
+
+    private ArticleDto.ResponseDetailArticle loadDetailArticle(Long articleId) {
+        articleDetailCache.resetFlushedClicks(articleId);
+        Article dbArticle = findVerifiedArticle(articleId);
+        checkArticleStatus(dbArticle);
+
+        Integer likes = dbArticle.getLikeCount();
+        Integer clicks = dbArticle.getClicks();
 
         List<TagDto.SimpleTag> tags = dbArticle.getArticleTags().stream().map(articleTag -> {
             TagDto.SimpleTag simpleTag = tagMapper.tagEntityToTagDto(articleTag.getTag());
@@ -192,19 +274,40 @@ public class ArticleService {
         List<CommentDto.Response> comments = dbArticle.getComments().stream()
                 .map(commentMapper::commentToCommentDto).collect(Collectors.toList());
 
-        if (dbArticle.getReports().size() >= 5) {
-            String report = "이 글은 신고가 누적되어 더이상 확인하실 수 없습니다.";
-            return articleMapper.articleToResponseBlockedArticle(dbArticle, isLiked, isBookmarked,
-                    report,new ArrayList<>(),new ArrayList<>(),likes);
-        }
+        ArticleDto.ResponseDetailArticle responseDetailArticle;
 
-        ArticleDto.ResponseDetailArticle responseDetailArticle =
-                articleMapper.articleToResponseDetailArticle(dbArticle, isLiked, isBookmarked,
-                        tags, comments, likes);
+        if (dbArticle.getIsBlocked()) {
+            responseDetailArticle = articleMapper.articleToResponseBlockedArticle(dbArticle, null, null,
+                    Report.BLOCKED_CONTENT,new ArrayList<>(),new ArrayList<>(),likes, clicks);
+        } else {
+            responseDetailArticle = articleMapper.articleToResponseDetailArticle(dbArticle, null, null,
+                    tags, comments, likes, clicks);
+        }
 
+        articleDetailCache.put(articleId, responseDetailArticle);
         return responseDetailArticle;
     }
 
+    private List<ArticleDto.ResponseRelatedArticle> findRelatedArticles(Long articleId) {
+        return relatedArticleIndex.findRelated(articleId, RELATED_ARTICLE_SIZE).stream()
+                .map(related -> ArticleDto.ResponseRelatedArticle.builder()
+                        .articleId(related.getArticleId())
+                        .title(related.getTitle())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /*
+     * 조회수는 article row 를 직접 수정하지 않고 메모리 버퍼에 누적한 뒤 ArticleCounterScheduler 가 주기적으로 반영합니다.
+     * 로그인한 사용자는 일정 시간 안의 재조회를 한 번으로 셉니다. 응답에는 DB 값에 아직 반영되지 않은 조회수를 더해 보여줍니다.
+     * */
+    private void countView(Long articleId, CategoryName category, UserDto.UserInfo userInfo) {
+        if (userInfo == null || articleViewHistoryRepository.markViewed(articleId, userInfo.getId())) {
+            articleViewCounter.increase(articleId);
+            eventPublisher.publishEvent(TrendingActivityEvent.of(articleId, category, TrendingArticleService.Activity.VIEW));
+        }
+    }
+
     private Article checkArticleStatus(Article verifiedArticle) {
         if (!verifiedArticle.statusIsPosting()) {
             throw new BusinessLogicException(ErrorCode.NO_ACCESS_TO_THAT_OBJECT);
@@ -212,6 +315,9 @@ public class ArticleService {
         return verifiedArticle;
     }
 
+    /*
+     * 좋아요 여부와 개수는 Redis 에서 바로 바꾸고 응답합니다. article_like, like_count 와 포인트는 ReactionFlushScheduler 가 모아서 반영합니다.
+     * */
     public ArticleDto.ResponseArticleLike pressLikeButton(Long articleId, UserDto.UserInfo userInfo) {
 
         Optional.ofNullable(userInfo).orElseThrow(() -> new BusinessLogicException(ErrorCode.USER_NOT_FOUND));
@@ -222,36 +328,55 @@ public class ArticleService {
 
         User dbUser = userService.findVerifiedUserById(userInfo.getId());
 
-        articleLikeRepository.checkUserLiked(dbUser.getId(), dbArticle.getId()).ifPresentOrElse(
-                articleLike -> {
-                    dbUser.minusPoint(articleLike, pointCalculator);
-                    articleLikeRepository.deleteById(articleLike.getId());
-                },
-                () -> {
-                    ArticleLike articleLike = ArticleLike.builder()
-                            .article(dbArticle)
-                            .user(dbUser)
-                            .build();
+        ReactionRepository.Toggled toggled = reactionService.toggle(ReactionRepository.Type.ARTICLE_LIKE, dbArticle.getId(), dbUser.getId());
+        int likeCount = (int) toggled.getCount();
+        eventPublisher.publishEvent(ArticleActivityEvent.likeCountChanged(dbArticle.getId(), null, likeCount));
 
-                    dbArticle.getArticleLikes().add(articleLike);
-                    dbUser.getArticleLikes().add(articleLike);
+        if (toggled.isOn()) {
+            eventPublisher.publishEvent(TrendingActivityEvent.of(dbArticle, TrendingArticleService.Activity.LIKE));
 
-                    if (dbArticle.getArticleLikes().size() % 10 == 0) {
-                        NotificationGenerator generator = NotificationGenerator.of(articleLike, dbArticle.getArticleLikes().size());
-                        Notification notification = generator.generateNotification();
-                        notificationRepository.save(notification);
-                    }
+            if (likeCount % 10 == 0) {
+                ArticleLike articleLike = ArticleLike.builder().article(dbArticle).user(dbUser).build();
+                outboxService.enqueueNotification("notification:article-like:" + dbArticle.getId() + ":" + likeCount,
+                        NotificationGenerator.of(articleLike, likeCount));
+            }
+        }
 
-                    dbUser.plusPoint(articleLike, pointCalculator);
-                }
-        );
+        return articleMapper.makingResponseArticleLikeDto(dbArticle.getId(), dbUser.getId(), toggled.isOn(), likeCount);
+    }
 
-        Boolean isLiked = articleLikeRepository
-                .checkUserLiked(dbUser.getId(), dbArticle.getId()).isPresent();
+    public void changeCommentCount(Article article, int delta) {
+        article.changeCommentCount(delta);
+        articleRepository.addCommentCount(article.getId(), delta);
 
-        Integer likeCount = dbArticle.getArticleLikes().size();
+        if (delta > 0) {
+            eventPublisher.publishEvent(TrendingActivityEvent.of(article, TrendingArticleService.Activity.COMMENT));
+        }
+    }
 
-        return articleMapper.makingResponseArticleLikeDto(dbArticle.getId(), dbUser.getId(), isLiked, likeCount);
+    public void changeAnswerCount(Article article, int delta) {
+        article.changeAnswerCount(delta);
+        articleRepository.addAnswerCount(article.getId(), delta);
+
+        if (delta > 0) {
+            eventPublisher.publishEvent(TrendingActivityEvent.of(article, TrendingArticleService.Activity.ANSWER));
+        }
+    }
+
+    /*
+     * 신고 컬렉션을 불러오지 않고 신고 수와 차단 여부를 증감 update 로 반영합니다.
+     * 불러온 게시글의 신고 수는 그 사이 다른 신고로 바뀌었을 수 있으므로, 이번 신고로 차단되었는지는 차단 update 의 결과로 판단합니다.
+     * 차단된 게시글은 목록과 검색 색인에서 빠지도록 삭제와 같은 이벤트를 발행합니다.
+     * */
+    private void addReportCount(Article article) {
+        article.increaseReportCount();
+        articleRepository.addReportCount(article.getId());
+        boolean blockedNow = articleRepository.blockIfReported(article.getId(), Report.BLOCKING_REPORT_COUNT) == 1;
+        eventPublisher.publishEvent(ArticleDetailChangedEvent.of(article.getId()));
+
+        if (blockedNow) {
+            eventPublisher.publishEvent(ArticleChangedEvent.removed(article.getId()));
+        }
     }
 
     public ArticleDto.ResponseReportArticle reportArticle(Long articleId, UserDto.UserInfo userInfo, Report reportArticle) {
@@ -267,10 +392,9 @@ public class ArticleService {
             throw new BusinessLogicException(ErrorCode.USER_NOT_FOUND);
         }
         reportArticle.injectTo(dbUser, dbArticle);
-        dbArticle.getReports().add(reportArticle);
-        dbUser.getReports().add(reportArticle);
 
         Report dbReport = reportRepository.save(reportArticle);
+        addReportCount(dbArticle);
 
        return articleMapper.reportToResponseArticle(dbReport);
     }
@@ -0,0 +1,37 @@
+package com.morakmorak.morak_back_end.service;
+
+import com.morakmorak.morak_back_end.domain.ArticleStreamBroker;
+import com.morakmorak.morak_back_end.entity.Article;
+import com.morakmorak.morak_back_end.event.ArticleActivityEvent;
+import com.morakmorak.morak_back_end.exception.BusinessLogicException;
+import com.morakmorak.morak_back_end.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/*
+ * 게시글 상세 화면이 답변/댓글 목록을 다시 조회하거나 폴링하지 않도록 변경분을 SSE 로 보냅니다.
+ * 롤백된 변경이 전송되지 않도록 커밋 이후에 발행합니다.
+ * */
+@Service
+@RequiredArgsConstructor
+public class ArticleStreamService {
+    private final ArticleService articleService;
+    private final ArticleStreamBroker articleStreamBroker;
+
+    public SseEmitter subscribe(Long articleId) {
+        Article verifiedArticle = articleService.findVerifiedArticle(articleId);
+
+        if (!verifiedArticle.statusIsPosting()) {
+            throw new BusinessLogicException(ErrorCode.NO_ACCESS_TO_THAT_OBJECT);
+        }
+
+        return articleStreamBroker.subscribe(articleId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(ArticleActivityEvent event) {
+        articleStreamBroker.publish(event);
+    }
+}
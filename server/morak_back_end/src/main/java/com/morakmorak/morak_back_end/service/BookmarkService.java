@@ -8,11 +8,13 @@ import com.morakmorak.morak_back_end.exception.BusinessLogicException;
 import com.morakmorak.morak_back_end.exception.ErrorCode;
 import com.morakmorak.morak_back_end.repository.article.ArticleRepository;
 import com.morakmorak.morak_back_end.repository.BookmarkRepository;
+import com.morakmorak.morak_back_end.repository.redis.ReactionRepository;
 import com.morakmorak.morak_back_end.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Service
@@ -22,26 +24,35 @@ public class BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final UserRepository userRepository;
     private final ArticleRepository articleRepository;
+    private final ReactionService reactionService;
 
 
+    /*
+     * 북마크 여부는 Redis 에서 바로 바꾸고 응답합니다. bookmark 테이블에는 ReactionFlushScheduler 가 모아서 반영합니다.
+     * */
     public BookmarkDto.ResponsePostBookmark pressBookmark(Long userId, Long articleId) {
-        if (getBookmarkIdIfIsSaved(userId, articleId) != -1L) {
-            cancleBookmark(getBookmarkIdIfIsSaved(userId, articleId));
+        if (!articleRepository.existsById(articleId)) {
+            throw new BusinessLogicException(ErrorCode.ARTICLE_NOT_FOUND);
+        }
+
+        ReactionRepository.Toggled toggled = reactionService.toggle(ReactionRepository.Type.BOOKMARK, articleId, userId);
+
+        if (!toggled.isOn()) {
             return BookmarkDto.ResponsePostBookmark.builder()
                     .userId(userId)
                     .articleId(articleId)
                     .scrappedByThisUser(false)
                     .build();
-        } else {
-            Bookmark createdBookmark = saveBookmark(userId, articleId);
-            return BookmarkDto.ResponsePostBookmark.builder()
-                    .userId(userId)
-                    .articleId(articleId)
-                    .scrappedByThisUser(true)
-                    .createdAt(createdBookmark.getCreatedAt())
-                    .lastModifiedAt(createdBookmark.getLastModifiedAt())
-                    .build();
         }
+
+        LocalDateTime now = LocalDateTime.now();
+        return BookmarkDto.ResponsePostBookmark.builder()
+                .userId(userId)
+                .articleId(articleId)
+                .scrappedByThisUser(true)
+                .createdAt(now)
+                .lastModifiedAt(now)
+                .build();
     }
 
     public void cancleBookmark(Long bookmarkId) {
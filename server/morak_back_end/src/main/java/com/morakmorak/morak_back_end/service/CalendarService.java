@@ -3,6 +3,7 @@ package com.morakmorak.morak_back_end.service;
 import com.morakmorak.morak_back_end.dto.JobInfoDto;
 import com.morakmorak.morak_back_end.repository.JobQueryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,12 +11,18 @@ import java.sql.Date;
 import java.time.LocalDate;
 import java.util.List;
 
+import static com.morakmorak.morak_back_end.config.CacheCosntant.JOB_CALENDAR;
+
 @Service
 @RequiredArgsConstructor
 public class CalendarService {
     private final JobQueryRepository jobQueryRepository;
 
+    /*
+     * 조회 결과는 월 단위이므로 해당 월의 1일을 key 로 캐싱합니다. 크롤링이 끝나면 CrawlingScheduler 가 비웁니다.
+     * */
     @Transactional(readOnly = true)
+    @Cacheable(value = JOB_CALENDAR, key = "#date.toLocalDate().withDayOfMonth(1).toString()")
     public List<JobInfoDto> findCalendarData(Date date) {
         return jobQueryRepository.getJobDateOn(date);
     }
@@ -1,15 +1,22 @@
 package com.morakmorak.morak_back_end.service;
 
+import com.morakmorak.morak_back_end.domain.CursorSlice;
 import com.morakmorak.morak_back_end.domain.NotificationGenerator;
+import com.morakmorak.morak_back_end.domain.PageCursor;
 import com.morakmorak.morak_back_end.domain.PointCalculator;
 import com.morakmorak.morak_back_end.dto.CommentDto;
+import com.morakmorak.morak_back_end.dto.ResponseCursorPaging;
 import com.morakmorak.morak_back_end.entity.*;
+import com.morakmorak.morak_back_end.event.AnswerChangedEvent;
+import com.morakmorak.morak_back_end.event.ArticleActivityEvent;
+import com.morakmorak.morak_back_end.event.ArticleDetailChangedEvent;
 import com.morakmorak.morak_back_end.exception.BusinessLogicException;
 import com.morakmorak.morak_back_end.exception.ErrorCode;
+import com.morakmorak.morak_back_end.repository.CommentQueryRepository;
 import com.morakmorak.morak_back_end.repository.CommentRepository;
-import com.morakmorak.morak_back_end.repository.notification.NotificationRepository;
 import com.morakmorak.morak_back_end.service.auth_user_service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,13 +29,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CommentService {
     private final CommentRepository commentRepository;
+    private final CommentQueryRepository commentQueryRepository;
     private final ArticleService articleService;
     private final AnswerService answerService;
     private final UserService userService;
-    private final NotificationRepository notificationRepository;
+    private final OutboxService outboxService;
     private final PointCalculator pointCalculator;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public List<CommentDto.Response> makeComment(Long userId, Long targetId, Comment commentNotSaved, boolean isArticle) {
+    /*
+     * 등록/수정/삭제 응답은 전체 댓글 목록 대신 대상 댓글 한 건과, 그 댓글 다음부터 이어서 읽을 커서만 반환합니다.
+     * */
+    public ResponseCursorPaging<CommentDto.Response> makeComment(Long userId, Long targetId, Comment commentNotSaved, boolean isArticle) {
         User verifiedUser = userService.findVerifiedUserById(userId);
 
         if (isArticle) {
@@ -37,25 +49,28 @@ public class CommentService {
 
             commentNotSaved.injectTo(verifiedUser).injectTo(verifiedArticle);
             Comment savedComment = commentRepository.save(commentNotSaved);
+            articleService.changeCommentCount(verifiedArticle, 1);
+            eventPublisher.publishEvent(ArticleDetailChangedEvent.of(verifiedArticle.getId()));
+            eventPublisher.publishEvent(ArticleActivityEvent.commentAdded(verifiedArticle.getId(), null, savedComment.getId()));
 
             sendNotificationByComment(verifiedUser, savedComment);
-            verifiedUser.plusPoint(savedComment, pointCalculator);
 
-            return findAllCommentsBy(verifiedArticle);
+            return affectedCommentOf(CommentDto.Response.ofArticle(Optional.of(savedComment)), true);
         }
         Long answerId = targetId;
         Answer verifiedAnswer = answerService.findVerifiedAnswerById(answerId);
         commentNotSaved.injectTo(verifiedUser).injectTo(verifiedAnswer);
         Comment savedComment = commentRepository.save(commentNotSaved);
+        eventPublisher.publishEvent(AnswerChangedEvent.of(verifiedAnswer.getArticle().getId(), answerId));
+        eventPublisher.publishEvent(ArticleActivityEvent.commentAdded(verifiedAnswer.getArticle().getId(), answerId, savedComment.getId()));
 
         sendNotificationByComment(verifiedUser, savedComment);
-        verifiedUser.plusPoint(savedComment, pointCalculator);
 
-        return findAllCommentsBy(verifiedAnswer);
+        return affectedCommentOf(CommentDto.Response.ofAnswer(savedComment), false);
 
     }
 
-    public List<CommentDto.Response> editComment(Long userId, Long targetId, Long commentId, String newContent, boolean isArticle) throws Exception {
+    public ResponseCursorPaging<CommentDto.Response> editComment(Long userId, Long targetId, Long commentId, String newContent, boolean isArticle) throws Exception {
         User verifiedUser = userService.findVerifiedUserById(userId);
         Comment foundComment = findVerifiedCommentById(commentId);
         checkUserPermission(foundComment, verifiedUser);
@@ -65,13 +80,15 @@ public class CommentService {
             Article verifiedArticle = articleService.findVerifiedArticle(articleId);
             checkArticleStatus(verifiedArticle);
             foundComment.changeContent(newContent);
-            return findAllCommentsBy(verifiedArticle);
+            eventPublisher.publishEvent(ArticleDetailChangedEvent.of(verifiedArticle.getId()));
+            return affectedCommentOf(CommentDto.Response.ofArticle(Optional.of(foundComment)), true);
         }
         Long answerId = targetId;
         Answer verifiedAnswer = answerService.findVerifiedAnswerById(answerId);
         checkArticleStatus(verifiedAnswer.getArticle());
         foundComment.changeContent(newContent);
-        return findAllCommentsBy(verifiedAnswer);
+        eventPublisher.publishEvent(AnswerChangedEvent.of(verifiedAnswer.getArticle().getId(), answerId));
+        return affectedCommentOf(CommentDto.Response.ofAnswer(foundComment), false);
     }
 
     private void checkUserPermission(Comment comment, User requestUser) {
@@ -80,7 +97,10 @@ public class CommentService {
         }
     }
 
-    public List<CommentDto.Response> deleteComment(Long userId, Long targetId, Long commentId, boolean isArticle) throws Exception {
+    /*
+     * 삭제 응답의 댓글은 삭제되기 전의 내용입니다. 클라이언트는 commentId 로 목록에서 제거합니다.
+     * */
+    public ResponseCursorPaging<CommentDto.Response> deleteComment(Long userId, Long targetId, Long commentId, boolean isArticle) throws Exception {
         User verifiedUser = userService.findVerifiedUserById(userId);
         Comment foundComment = findVerifiedCommentById(commentId);
         checkUserPermission(foundComment, verifiedUser);
@@ -89,16 +109,21 @@ public class CommentService {
             Long articleId = targetId;
             Article verifiedArticle = articleService.findVerifiedArticle(articleId);
             checkArticleStatus(verifiedArticle);
+            CommentDto.Response deletedComment = CommentDto.Response.ofArticle(Optional.of(foundComment));
             commentRepository.deleteById(commentId);
-            verifiedUser.minusPoint(foundComment, pointCalculator);
-            return findAllCommentsBy(verifiedArticle);
+            articleService.changeCommentCount(verifiedArticle, -1);
+            eventPublisher.publishEvent(ArticleDetailChangedEvent.of(verifiedArticle.getId()));
+            minusCommentPoint(foundComment, verifiedUser);
+            return affectedCommentOf(deletedComment, true);
         }
         Long answerId = targetId;
         Answer verifiedAnswer = answerService.findVerifiedAnswerById(answerId);
         checkArticleStatus(verifiedAnswer.getArticle());
+        CommentDto.Response deletedComment = CommentDto.Response.ofAnswer(foundComment);
         commentRepository.deleteById(commentId);
-        verifiedUser.minusPoint(foundComment, pointCalculator);
-        return findAllCommentsBy(verifiedAnswer);
+        eventPublisher.publishEvent(AnswerChangedEvent.of(verifiedAnswer.getArticle().getId(), answerId));
+        minusCommentPoint(foundComment, verifiedUser);
+        return affectedCommentOf(deletedComment, false);
     }
 
     public List<CommentDto.Response> findAllComments(Long targetId, boolean isArticle) {
@@ -114,6 +139,28 @@ public class CommentService {
         return findAllCommentsBy(verifiedAnswer);
     }
 
+    @Transactional(readOnly = true)
+    public ResponseCursorPaging<CommentDto.Response> findCommentsAsCursor(Long targetId, boolean isArticle, String cursor, int size) {
+        if (isArticle) {
+            Long articleId = targetId;
+            Article verifiedArticle = articleService.findVerifiedArticle(articleId);
+            checkArticleStatus(verifiedArticle);
+
+            CursorSlice<Comment> commentsInSlice = commentQueryRepository.findAllByArticleId(articleId, PageCursor.decode(cursor), size);
+            List<CommentDto.Response> comments = commentsInSlice.getContent().stream()
+                    .map(comment -> CommentDto.Response.ofArticle(Optional.of(comment))).collect(Collectors.toList());
+            return new ResponseCursorPaging<>(comments, commentsInSlice);
+        }
+        Long answerId = targetId;
+        Answer verifiedAnswer = answerService.findVerifiedAnswerById(answerId);
+        checkArticleStatus(verifiedAnswer.getArticle());
+
+        CursorSlice<Comment> commentsInSlice = commentQueryRepository.findAllByAnswerId(answerId, PageCursor.decode(cursor), size);
+        List<CommentDto.Response> comments = commentsInSlice.getContent().stream()
+                .map(CommentDto.Response::ofAnswer).collect(Collectors.toList());
+        return new ResponseCursorPaging<>(comments, commentsInSlice);
+    }
+
     public List<CommentDto.Response> findAllCommentsBy(Article article) {
         return commentRepository.findAllCommentsByArticleId(article.getId()).stream().map(comment -> CommentDto.Response.ofArticle(Optional.of(comment))).collect(Collectors.toList());
     }
@@ -122,10 +169,26 @@ public class CommentService {
         return commentRepository.findAllCommentsByAnswerId(answer.getId()).stream().map(comment -> CommentDto.Response.ofAnswer(comment)).collect(Collectors.toList());
     }
 
-    private void sendNotificationByComment(User receiver, Comment comment) {
-        NotificationGenerator generator = NotificationGenerator.of(receiver, comment);
-        Notification notification = generator.generateNotification();
-        notificationRepository.save(notification);
+    private ResponseCursorPaging<CommentDto.Response> affectedCommentOf(CommentDto.Response response, boolean isArticle) {
+        Long commentId = response.getCommentId();
+        boolean hasNext = isArticle
+                ? commentQueryRepository.existsAfterByArticleId(response.getArticleId(), commentId)
+                : commentQueryRepository.existsAfterByAnswerId(response.getAnswerId(), commentId);
+
+        CursorSlice<CommentDto.Response> slice = CursorSlice.of(List.of(response), hasNext, PageCursor.of(commentId));
+        return new ResponseCursorPaging<>(slice.getContent(), slice);
+    }
+
+    /*
+     * 알림과 작성자 포인트는 outbox 에 쌓고 OutboxDispatchScheduler 가 처리합니다.
+     * */
+    private void sendNotificationByComment(User sender, Comment comment) {
+        outboxService.enqueueNotification("notification:comment:" + comment.getId(), NotificationGenerator.of(sender, comment));
+        outboxService.enqueuePoint("point:comment:" + comment.getId(), sender.getId(), pointCalculator.calculatePaymentPoint(comment));
+    }
+
+    private void minusCommentPoint(Comment comment, User writer) {
+        outboxService.enqueuePoint("point:comment:" + comment.getId() + ":removed", writer.getId(), -pointCalculator.calculatePaymentPoint(comment));
     }
     public Comment findVerifiedCommentById(Long commentId) {
         return commentRepository.findById(commentId).orElseThrow(() -> new BusinessLogicException(ErrorCode.COMMENT_NOT_FOUND));
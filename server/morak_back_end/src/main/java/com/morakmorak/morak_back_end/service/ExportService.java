@@ -0,0 +1,57 @@
+package com.morakmorak.morak_back_end.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morakmorak.morak_back_end.repository.ExportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/*
+ * 분석용으로 게시중인 게시글, 답변, 댓글을 NDJSON 으로 내보냅니다.
+ * DB 커서에서 한 행을 읽을 때마다 바로 한 줄씩 쓰므로 테이블 크기와 상관없이 메모리 사용량이 일정합니다.
+ * 게시글 -> 답변 -> 댓글 순으로 내보내며, 세 조회가 같은 읽기 전용 트랜잭션(커넥션)을 사용합니다.
+ * */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final ExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void exportPostingArticles(OutputStream outputStream) throws IOException {
+        long articles = writeAll(exportRepository.streamArticles(), outputStream);
+        long answers = writeAll(exportRepository.streamAnswers(), outputStream);
+        long comments = writeAll(exportRepository.streamComments(), outputStream);
+
+        log.info("articles exported. articles = {}, answers = {}, comments = {}", articles, answers, comments);
+    }
+
+    private <T> long writeAll(Stream<T> rows, OutputStream outputStream) throws IOException {
+        long count = 0;
+
+        try (Stream<T> stream = rows) {
+            Iterator<T> iterator = stream.iterator();
+
+            while (iterator.hasNext()) {
+                outputStream.write(objectMapper.writeValueAsBytes(iterator.next()));
+                outputStream.write('\n');
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    outputStream.flush();
+                }
+            }
+        }
+
+        outputStream.flush();
+        return count;
+    }
+}
@@ -10,7 +10,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.ObjectUtils;
 
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,13 +23,31 @@ public class FileService {
     private final FileRepository fileRepository;
     public List<File> createFileListFrom(List<FileDto.RequestFileWithId> fileIdList) {
         if (ObjectUtils.isEmpty(fileIdList)) {return Collections.emptyList();}
-        return fileIdList.stream().map(request ->
-                        findVerifiedFileById(request.getFileId()))
-                .collect(Collectors.toList());
+        return findAllVerifiedFilesById(fileIdList.stream()
+                .map(FileDto.RequestFileWithId::getFileId)
+                .collect(Collectors.toList()));
     }
 
     public File findVerifiedFileById(Long fileId) {
         return fileRepository.findById(fileId)
                 .orElseThrow(() -> new BusinessLogicException(ErrorCode.FILE_NOT_FOUND));
     }
+
+    /*
+     * 파일을 한 번의 in 쿼리로 조회합니다. 요청한 id 중 하나라도 없으면 FILE_NOT_FOUND 를 던지며, 결과는 요청 순서를 따릅니다.
+     * */
+    public List<File> findAllVerifiedFilesById(List<Long> fileIds) {
+        if (ObjectUtils.isEmpty(fileIds)) {return Collections.emptyList();}
+        if (fileIds.contains(null)) {throw new BusinessLogicException(ErrorCode.FILE_NOT_FOUND);}
+
+        Set<Long> distinctIds = new LinkedHashSet<>(fileIds);
+        Map<Long, File> filesById = fileRepository.findAllById(distinctIds).stream()
+                .collect(Collectors.toMap(File::getId, Function.identity()));
+
+        if (filesById.size() != distinctIds.size()) {
+            throw new BusinessLogicException(ErrorCode.FILE_NOT_FOUND);
+        }
+
+        return distinctIds.stream().map(filesById::get).collect(Collectors.toList());
+    }
 }
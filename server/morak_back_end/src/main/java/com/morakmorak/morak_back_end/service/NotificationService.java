@@ -1,28 +1,44 @@
 package com.morakmorak.morak_back_end.service;
 
+import com.morakmorak.morak_back_end.domain.CursorSlice;
 import com.morakmorak.morak_back_end.domain.NotificationGenerator;
+import com.morakmorak.morak_back_end.domain.PageCursor;
 import com.morakmorak.morak_back_end.dto.NotificationDto;
+import com.morakmorak.morak_back_end.dto.ResponseCursorPaging;
 import com.morakmorak.morak_back_end.dto.ResponseMultiplePaging;
+import com.morakmorak.morak_back_end.dto.UserDto;
 import com.morakmorak.morak_back_end.entity.Notification;
+import com.morakmorak.morak_back_end.event.NotificationCreatedEvent;
+import com.morakmorak.morak_back_end.event.NotificationUncountedEvent;
 import com.morakmorak.morak_back_end.exception.BusinessLogicException;
 import com.morakmorak.morak_back_end.repository.notification.NotificationQueryRepository;
 import com.morakmorak.morak_back_end.repository.notification.NotificationRepository;
+import com.morakmorak.morak_back_end.repository.redis.NotificationUnreadRepository;
 import com.morakmorak.morak_back_end.service.auth_user_service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import static com.morakmorak.morak_back_end.exception.ErrorCode.*;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
+    private static final int RECONCILE_CHUNK_SIZE = 1000;
+
     private final NotificationQueryRepository notificationQueryRepository;
     private final NotificationRepository notificationRepository;
+    private final NotificationUnreadRepository notificationUnreadRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ResponseMultiplePaging<NotificationDto.SimpleResponse> findNotificationsBy(Long userId, PageRequest pageRequest) {
         userService.findVerifiedUserById(userId);
@@ -31,15 +47,77 @@ public class NotificationService {
         return new ResponseMultiplePaging<>(notifications.getContent(), notifications);
     }
 
+    public ResponseCursorPaging<NotificationDto.SimpleResponse> findNotificationsBy(Long userId, String cursor, int size) {
+        userService.findVerifiedUserById(userId);
+        CursorSlice<NotificationDto.SimpleResponse> notifications =
+                notificationQueryRepository.getNotifications(userId, PageCursor.decode(cursor), size);
+
+        return new ResponseCursorPaging<>(notifications.getContent(), notifications);
+    }
+
+    /*
+     * 뱃지용 읽지 않은 알림 수입니다. Redis 에서만 읽고 MySQL 은 조회하지 않습니다.
+     * */
+    public NotificationDto.UnreadCount findUnreadCount(UserDto.UserInfo userInfo) {
+        Long userId = Optional.ofNullable(userInfo)
+                .orElseThrow(() -> new BusinessLogicException(USER_NOT_FOUND))
+                .getId();
+
+        return new NotificationDto.UnreadCount(notificationUnreadRepository.find(userId));
+    }
+
+    @Transactional
     public String findNotificationUriBy(Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId).orElseThrow(() -> new BusinessLogicException(NOTIFICATION_NOT_FOUND));
-        notification.changeCheckStatus();
+        if (!notification.getIsChecked()) {
+            notification.changeCheckStatus();
+            eventPublisher.publishEvent(NotificationUncountedEvent.of(notification.getUser().getId()));
+        }
         return notification.getUri();
     }
 
+    @Transactional
     public void deleteNotificationData(Long notificationId, Long userID) {
         Notification notification = notificationRepository.findById(notificationId).orElseThrow(() -> new BusinessLogicException(NOTIFICATION_NOT_FOUND));
         if (!Objects.equals(notification.getUser().getId(), userID)) throw new BusinessLogicException(NO_ACCESS_TO_THAT_OBJECT);
         notificationRepository.delete(notification);
+        if (!notification.getIsChecked()) eventPublisher.publishEvent(NotificationUncountedEvent.of(userID));
+    }
+
+    /*
+     * 롤백된 알림은 세지 않도록 커밋 이후에 늘립니다.
+     * */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void countUnread(NotificationCreatedEvent event) {
+        notificationUnreadRepository.increment(event.getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void uncount(NotificationUncountedEvent event) {
+        notificationUnreadRepository.decrement(event.getUserId());
+    }
+
+    /*
+     * 주기적으로 notification 테이블 기준으로 Redis 의 읽지 않은 알림 수를 다시 맞춥니다.
+     * 전체 유저를 한 번에 불러오지 않도록 user_id 순서로 RECONCILE_CHUNK_SIZE 명씩 덮어쓰고,
+     * Redis 에만 남은 키는 SCAN 한 키를 같은 크기로 나누어 DB 에 읽지 않은 알림이 없는 유저만 지웁니다.
+     * */
+    @Transactional(readOnly = true)
+    public long reconcileUnreadCounts() {
+        long reconciled = 0;
+        Long afterUserId = 0L;
+        Map<Long, Long> unreadCounts;
+
+        do {
+            unreadCounts = notificationQueryRepository.countUncheckedByUser(afterUserId, RECONCILE_CHUNK_SIZE);
+            reconciled += notificationUnreadRepository.overwrite(unreadCounts);
+
+            for (Long userId : unreadCounts.keySet()) {
+                afterUserId = userId;
+            }
+        } while (unreadCounts.size() >= RECONCILE_CHUNK_SIZE);
+
+        return reconciled + notificationUnreadRepository.removeStale(RECONCILE_CHUNK_SIZE,
+                notificationQueryRepository::findUserIdsWithUnchecked);
     }
 }
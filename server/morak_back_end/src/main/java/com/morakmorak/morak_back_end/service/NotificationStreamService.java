@@ -0,0 +1,51 @@
+package com.morakmorak.morak_back_end.service;
+
+import com.morakmorak.morak_back_end.domain.NotificationStreamBroker;
+import com.morakmorak.morak_back_end.dto.UserDto;
+import com.morakmorak.morak_back_end.event.NotificationCreatedEvent;
+import com.morakmorak.morak_back_end.exception.BusinessLogicException;
+import com.morakmorak.morak_back_end.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+
+/*
+ * 알림 목록을 폴링하지 않도록 새 알림을 SSE 로 보냅니다. 롤백된 알림이 전송되지 않도록 커밋 이후에 발행합니다.
+ * */
+@Service
+@RequiredArgsConstructor
+public class NotificationStreamService {
+    private final NotificationStreamBroker notificationStreamBroker;
+
+    /*
+     * Last-Event-ID 가 없거나 숫자가 아니면 다시 보내지 않고 이후 알림만 보냅니다.
+     * */
+    public SseEmitter subscribe(UserDto.UserInfo userInfo, String lastEventId) {
+        Long userId = Optional.ofNullable(userInfo)
+                .orElseThrow(() -> new BusinessLogicException(ErrorCode.USER_NOT_FOUND))
+                .getId();
+
+        return notificationStreamBroker.subscribe(userId, lastNotificationIdOf(lastEventId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(NotificationCreatedEvent event) {
+        notificationStreamBroker.publish(event);
+    }
+
+    private Long lastNotificationIdOf(String lastEventId) {
+        if (!StringUtils.hasText(lastEventId)) {
+            return null;
+        }
+
+        try {
+            return Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
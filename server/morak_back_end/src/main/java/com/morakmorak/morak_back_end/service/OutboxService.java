@@ -0,0 +1,216 @@
+package com.morakmorak.morak_back_end.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morakmorak.morak_back_end.domain.NotificationCoalescer;
+import com.morakmorak.morak_back_end.domain.NotificationGenerator;
+import com.morakmorak.morak_back_end.dto.OutboxDto;
+import com.morakmorak.morak_back_end.entity.enums.OutboxEventType;
+import com.morakmorak.morak_back_end.entity.enums.OutboxStatus;
+import com.morakmorak.morak_back_end.event.NotificationCreatedEvent;
+import com.morakmorak.morak_back_end.repository.OutboxBatchRepository;
+import com.morakmorak.morak_back_end.repository.notification.NotificationBatchRepository;
+import com.morakmorak.morak_back_end.repository.user.UserPointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+ * 알림 생성과 포인트 적립을 요청 트랜잭션에서 바로 처리하지 않고 outbox 에 쌓아 두었다가 OutboxDispatchScheduler 가 모아서 처리합니다.
+ * 요청 트랜잭션은 outbox 한 행만 insert 하므로 받는 사람/보낸 사람의 users 행을 잠그지 않습니다.
+ * */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+    static final int MAX_ATTEMPTS = 5;
+    private static final long BACKOFF_SECONDS = 5L;
+
+    private final OutboxBatchRepository outboxBatchRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final UserPointRepository userPointRepository;
+    private final NotificationCoalescer notificationCoalescer;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /*
+     * 합칠 수 있는 알림은 이 시간만큼 기다렸다가 처리하므로, 그 사이 같은 대상에 쌓인 알림은 하나로 합쳐집니다.
+     * */
+    @Value("${notification.coalesce-window-seconds:60}")
+    private long coalesceWindowSeconds;
+
+    /*
+     * 호출한 서비스의 트랜잭션에 참여합니다. 요청이 롤백되면 알림도 쌓이지 않습니다.
+     * */
+    @Transactional
+    public void enqueueNotification(String idempotencyKey, NotificationGenerator generator) {
+        OutboxDto.NotificationPayload payload = generator.generatePayload();
+        long delaySeconds = payload.getCoalesceKey() == null ? 0 : coalesceWindowSeconds;
+
+        enqueue(OutboxEventType.NOTIFICATION, idempotencyKey, payload.getCoalesceKey(), payload, delaySeconds);
+    }
+
+    @Transactional
+    public void enqueuePoint(String idempotencyKey, Long userId, Integer delta) {
+        OutboxDto.PointPayload payload = OutboxDto.PointPayload.builder()
+                .userId(userId)
+                .delta(delta)
+                .build();
+
+        enqueue(OutboxEventType.POINT, idempotencyKey, null, payload, 0);
+    }
+
+    /*
+     * 처리할 차례인 outbox 를 잠그고 한 트랜잭션에서 처리합니다. 처리한 건수를 반환합니다.
+     * */
+    @Transactional
+    public int dispatch(int limit) {
+        List<OutboxDto.Pending> claimed = outboxBatchRepository.claim(limit, LocalDateTime.now());
+        apply(claimed);
+
+        return claimed.size();
+    }
+
+    @Transactional
+    public void dispatchOne(Long outboxEventId) {
+        outboxBatchRepository.claim(outboxEventId).ifPresent(pending -> apply(List.of(pending)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findPendingIds(int limit) {
+        return outboxBatchRepository.findPendingIds(limit, LocalDateTime.now());
+    }
+
+    /*
+     * 실패할 때마다 다음 시도를 5초, 10초, 20초 ... 뒤로 미루고, MAX_ATTEMPTS 번 실패하면 FAILED 로 남겨 더 이상 시도하지 않습니다.
+     * */
+    @Transactional
+    public void recordFailure(Long outboxEventId) {
+        outboxBatchRepository.claim(outboxEventId).ifPresent(pending -> {
+            int attempts = pending.getAttempts() + 1;
+            OutboxStatus status = attempts >= MAX_ATTEMPTS ? OutboxStatus.FAILED : OutboxStatus.PENDING;
+            LocalDateTime now = LocalDateTime.now();
+
+            outboxBatchRepository.markRetry(outboxEventId, attempts, status,
+                    now.plusSeconds(BACKOFF_SECONDS << (attempts - 1)), now);
+        });
+    }
+
+    private void apply(List<OutboxDto.Pending> claimed) {
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, OutboxDto.NotificationPayload> notifications = new LinkedHashMap<>();
+        Map<Long, Integer> points = new HashMap<>();
+
+        for (OutboxDto.Pending pending : claimed) {
+            if (pending.getEventType() == OutboxEventType.NOTIFICATION) {
+                notifications.put(pending.getOutboxEventId(), read(pending, OutboxDto.NotificationPayload.class));
+            } else if (pending.getEventType() == OutboxEventType.POINT) {
+                OutboxDto.PointPayload point = read(pending, OutboxDto.PointPayload.class);
+                points.merge(point.getUserId(), point.getDelta(), Integer::sum);
+            }
+        }
+
+        List<OutboxDto.Pending> done = new ArrayList<>(claimed);
+        done.addAll(claimSiblings(claimed, notifications));
+
+        saveNotifications(coalesce(notifications), now);
+        addPoints(points);
+
+        outboxBatchRepository.markDone(done.stream()
+                .map(OutboxDto.Pending::getOutboxEventId)
+                .collect(Collectors.toList()), now);
+    }
+
+    /*
+     * 처리할 알림과 같은 coalesceKey 로 아직 기다리는 알림을 함께 꺼내 notifications 에 더합니다.
+     * */
+    private List<OutboxDto.Pending> claimSiblings(List<OutboxDto.Pending> claimed, Map<Long, OutboxDto.NotificationPayload> notifications) {
+        Set<String> coalesceKeys = new HashSet<>();
+        notifications.values().forEach(payload -> {
+            if (payload.getCoalesceKey() != null) coalesceKeys.add(payload.getCoalesceKey());
+        });
+
+        Set<Long> claimedIds = claimed.stream().map(OutboxDto.Pending::getOutboxEventId).collect(Collectors.toSet());
+        List<OutboxDto.Pending> siblings = new ArrayList<>();
+
+        for (OutboxDto.Pending sibling : outboxBatchRepository.claimByCoalesceKeys(coalesceKeys)) {
+            if (claimedIds.contains(sibling.getOutboxEventId())) {
+                continue;
+            }
+            notifications.put(sibling.getOutboxEventId(), read(sibling, OutboxDto.NotificationPayload.class));
+            siblings.add(sibling);
+        }
+        return siblings;
+    }
+
+    /*
+     * outbox 에 쌓인 순서대로 합칩니다. 좋아요는 가장 나중에 쌓인 돌파 알림이 남습니다.
+     * */
+    private List<OutboxDto.NotificationPayload> coalesce(Map<Long, OutboxDto.NotificationPayload> notifications) {
+        List<OutboxDto.NotificationPayload> ordered = new ArrayList<>();
+        notifications.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> ordered.add(entry.getValue()));
+
+        return notificationCoalescer.coalesce(ordered);
+    }
+
+    /*
+     * JDBC 로 저장하므로 NotificationCreatedEvent 는 여기서 직접 발행합니다. SSE 전송은 커밋 이후에 이루어집니다.
+     * */
+    private void saveNotifications(List<OutboxDto.NotificationPayload> notifications, LocalDateTime now) {
+        List<Long> notificationIds = notificationBatchRepository.insert(notifications, now);
+
+        for (int i = 0; i < notificationIds.size(); i++) {
+            OutboxDto.NotificationPayload notification = notifications.get(i);
+            eventPublisher.publishEvent(NotificationCreatedEvent.of(notification.getReceiverId(),
+                    notificationIds.get(i), notification.getMessage(), now));
+        }
+    }
+
+    /*
+     * 같은 회원의 적립은 합쳐서 한 번만 반영합니다. 탈퇴 등으로 회원이 없으면 반영되는 행이 없습니다.
+     * 회원을 불러와 바꾸지 않고 증감 update 로 반영합니다. 다른 포인트 변경(좋아요 반영, 포인트 선물)도 모두 증감 update 이므로 서로 값을 덮어쓰지 않습니다.
+     * */
+    private void addPoints(Map<Long, Integer> points) {
+        if (points.isEmpty()) {
+            return;
+        }
+
+        userPointRepository.addPoints(points);
+    }
+
+    private void enqueue(OutboxEventType type, String idempotencyKey, String coalesceKey, Object payload, long delaySeconds) {
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            outboxBatchRepository.insert(type, idempotencyKey, coalesceKey, objectMapper.writeValueAsString(payload),
+                    now.plusSeconds(delaySeconds), now);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("유효하지 않은 outbox payload", e);
+        }
+    }
+
+    private <T> T read(OutboxDto.Pending pending, Class<T> type) {
+        try {
+            return objectMapper.readValue(pending.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("유효하지 않은 outbox payload : " + pending.getIdempotencyKey(), e);
+        }
+    }
+}
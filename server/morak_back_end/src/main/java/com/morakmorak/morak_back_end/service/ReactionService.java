@@ -0,0 +1,187 @@
+package com.morakmorak.morak_back_end.service;
+
+import com.morakmorak.morak_back_end.domain.PointCalculator;
+import com.morakmorak.morak_back_end.event.ArticleDetailChangedEvent;
+import com.morakmorak.morak_back_end.event.ArticleReactionToggledEvent;
+import com.morakmorak.morak_back_end.repository.BookmarkRepository;
+import com.morakmorak.morak_back_end.repository.ReactionBatchRepository;
+import com.morakmorak.morak_back_end.repository.answer.AnswerLikeRepository;
+import com.morakmorak.morak_back_end.repository.article.ArticleCounterRepository;
+import com.morakmorak.morak_back_end.repository.article.ArticleLikeRepository;
+import com.morakmorak.morak_back_end.repository.redis.ReactionRepository;
+import com.morakmorak.morak_back_end.repository.redis.ReactionRepository.Operation;
+import com.morakmorak.morak_back_end.repository.redis.ReactionRepository.Toggled;
+import com.morakmorak.morak_back_end.repository.redis.ReactionRepository.Type;
+import com.morakmorak.morak_back_end.repository.user.UserPointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/*
+ * 좋아요/북마크 누르기는 Redis(ReactionRepository)에서 바로 응답하고,
+ * DB 에는 ReactionFlushScheduler 가 대기열을 모아 persist() 로 한 번에 반영합니다.
+ * */
+@Service
+@RequiredArgsConstructor
+public class ReactionService {
+    private final ReactionRepository reactionRepository;
+    private final ReactionBatchRepository reactionBatchRepository;
+    private final ArticleLikeRepository articleLikeRepository;
+    private final AnswerLikeRepository answerLikeRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final ArticleCounterRepository articleCounterRepository;
+    private final UserPointRepository userPointRepository;
+    private final PointCalculator pointCalculator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /*
+     * 좋아요/북마크는 Redis 에서 바로 바뀌지만, 호출하는 ArticleService / BookmarkService 는 트랜잭션 안에서 호출하므로
+     * 게시글 버전(ETag)은 이벤트로 넘겨 커밋 이후에 올립니다. (ResourceVersionService)
+     * 답변 좋아요는 답변이 속한 게시글을 알아야 하므로 AnswerService 에서 AnswerChangedEvent 로 올립니다.
+     * */
+    public Toggled toggle(Type type, Long targetId, Long userId) {
+        Toggled toggled = reactionRepository.toggle(type, targetId, userId)
+                .orElseGet(() -> {
+                    reactionRepository.load(type, targetId, findUserIds(type, targetId));
+                    return reactionRepository.toggle(type, targetId, userId)
+                            .orElseThrow(() -> new IllegalStateException("reactions are not loaded. " + type + ":" + targetId));
+                });
+
+        if (type != Type.ANSWER_LIKE) {
+            eventPublisher.publishEvent(ArticleReactionToggledEvent.of(targetId));
+        }
+        return toggled;
+    }
+
+    /*
+     * 아직 Redis 에 올라오지 않은 대상은 올리지 않고 DB 에서 확인합니다. (조회만 하는 대상까지 Redis 에 올리지 않기 위함)
+     * */
+    public boolean contains(Type type, Long targetId, Long userId) {
+        return reactionRepository.contains(type, targetId, userId)
+                .orElseGet(() -> existsInDb(type, targetId, userId));
+    }
+
+    public Optional<Long> countOf(Type type, Long targetId) {
+        return reactionRepository.countOf(type, targetId);
+    }
+
+    public Map<Long, Long> countsOf(Type type, List<Long> targetIds) {
+        return reactionRepository.countsOf(type, targetIds);
+    }
+
+    /*
+     * 답변 목록 중 회원이 좋아요를 누른 답변의 id 를 반환합니다.
+     * Redis 에 올라온 답변은 한 번의 pipeline 으로, 나머지는 한 번의 IN 조회로 확인합니다.
+     * */
+    public Set<Long> findLikedAnswerIds(Long userId, List<Long> answerIds) {
+        Map<Long, Boolean> loaded = reactionRepository.containsAll(Type.ANSWER_LIKE, answerIds, userId);
+
+        Set<Long> liked = new HashSet<>();
+        loaded.forEach((answerId, contained) -> {
+            if (contained) {
+                liked.add(answerId);
+            }
+        });
+
+        List<Long> notLoaded = answerIds.stream()
+                .filter(answerId -> !loaded.containsKey(answerId))
+                .collect(Collectors.toList());
+
+        if (!notLoaded.isEmpty()) {
+            liked.addAll(answerLikeRepository.findLikedAnswerIds(userId, notLoaded));
+        }
+        return liked;
+    }
+
+    /*
+     * 같은 대상에 대한 여러 건은 마지막 상태만 반영합니다.
+     * 실제로 추가/삭제된 행에 대해서만 게시글 좋아요 수와 포인트를 바꾸므로, 같은 건을 다시 반영해도 두 번 더해지지 않습니다.
+     * */
+    @Transactional
+    public void persist(List<Operation> operations) {
+        Map<String, Operation> latest = new LinkedHashMap<>();
+        operations.forEach(operation -> latest.put(operation.reactionKey(), operation));
+
+        Map<Long, Long> likesByArticleId = new HashMap<>();
+        Map<Long, Long> likesByUserId = new HashMap<>();
+
+        for (Type type : Type.values()) {
+            List<Operation> added = filter(latest.values(), type, true);
+            List<Operation> removed = filter(latest.values(), type, false);
+
+            collect(reactionBatchRepository.insert(type, added), 1, likesByArticleId, likesByUserId);
+            collect(reactionBatchRepository.delete(type, removed), -1, likesByArticleId, likesByUserId);
+        }
+
+        likesByArticleId.values().removeIf(delta -> delta == 0);
+        if (!likesByArticleId.isEmpty()) {
+            articleCounterRepository.addLikeCounts(likesByArticleId);
+            likesByArticleId.keySet().forEach(articleId -> eventPublisher.publishEvent(ArticleDetailChangedEvent.of(articleId)));
+        }
+
+        changePoints(likesByUserId);
+    }
+
+    private List<Operation> filter(Collection<Operation> operations, Type type, boolean on) {
+        return operations.stream()
+                .filter(operation -> operation.getType() == type && operation.isOn() == on)
+                .collect(Collectors.toList());
+    }
+
+    private void collect(List<Operation> changed, long delta,
+                         Map<Long, Long> likesByArticleId, Map<Long, Long> likesByUserId) {
+        for (Operation operation : changed) {
+            if (operation.getType() == Type.BOOKMARK) {
+                continue;
+            }
+
+            if (operation.getType() == Type.ARTICLE_LIKE) {
+                likesByArticleId.merge(operation.getTargetId(), delta, Long::sum);
+            }
+            likesByUserId.merge(operation.getUserId(), delta, Long::sum);
+        }
+    }
+
+    /*
+     * 좋아요를 누른 회원의 포인트를 회원별 좋아요 증감 x 좋아요 포인트만큼 증감 update 로 바꿉니다.
+     * 회원을 불러와 바꾸지 않으므로 outbox 적립이나 요청 트랜잭션의 포인트 변경과 값을 덮어쓰지 않습니다.
+     * */
+    private void changePoints(Map<Long, Long> likesByUserId) {
+        Map<Long, Integer> pointsByUserId = new HashMap<>();
+        likesByUserId.forEach((userId, likes) -> {
+            if (likes != 0) {
+                pointsByUserId.put(userId, Math.toIntExact(likes * pointCalculator.calculateLikePoint()));
+            }
+        });
+
+        if (!pointsByUserId.isEmpty()) {
+            userPointRepository.addPoints(pointsByUserId);
+        }
+    }
+
+    private List<Long> findUserIds(Type type, Long targetId) {
+        switch (type) {
+            case ARTICLE_LIKE:
+                return articleLikeRepository.findUserIdsByArticleId(targetId);
+            case ANSWER_LIKE:
+                return answerLikeRepository.findUserIdsByAnswerId(targetId);
+            default:
+                return bookmarkRepository.findUserIdsByArticleId(targetId);
+        }
+    }
+
+    private boolean existsInDb(Type type, Long targetId, Long userId) {
+        switch (type) {
+            case ARTICLE_LIKE:
+                return articleLikeRepository.checkUserLiked(userId, targetId).isPresent();
+            case ANSWER_LIKE:
+                return answerLikeRepository.checkUserLiked(userId, targetId).isPresent();
+            default:
+                return bookmarkRepository.checkUserBookmarked(userId, targetId).isPresent();
+        }
+    }
+}
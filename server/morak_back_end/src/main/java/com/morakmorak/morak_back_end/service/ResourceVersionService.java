@@ -0,0 +1,58 @@
+package com.morakmorak.morak_back_end.service;
+
+import com.morakmorak.morak_back_end.dto.UserDto;
+import com.morakmorak.morak_back_end.event.AnswerChangedEvent;
+import com.morakmorak.morak_back_end.event.ArticleChangedEvent;
+import com.morakmorak.morak_back_end.event.ArticleDetailChangedEvent;
+import com.morakmorak.morak_back_end.event.ArticleReactionToggledEvent;
+import com.morakmorak.morak_back_end.repository.redis.ResourceVersionRepository;
+import com.morakmorak.morak_back_end.repository.redis.ResourceVersionRepository.Resource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/*
+ * 조회 API 의 조건부 요청(If-None-Match)에 쓰는 ETag 를 만듭니다.
+ * 버전은 커밋 이후에 올려, 커밋 전의 응답이 새 버전의 ETag 로 내려가지 않도록 합니다.
+ * 좋아요 여부처럼 조회자마다 다른 값이 있으므로 ETag 에 조회자 id 를 포함합니다.
+ * 조회수, 작성자 닉네임처럼 자주 바뀌거나 다른 자원에 속한 값은 버전에 반영하지 않으므로 약한(W/) ETag 를 사용합니다.
+ * */
+@Service
+@RequiredArgsConstructor
+public class ResourceVersionService {
+    private final ResourceVersionRepository resourceVersionRepository;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void bump(ArticleChangedEvent event) {
+        resourceVersionRepository.bump(Resource.ARTICLE, event.getArticleId());
+        resourceVersionRepository.bump(Resource.ANSWERS, event.getArticleId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void bump(ArticleDetailChangedEvent event) {
+        resourceVersionRepository.bump(Resource.ARTICLE, event.getArticleId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void bump(ArticleReactionToggledEvent event) {
+        resourceVersionRepository.bump(Resource.ARTICLE, event.getArticleId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void bump(AnswerChangedEvent event) {
+        resourceVersionRepository.bump(Resource.ANSWERS, event.getArticleId());
+        resourceVersionRepository.bump(Resource.ANSWER_COMMENTS, event.getAnswerId());
+    }
+
+    /*
+     * Redis 장애로 버전을 알 수 없으면 빈 값을 반환합니다.
+     * */
+    public Optional<String> etagOf(Resource resource, Long id, UserDto.UserInfo viewer) {
+        Long viewerId = viewer == null ? 0L : viewer.getId();
+
+        return resourceVersionRepository.versionOf(resource, id)
+                .map(version -> "W/\"" + version + "-" + viewerId + "\"");
+    }
+}
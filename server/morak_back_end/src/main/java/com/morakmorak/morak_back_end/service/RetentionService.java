@@ -0,0 +1,192 @@
+package com.morakmorak.morak_back_end.service;
+
+import com.morakmorak.morak_back_end.domain.RetentionPolicy;
+import com.morakmorak.morak_back_end.dto.RetentionDto;
+import com.morakmorak.morak_back_end.repository.RetentionRepository;
+import com.morakmorak.morak_back_end.repository.redis.RetentionProgressRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/*
+ * 보관 기간이 지난 알림, outbox, 삭제된 게시글, 연결되지 않은 파일을 primary key 구간 단위로 조금씩 지웁니다.
+ * 구간마다 트랜잭션을 따로 쓰고 구간 사이에 쉬어서 서비스 중인 쓰기와 복제 지연에 주는 영향을 줄입니다.
+ * 한 정책이 max-run-seconds 를 넘기면 멈추고, 다음 실행 때 멈춘 구간부터 이어서 지웁니다.
+ * 모든 서버에서 실행되므로 정책마다 Redis 락을 잡은 서버만 지우고, 진행 상황은 RetentionProgressRepository 에 남깁니다.
+ * */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RetentionService {
+    private static final Duration LOCK_MARGIN = Duration.ofMinutes(10);
+
+    private final RetentionRepository retentionRepository;
+    private final AmazonS3StorageService amazonS3StorageService;
+    private final RetentionProgressRepository retentionProgressRepository;
+
+    @Value("${retention.chunk-size:500}")
+    private long chunkSize;
+
+    @Value("${retention.throttle-millis:200}")
+    private long throttleMillis;
+
+    @Value("${retention.max-run-seconds:1800}")
+    private long maxRunSeconds;
+
+    @Value("${retention.notification.checked-days:30}")
+    private long checkedNotificationDays;
+
+    @Value("${retention.notification.unchecked-days:90}")
+    private long uncheckedNotificationDays;
+
+    @Value("${retention.outbox.done-days:7}")
+    private long doneOutboxDays;
+
+    @Value("${retention.outbox.failed-days:30}")
+    private long failedOutboxDays;
+
+    @Value("${retention.article.removed-days:30}")
+    private long removedArticleDays;
+
+    @Value("${retention.file.unlinked-hours:24}")
+    private long unlinkedFileHours;
+
+    /*
+     * 게시글을 먼저 지워야 연결이 끊긴 파일이 같은 실행에서 파일 정책의 대상이 됩니다.
+     * 파일은 생성 시각 기준이므로 unlinked-hours 보다 오래된 파일만 지워집니다.
+     * */
+    public void purgeAll() {
+        for (RetentionPolicy policy : policies()) {
+            try {
+                purge(policy);
+            } catch (RuntimeException e) {
+                log.error("failed to purge. policy = {}", policy.getName(), e);
+            }
+        }
+    }
+
+    /*
+     * 지운 행 수를 반환합니다. 다른 서버가 같은 정책을 지우고 있으면 건너뛰고 0 을 반환합니다.
+     * 락은 max-run-seconds 에 마지막 구간을 마칠 여유를 더한 만큼만 유지되므로, 서버가 중간에 내려가도 다음 실행은 막히지 않습니다.
+     * */
+    public long purge(RetentionPolicy policy) {
+        String name = policy.getName();
+
+        Optional<String> token = retentionProgressRepository.lock(name, Duration.ofSeconds(maxRunSeconds).plus(LOCK_MARGIN));
+
+        if (token.isEmpty()) {
+            log.info("retention skipped, running on another server. policy = {}", name);
+            return 0L;
+        }
+
+        try {
+            return purgeLocked(policy);
+        } catch (RuntimeException e) {
+            retentionProgressRepository.fail(name);
+            throw e;
+        } finally {
+            retentionProgressRepository.unlock(name, token.get());
+        }
+    }
+
+    public List<RetentionDto.Progress> findProgresses() {
+        return policies().stream()
+                .map(policy -> retentionProgressRepository.find(policy.getName()))
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+
+    private long purgeLocked(RetentionPolicy policy) {
+        String name = policy.getName();
+        LocalDateTime now = LocalDateTime.now();
+        long deadline = System.currentTimeMillis() + maxRunSeconds * 1000;
+        long maxId = retentionRepository.findMaxId(policy.getTable(), policy.getIdColumn());
+        long from = Math.max(retentionProgressRepository.findNextId(name),
+                retentionRepository.findMinId(policy.getTable(), policy.getIdColumn()));
+        long deleted = 0;
+
+        retentionProgressRepository.start(name, now, from - 1, maxId);
+
+        while (from <= maxId) {
+            long to = Math.min(from + policy.getChunkSize() - 1, maxId);
+            int purged = policy.getPurger().purge(from, to, now);
+            retentionProgressRepository.chunk(name, to, purged);
+            deleted += purged;
+            from = to + 1;
+
+            if (from <= maxId && (System.currentTimeMillis() > deadline || !throttle())) {
+                retentionProgressRepository.pause(name, from);
+                log.info("retention paused. policy = {}, next id = {}", name, from);
+                return deleted;
+            }
+        }
+
+        retentionProgressRepository.finish(name, LocalDateTime.now());
+        log.info("retention finished. policy = {}, rows = {}", name, deleted);
+        return deleted;
+    }
+
+    List<RetentionPolicy> policies() {
+        return List.of(
+                RetentionPolicy.builder()
+                        .name("notification").table("notification").idColumn("notification_id").chunkSize(chunkSize)
+                        .purger((from, to, now) -> retentionRepository.deleteNotifications(from, to,
+                                now.minusDays(checkedNotificationDays), now.minusDays(uncheckedNotificationDays)))
+                        .build(),
+                RetentionPolicy.builder()
+                        .name("outbox_event").table("outbox_event").idColumn("outbox_event_id").chunkSize(chunkSize)
+                        .purger((from, to, now) -> retentionRepository.deleteOutboxEvents(from, to,
+                                now.minusDays(doneOutboxDays), now.minusDays(failedOutboxDays)))
+                        .build(),
+                RetentionPolicy.builder()
+                        .name("removed_article").table("article").idColumn("article_id").chunkSize(chunkSize)
+                        .purger((from, to, now) -> retentionRepository.deleteRemovedArticles(from, to,
+                                now.minusDays(removedArticleDays)))
+                        .build(),
+                RetentionPolicy.builder()
+                        .name("unlinked_file").table("file").idColumn("file_id").chunkSize(chunkSize)
+                        .purger((from, to, now) -> purgeUnlinkedFiles(from, to, now.minusHours(unlinkedFileHours)))
+                        .build()
+        );
+    }
+
+    /*
+     * S3 삭제에 실패하면 행을 남겨 두어 다음 실행에서 다시 시도합니다.
+     * */
+    private int purgeUnlinkedFiles(Long from, Long to, LocalDateTime before) {
+        List<RetentionRepository.UnlinkedFile> files = retentionRepository.findUnlinkedFiles(from, to, before);
+
+        if (files.isEmpty()) {
+            return 0;
+        }
+
+        amazonS3StorageService.deleteFiles(files.stream()
+                .map(RetentionRepository.UnlinkedFile::getRemotePath)
+                .collect(Collectors.toList()));
+
+        return retentionRepository.deleteUnlinkedFiles(files.stream()
+                .map(RetentionRepository.UnlinkedFile::getFileId)
+                .collect(Collectors.toList()));
+    }
+
+    private boolean throttle() {
+        if (throttleMillis <= 0) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(throttleMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
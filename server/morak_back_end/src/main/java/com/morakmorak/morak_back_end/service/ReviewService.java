@@ -4,13 +4,16 @@ import com.morakmorak.morak_back_end.domain.NotificationGenerator;
 import com.morakmorak.morak_back_end.dto.BadgeDto;
 import com.morakmorak.morak_back_end.dto.ReviewDto;
 import com.morakmorak.morak_back_end.entity.*;
+import com.morakmorak.morak_back_end.event.ArticleActivityEvent;
+import com.morakmorak.morak_back_end.event.ArticleChangedEvent;
 import com.morakmorak.morak_back_end.exception.BusinessLogicException;
 import com.morakmorak.morak_back_end.exception.ErrorCode;
-import com.morakmorak.morak_back_end.repository.BadgeRepository;
+import com.morakmorak.morak_back_end.repository.ReferenceDataRegistry;
 import com.morakmorak.morak_back_end.repository.ReviewRepository;
-import com.morakmorak.morak_back_end.repository.notification.NotificationRepository;
+import com.morakmorak.morak_back_end.repository.user.UserPointRepository;
 import com.morakmorak.morak_back_end.service.auth_user_service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
@@ -24,9 +27,11 @@ public class ReviewService {
     private final ArticleService articleService;
     private final UserService userService;
     private final AnswerService answerService;
-    private final BadgeRepository badgeRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final ReviewRepository reviewRepository;
-    private final NotificationRepository notificationRepository;
+    private final UserPointRepository userPointRepository;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ReviewDto.ResponseDetailReview createReview(Long articleId, Long userId, Long answerId, List<BadgeDto.SimpleBadge> badgeDtoList, Review reviewWithoutBadges) {
 
@@ -50,12 +55,13 @@ public class ReviewService {
             injectBadgesOnReview(reviewWithoutBadges, badgeDtoList);
             donatePoint(verifiedRequestUser, receiver, reviewWithoutBadges.getPoint());
             reviewWithoutBadges.injectTo(verifiedAnswer).injectTo(verifiedArticle).changeAnswerArticleStatus();
+            eventPublisher.publishEvent(ArticleChangedEvent.saved(verifiedArticle));
+            eventPublisher.publishEvent(ArticleActivityEvent.answerPicked(verifiedArticle.getId(), verifiedAnswer.getId()));
             Review reviewNotSaved = reviewWithoutBadges.addSender(verifiedRequestUser).addReceiver(receiver);
 
-            NotificationGenerator generator = NotificationGenerator.of(reviewNotSaved);
-            Notification notification = generator.generateNotification();
-            notificationRepository.save(notification);
-            return ReviewDto.ResponseDetailReview.of(reviewRepository.save(reviewNotSaved));
+            Review savedReview = reviewRepository.save(reviewNotSaved);
+            sendNotificationByReview(savedReview);
+            return ReviewDto.ResponseDetailReview.of(savedReview);
 
         }else{throw new BusinessLogicException(ErrorCode.UNABLE_TO_REVIEW);}
     }
@@ -70,11 +76,17 @@ public class ReviewService {
         Review reviewNotSaved = reviewWithoutBadges.addSender(verifiedSender).addReceiver(verifiedReceiver);
         injectBadgesOnReview(reviewNotSaved, badgeDtoList);
 
-        NotificationGenerator generator = NotificationGenerator.of(reviewNotSaved);
-        Notification notification = generator.generateNotification();
-        notificationRepository.save(notification);
+        Review savedReview = reviewRepository.save(reviewNotSaved);
+        sendNotificationByReview(savedReview);
 
-        return ReviewDto.ResponseSimpleReview.of(reviewRepository.save(reviewNotSaved));
+        return ReviewDto.ResponseSimpleReview.of(savedReview);
+    }
+
+    /*
+     * 포인트 선물은 잔액을 확인해야 하므로 바로 반영하고, 알림만 outbox 에 쌓습니다.
+     * */
+    private void sendNotificationByReview(Review review) {
+        outboxService.enqueueNotification("notification:review:" + review.getId(), NotificationGenerator.of(review));
     }
     public Boolean checkRequestUserIsAuthor(Article verifiedArticle, User verifiedUser) {
         if (!verifiedArticle.getUser().getId().equals(verifiedUser.getId())) {
@@ -105,18 +117,23 @@ public class ReviewService {
         }
     }
 
+    /*
+     * 불러온 회원의 포인트는 그 사이 다른 트랜잭션이 바꿨을 수 있으므로, 잔액 확인과 차감을 조건부 증감 update 한 번으로 처리합니다.
+     * 잔액이 모자라 차감되지 않으면 받는 사람에게도 더하지 않고 실패합니다.
+     * */
     @Transactional
     public void donatePoint(User sender, User receiver, Integer point) {
-        sender.sendPoint(point);
-        receiver.receivePoint(point);
+        if (!userPointRepository.subtractPointIfEnough(sender.getId(), point)) {
+            throw new BusinessLogicException(ErrorCode.UNPROCESSABLE_REQUEST);
+        }
+        userPointRepository.addPoint(receiver.getId(), point);
     }
 
     public void injectBadgesOnReview(Review review, List<BadgeDto.SimpleBadge> badgeDtoList) {
         badgeDtoList.stream().forEach(badgeDto -> {
-            Badge dbBadge = badgeRepository.findBadgeByName(badgeDto.getName())
-                    .orElseThrow(()-> new BusinessLogicException(ErrorCode.BADGE_NOT_FOUND));
+            Badge dbBadge = referenceDataRegistry.getBadge(badgeDto.getName());
             ReviewBadge reviewBadge = ReviewBadge.builder().review(review).badge(dbBadge).build();
-            reviewBadge.mapBadgeAndReview();
+            reviewBadge.mapReview();
         });
     }
 }
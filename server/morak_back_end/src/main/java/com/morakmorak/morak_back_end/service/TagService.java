@@ -2,9 +2,7 @@ package com.morakmorak.morak_back_end.service;
 
 import com.morakmorak.morak_back_end.entity.Tag;
 import com.morakmorak.morak_back_end.entity.enums.TagName;
-import com.morakmorak.morak_back_end.exception.BusinessLogicException;
-import com.morakmorak.morak_back_end.exception.ErrorCode;
-import com.morakmorak.morak_back_end.repository.TagRepository;
+import com.morakmorak.morak_back_end.repository.ReferenceDataRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -12,10 +10,9 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class TagService {
 
-    private final TagRepository tagRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     public Tag findVerifiedTagByTagName(TagName tagName) {
-        return tagRepository.findTagByName(tagName)
-                .orElseThrow(() -> new BusinessLogicException(ErrorCode.TAG_NOT_FOUND));
+        return referenceDataRegistry.getTag(tagName);
     }
 }
@@ -0,0 +1,114 @@
+package com.morakmorak.morak_back_end.service;
+
+import com.morakmorak.morak_back_end.dto.ArticleDto;
+import com.morakmorak.morak_back_end.entity.enums.CategoryName;
+import com.morakmorak.morak_back_end.event.ArticleChangedEvent;
+import com.morakmorak.morak_back_end.event.TrendingActivityEvent;
+import com.morakmorak.morak_back_end.repository.article.ArticleRepository;
+import com.morakmorak.morak_back_end.repository.redis.TrendingArticleRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * 조회/좋아요/댓글/답변이 생길 때마다 게시글 인기 점수를 올리고, 주기적으로 모든 점수를 감쇠시켜 최근 활동이 많은 게시글이 위로 오게 합니다.
+ * 점수는 반감기(6시간)마다 절반이 되도록 마지막 감쇠 이후 지난 시간만큼의 비율을 곱합니다.
+ * */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingArticleService {
+    private static final long DECAY_INTERVAL_MINUTES = 10L;
+    private static final double HALF_LIFE_MINUTES = 360.0;
+    private static final double MIN_SCORE = 0.1;
+    private static final Duration DECAY_LOCK_TIMEOUT = Duration.ofMinutes(1);
+
+    private final TrendingArticleRepository trendingArticleRepository;
+    private final ArticleRepository articleRepository;
+
+    @Getter
+    public enum Activity {
+        VIEW(1.0),
+        COMMENT(3.0),
+        LIKE(4.0),
+        ANSWER(5.0);
+
+        private final double weight;
+
+        Activity(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    /*
+     * 롤백된 요청의 활동이 점수에 남지 않도록 커밋 이후에 올립니다.
+     * */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void record(TrendingActivityEvent event) {
+        trendingArticleRepository.increase(event.getArticleId(), event.getCategory(), event.getActivity().getWeight());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ArticleDto.ResponseListTypeArticle> findTrendingArticles(CategoryName category, int size) {
+        List<Long> articleIds = trendingArticleRepository.findTopIds(category, size);
+
+        if (articleIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return articleRepository.findListTypeArticlesByIds(articleIds);
+    }
+
+    /*
+     * 모든 서버에서 실행되므로 Redis 락을 잡은 서버만 감쇠합니다.
+     * 감쇠 비율은 Redis 에 남긴 마지막 감쇠 시각으로부터 계산하므로, 여러 서버가 번갈아 실행하거나 주기가 밀려도 시간당 감쇠량은 같습니다.
+     * 다른 서버가 방금 감쇠했으면 건너뜁니다.
+     * */
+    @Scheduled(fixedDelay = DECAY_INTERVAL_MINUTES * 60 * 1000)
+    public void decay() {
+        String token;
+
+        try {
+            Optional<String> locked = trendingArticleRepository.lockDecay(DECAY_LOCK_TIMEOUT);
+            if (locked.isEmpty()) {
+                return;
+            }
+            token = locked.get();
+        } catch (RuntimeException e) {
+            log.error("failed to lock trending decay.", e);
+            return;
+        }
+
+        try {
+            long now = System.currentTimeMillis();
+            Long lastDecayedAt = trendingArticleRepository.findLastDecayedAt();
+            double elapsedMinutes = lastDecayedAt == null
+                    ? DECAY_INTERVAL_MINUTES
+                    : (now - lastDecayedAt) / (60 * 1000.0);
+
+            if (elapsedMinutes < DECAY_INTERVAL_MINUTES / 2.0) {
+                return;
+            }
+
+            trendingArticleRepository.decay(Math.pow(0.5, elapsedMinutes / HALF_LIFE_MINUTES), MIN_SCORE);
+            trendingArticleRepository.saveLastDecayedAt(now);
+        } finally {
+            trendingArticleRepository.unlockDecay(token);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void remove(ArticleChangedEvent event) {
+        if (event.getRemoved()) {
+            trendingArticleRepository.remove(event.getArticleId());
+        }
+    }
+}
@@ -12,7 +12,7 @@ import com.morakmorak.morak_back_end.entity.enums.UserStatus;
 import com.morakmorak.morak_back_end.exception.BusinessLogicException;
 import com.morakmorak.morak_back_end.mapper.UserMapper;
 import com.morakmorak.morak_back_end.repository.redis.RedisRepository;
-import com.morakmorak.morak_back_end.repository.user.RoleRepository;
+import com.morakmorak.morak_back_end.repository.ReferenceDataRegistry;
 import com.morakmorak.morak_back_end.repository.user.UserRepository;
 import com.morakmorak.morak_back_end.repository.user.UserRoleRepository;
 import com.morakmorak.morak_back_end.security.util.SecurityConstants;
@@ -36,7 +36,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final UserPasswordManager userPasswordManager;
     private final TokenGenerator tokenGenerator;
-    private final RoleRepository roleRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final UserRoleRepository userRoleRepository;
     private final RedisRepository<UserDto.Redis> refreshTokenStore;
     private final RedisRepository<String> mailAuthKeyStore;
@@ -215,7 +215,7 @@ public class AuthService {
     }
 
     private void saveUserAndBasicUserRole(User user) {
-        Role role_user = roleRepository.findRoleByRoleName(ROLE_USER);
+        Role role_user = referenceDataRegistry.getRole(ROLE_USER);
 
         UserRole build = UserRole.builder()
                 .user(user)
@@ -131,7 +131,7 @@ public class UserService {
                     t -> tagMapper.tagEntityToTagDto(t.getTag())
             ).collect(Collectors.toList());
 
-            return articleMapper.articleToResponseSearchResultArticle(e, e.getComments().size(), e.getAnswers().size(), tags, e.getArticleLikes().size());
+            return articleMapper.articleToResponseSearchResultArticle(e, e.getCommentCount(), e.getAnswerCount(), tags, e.getLikeCount());
         }).collect(Collectors.toList());
     }
 
@@ -5,6 +5,7 @@ import com.morakmorak.morak_back_end.entity.*;
 import com.morakmorak.morak_back_end.repository.answer.AnswerRepository;
 import com.morakmorak.morak_back_end.repository.redis.RedisRepository;
 import com.morakmorak.morak_back_end.repository.user.UserRepository;
+import com.morakmorak.morak_back_end.schedule.ReactionFlushScheduler;
 import com.morakmorak.morak_back_end.security.util.JwtTokenUtil;
 import com.morakmorak.morak_back_end.service.AnswerService;
 import org.assertj.core.api.Assertions;
@@ -61,6 +62,9 @@ public class AnswerPressLikeButton {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    ReactionFlushScheduler reactionFlushScheduler;
+
     @Test
     @DisplayName("로그인한 회원이 게시글의 좋아요를 처음 눌렀을 경우 좋아요가 눌리고 201코드와 dto가 리턴된다.")
     public void pressLikeButton_suc1() throws Exception {
@@ -182,6 +186,7 @@ public class AnswerPressLikeButton {
                         .header(JWT_HEADER, accessToken)
         );
         //then
+        reactionFlushScheduler.flush();
         Integer afterPoint = dbUser.getPoint();
         Assertions.assertThat(afterPoint > beforePoint).isTrue();
     }
@@ -212,6 +217,7 @@ public class AnswerPressLikeButton {
                         .header(JWT_HEADER, accessToken)
         );
         //then
+        reactionFlushScheduler.flush();
         Integer afterPoint = dbUser.getPoint();
         Assertions.assertThat(afterPoint < beforePoint).isTrue();
     }
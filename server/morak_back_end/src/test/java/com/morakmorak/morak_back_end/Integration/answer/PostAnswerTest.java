@@ -11,6 +11,7 @@ import com.morakmorak.morak_back_end.repository.FileRepository;
 import com.morakmorak.morak_back_end.repository.article.ArticleRepository;
 import com.morakmorak.morak_back_end.repository.user.UserRepository;
 import com.morakmorak.morak_back_end.security.util.JwtTokenUtil;
+import com.morakmorak.morak_back_end.service.OutboxService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,7 +39,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @Transactional
 @SpringBootTest(value = {
         "jwt.secretKey=only_test_secret_Key_value_gn..rlfdlrkqnwhrgkekspdy",
-        "jwt.refreshKey=only_test_refresh_key_value_gn..rlfdlrkqnwhrgkekspdy"
+        "jwt.refreshKey=only_test_refresh_key_value_gn..rlfdlrkqnwhrgkekspdy",
+        "notification.coalesce-window-seconds=0"
 })
 @AutoConfigureMockMvc
 @EnabledIfEnvironmentVariable(named = "REDIS", matches = "redis")
@@ -58,6 +60,8 @@ public class PostAnswerTest {
     private FileRepository fileRepository;
     @Autowired
     private ArticleRepository articleRepository;
+    @Autowired
+    private OutboxService outboxService;
     @PersistenceContext
     EntityManager em;
 
@@ -279,6 +283,9 @@ public class PostAnswerTest {
                         .content(json)
                         .header(JWT_HEADER, accessToken)
         );
+        em.flush();
+        outboxService.dispatch(100);
+        em.refresh(user);
         Integer afterPoint = user.getPoint();
 
         //then
@@ -321,8 +328,8 @@ public class PostAnswerTest {
                 .files(List.of(file1, file2))
                 .build();
 
-        int beforeNotificationSize = article.getUser().getNotifications().size();
         em.persist(article);
+        int beforeNotificationSize = notificationsOf(user2).size();
         em.persist(user);
         String accessToken = jwtTokenUtil.createAccessToken(EMAIL1, user.getId(), ROLE_USER_LIST, NICKNAME1);
 
@@ -333,7 +340,10 @@ public class PostAnswerTest {
                         .content(json)
                         .header(JWT_HEADER, accessToken)
         );
-        int afterNotificationSize = article.getUser().getNotifications().size();
+        em.flush();
+        outboxService.dispatch(100);
+        List<Notification> notifications = notificationsOf(user2);
+        int afterNotificationSize = notifications.size();
 
         //then
 
@@ -348,6 +358,12 @@ public class PostAnswerTest {
                 .toString();
 
         assertThat(beforeNotificationSize != afterNotificationSize).isTrue();
-        assertThat(article.getUser().getNotifications().get(0).getMessage()).isEqualTo(message);
+        assertThat(notifications.get(0).getMessage()).isEqualTo(message);
+    }
+
+    private List<Notification> notificationsOf(User receiver) {
+        return em.createQuery("select n from Notification n where n.user.id = :userId order by n.id", Notification.class)
+                .setParameter("userId", receiver.getId())
+                .getResultList();
     }
 }
@@ -7,6 +7,7 @@ import com.morakmorak.morak_back_end.entity.enums.CategoryName;
 import com.morakmorak.morak_back_end.repository.article.ArticleRepository;
 import com.morakmorak.morak_back_end.repository.user.UserRepository;
 import com.morakmorak.morak_back_end.security.util.JwtTokenUtil;
+import com.morakmorak.morak_back_end.service.OutboxService;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +20,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
 import static com.morakmorak.morak_back_end.util.SecurityTestConstants.JWT_HEADER;
 import static com.morakmorak.morak_back_end.util.SecurityTestConstants.ROLE_USER_LIST;
 import static com.morakmorak.morak_back_end.util.TestConstants.*;
@@ -45,6 +49,12 @@ public class ArticleDeleteTest {
     @Autowired
     ArticleRepository articleRepository;
 
+    @Autowired
+    OutboxService outboxService;
+
+    @PersistenceContext
+    EntityManager em;
+
     @BeforeEach
     public void beforeEach() {
         User user = User.builder().email(EMAIL1).name(NAME1).build();
@@ -139,6 +149,9 @@ public class ArticleDeleteTest {
 
                         .header(JWT_HEADER, accessToken)
         );
+        em.flush();
+        outboxService.dispatch(100);
+        em.refresh(user);
         Integer afterPoint = user.getPoint();
         //then
         Assertions.assertThat(beforePoint > afterPoint).isTrue();
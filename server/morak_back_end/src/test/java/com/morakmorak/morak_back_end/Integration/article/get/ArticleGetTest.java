@@ -6,6 +6,7 @@ import com.morakmorak.morak_back_end.dto.CommentDto;
 import com.morakmorak.morak_back_end.dto.UserDto;
 import com.morakmorak.morak_back_end.entity.*;
 import com.morakmorak.morak_back_end.entity.enums.*;
+import com.morakmorak.morak_back_end.event.ArticleChangedEvent;
 import com.morakmorak.morak_back_end.repository.CategoryRepository;
 import com.morakmorak.morak_back_end.repository.FileRepository;
 import com.morakmorak.morak_back_end.repository.TagRepository;
@@ -14,7 +15,9 @@ import com.morakmorak.morak_back_end.repository.article.ArticleTagRepository;
 import com.morakmorak.morak_back_end.repository.redis.RedisRepository;
 import com.morakmorak.morak_back_end.repository.user.UserRepository;
 import com.morakmorak.morak_back_end.security.util.JwtTokenUtil;
+import com.morakmorak.morak_back_end.service.ArticleIndexService;
 import com.morakmorak.morak_back_end.service.ArticleService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
@@ -28,6 +31,7 @@ import org.springframework.transaction.annotation.Transactional;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 import static com.morakmorak.morak_back_end.util.SecurityTestConstants.JWT_HEADER;
@@ -41,7 +45,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @SpringBootTest(value = {
         "jwt.secretKey=only_test_secret_Key_value_gn..rlfdlrkqnwhrgkekspdy",
-        "jwt.refreshKey=only_test_refresh_key_value_gn..rlfdlrkqnwhrgkekspdy"
+        "jwt.refreshKey=only_test_refresh_key_value_gn..rlfdlrkqnwhrgkekspdy",
+        "cache.article-detail.enabled=false"
 })
 @AutoConfigureMockMvc
 @Transactional
@@ -83,6 +88,24 @@ public class ArticleGetTest {
     @Autowired
     ArticleRepository articleRepository;
 
+    @Autowired
+    ArticleIndexService articleIndexService;
+
+    List<Long> indexedArticleIds = new ArrayList<>();
+
+    /*
+     * 검색 색인은 기동 시점에 구축되므로, 테스트에서 직접 저장한 게시글은 색인에 반영하고 끝나면 다시 제거합니다.
+     * */
+    @AfterEach
+    void removeIndexedArticles() {
+        indexedArticleIds.forEach(articleId -> articleIndexService.apply(ArticleChangedEvent.removed(articleId)));
+    }
+
+    private void index(Article article, TagName tagName) {
+        articleIndexService.apply(ArticleChangedEvent.saved(article, EnumSet.of(tagName)));
+        indexedArticleIds.add(article.getId());
+    }
+
 
     @Test
     @DisplayName("게시글을 타이틀명과 카테고리로 검색 성공시 201코드와 Ok를 반환한다.")
@@ -117,6 +140,7 @@ public class ArticleGetTest {
 
         user.getArticles().add(article);
         em.persist(user);
+        index(article, TagName.JAVA);
 
         //when
         ResultActions perform = mockMvc.perform(
@@ -190,6 +214,7 @@ public class ArticleGetTest {
 
         user.getArticles().add(article);
         em.persist(user);
+        index(article, TagName.JAVA);
 
         //when
         ResultActions perform = mockMvc.perform(
@@ -246,6 +271,7 @@ public class ArticleGetTest {
 
         user.getArticles().add(article);
         em.persist(user);
+        index(article, TagName.JAVA);
 
         //when
         ResultActions perform = mockMvc.perform(
@@ -385,7 +411,7 @@ public class ArticleGetTest {
                 .andExpect(jsonPath("$.category").value("INFO"))
                 .andExpect(jsonPath("$.title").value("안녕하세요 타이틀입니다. 잘부탁드립니다. 제발 되었으면 좋겠습니다."))
                 .andExpect(jsonPath("$.content").value("안녕하세요 콘탠트입니다. 제발 되었으면 좋겠습니다."))
-                .andExpect(jsonPath("$.clicks").value(article.getClicks()))
+                .andExpect(jsonPath("$.clicks").value(article.getClicks() + 1))
                 .andExpect(jsonPath("$.likes").value(1))
                 .andExpect(jsonPath("$.isClosed").value(false))
                 .andExpect(jsonPath("$.isLiked").value(true))
@@ -436,6 +462,8 @@ public class ArticleGetTest {
                 .user(user)
                 .category(category)
                 .clicks(10)
+                .reportCount(5)
+                .isBlocked(true)
                 .build();
         ArticleTag articleTag = ArticleTag.builder().article(article).tag(C).build();
         article.getArticleTags().add(articleTag);
@@ -492,7 +520,7 @@ public class ArticleGetTest {
                 .andExpect(jsonPath("$.category").value("INFO"))
                 .andExpect(jsonPath("$.title").value("이 글은 신고가 누적되어 더이상 확인하실 수 없습니다."))
                 .andExpect(jsonPath("$.content").value("이 글은 신고가 누적되어 더이상 확인하실 수 없습니다."))
-                .andExpect(jsonPath("$.clicks").value(article.getClicks()))
+                .andExpect(jsonPath("$.clicks").value(article.getClicks() + 1))
                 .andExpect(jsonPath("$.likes").value(1))
                 .andExpect(jsonPath("$.isClosed").value(false))
                 .andExpect(jsonPath("$.isLiked").value(true))
@@ -588,7 +616,7 @@ public class ArticleGetTest {
                 .andExpect(jsonPath("$.articleId").value(article.getId()))
                 .andExpect(jsonPath("$.title").value(article.getTitle()))
                 .andExpect(jsonPath("$.content").value(article.getContent()))
-                .andExpect(jsonPath("$.clicks").value(article.getClicks()))
+                .andExpect(jsonPath("$.clicks").value(article.getClicks() + 1))
                 .andExpect(jsonPath("$.likes").value(1))
                 .andExpect(jsonPath("$.isClosed").value(false))
                 .andExpect(jsonPath("$.isLiked").value(false))
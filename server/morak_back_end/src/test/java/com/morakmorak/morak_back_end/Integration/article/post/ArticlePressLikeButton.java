@@ -5,6 +5,7 @@ import com.morakmorak.morak_back_end.entity.*;
 import com.morakmorak.morak_back_end.repository.article.ArticleRepository;
 import com.morakmorak.morak_back_end.repository.redis.RedisRepository;
 import com.morakmorak.morak_back_end.repository.user.UserRepository;
+import com.morakmorak.morak_back_end.schedule.ReactionFlushScheduler;
 import com.morakmorak.morak_back_end.security.util.JwtTokenUtil;
 import com.morakmorak.morak_back_end.service.ArticleService;
 import org.assertj.core.api.Assertions;
@@ -60,6 +61,9 @@ public class ArticlePressLikeButton {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    ReactionFlushScheduler reactionFlushScheduler;
+
     @Test
     @DisplayName("로그인한 회원이 게시글의 좋아요를 처음 눌렀을 경우 좋아요가 눌리고 201코드와 dto가 리턴된다.")
     public void pressLikeButton_suc1() throws Exception {
@@ -182,6 +186,7 @@ public class ArticlePressLikeButton {
                 post("/articles/" + article.getId()+"/likes")
                         .header(JWT_HEADER, accessToken)
         );
+        reactionFlushScheduler.flush();
         Integer afterPoint = dbUser.getPoint();
         //then
         Assertions.assertThat(beforePoint < afterPoint).isTrue();
@@ -213,6 +218,7 @@ public class ArticlePressLikeButton {
                         .header(JWT_HEADER, accessToken)
         );
         //then
+        reactionFlushScheduler.flush();
         Integer afterPoint = dbUser.getPoint();
         Assertions.assertThat(beforePoint > afterPoint).isTrue();
     }
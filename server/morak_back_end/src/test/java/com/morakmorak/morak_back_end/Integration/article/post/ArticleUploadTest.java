@@ -18,6 +18,7 @@ import com.morakmorak.morak_back_end.repository.redis.RedisRepository;
 import com.morakmorak.morak_back_end.repository.user.UserRepository;
 import com.morakmorak.morak_back_end.security.util.JwtTokenUtil;
 import com.morakmorak.morak_back_end.service.ArticleService;
+import com.morakmorak.morak_back_end.service.OutboxService;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -32,6 +33,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import java.util.List;
 
 import static com.morakmorak.morak_back_end.util.SecurityTestConstants.JWT_HEADER;
@@ -80,6 +83,12 @@ public class ArticleUploadTest {
     @Autowired
     ArticleRepository articleRepository;
 
+    @Autowired
+    OutboxService outboxService;
+
+    @PersistenceContext
+    EntityManager em;
+
     @BeforeEach
     public void originallySavedElements() throws Exception {
         //needs save
@@ -242,6 +251,9 @@ public class ArticleUploadTest {
         );
 
         //then
+        em.flush();
+        outboxService.dispatch(100);
+        em.refresh(user);
         Integer pointAfter = user.getPoint();
         Assertions.assertThat(pointBefore < pointAfter).isTrue();
     }
@@ -5,6 +5,7 @@ import com.morakmorak.morak_back_end.dto.CommentDto;
 import com.morakmorak.morak_back_end.entity.Article;
 import com.morakmorak.morak_back_end.entity.Avatar;
 import com.morakmorak.morak_back_end.entity.Comment;
+import com.morakmorak.morak_back_end.entity.Notification;
 import com.morakmorak.morak_back_end.entity.User;
 import com.morakmorak.morak_back_end.entity.enums.Grade;
 import com.morakmorak.morak_back_end.repository.CommentRepository;
@@ -12,6 +13,7 @@ import com.morakmorak.morak_back_end.repository.article.ArticleRepository;
 import com.morakmorak.morak_back_end.repository.user.AvatarRepository;
 import com.morakmorak.morak_back_end.repository.user.UserRepository;
 import com.morakmorak.morak_back_end.security.util.JwtTokenUtil;
+import com.morakmorak.morak_back_end.service.OutboxService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,6 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import java.util.List;
 
 import static com.morakmorak.morak_back_end.entity.enums.Grade.*;
 import static com.morakmorak.morak_back_end.util.CommentTestConstants.VALID_COMMENT;
@@ -40,7 +43,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @Transactional
 @SpringBootTest(value = {
         "jwt.secretKey=only_test_secret_Key_value_gn..rlfdlrkqnwhrgkekspdy",
-        "jwt.refreshKey=only_test_refresh_key_value_gn..rlfdlrkqnwhrgkekspdy"
+        "jwt.refreshKey=only_test_refresh_key_value_gn..rlfdlrkqnwhrgkekspdy",
+        "notification.coalesce-window-seconds=0"
 })
 @AutoConfigureMockMvc
 @EnabledIfEnvironmentVariable(named = "REDIS", matches = "redis")
@@ -60,6 +64,8 @@ public class CommentTest {
     CommentRepository commentRepository;
     @Autowired
     AvatarRepository avatarRepository;
+    @Autowired
+    OutboxService outboxService;
     @PersistenceContext
     EntityManager em;
 
@@ -126,15 +132,15 @@ public class CommentTest {
         );
         //then 201 created 반환
         perform.andExpect(status().isCreated())
-                .andExpect(jsonPath("$[0].userInfo.userId").exists())
-                .andExpect(jsonPath("$[0].userInfo.nickname").exists())
-                .andExpect(jsonPath("$[0].userInfo.grade", is(MATCH.toString())))
-                .andExpect(jsonPath("$[0].avatar.avatarId").exists())
-                .andExpect(jsonPath("$[0].avatar.filename").exists())
-                .andExpect(jsonPath("$[0].avatar.remotePath").exists())
-                .andExpect(jsonPath("$[0].articleId").exists())
-                .andExpect(jsonPath("$[0].content").exists())
-                .andExpect(jsonPath("$[0].commentId").exists());
+                .andExpect(jsonPath("$.data[0].userInfo.userId").exists())
+                .andExpect(jsonPath("$.data[0].userInfo.nickname").exists())
+                .andExpect(jsonPath("$.data[0].userInfo.grade", is(MATCH.toString())))
+                .andExpect(jsonPath("$.data[0].avatar.avatarId").exists())
+                .andExpect(jsonPath("$.data[0].avatar.filename").exists())
+                .andExpect(jsonPath("$.data[0].avatar.remotePath").exists())
+                .andExpect(jsonPath("$.data[0].articleId").exists())
+                .andExpect(jsonPath("$.data[0].content").exists())
+                .andExpect(jsonPath("$.data[0].commentId").exists());
     }
     @Test
     @DisplayName("댓글 수정 시 유효한 데이터가 인입되었다면 200을 반환한다.")
@@ -155,17 +161,17 @@ public class CommentTest {
         //then 200 ok 반환
         perform
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].commentId").value(savedComment.getId().intValue()))
-                .andExpect(jsonPath("$[0].articleId",is(savedArticle.getId().intValue())))
-                .andExpect(jsonPath("$[0].userInfo.userId",is(savedUser.getId().intValue())))
-                .andExpect(jsonPath("$[0].userInfo.nickname").exists())
-                .andExpect(jsonPath("$[0].userInfo.grade", is(CANDLE.toString())))
-                .andExpect(jsonPath("$[0].avatar.avatarId").exists())
-                .andExpect(jsonPath("$[0].avatar.filename").exists())
-                .andExpect(jsonPath("$[0].avatar.remotePath").exists())
-                .andExpect(jsonPath("$[0].content").exists())
-                .andExpect(jsonPath("$[0].createdAt").exists())
-                .andExpect(jsonPath("$[0].lastModifiedAt").exists());
+                .andExpect(jsonPath("$.data[0].commentId").value(savedComment.getId().intValue()))
+                .andExpect(jsonPath("$.data[0].articleId",is(savedArticle.getId().intValue())))
+                .andExpect(jsonPath("$.data[0].userInfo.userId",is(savedUser.getId().intValue())))
+                .andExpect(jsonPath("$.data[0].userInfo.nickname").exists())
+                .andExpect(jsonPath("$.data[0].userInfo.grade", is(CANDLE.toString())))
+                .andExpect(jsonPath("$.data[0].avatar.avatarId").exists())
+                .andExpect(jsonPath("$.data[0].avatar.filename").exists())
+                .andExpect(jsonPath("$.data[0].avatar.remotePath").exists())
+                .andExpect(jsonPath("$.data[0].content").exists())
+                .andExpect(jsonPath("$.data[0].createdAt").exists())
+                .andExpect(jsonPath("$.data[0].lastModifiedAt").exists());
     }
     @Test
     @DisplayName("댓글 수정 시 수정 권한이 없다면 401 반환한다.")
@@ -236,21 +242,23 @@ public class CommentTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .header(JWT_HEADER, accessToken)
         );
-        Comment survivedComment = commentRepository.findByUserId(savedUser.getId()).orElseThrow(() -> new AssertionError());
-        //then 200 ok 반환
+        //then 200 ok 와 함께 삭제된 댓글과 그 뒤의 댓글을 이어서 읽을 커서를 반환
         perform
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].commentId").value(survivedComment.getId().intValue()))
-                .andExpect(jsonPath("$[0].articleId",is(savedArticle.getId().intValue())))
-                .andExpect(jsonPath("$[0].userInfo.userId",is(savedUser.getId().intValue())))
-                .andExpect(jsonPath("$[0].userInfo.nickname").exists())
-                .andExpect(jsonPath("$[0].userInfo.grade", is(MATCH.toString())))
-                .andExpect(jsonPath("$[0].avatar.avatarId").exists())
-                .andExpect(jsonPath("$[0].avatar.filename").exists())
-                .andExpect(jsonPath("$[0].avatar.remotePath").exists())
-                .andExpect(jsonPath("$[0].content").value("살아남을 댓글입니다."))
-                .andExpect(jsonPath("$[0].createdAt").exists())
-                .andExpect(jsonPath("$[0].lastModifiedAt").exists());
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].commentId").value(savedComment.getId().intValue()))
+                .andExpect(jsonPath("$.data[0].articleId",is(savedArticle.getId().intValue())))
+                .andExpect(jsonPath("$.data[0].userInfo.userId",is(savedUser.getId().intValue())))
+                .andExpect(jsonPath("$.data[0].userInfo.nickname").exists())
+                .andExpect(jsonPath("$.data[0].userInfo.grade", is(MATCH.toString())))
+                .andExpect(jsonPath("$.data[0].avatar.avatarId").exists())
+                .andExpect(jsonPath("$.data[0].avatar.filename").exists())
+                .andExpect(jsonPath("$.data[0].avatar.remotePath").exists())
+                .andExpect(jsonPath("$.data[0].content").value("지워질 댓글입니다."))
+                .andExpect(jsonPath("$.data[0].createdAt").exists())
+                .andExpect(jsonPath("$.data[0].lastModifiedAt").exists())
+                .andExpect(jsonPath("$.cursorInfo.hasNext").value(true))
+                .andExpect(jsonPath("$.cursorInfo.nextCursor").exists());
     }
 
     @Test
@@ -269,6 +277,9 @@ public class CommentTest {
                 .header(JWT_HEADER, accessToken)
         );
         //then
+        em.flush();
+        outboxService.dispatch(100);
+        em.refresh(savedUser);
         Integer afterPoint = savedUser.getPoint();
         assertThat(beforePoint < afterPoint).isTrue();
     }
@@ -288,6 +299,12 @@ public class CommentTest {
                 .header(JWT_HEADER, accessToken)
         );
         //then
+        em.flush();
+        outboxService.dispatch(100);
+        List<Notification> notifications = em.createQuery("select n from Notification n where n.user.id = :userId", Notification.class)
+                .setParameter("userId", savedArticle.getUser().getId())
+                .getResultList();
+
         StringBuilder stringBuilder = new StringBuilder();
         String message = stringBuilder.append("회원님께서 작성하신 ")
                 .append("\"")
@@ -298,7 +315,7 @@ public class CommentTest {
                 .append("님께서 댓글을 남기셨어요.")
                 .toString();
 
-        assertThat(savedArticle.getUser().getNotifications().size()).isEqualTo(1);
-        assertThat(savedArticle.getUser().getNotifications().get(0).getMessage()).isEqualTo(message);
+        assertThat(notifications.size()).isEqualTo(1);
+        assertThat(notifications.get(0).getMessage()).isEqualTo(message);
     }
 }
@@ -11,6 +11,7 @@ import com.morakmorak.morak_back_end.security.util.JwtTokenUtil;
 import com.morakmorak.morak_back_end.service.AnswerService;
 import com.morakmorak.morak_back_end.service.ArticleService;
 import com.morakmorak.morak_back_end.service.NotificationService;
+import com.morakmorak.morak_back_end.service.OutboxService;
 import com.morakmorak.morak_back_end.util.SecurityTestConstants;
 import com.morakmorak.morak_back_end.util.TestConstants;
 import org.assertj.core.api.Assertions;
@@ -43,7 +44,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @Transactional
 @SpringBootTest(value = {
         "jwt.secretKey=only_test_secret_Key_value_gn..rlfdlrkqnwhrgkekspdy",
-        "jwt.refreshKey=only_test_refresh_key_value_gn..rlfdlrkqnwhrgkekspdy"
+        "jwt.refreshKey=only_test_refresh_key_value_gn..rlfdlrkqnwhrgkekspdy",
+        "notification.coalesce-window-seconds=0"
 })
 @AutoConfigureMockMvc
 @EnabledIfEnvironmentVariable(named = "REDIS", matches = "redis")
@@ -72,6 +74,9 @@ public class NotificationTest {
     @Autowired
     AnswerService answerService;
 
+    @Autowired
+    OutboxService outboxService;
+
     private final String BASE_URL = "localhost:8080.com";
 
     User user;
@@ -202,6 +207,7 @@ public class NotificationTest {
         }
 
         //then
+        List<Notification> authorNotifications = dispatchedNotificationsOf(author);
         StringBuilder stringBuilder = new StringBuilder();
 
         String result = stringBuilder.append("회원님께서 작성하신 ")
@@ -213,12 +219,12 @@ public class NotificationTest {
                 .append("개를 돌파했어요.")
                 .toString();
 
-        assertThat(author.getNotifications().size()).isEqualTo(ONE);
-        assertThat(author.getNotifications().get(0).getMessage()).isEqualTo(result);
+        assertThat(authorNotifications.size()).isEqualTo(ONE);
+        assertThat(authorNotifications.get(0).getMessage()).isEqualTo(result);
     }
 
     @Test
-    @DisplayName("작성한 글에 좋아요가 30개 달리면 알림이 생성된다")
+    @DisplayName("작성한 글에 좋아요가 30개 달리면 같은 시간 안에 쌓인 돌파 알림은 마지막 알림 하나로 합쳐진다")
     void article_notification2() throws Exception {
         //given
         User author = User.builder().nickname(NICKNAME1).build();
@@ -235,6 +241,7 @@ public class NotificationTest {
         }
 
         //then
+        List<Notification> authorNotifications = dispatchedNotificationsOf(author);
         StringBuilder stringBuilder = new StringBuilder();
 
         String result = stringBuilder.append("회원님께서 작성하신 ")
@@ -246,12 +253,12 @@ public class NotificationTest {
                 .append("개를 돌파했어요.")
                 .toString();
 
-        assertThat(author.getNotifications().size()).isEqualTo(THREE);
-        assertThat(author.getNotifications().get(2).getMessage()).isEqualTo(result);
+        assertThat(authorNotifications.size()).isEqualTo(ONE);
+        assertThat(authorNotifications.get(0).getMessage()).isEqualTo(result);
     }
 
     @Test
-    @DisplayName("작성한 답글에 좋아요가 10개 달리면 알림이 생성된다")
+    @DisplayName("작성한 답글에 좋아요가 30개 달리면 같은 시간 안에 쌓인 돌파 알림은 마지막 알림 하나로 합쳐진다")
     void article_notification3() throws Exception {
         //given
         User author = User.builder().nickname(NICKNAME1).build();
@@ -270,6 +277,7 @@ public class NotificationTest {
         }
 
         //then
+        List<Notification> authorNotifications = dispatchedNotificationsOf(author);
         StringBuilder stringBuilder = new StringBuilder();
 
         String result = stringBuilder.append("회원님께서 작성하신 ")
@@ -277,12 +285,12 @@ public class NotificationTest {
                 .append(answer.getArticle().getTitle())
                 .append("\"")
                 .append("의 답변에 대한 좋아요가 ")
-                .append(10)
+                .append(30)
                 .append("개를 돌파했어요.")
                 .toString();
 
-        assertThat(author.getNotifications().size()).isEqualTo(THREE);
-        assertThat(author.getNotifications().get(0).getMessage()).isEqualTo(result);
+        assertThat(authorNotifications.size()).isEqualTo(ONE);
+        assertThat(authorNotifications.get(0).getMessage()).isEqualTo(result);
     }
 
     @Test
@@ -305,6 +313,7 @@ public class NotificationTest {
         }
 
         //then
+        List<Notification> authorNotifications = dispatchedNotificationsOf(author);
         StringBuilder stringBuilder = new StringBuilder();
 
         String result = stringBuilder.append("회원님께서 작성하신 ")
@@ -316,7 +325,16 @@ public class NotificationTest {
                 .append("개를 돌파했어요.")
                 .toString();
 
-        assertThat(author.getNotifications().size()).isEqualTo(10);
-        assertThat(author.getNotifications().get(9).getMessage()).isEqualTo(result);
+        assertThat(authorNotifications.size()).isEqualTo(ONE);
+        assertThat(authorNotifications.get(0).getMessage()).isEqualTo(result);
+    }
+
+    private List<Notification> dispatchedNotificationsOf(User receiver) {
+        em.flush();
+        outboxService.dispatch(100);
+
+        return em.createQuery("select n from Notification n where n.user.id = :userId order by n.id", Notification.class)
+                .setParameter("userId", receiver.getId())
+                .getResultList();
     }
 }
@@ -186,6 +186,7 @@ public class PostReviewTest {
     void donatePoint_success_1() throws Exception {
         //user에게 50포인트 존재
         user.plusPoint(Answer.builder().build(), pointCalculator);
+        em.flush();
         Integer user_InitialPoint = user.getPoint();
         Integer user1_InitialPoint = user1.getPoint();
         ReviewDto.RequestPostReview request = ReviewDto.RequestPostReview.builder().content("15글자 이상의 정성스러운 답변").badges(validBadges).point(Optional.of(10)).build();
@@ -196,6 +197,8 @@ public class PostReviewTest {
                 .contentType(MediaType.APPLICATION_JSON)
         );
         perform.andExpect(status().isCreated());
+        em.refresh(user);
+        em.refresh(user1);
         Assertions.assertThat(user_InitialPoint > user.getPoint()).isTrue();
         Assertions.assertThat(user1_InitialPoint < user1.getPoint()).isTrue();
     }
@@ -1,8 +1,13 @@
 package com.morakmorak.morak_back_end.config;
 
+import com.morakmorak.morak_back_end.domain.ArticleSearchIndex;
+import com.morakmorak.morak_back_end.domain.ArticleTagBitmapIndex;
+import com.morakmorak.morak_back_end.repository.redis.SearchSnapshotRepository;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.mockito.Mockito;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.core.RedisTemplate;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
@@ -16,4 +21,23 @@ public class JpaQueryFactoryConfig {
     public JPAQueryFactory jpaQueryFactory() {
         return new JPAQueryFactory(entityManager);
     }
+
+    @Bean
+    public ArticleSearchIndex articleSearchIndex() {
+        return new ArticleSearchIndex();
+    }
+
+    @Bean
+    public ArticleTagBitmapIndex articleTagBitmapIndex() {
+        return new ArticleTagBitmapIndex();
+    }
+
+    /*
+     * @DataJpaTest 에는 Redis 가 없으므로 저장한 순위를 읽지 못하고, 관련도순 다음 페이지는 현재 순위에서 위치로 이어서 읽습니다.
+     * */
+    @Bean
+    @SuppressWarnings("unchecked")
+    public SearchSnapshotRepository searchSnapshotRepository() {
+        return new SearchSnapshotRepository(Mockito.mock(RedisTemplate.class, Mockito.RETURNS_DEEP_STUBS));
+    }
 }
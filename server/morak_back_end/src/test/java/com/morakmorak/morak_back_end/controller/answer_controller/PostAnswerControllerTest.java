@@ -15,6 +15,7 @@ import com.morakmorak.morak_back_end.exception.ErrorCode;
 import com.morakmorak.morak_back_end.security.resolver.JwtArgumentResolver;
 import com.morakmorak.morak_back_end.service.AnswerService;
 import com.morakmorak.morak_back_end.service.FileService;
+import com.morakmorak.morak_back_end.service.ResourceVersionService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.BDDMockito;
@@ -64,6 +65,9 @@ public class PostAnswerControllerTest {
     MockMvc mockMvc;
     @Autowired
     ObjectMapper objectMapper;
+    @MockBean
+    ResourceVersionService resourceVersionService;
+
     @MockBean
     JwtArgumentResolver jwtArgumentResolver;
     @MockBean
@@ -11,6 +11,7 @@ import com.morakmorak.morak_back_end.exception.ErrorCode;
 import com.morakmorak.morak_back_end.security.resolver.JwtArgumentResolver;
 import com.morakmorak.morak_back_end.service.AnswerService;
 import com.morakmorak.morak_back_end.service.FileService;
+import com.morakmorak.morak_back_end.service.ResourceVersionService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.BDDMockito;
@@ -56,6 +57,9 @@ public class UpdateAnswerControllerTest {
     @Autowired
     ObjectMapper objectMapper;
 
+    @MockBean
+    ResourceVersionService resourceVersionService;
+
     @MockBean
     JwtArgumentResolver jwtArgumentResolver;
     @MockBean
@@ -16,6 +16,7 @@ import com.morakmorak.morak_back_end.mapper.TagMapper;
 import com.morakmorak.morak_back_end.repository.article.ArticleRepository;
 import com.morakmorak.morak_back_end.security.resolver.JwtArgumentResolver;
 import com.morakmorak.morak_back_end.service.ArticleService;
+import com.morakmorak.morak_back_end.service.ResourceVersionService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -52,6 +53,9 @@ public class Delete_ArticleController {
     @Autowired
     MockMvc mockMvc;
 
+    @MockBean
+    ResourceVersionService resourceVersionService;
+
     @MockBean
     ArticleMapper articleMapper;
 
@@ -18,6 +18,7 @@ import com.morakmorak.morak_back_end.mapper.TagMapper;
 import com.morakmorak.morak_back_end.repository.article.ArticleRepository;
 import com.morakmorak.morak_back_end.security.resolver.JwtArgumentResolver;
 import com.morakmorak.morak_back_end.service.ArticleService;
+import com.morakmorak.morak_back_end.service.ResourceVersionService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,6 +31,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -38,12 +40,15 @@ import org.springframework.test.web.servlet.ResultActions;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static com.morakmorak.morak_back_end.util.SecurityTestConstants.ACCESS_TOKEN;
 import static com.morakmorak.morak_back_end.util.SecurityTestConstants.JWT_HEADER;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -52,6 +57,7 @@ import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -64,6 +70,9 @@ public class searchArticleTest {
     @Autowired
     MockMvc mockMvc;
 
+    @MockBean
+    ResourceVersionService resourceVersionService;
+
     @MockBean
     ArticleMapper articleMapper;
 
@@ -3801,6 +3810,7 @@ public class searchArticleTest {
                 .userInfo(userInfoDto)
                 .avatar(avatarDto)
                 .comments(List.of(commentDto))
+                .relatedArticles(List.of(ArticleDto.ResponseRelatedArticle.builder().articleId(2L).title("비슷한 질문입니다.").build()))
                 .build();
 
         given(articleService.findDetailArticle(anyLong(), any())).willReturn(result);
@@ -3887,7 +3897,9 @@ public class searchArticleTest {
                                         fieldWithPath("comments[].userInfo.grade").type(JsonFieldType.STRING).description("댓글 유저의 등급입니다."),
                                         fieldWithPath("comments[].avatar.avatarId").type(JsonFieldType.NUMBER).description("댓글 유저의 아바타 파일의 아이디 입니다."),
                                         fieldWithPath("comments[].avatar.filename").type(JsonFieldType.STRING).description("댓글 유저의 아바타 파일의 이름입니다."),
-                                        fieldWithPath("comments[].avatar.remotePath").type(JsonFieldType.STRING).description("댓글 유저의 아바타 파일의 경로입니다.")
+                                        fieldWithPath("comments[].avatar.remotePath").type(JsonFieldType.STRING).description("댓글 유저의 아바타 파일의 경로입니다."),
+                                        fieldWithPath("relatedArticles[].articleId").type(JsonFieldType.NUMBER).description("태그가 비슷한 게시글의 아이디입니다."),
+                                        fieldWithPath("relatedArticles[].title").type(JsonFieldType.STRING).description("태그가 비슷한 게시글의 제목입니다.")
                                 ))));
 
     }
@@ -3976,6 +3988,7 @@ public class searchArticleTest {
                 .userInfo(userInfoDto)
                 .avatar(avatarDto)
                 .comments(new ArrayList<>())
+                .relatedArticles(new ArrayList<>())
                 .build();
 
         given(articleService.findDetailArticle(anyLong(), any())).willReturn(result);
@@ -4039,7 +4052,8 @@ public class searchArticleTest {
                                         fieldWithPath("avatar.avatarId").type(JsonFieldType.NUMBER).description("아바타 파일의 아이디 입니다."),
                                         fieldWithPath("avatar.filename").type(JsonFieldType.STRING).description("아바타 파일의 이름입니다."),
                                         fieldWithPath("avatar.remotePath").type(JsonFieldType.STRING).description("아바타 파일의 경로입니다."),
-                                        fieldWithPath("comments[]").type(JsonFieldType.ARRAY).description("신고글의 댓글은 빈 배열을 리턴합니다.")
+                                        fieldWithPath("comments[]").type(JsonFieldType.ARRAY).description("신고글의 댓글은 빈 배열을 리턴합니다."),
+                                        fieldWithPath("relatedArticles[]").type(JsonFieldType.ARRAY).description("태그가 비슷한 게시글 목록입니다.")
 
                                 ))));
 
@@ -4129,6 +4143,7 @@ public class searchArticleTest {
                 .userInfo(userInfoDto)
                 .avatar(avatarDto)
                 .comments(List.of(commentDto))
+                .relatedArticles(List.of(ArticleDto.ResponseRelatedArticle.builder().articleId(2L).title("비슷한 질문입니다.").build()))
                 .build();
 
         given(articleService.findDetailArticle(anyLong(), any())).willReturn(result);
@@ -4211,7 +4226,9 @@ public class searchArticleTest {
                                         fieldWithPath("comments[].userInfo.grade").type(JsonFieldType.STRING).description("댓글 유저의 등급입니다."),
                                         fieldWithPath("comments[].avatar.avatarId").type(JsonFieldType.NUMBER).description("댓글 유저의 아바타 파일의 아이디 입니다."),
                                         fieldWithPath("comments[].avatar.filename").type(JsonFieldType.STRING).description("댓글 유저의 아바타 파일의 이름입니다."),
-                                        fieldWithPath("comments[].avatar.remotePath").type(JsonFieldType.STRING).description("댓글 유저의 아바타 파일의 경로입니다.")
+                                        fieldWithPath("comments[].avatar.remotePath").type(JsonFieldType.STRING).description("댓글 유저의 아바타 파일의 경로입니다."),
+                                        fieldWithPath("relatedArticles[].articleId").type(JsonFieldType.NUMBER).description("태그가 비슷한 게시글의 아이디입니다."),
+                                        fieldWithPath("relatedArticles[].title").type(JsonFieldType.STRING).description("태그가 비슷한 게시글의 제목입니다.")
                                 ))));
     }
 
@@ -4279,5 +4296,34 @@ public class searchArticleTest {
 
 
     }
-}
 
+    @Test
+    @DisplayName("게시글 상세조회시 If-None-Match 가 현재 버전과 같으면 응답을 만들지 않고 304 를 반환한다.")
+    public void findDetailArticle_notModified() throws Exception {
+        //given
+        String etag = "W/\"1000-0\"";
+        given(resourceVersionService.etagOf(any(), anyLong(), any())).willReturn(Optional.of(etag));
+
+        //when
+        ResultActions perform = mockMvc.perform(
+                get("/articles/{article-id}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+        );
+
+        //then
+        perform.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andDo(document(
+                        "게시글_상세조회시_변경되지_않았으면_304",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        pathParameters(
+                                parameterWithName("article-id").description("게시글 아이디입니다.")
+                        ),
+                        requestHeaders(
+                                headerWithName(HttpHeaders.IF_NONE_MATCH).description("이전 응답의 ETag 입니다.")
+                        )));
+
+        verify(articleService, never()).findDetailArticle(anyLong(), any());
+    }
+}
@@ -4,12 +4,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.morakmorak.morak_back_end.config.SecurityTestConfig;
 import com.morakmorak.morak_back_end.controller.CommentController;
 import com.morakmorak.morak_back_end.controller.ExceptionController;
+import com.morakmorak.morak_back_end.domain.CursorSlice;
+import com.morakmorak.morak_back_end.domain.PageCursor;
 import com.morakmorak.morak_back_end.dto.AvatarDto;
 import com.morakmorak.morak_back_end.dto.CommentDto;
+import com.morakmorak.morak_back_end.dto.ResponseCursorPaging;
 import com.morakmorak.morak_back_end.dto.UserDto;
 import com.morakmorak.morak_back_end.entity.enums.Grade;
 import com.morakmorak.morak_back_end.security.resolver.JwtArgumentResolver;
 import com.morakmorak.morak_back_end.service.CommentService;
+import com.morakmorak.morak_back_end.service.ResourceVersionService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.BDDMockito;
@@ -51,6 +55,9 @@ class PostCommentOnArticle_ControllerTest {
     @Autowired
     ObjectMapper objectMapper;
 
+    @MockBean
+    ResourceVersionService resourceVersionService;
+
     @MockBean
     JwtArgumentResolver jwtArgumentResolver;
     @MockBean
@@ -124,7 +131,7 @@ class PostCommentOnArticle_ControllerTest {
 
         //when 적절한 json 인입
         String json = objectMapper.writeValueAsString(request);
-        BDDMockito.given(commentService.makeComment(any(), any(), any(), anyBoolean())).willReturn(response);
+        BDDMockito.given(commentService.makeComment(any(), any(), any(), anyBoolean())).willReturn(new ResponseCursorPaging<>(response, CursorSlice.of(response, false, PageCursor.of(1L))));
         ResultActions perform =
                 mockMvc.perform(
                         post("/articles/{article-id}/comments", 1L)
@@ -145,18 +152,21 @@ class PostCommentOnArticle_ControllerTest {
                                 fieldWithPath("content").type(JsonFieldType.STRING).description("댓글 내용")),
                         responseFields(
                                 List.of(
-                                        fieldWithPath("[].userInfo.userId").type(JsonFieldType.NUMBER).description("유저 식별자입니다"),
-                                        fieldWithPath("[].userInfo.nickname").type(JsonFieldType.STRING).description("유저 닉네임입니다"),
-                                        fieldWithPath("[].userInfo.grade").type(JsonFieldType.STRING).description("유저 등급입니다"),
-                                        fieldWithPath("[].avatar.avatarId").type(JsonFieldType.NUMBER).description("프로필사진 식별자입니다"),
-                                        fieldWithPath("[].avatar.filename").type(JsonFieldType.STRING).description("파일 이름입니다"),
-                                        fieldWithPath("[].avatar.remotePath").type(JsonFieldType.STRING).description("유저 닉네임입니다"),
-                                        fieldWithPath("[].articleId").type(JsonFieldType.NUMBER).description("글 식별자입니다"),
-                                        fieldWithPath("[].answerId").type(JsonFieldType.NULL).description("비어있는 답글 식별자입니다"),
-                                        fieldWithPath("[].content").type(JsonFieldType.STRING).description("댓글 내용입니다"),
-                                        fieldWithPath("[].commentId").type(JsonFieldType.NUMBER).description("댓글 식별자입니다"),
-                                        fieldWithPath("[].createdAt").type(JsonFieldType.STRING).description("댓글 첫 작성일입니다."),
-                                        fieldWithPath("[].lastModifiedAt").type(JsonFieldType.STRING).description("댓글 최신 수정일입니다")
+                                        fieldWithPath("data[].userInfo.userId").type(JsonFieldType.NUMBER).description("유저 식별자입니다"),
+                                        fieldWithPath("data[].userInfo.nickname").type(JsonFieldType.STRING).description("유저 닉네임입니다"),
+                                        fieldWithPath("data[].userInfo.grade").type(JsonFieldType.STRING).description("유저 등급입니다"),
+                                        fieldWithPath("data[].avatar.avatarId").type(JsonFieldType.NUMBER).description("프로필사진 식별자입니다"),
+                                        fieldWithPath("data[].avatar.filename").type(JsonFieldType.STRING).description("파일 이름입니다"),
+                                        fieldWithPath("data[].avatar.remotePath").type(JsonFieldType.STRING).description("유저 닉네임입니다"),
+                                        fieldWithPath("data[].articleId").type(JsonFieldType.NUMBER).description("글 식별자입니다"),
+                                        fieldWithPath("data[].answerId").type(JsonFieldType.NULL).description("비어있는 답글 식별자입니다"),
+                                        fieldWithPath("data[].content").type(JsonFieldType.STRING).description("댓글 내용입니다"),
+                                        fieldWithPath("data[].commentId").type(JsonFieldType.NUMBER).description("댓글 식별자입니다"),
+                                        fieldWithPath("data[].createdAt").type(JsonFieldType.STRING).description("댓글 첫 작성일입니다."),
+                                        fieldWithPath("data[].lastModifiedAt").type(JsonFieldType.STRING).description("댓글 최신 수정일입니다"),
+                                        fieldWithPath("cursorInfo.size").type(JsonFieldType.NUMBER).description("응답 댓글 수입니다"),
+                                        fieldWithPath("cursorInfo.hasNext").type(JsonFieldType.BOOLEAN).description("이 댓글 뒤에 다른 댓글이 있는지 여부입니다"),
+                                        fieldWithPath("cursorInfo.nextCursor").type(JsonFieldType.STRING).description("이 댓글 다음부터 이어서 조회할 커서입니다")
                                 )
                         )
                 ));
@@ -4,14 +4,18 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.morakmorak.morak_back_end.config.SecurityTestConfig;
 import com.morakmorak.morak_back_end.controller.CommentController;
 import com.morakmorak.morak_back_end.controller.ExceptionController;
+import com.morakmorak.morak_back_end.domain.CursorSlice;
+import com.morakmorak.morak_back_end.domain.PageCursor;
 import com.morakmorak.morak_back_end.dto.AvatarDto;
 import com.morakmorak.morak_back_end.dto.CommentDto;
+import com.morakmorak.morak_back_end.dto.ResponseCursorPaging;
 import com.morakmorak.morak_back_end.dto.UserDto;
 import com.morakmorak.morak_back_end.entity.*;
 import com.morakmorak.morak_back_end.exception.BusinessLogicException;
 import com.morakmorak.morak_back_end.exception.ErrorCode;
 import com.morakmorak.morak_back_end.security.resolver.JwtArgumentResolver;
 import com.morakmorak.morak_back_end.service.CommentService;
+import com.morakmorak.morak_back_end.service.ResourceVersionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -55,6 +59,9 @@ public class UpdateCommentOnAnswer_ControllerTest {
     @Autowired
     ObjectMapper objectMapper;
 
+    @MockBean
+    ResourceVersionService resourceVersionService;
+
     @MockBean
     JwtArgumentResolver jwtArgumentResolver;
     @MockBean
@@ -118,7 +125,7 @@ public class UpdateCommentOnAnswer_ControllerTest {
         commentList.add(exampleComment);
 
         String json = objectMapper.writeValueAsString(request);
-        BDDMockito.given(commentService.editComment(any(),any(),any(),anyString(),anyBoolean())).willReturn(commentList);
+        BDDMockito.given(commentService.editComment(any(),any(),any(),anyString(),anyBoolean())).willReturn(new ResponseCursorPaging<>(commentList, CursorSlice.of(commentList, false, PageCursor.of(1L))));
         //when 유효한 input
         ResultActions perform = mockMvc.perform(patch("/answers/{answer-id}/comments/{comment-id}", dbAnswer.getId(), dbComment.getId())
                 .contentType(MediaType.APPLICATION_JSON)
@@ -139,19 +146,22 @@ public class UpdateCommentOnAnswer_ControllerTest {
                                 ),
                                 responseFields(
                                         List.of(
-                                                fieldWithPath("[]").type(JsonFieldType.ARRAY).description("응답 데이터"),
-                                                fieldWithPath("[].userInfo.userId").type(JsonFieldType.NUMBER).description("유저 식별자입니다"),
-                                                fieldWithPath("[].userInfo.nickname").type(JsonFieldType.STRING).description("유저 닉네임입니다"),
-                                                fieldWithPath("[].userInfo.grade").type(JsonFieldType.STRING).description("유저 등급입니다"),
-                                                fieldWithPath("[].avatar.avatarId").type(JsonFieldType.NUMBER).description("프로필사진 식별자입니다"),
-                                                fieldWithPath("[].avatar.filename").type(JsonFieldType.STRING).description("파일 이름입니다"),
-                                                fieldWithPath("[].avatar.remotePath").type(JsonFieldType.STRING).description("유저 닉네임입니다"),
-                                                fieldWithPath("[].articleId").type(JsonFieldType.NULL).description("비어있는 글 식별자입니다"),
-                                                fieldWithPath("[].answerId").type(JsonFieldType.NUMBER).description("답글 식별자입니다"),
-                                                fieldWithPath("[].content").type(JsonFieldType.STRING).description("댓글 내용입니다"),
-                                                fieldWithPath("[].commentId").type(JsonFieldType.NUMBER).description("댓글 식별자입니다"),
-                                                fieldWithPath("[].createdAt").type(JsonFieldType.STRING).description("댓글 첫 작성일입니다."),
-                                                fieldWithPath("[].lastModifiedAt").type(JsonFieldType.STRING).description("댓글 최신 수정일입니다")
+                                                fieldWithPath("data").type(JsonFieldType.ARRAY).description("등록/수정/삭제된 댓글입니다"),
+                                                fieldWithPath("data[].userInfo.userId").type(JsonFieldType.NUMBER).description("유저 식별자입니다"),
+                                                fieldWithPath("data[].userInfo.nickname").type(JsonFieldType.STRING).description("유저 닉네임입니다"),
+                                                fieldWithPath("data[].userInfo.grade").type(JsonFieldType.STRING).description("유저 등급입니다"),
+                                                fieldWithPath("data[].avatar.avatarId").type(JsonFieldType.NUMBER).description("프로필사진 식별자입니다"),
+                                                fieldWithPath("data[].avatar.filename").type(JsonFieldType.STRING).description("파일 이름입니다"),
+                                                fieldWithPath("data[].avatar.remotePath").type(JsonFieldType.STRING).description("유저 닉네임입니다"),
+                                                fieldWithPath("data[].articleId").type(JsonFieldType.NULL).description("비어있는 글 식별자입니다"),
+                                                fieldWithPath("data[].answerId").type(JsonFieldType.NUMBER).description("답글 식별자입니다"),
+                                                fieldWithPath("data[].content").type(JsonFieldType.STRING).description("댓글 내용입니다"),
+                                                fieldWithPath("data[].commentId").type(JsonFieldType.NUMBER).description("댓글 식별자입니다"),
+                                                fieldWithPath("data[].createdAt").type(JsonFieldType.STRING).description("댓글 첫 작성일입니다."),
+                                                fieldWithPath("data[].lastModifiedAt").type(JsonFieldType.STRING).description("댓글 최신 수정일입니다"),
+                                                fieldWithPath("cursorInfo.size").type(JsonFieldType.NUMBER).description("응답 댓글 수입니다"),
+                                                fieldWithPath("cursorInfo.hasNext").type(JsonFieldType.BOOLEAN).description("이 댓글 뒤에 다른 댓글이 있는지 여부입니다"),
+                                                fieldWithPath("cursorInfo.nextCursor").type(JsonFieldType.STRING).description("이 댓글 다음부터 이어서 조회할 커서입니다")
                                         )
                                 )
                         )
@@ -18,6 +18,7 @@ import com.morakmorak.morak_back_end.exception.ErrorCode;
 import com.morakmorak.morak_back_end.security.resolver.JwtArgumentResolver;
 import com.morakmorak.morak_back_end.security.util.JwtTokenUtil;
 import com.morakmorak.morak_back_end.service.NotificationService;
+import com.morakmorak.morak_back_end.service.NotificationStreamService;
 import com.morakmorak.morak_back_end.util.SecurityTestConstants;
 import com.morakmorak.morak_back_end.util.TestConstants;
 import org.junit.jupiter.api.BeforeEach;
@@ -78,6 +79,9 @@ public class NotificationControllerTest {
     @MockBean
     NotificationService notificationService;
 
+    @MockBean
+    NotificationStreamService notificationStreamService;
+
     JwtTokenUtil jwtTokenUtil;
 
     private final String BASE_URL = "localhost:8080.com";
@@ -173,6 +177,27 @@ public class NotificationControllerTest {
                 ));
     }
 
+    @Test
+    @DisplayName("읽지 않은 알림 수 조회에 성공하면 200 반환")
+    void getUnreadCount_success() throws Exception {
+        //given
+        String token = jwtTokenUtil.createAccessToken(EMAIL1, ID1, ROLE_USER_LIST, NICKNAME1);
+        given(notificationService.findUnreadCount(any())).willReturn(new NotificationDto.UnreadCount(3L));
+        //when
+        ResultActions perform = mockMvc.perform(get("/notifications/unread-count")
+                .header(JWT_HEADER, token));
+        //then
+        perform.andExpect(status().isOk())
+                .andDo(document(
+                        "읽지않은알림수_조회_성공_200",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        responseFields(
+                                fieldWithPath("unreadCount").type(NUMBER).description("읽지 않은 알림 수")
+                        )
+                ));
+    }
+
     @Test
     void getNotificationUri() throws Exception {
         //given
@@ -0,0 +1,70 @@
+package com.morakmorak.morak_back_end.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morakmorak.morak_back_end.entity.Article;
+import com.morakmorak.morak_back_end.entity.enums.TagName;
+import com.morakmorak.morak_back_end.event.ArticleChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.morakmorak.morak_back_end.config.CacheCosntant.ARTICLE_INDEX_CHANNEL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleIndexRelayTest {
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("다른 서버가 보낸 변경은 그대로 꺼내고, 자신이 보낸 변경은 무시한다.")
+    void publish_and_receive() {
+        //given
+        ArticleIndexRelay sender = new ArticleIndexRelay(redisTemplate, objectMapper);
+        ArticleIndexRelay receiver = new ArticleIndexRelay(redisTemplate, objectMapper);
+        Article article = Article.builder().id(1L).title("스프링 질문").content("본문").build();
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+
+        sender.publish(ArticleChangedEvent.saved(article, Set.of(TagName.JAVA, TagName.SPRING)));
+        verify(redisTemplate).convertAndSend(eq(ARTICLE_INDEX_CHANNEL), payload.capture());
+        DefaultMessage message = new DefaultMessage(ARTICLE_INDEX_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payload.getValue().getBytes(StandardCharsets.UTF_8));
+
+        //when
+        Optional<ArticleChangedEvent> received = receiver.receive(message);
+        Optional<ArticleChangedEvent> echoed = sender.receive(message);
+
+        //then
+        assertThat(echoed).isEmpty();
+        assertThat(received).isPresent();
+        assertThat(received.get().getArticleId()).isEqualTo(1L);
+        assertThat(received.get().getRemoved()).isFalse();
+        assertThat(received.get().getTitle()).isEqualTo("스프링 질문");
+        assertThat(received.get().getTags()).containsExactlyInAnyOrder(TagName.JAVA, TagName.SPRING);
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 메시지는 무시한다.")
+    void receive_invalid() {
+        //given
+        ArticleIndexRelay relay = new ArticleIndexRelay(redisTemplate, objectMapper);
+        DefaultMessage invalid = new DefaultMessage(ARTICLE_INDEX_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "not json".getBytes(StandardCharsets.UTF_8));
+
+        //when then
+        assertThat(relay.receive(invalid)).isEmpty();
+    }
+}
@@ -0,0 +1,86 @@
+package com.morakmorak.morak_back_end.domain;
+
+import com.morakmorak.morak_back_end.entity.enums.CategoryName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleSearchIndexTest {
+    ArticleSearchIndex articleSearchIndex;
+
+    @BeforeEach
+    void init() {
+        articleSearchIndex = new ArticleSearchIndex();
+        articleSearchIndex.index(1L, "자바 스프링 질문", "빈 등록이 안됩니다", CategoryName.QNA, false);
+        articleSearchIndex.index(2L, "리액트 질문", "자바스크립트 비동기 처리", CategoryName.QNA, true);
+        articleSearchIndex.index(3L, "모락 소개", "자바 스프링으로 만든 서비스입니다. 자바 최고", CategoryName.INFO, false);
+        articleSearchIndex.markReady();
+    }
+
+    @Test
+    @DisplayName("색인이 준비되지 않았다면 Optional.empty() 를 반환한다.")
+    void search_notReady() {
+        //given
+        ArticleSearchIndex notReady = new ArticleSearchIndex();
+        notReady.index(1L, "자바", "자바", CategoryName.QNA, false);
+
+        //when
+        Optional<ArticleSearchIndex.SearchResult> result = notReady.search("자바", ArticleSearchIndex.Field.TITLE_AND_CONTENT,
+                null, null, ArticleSearchIndex.Order.RELEVANCE, 0, 10);
+
+        //then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목에 검색어가 포함된 게시글이 본문에만 포함된 게시글보다 앞에 온다.")
+    void search_relevance() {
+        //when
+        ArticleSearchIndex.SearchResult result = articleSearchIndex.search("자바 스프링", ArticleSearchIndex.Field.TITLE_AND_CONTENT,
+                null, null, ArticleSearchIndex.Order.RELEVANCE, 0, 10).get();
+
+        //then
+        assertThat(result.getArticleIds()).containsExactly(1L, 3L);
+        assertThat(result.getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("카테고리와 채택 여부로 결과를 거를 수 있다.")
+    void search_filter() {
+        //when
+        List<Long> result = articleSearchIndex.match("자바", ArticleSearchIndex.Field.TITLE_AND_CONTENT,
+                CategoryName.QNA, true, ArticleSearchIndex.Order.ID_DESC).get();
+
+        //then
+        assertThat(result).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제된 게시글은 이전 내용으로 검색되지 않는다.")
+    void index_update_remove() {
+        //when
+        articleSearchIndex.index(1L, "파이썬 질문", "장고", CategoryName.QNA, false);
+        articleSearchIndex.remove(3L);
+
+        //then
+        List<Long> result = articleSearchIndex.match("자바", ArticleSearchIndex.Field.TITLE_AND_CONTENT,
+                null, null, ArticleSearchIndex.Order.ID_ASC).get();
+        assertThat(result).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어도 해당 글자를 포함한 게시글을 찾는다.")
+    void search_singleCharacter() {
+        //when
+        List<Long> result = articleSearchIndex.match("락", ArticleSearchIndex.Field.TITLE,
+                null, null, ArticleSearchIndex.Order.ID_ASC).get();
+
+        //then
+        assertThat(result).containsExactly(3L);
+    }
+}
@@ -0,0 +1,84 @@
+package com.morakmorak.morak_back_end.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morakmorak.morak_back_end.event.ArticleActivityEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.morakmorak.morak_back_end.config.CacheCosntant.ARTICLE_STREAM_CHANNEL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleStreamBrokerTest {
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("변경분은 비어있는 값을 뺀 JSON 으로 Redis 채널에 발행한다.")
+    void publish() throws Exception {
+        //given
+        ArticleStreamBroker broker = new ArticleStreamBroker(redisTemplate, objectMapper);
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+
+        //when
+        broker.publish(ArticleActivityEvent.answerAdded(1L, 2L));
+
+        //then
+        verify(redisTemplate).convertAndSend(eq(ARTICLE_STREAM_CHANNEL), payload.capture());
+        assertThat(objectMapper.readTree(payload.getValue()).get("type").asText()).isEqualTo("ANSWER_ADDED");
+        assertThat(objectMapper.readTree(payload.getValue()).get("answerId").asLong()).isEqualTo(2L);
+        assertThat(objectMapper.readTree(payload.getValue()).has("commentId")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 발행에 실패해도 예외를 던지지 않는다.")
+    void publish_redis_failed() {
+        //given
+        ArticleStreamBroker broker = new ArticleStreamBroker(redisTemplate, objectMapper);
+        broker.subscribe(1L);
+        given(redisTemplate.convertAndSend(eq(ARTICLE_STREAM_CHANNEL), anyString()))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        //when then
+        assertThatCode(() -> broker.publish(ArticleActivityEvent.likeCountChanged(1L, null, 3L)))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("구독자는 게시글별로 관리되고, 채널에서 받은 잘못된 메시지는 무시한다.")
+    void subscribe_and_onMessage() {
+        //given
+        ArticleStreamBroker broker = new ArticleStreamBroker(redisTemplate, objectMapper);
+        broker.subscribe(1L);
+        broker.subscribe(1L);
+        broker.subscribe(2L);
+
+        DefaultMessage valid = new DefaultMessage(ARTICLE_STREAM_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "{\"type\":\"COMMENT_ADDED\",\"articleId\":1,\"commentId\":3}".getBytes(StandardCharsets.UTF_8));
+        DefaultMessage invalid = new DefaultMessage(ARTICLE_STREAM_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "not json".getBytes(StandardCharsets.UTF_8));
+
+        //when then
+        assertThatCode(() -> broker.onMessage(valid, null)).doesNotThrowAnyException();
+        assertThatCode(() -> broker.onMessage(invalid, null)).doesNotThrowAnyException();
+        assertThat(broker.subscriberCount(1L)).isEqualTo(2);
+        assertThat(broker.subscriberCount(2L)).isEqualTo(1);
+        assertThat(broker.subscriberCount(3L)).isZero();
+    }
+}
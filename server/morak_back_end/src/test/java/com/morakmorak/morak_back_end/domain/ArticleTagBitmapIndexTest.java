@@ -0,0 +1,98 @@
+package com.morakmorak.morak_back_end.domain;
+
+import com.morakmorak.morak_back_end.entity.enums.CategoryName;
+import com.morakmorak.morak_back_end.entity.enums.TagName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static com.morakmorak.morak_back_end.domain.ArticleTagBitmapIndex.Match.ALL;
+import static com.morakmorak.morak_back_end.domain.ArticleTagBitmapIndex.Match.ANY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleTagBitmapIndexTest {
+    ArticleTagBitmapIndex articleTagBitmapIndex;
+
+    @BeforeEach
+    void init() {
+        articleTagBitmapIndex = new ArticleTagBitmapIndex();
+        articleTagBitmapIndex.index(1L, EnumSet.of(TagName.JAVA, TagName.SPRING), CategoryName.QNA, false);
+        articleTagBitmapIndex.index(2L, EnumSet.of(TagName.JAVA), CategoryName.QNA, true);
+        articleTagBitmapIndex.index(3L, EnumSet.of(TagName.REACT), CategoryName.INFO, false);
+        articleTagBitmapIndex.index(4L, EnumSet.of(TagName.JAVA, TagName.SPRING), CategoryName.INFO, false);
+        articleTagBitmapIndex.markReady();
+    }
+
+    @Test
+    @DisplayName("색인이 준비되지 않았다면 Optional.empty() 를 반환한다.")
+    void match_notReady() {
+        //given
+        ArticleTagBitmapIndex notReady = new ArticleTagBitmapIndex();
+        notReady.index(1L, EnumSet.of(TagName.JAVA), CategoryName.QNA, false);
+
+        //when then
+        assertThat(notReady.match(EnumSet.of(TagName.JAVA), ALL, null, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ALL 은 모든 태그를, ANY 는 하나 이상의 태그를 가진 게시글을 id 내림차순으로 반환한다.")
+    void match_allAndAny() {
+        //when
+        List<Long> allOf = articleTagBitmapIndex.match(EnumSet.of(TagName.JAVA, TagName.SPRING), ALL, null, null).get();
+        List<Long> anyOf = articleTagBitmapIndex.match(EnumSet.of(TagName.SPRING, TagName.REACT), ANY, null, null).get();
+
+        //then
+        assertThat(allOf).containsExactly(4L, 1L);
+        assertThat(anyOf).containsExactly(4L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("카테고리와 채택 여부로 결과를 거를 수 있다.")
+    void match_filter() {
+        //when
+        List<Long> closedQna = articleTagBitmapIndex.match(EnumSet.of(TagName.JAVA), ALL, CategoryName.QNA, true).get();
+        List<Long> openInfo = articleTagBitmapIndex.match(EnumSet.noneOf(TagName.class), ALL, CategoryName.INFO, false).get();
+
+        //then
+        assertThat(closedQna).containsExactly(2L);
+        assertThat(openInfo).containsExactly(4L, 3L);
+    }
+
+    @Test
+    @DisplayName("offset 과 limit 으로 페이지를 자르고 전체 개수를 함께 반환한다.")
+    void search_paging() {
+        //when
+        ArticleSearchIndex.SearchResult result = articleTagBitmapIndex.search(EnumSet.of(TagName.JAVA), ALL,
+                null, null, true, 1, 1).get();
+
+        //then
+        assertThat(result.getArticleIds()).containsExactly(2L);
+        assertThat(result.getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("커서 다음 게시글부터 반환한다.")
+    void searchAfter() {
+        //when
+        List<Long> result = articleTagBitmapIndex.searchAfter(EnumSet.of(TagName.JAVA), ALL,
+                null, null, false, 4L, 10).get();
+
+        //then
+        assertThat(result).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("태그 없이 다시 색인하면 기존 태그를 유지하고, 삭제하면 결과에서 빠진다.")
+    void index_keepTagsAndRemove() {
+        //when
+        articleTagBitmapIndex.index(1L, null, CategoryName.QNA, true);
+        articleTagBitmapIndex.remove(4L);
+
+        //then
+        assertThat(articleTagBitmapIndex.match(EnumSet.of(TagName.SPRING), ALL, null, true).get()).containsExactly(1L);
+        assertThat(articleTagBitmapIndex.size()).isEqualTo(3);
+    }
+}
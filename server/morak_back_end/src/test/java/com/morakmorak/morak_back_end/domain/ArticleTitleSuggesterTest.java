@@ -0,0 +1,59 @@
+package com.morakmorak.morak_back_end.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleTitleSuggesterTest {
+    ArticleTitleSuggester articleTitleSuggester;
+
+    @BeforeEach
+    void init() {
+        articleTitleSuggester = new ArticleTitleSuggester();
+        articleTitleSuggester.index(1L, "Spring 빈 등록 질문");
+        articleTitleSuggester.index(2L, "스프링 시큐리티 설정");
+        articleTitleSuggester.index(3L, "리액트에서 spring 서버 호출");
+    }
+
+    @Test
+    @DisplayName("제목의 아무 단어로 시작하는 접두어를 대소문자 구분 없이 찾는다.")
+    void suggest() {
+        //when
+        List<Long> result = idsOf(articleTitleSuggester.suggest("SPR", 10));
+
+        //then
+        assertThat(result).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("limit 만큼만 반환하고, 빈 접두어는 빈 목록을 반환한다.")
+    void suggest_limit() {
+        //when then
+        assertThat(articleTitleSuggester.suggest("spring", 1)).hasSize(1);
+        assertThat(articleTitleSuggester.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목이 수정되거나 게시글이 삭제되면 바로 반영된다.")
+    void index_update_and_remove() {
+        //when
+        articleTitleSuggester.index(2L, "스프링 부트 배포");
+        articleTitleSuggester.remove(1L);
+
+        //then
+        assertThat(idsOf(articleTitleSuggester.suggest("시큐리티", 10))).isEmpty();
+        assertThat(idsOf(articleTitleSuggester.suggest("스프링 부", 10))).containsExactly(2L);
+        assertThat(idsOf(articleTitleSuggester.suggest("spring", 10))).containsExactly(3L);
+    }
+
+    private List<Long> idsOf(List<ArticleTitleSuggester.Suggestion> suggestions) {
+        return suggestions.stream()
+                .map(ArticleTitleSuggester.Suggestion::getArticleId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,80 @@
+package com.morakmorak.morak_back_end.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleViewCounterTest {
+    ArticleViewCounter articleViewCounter = new ArticleViewCounter();
+
+    @Test
+    @DisplayName("누적된 조회수를 drain 하면 게시글별 합계를 돌려주고 버퍼는 비워진다.")
+    void drain() {
+        //given
+        articleViewCounter.increase(1L);
+        articleViewCounter.increase(1L);
+        articleViewCounter.increase(2L);
+
+        //when
+        Map<Long, Long> drained = articleViewCounter.drain();
+
+        //then
+        assertThat(drained).containsEntry(1L, 2L).containsEntry(2L, 1L).hasSize(2);
+        assertThat(articleViewCounter.pendingOf(1L)).isZero();
+        assertThat(articleViewCounter.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영에 실패해 되돌려놓은 조회수는 다음 drain 에 함께 반영된다.")
+    void add_after_drain() {
+        //given
+        articleViewCounter.increase(1L);
+        Map<Long, Long> failed = articleViewCounter.drain();
+        articleViewCounter.increase(1L);
+
+        //when
+        failed.forEach(articleViewCounter::add);
+
+        //then
+        assertThat(articleViewCounter.pendingOf(1L)).isEqualTo(2L);
+        assertThat(articleViewCounter.drain()).containsEntry(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("조회수를 누적하는 도중에 drain 해도 조회수를 잃지 않는다.")
+    void drain_while_increasing() throws Exception {
+        //given
+        int threads = 4;
+        int viewsPerThread = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        long total = 0;
+
+        //when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < viewsPerThread; j++) {
+                    articleViewCounter.increase(1L);
+                }
+                done.countDown();
+            });
+        }
+
+        while (done.getCount() > 0) {
+            total += articleViewCounter.drain().getOrDefault(1L, 0L);
+        }
+        total += articleViewCounter.drain().getOrDefault(1L, 0L);
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+
+        //then
+        assertThat(total).isEqualTo((long) threads * viewsPerThread);
+    }
+}
@@ -0,0 +1,60 @@
+package com.morakmorak.morak_back_end.domain;
+
+import com.morakmorak.morak_back_end.dto.OutboxDto;
+import com.morakmorak.morak_back_end.entity.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.morakmorak.morak_back_end.util.TestConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationCoalescerTest {
+    NotificationCoalescer notificationCoalescer = new NotificationCoalescer();
+
+    User author = User.builder().id(ID1).build();
+    Article article = Article.builder().id(ID1).title(CONTENT1).user(author).build();
+
+    @Test
+    @DisplayName("같은 게시글에 쌓인 댓글 알림은 건수를 담은 알림 하나로 합쳐지고, 다른 알림은 그대로 남는다.")
+    void coalesce_comments() {
+        // given
+        OutboxDto.NotificationPayload comment1 = commentPayload(ID1);
+        OutboxDto.NotificationPayload comment2 = commentPayload(ID2);
+        OutboxDto.NotificationPayload answer = NotificationGenerator.of(User.builder().id(ID2).nickname(NICKNAME2).build(),
+                Answer.builder().id(ID1).article(article).build()).generatePayload();
+
+        // when
+        List<OutboxDto.NotificationPayload> result = notificationCoalescer.coalesce(List.of(comment1, answer, comment2));
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getMessage()).isEqualTo("회원님께서 작성하신 \"" + CONTENT1 + "\"에 새 댓글 2개가 달렸어요.");
+        assertThat(result.get(0).getSenderId()).isNull();
+        assertThat(result.get(0).getUri()).isEqualTo("/articles/" + ID1);
+        assertThat(result.get(1)).isSameAs(answer);
+    }
+
+    @Test
+    @DisplayName("같은 게시글의 좋아요 돌파 알림은 마지막 알림 하나만 남는다.")
+    void coalesce_likes() {
+        // given
+        ArticleLike articleLike = ArticleLike.builder().article(article).build();
+        OutboxDto.NotificationPayload ten = NotificationGenerator.of(articleLike, 10).generatePayload();
+        OutboxDto.NotificationPayload twenty = NotificationGenerator.of(articleLike, 20).generatePayload();
+
+        // when
+        List<OutboxDto.NotificationPayload> result = notificationCoalescer.coalesce(List.of(ten, twenty));
+
+        // then
+        assertThat(result).containsExactly(twenty);
+    }
+
+    private OutboxDto.NotificationPayload commentPayload(Long senderId) {
+        User sender = User.builder().id(senderId).nickname(NICKNAME1).build();
+        Comment comment = Comment.builder().article(article).build();
+
+        return NotificationGenerator.of(sender, comment).generatePayload();
+    }
+}
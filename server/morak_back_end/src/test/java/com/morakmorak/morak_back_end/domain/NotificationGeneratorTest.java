@@ -1,5 +1,6 @@
 package com.morakmorak.morak_back_end.domain;
 
+import com.morakmorak.morak_back_end.dto.OutboxDto;
 import com.morakmorak.morak_back_end.entity.*;
 import com.morakmorak.morak_back_end.util.TestConstants;
 import org.assertj.core.api.Assertions;
@@ -86,8 +87,8 @@ class NotificationGeneratorTest {
     }
 
     @Test
-    @DisplayName("answer가 주어졌을 때 article 작성자의 id를 가진 notification 반환")
-    void generateNotification1() {
+    @DisplayName("answer가 주어졌을 때 article 작성자를 받는 사람으로 한 알림 payload 반환")
+    void generatePayload1() {
         //given
         Article article = Article.builder().user(receiver).build();
         Answer answer = Answer.builder().article(article).build();
@@ -97,15 +98,15 @@ class NotificationGeneratorTest {
         ReflectionTestUtils.setField(generator, "notificationUri", notificationUri);
 
         //when
-        Notification notification = generator.generateNotification();
+        OutboxDto.NotificationPayload payload = generator.generatePayload();
 
         //then
-        Assertions.assertThat(notification.getUser().getNickname()).isEqualTo(receiver.getNickname());
+        Assertions.assertThat(payload.getReceiverId()).isEqualTo(receiver.getId());
     }
 
     @Test
-    @DisplayName("comment가 주어졌을 때 article 작성자의 id를 가진 notification 반환(article의 comment인 경우)")
-    void generateNotification2() {
+    @DisplayName("comment가 주어졌을 때 article 작성자를 받는 사람으로 한 알림 payload 반환(article의 comment인 경우)")
+    void generatePayload2() {
         //given
         Article article = Article.builder().user(receiver).build();
         Comment comment = Comment.builder().article(article).build();
@@ -115,17 +116,17 @@ class NotificationGeneratorTest {
         ReflectionTestUtils.setField(generator, "notificationUri", notificationUri);
 
         //when
-        Notification notification = generator.generateNotification();
+        OutboxDto.NotificationPayload payload = generator.generatePayload();
 
         //then
-        Assertions.assertThat(notification.getUser().getNickname()).isEqualTo(receiver.getNickname());
+        Assertions.assertThat(payload.getReceiverId()).isEqualTo(receiver.getId());
     }
 
     @Test
-    @DisplayName("comment가 주어졌을 때 article 작성자의 id를 가진 notification 반환(answer의 comment인 경우)")
-    void generateNotification3() {
+    @DisplayName("comment가 주어졌을 때 article 작성자를 받는 사람으로 한 알림 payload 반환(answer의 comment인 경우)")
+    void generatePayload3() {
         //given
-        Answer answer = Answer.builder().user(receiver).build();
+        Answer answer = Answer.builder().user(receiver).article(Article.builder().build()).build();
         Comment comment = Comment.builder().answer(answer).build();
 
         NotificationGenerator generator = NotificationGenerator.of(sender, comment);
@@ -133,15 +134,15 @@ class NotificationGeneratorTest {
         ReflectionTestUtils.setField(generator, "notificationUri", notificationUri);
 
         //when
-        Notification notification = generator.generateNotification();
+        OutboxDto.NotificationPayload payload = generator.generatePayload();
 
         //then
-        Assertions.assertThat(notification.getUser().getNickname()).isEqualTo(receiver.getNickname());
+        Assertions.assertThat(payload.getReceiverId()).isEqualTo(receiver.getId());
     }
 
     @Test
-    @DisplayName("ArticleLike와 count가 주어졌을때 receiver를 가진 notification 반환")
-    void generateNotification4() {
+    @DisplayName("ArticleLike와 count가 주어졌을때 receiver를 받는 사람으로 한 알림 payload 반환")
+    void generatePayload4() {
         //given
         Article article = Article.builder().user(receiver).build();
         ArticleLike articleLike = ArticleLike.builder().article(article).build();
@@ -151,17 +152,17 @@ class NotificationGeneratorTest {
         ReflectionTestUtils.setField(generator, "notificationUri", notificationUri);
 
         //when
-        Notification notification = generator.generateNotification();
+        OutboxDto.NotificationPayload payload = generator.generatePayload();
 
         //then
-        Assertions.assertThat(notification.getUser().getNickname()).isEqualTo(receiver.getNickname());
+        Assertions.assertThat(payload.getReceiverId()).isEqualTo(receiver.getId());
     }
 
     @Test
-    @DisplayName("AnswerLike와 count가 주어졌을때 receiver를 가진 notification 반환")
-    void generateNotification5() {
+    @DisplayName("AnswerLike와 count가 주어졌을때 receiver를 받는 사람으로 한 알림 payload 반환")
+    void generatePayload5() {
         //given
-        Answer answer = Answer.builder().user(receiver).build();
+        Answer answer = Answer.builder().user(receiver).article(Article.builder().build()).build();
         AnswerLike answerLike = AnswerLike.builder().answer(answer).build();
 
         NotificationGenerator generator = NotificationGenerator.of(answerLike, 10);
@@ -169,15 +170,15 @@ class NotificationGeneratorTest {
         ReflectionTestUtils.setField(generator, "notificationUri", notificationUri);
 
         //when
-        Notification notification = generator.generateNotification();
+        OutboxDto.NotificationPayload payload = generator.generatePayload();
 
         //then
-        Assertions.assertThat(notification.getUser().getNickname()).isEqualTo(receiver.getNickname());
+        Assertions.assertThat(payload.getReceiverId()).isEqualTo(receiver.getId());
     }
 
     @Test
-    @DisplayName("review가 주어졌을때 receiver를 가진 notification 반환")
-    void generateNotification6() {
+    @DisplayName("review가 주어졌을때 receiver를 받는 사람으로 한 알림 payload 반환")
+    void generatePayload6() {
         //given
         Review review = Review.builder().receiver(receiver).build();
 
@@ -186,9 +187,9 @@ class NotificationGeneratorTest {
         ReflectionTestUtils.setField(generator, "notificationUri", notificationUri);
 
         //when
-        Notification notification = generator.generateNotification();
+        OutboxDto.NotificationPayload payload = generator.generatePayload();
 
         //then
-        Assertions.assertThat(notification.getUser().getNickname()).isEqualTo(receiver.getNickname());
+        Assertions.assertThat(payload.getReceiverId()).isEqualTo(receiver.getId());
     }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.morakmorak.morak_back_end.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morakmorak.morak_back_end.entity.Notification;
+import com.morakmorak.morak_back_end.entity.User;
+import com.morakmorak.morak_back_end.event.NotificationCreatedEvent;
+import com.morakmorak.morak_back_end.repository.redis.NotificationReplayRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+
+import static com.morakmorak.morak_back_end.config.CacheCosntant.NOTIFICATION_STREAM_CHANNEL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStreamBrokerTest {
+    @Mock
+    NotificationReplayRepository notificationReplayRepository;
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("새 알림은 재연결용 버퍼에 넣고 Redis 채널로 발행한다.")
+    void publish() throws Exception {
+        //given
+        NotificationStreamBroker broker = new NotificationStreamBroker(notificationReplayRepository, redisTemplate, objectMapper);
+        NotificationCreatedEvent event = eventOf(1L, 10L);
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+
+        //when
+        broker.publish(event);
+
+        //then
+        verify(notificationReplayRepository).append(eq(1L), eq(10L), payload.capture());
+        verify(redisTemplate).convertAndSend(NOTIFICATION_STREAM_CHANNEL, payload.getValue());
+        assertThat(objectMapper.readValue(payload.getValue(), NotificationCreatedEvent.class).getNotificationId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("Redis 발행에 실패해도 예외를 던지지 않는다.")
+    void publish_redis_failed() {
+        //given
+        NotificationStreamBroker broker = new NotificationStreamBroker(notificationReplayRepository, redisTemplate, objectMapper);
+        broker.subscribe(1L, null);
+        given(redisTemplate.convertAndSend(eq(NOTIFICATION_STREAM_CHANNEL), anyString()))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        //when then
+        assertThatCode(() -> broker.publish(eventOf(1L, 10L))).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 가 있으면 그 이후의 알림을 버퍼에서 찾아 다시 보내고, 없으면 버퍼를 조회하지 않는다.")
+    void subscribe_replay() throws Exception {
+        //given
+        NotificationStreamBroker broker = new NotificationStreamBroker(notificationReplayRepository, redisTemplate, objectMapper);
+        given(notificationReplayRepository.findAfter(1L, 9L))
+                .willReturn(List.of(objectMapper.writeValueAsString(eventOf(1L, 10L)), "broken"));
+
+        //when
+        broker.subscribe(1L, 9L);
+        broker.subscribe(2L, null);
+
+        //then
+        verify(notificationReplayRepository).findAfter(1L, 9L);
+        verify(notificationReplayRepository, never()).findAfter(eq(2L), any());
+        assertThat(broker.subscriberCount(1L)).isEqualTo(1);
+        assertThat(broker.subscriberCount(2L)).isEqualTo(1);
+    }
+
+    private NotificationCreatedEvent eventOf(Long userId, Long notificationId) {
+        Notification notification = Notification.builder()
+                .id(notificationId)
+                .message("새 답변이 달렸습니다.")
+                .user(User.builder().id(userId).build())
+                .build();
+
+        return NotificationCreatedEvent.of(notification);
+    }
+}
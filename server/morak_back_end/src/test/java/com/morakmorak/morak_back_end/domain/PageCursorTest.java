@@ -0,0 +1,70 @@
+package com.morakmorak.morak_back_end.domain;
+
+import com.morakmorak.morak_back_end.exception.BusinessLogicException;
+import com.morakmorak.morak_back_end.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 값을 얻는다.")
+    void encode_decode() {
+        //given
+        LocalDateTime now = LocalDateTime.of(2022, 11, 20, 13, 30, 15, 123000);
+        String encoded = PageCursor.of(true, now, 15L).encode();
+
+        //when
+        PageCursor decoded = PageCursor.decode(encoded);
+
+        //then
+        assertThat(decoded.getBoolean(0)).isTrue();
+        assertThat(decoded.getDateTime(1)).isEqualTo(now);
+        assertThat(decoded.getLong(2)).isEqualTo(15L);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지를 의미한다.")
+    void decode_empty() {
+        //when
+        PageCursor cursor = PageCursor.decode("");
+
+        //then
+        assertThat(cursor.isFirst()).isTrue();
+        assertThat(cursor.encode()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 INVALID_CURSOR 예외를 던진다.")
+    void decode_invalid() {
+        //given
+        String encoded = PageCursor.of("desc").encode();
+
+        //when //then
+        assertThatThrownBy(() -> PageCursor.decode("!!!").getLong(0))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+        assertThatThrownBy(() -> PageCursor.decode(encoded).getLong(0))
+                .isInstanceOf(BusinessLogicException.class);
+        assertThatThrownBy(() -> PageCursor.decode(encoded).getLong(1))
+                .isInstanceOf(BusinessLogicException.class);
+    }
+
+    @Test
+    @DisplayName("size + 1 건을 조회했다면 다음 페이지가 있고, 마지막 행으로 커서를 만든다.")
+    void cursorSlice_of() {
+        //when
+        CursorSlice<Long> slice = CursorSlice.of(List.of(5L, 4L, 3L), 2, last -> PageCursor.of(last));
+
+        //then
+        assertThat(slice.getContent()).containsExactly(5L, 4L);
+        assertThat(slice.getHasNext()).isTrue();
+        assertThat(PageCursor.decode(slice.getNextCursor().encode()).getLong(0)).isEqualTo(4L);
+    }
+}
@@ -0,0 +1,75 @@
+package com.morakmorak.morak_back_end.domain;
+
+import com.morakmorak.morak_back_end.entity.enums.TagName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RelatedArticleIndexTest {
+    RelatedArticleIndex relatedArticleIndex;
+
+    @BeforeEach
+    void init() {
+        relatedArticleIndex = new RelatedArticleIndex();
+        relatedArticleIndex.index(1L, "스프링 빈 등록 질문", EnumSet.of(TagName.JAVA, TagName.SPRING));
+        relatedArticleIndex.index(2L, "자바 스트림 질문", EnumSet.of(TagName.JAVA));
+        relatedArticleIndex.index(3L, "스프링 시큐리티 질문", EnumSet.of(TagName.JAVA, TagName.SPRING));
+        relatedArticleIndex.index(4L, "리액트 훅 질문", EnumSet.of(TagName.REACT));
+        relatedArticleIndex.index(5L, "스프링 부트 설정", EnumSet.of(TagName.SPRING, TagName.AWS));
+    }
+
+    @Test
+    @DisplayName("태그를 많이 공유할수록 앞에 오고, 태그를 공유하지 않는 게시글과 자기 자신은 제외된다.")
+    void findRelated() {
+        //when
+        List<Long> result = idsOf(relatedArticleIndex.findRelated(1L, 10));
+
+        //then
+        assertThat(result).containsExactly(3L, 5L, 2L);
+    }
+
+    @Test
+    @DisplayName("limit 만큼만 반환하고 제목을 함께 돌려준다.")
+    void findRelated_limit() {
+        //when
+        List<RelatedArticleIndex.Related> result = relatedArticleIndex.findRelated(1L, 1);
+
+        //then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getTitle()).isEqualTo("스프링 시큐리티 질문");
+    }
+
+    @Test
+    @DisplayName("태그가 바뀌거나 게시글이 삭제되면 바로 반영된다.")
+    void index_update_and_remove() {
+        //when
+        relatedArticleIndex.index(3L, "리액트 상태 관리", EnumSet.of(TagName.REACT));
+        relatedArticleIndex.remove(5L);
+
+        //then
+        assertThat(idsOf(relatedArticleIndex.findRelated(1L, 10))).containsExactly(2L);
+        assertThat(idsOf(relatedArticleIndex.findRelated(4L, 10))).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("태그 없이 다시 색인하면 기존 태그를 유지하고 제목만 바뀐다.")
+    void index_withoutTags() {
+        //when
+        relatedArticleIndex.index(3L, "수정된 제목", null);
+
+        //then
+        assertThat(relatedArticleIndex.findRelated(1L, 1).get(0).getTitle()).isEqualTo("수정된 제목");
+    }
+
+    private List<Long> idsOf(List<RelatedArticleIndex.Related> related) {
+        return related.stream()
+                .map(RelatedArticleIndex.Related::getArticleId)
+                .collect(Collectors.toList());
+    }
+}
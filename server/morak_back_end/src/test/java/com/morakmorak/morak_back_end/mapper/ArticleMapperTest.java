@@ -214,7 +214,7 @@ class ArticleMapperTest {
 
         //when
         ArticleDto.ResponseDetailArticle test = articleMapper
-                .articleToResponseDetailArticle(article, isLiked, isBookmarked, tags, comments, likes);
+                .articleToResponseDetailArticle(article, isLiked, isBookmarked, tags, comments, likes, article.getClicks());
 
         //then
         assertThat(test.getArticleId()).isEqualTo(article.getId());
@@ -268,7 +268,7 @@ class ArticleMapperTest {
         String report = "이 글은 신고가 누적되 더이상 확인하실 수 없습니다.";
         //when
         ArticleDto.ResponseDetailArticle test = articleMapper
-                .articleToResponseBlockedArticle(article, isLiked, isBookmarked,report, tags, comments, likes);
+                .articleToResponseBlockedArticle(article, isLiked, isBookmarked,report, tags, comments, likes, article.getClicks());
 
         //then
         assertThat(test.getArticleId()).isEqualTo(article.getId());
@@ -1,5 +1,6 @@
 package com.morakmorak.morak_back_end.repository;
 
+import com.morakmorak.morak_back_end.config.JpaQueryFactoryConfig;
 import com.morakmorak.morak_back_end.entity.Answer;
 import com.morakmorak.morak_back_end.repository.answer.AnswerRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 
 import javax.persistence.EntityManager;
 
@@ -15,6 +17,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
 
 @DataJpaTest
+@Import(JpaQueryFactoryConfig.class)
 @AutoConfigureTestDatabase(replace = NONE)
 @EnabledIfEnvironmentVariable(named = "REDIS", matches = "redis")
 class AnswerRepositoryTest {
@@ -1,5 +1,6 @@
 package com.morakmorak.morak_back_end.repository;
 
+import com.morakmorak.morak_back_end.config.JpaQueryFactoryConfig;
 import com.morakmorak.morak_back_end.entity.*;
 import com.morakmorak.morak_back_end.entity.enums.Grade;
 import com.morakmorak.morak_back_end.repository.article.ArticleLikeRepository;
@@ -10,12 +11,14 @@ import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 
 import javax.persistence.EntityManager;
 
 import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
 
 @DataJpaTest
+@Import(JpaQueryFactoryConfig.class)
 @AutoConfigureTestDatabase(replace = NONE)
 @EnabledIfEnvironmentVariable(named = "REDIS", matches = "redis")
 class ArticleLikeRepositoryTest {
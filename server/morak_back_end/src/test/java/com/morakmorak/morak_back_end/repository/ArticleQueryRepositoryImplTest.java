@@ -1,9 +1,17 @@
 package com.morakmorak.morak_back_end.repository;
 
+import com.morakmorak.morak_back_end.config.JpaQueryFactoryConfig;
+import com.morakmorak.morak_back_end.domain.ArticleSearchIndex;
+import com.morakmorak.morak_back_end.domain.CursorSlice;
+import com.morakmorak.morak_back_end.domain.PageCursor;
+import com.morakmorak.morak_back_end.dto.ArticleDto;
 import com.morakmorak.morak_back_end.entity.*;
 import com.morakmorak.morak_back_end.entity.enums.CategoryName;
 import com.morakmorak.morak_back_end.entity.enums.TagName;
+import com.morakmorak.morak_back_end.exception.BusinessLogicException;
+import com.morakmorak.morak_back_end.exception.ErrorCode;
 import com.morakmorak.morak_back_end.repository.article.ArticleRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +21,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.context.annotation.Import;
 
 import javax.persistence.EntityManager;
 
@@ -20,9 +29,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
 
 @DataJpaTest
+@Import(JpaQueryFactoryConfig.class)
 @AutoConfigureTestDatabase(replace = NONE)
 @EnabledIfEnvironmentVariable(named = "REDIS", matches = "redis")
 class ArticleQueryRepositoryImplTest {
@@ -33,6 +44,9 @@ class ArticleQueryRepositoryImplTest {
     @Autowired
     ArticleRepository articleRepository;
 
+    @Autowired
+    ArticleSearchIndex articleSearchIndex;
+
 
     @BeforeEach
     public void articleData() {
@@ -94,6 +108,11 @@ class ArticleQueryRepositoryImplTest {
 
     }
 
+    @AfterEach
+    public void clearIndex() {
+        articleSearchIndex.clear();
+    }
+
     @Test
     @DisplayName("게시글 조건없이 전체 페이징 조회 테스트")
     public void ltPagingTest() throws Exception {
@@ -122,6 +141,30 @@ class ArticleQueryRepositoryImplTest {
 
     }
 
+    @Test
+    @DisplayName("여러 태그를 쉼표로 묶어 검색하면 tag 는 모든 태그를, tagAny 는 하나 이상의 태그를 가진 게시글을 조회한다.")
+    public void multipleTagSearchTest() throws Exception {
+        //given
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        //when
+        Page<Article> allOf = articleRepository.search(null, "JAVA,C", "tag", null, pageRequest);
+        Page<Article> anyOf = articleRepository.search(null, "JAVA,C", "tagAny", null, pageRequest);
+        //then
+        assertThat(allOf.getTotalElements()).isZero();
+        assertThat(anyOf.getTotalElements()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("없는 태그 이름으로 검색하면 INVALID_TAG_NAME 예외가 발생한다.")
+    public void invalidTagSearchTest() throws Exception {
+        //given
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        //when then
+        assertThatThrownBy(() -> articleRepository.search(null, "JAVA,NOT_A_TAG", "tagAny", null, pageRequest))
+                .isInstanceOf(BusinessLogicException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TAG_NAME);
+    }
+
     @Test
     @DisplayName("카테고리를 기준으로 검색을 할때 10개가 검색되는지와 info 카테고리만 검색 되는지 확인하기")
     public void categorySortingPagingTest() throws Exception {
@@ -164,4 +207,53 @@ class ArticleQueryRepositoryImplTest {
         assertThat(articles.getTotalPages()).isSameAs(1);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("목록 DTO 로 바로 조회할 때 태그가 게시글별로 붙어서 조회된다.")
+    public void listTypeProjectionTest() throws Exception {
+        //given
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        //when
+        Page<ArticleDto.ResponseListTypeArticle> articles =
+                articleRepository.searchListTypeArticles(null, "C", "tag", null, pageRequest);
+        //then
+        assertThat(articles.getTotalElements()).isEqualTo(10);
+        assertThat(articles.getContent()).allSatisfy(article -> {
+            assertThat(article.getTags()).hasSize(1);
+            assertThat(article.getTags().get(0).getName()).isEqualTo(TagName.C);
+        });
+    }
+
+    @Test
+    @DisplayName("색인에서 아직 빠지지 않은 차단 게시글이 페이지에 있으면 다음 색인 결과로 채우고 전체 개수에서 뺀다.")
+    public void indexedPageWithBlockedArticleTest() throws Exception {
+        //given
+        List<Article> articles = em.createQuery("select a from Article a order by a.id desc", Article.class).getResultList();
+        articles.forEach(article -> articleSearchIndex.index(article.getId(), article.getTitle(), article.getContent(),
+                article.getCategory().getName(), article.getIsClosed()));
+        articleSearchIndex.markReady();
+
+        Long blockedId = articles.get(1).getId();
+        em.createQuery("update Article a set a.isBlocked = true where a.id = :articleId")
+                .setParameter("articleId", blockedId)
+                .executeUpdate();
+        PageRequest pageRequest = PageRequest.of(0, 5);
+
+        //when
+        Page<ArticleDto.ResponseListTypeArticle> page =
+                articleRepository.searchListTypeArticles(null, "콘탠트입니다.", "content", "desc", pageRequest);
+        CursorSlice<ArticleDto.ResponseListTypeArticle> slice =
+                articleRepository.searchAfter(null, "콘탠트입니다.", "content", "desc", PageCursor.first(), 5);
+
+        //then
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getContent()).extracting(ArticleDto.ResponseListTypeArticle::getArticleId)
+                .doesNotContain(blockedId)
+                .contains(articles.get(5).getId());
+        assertThat(page.getTotalElements()).isEqualTo(19);
+        assertThat(slice.getContent()).hasSize(5);
+        assertThat(slice.getContent()).extracting(ArticleDto.ResponseListTypeArticle::getArticleId)
+                .doesNotContain(blockedId);
+        assertThat(slice.getHasNext()).isTrue();
+    }
+
+}
@@ -2,7 +2,9 @@ package com.morakmorak.morak_back_end.repository.answer_repository;
 
 import com.morakmorak.morak_back_end.config.JpaQueryFactoryConfig;
 import com.morakmorak.morak_back_end.entity.Answer;
+import com.morakmorak.morak_back_end.entity.AnswerLike;
 import com.morakmorak.morak_back_end.entity.Article;
+import com.morakmorak.morak_back_end.entity.Comment;
 import com.morakmorak.morak_back_end.entity.User;
 import com.morakmorak.morak_back_end.entity.enums.ArticleStatus;
 import com.morakmorak.morak_back_end.entity.enums.Grade;
@@ -24,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static com.morakmorak.morak_back_end.util.TestConstants.NICKNAME1;
 import static com.morakmorak.morak_back_end.util.TestConstants.NICKNAME2;
@@ -158,4 +161,29 @@ public class AnswerQueryRepositoryTest {
         Assertions.assertThat(user_answer_list.size()).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("답변별 좋아요 수, 댓글 수와 가장 먼저 달린 댓글을 한 번에 조회한다.")
+    void countLikesAndComments_findFirstComments() {
+        //given
+        Comment first = Comment.builder().content("first").user(other).answer(user_answer).build();
+        Comment second = Comment.builder().content("second").user(user).answer(user_answer).build();
+        em.persist(first);
+        em.persist(second);
+        em.persist(AnswerLike.builder().user(other).answer(user_answer).build());
+        em.flush();
+        em.clear();
+
+        List<Long> answerIds = List.of(user_answer.getId(), other_answer.getId());
+
+        //when
+        Map<Long, AnswerQueryRepository.Counts> counts = answerQueryRepository.countLikesAndComments(answerIds);
+        Map<Long, Comment> firstComments = answerQueryRepository.findFirstComments(answerIds);
+
+        //then
+        assertThat(counts.get(user_answer.getId()).getLikeCount()).isEqualTo(1L);
+        assertThat(counts.get(user_answer.getId()).getCommentCount()).isEqualTo(2L);
+        assertThat(counts.get(other_answer.getId()).getCommentCount()).isEqualTo(0L);
+        assertThat(firstComments).containsOnlyKeys(user_answer.getId());
+        assertThat(firstComments.get(user_answer.getId()).getContent()).isEqualTo("first");
+    }
 }
@@ -6,9 +6,11 @@ import com.morakmorak.morak_back_end.dto.UserDto;
 import com.morakmorak.morak_back_end.entity.*;
 import com.morakmorak.morak_back_end.exception.BusinessLogicException;
 import com.morakmorak.morak_back_end.exception.ErrorCode;
+import com.morakmorak.morak_back_end.entity.enums.ReportReason;
 import com.morakmorak.morak_back_end.mapper.AnswerMapper;
-import com.morakmorak.morak_back_end.repository.answer.AnswerLikeRepository;
+import com.morakmorak.morak_back_end.repository.ReportRepository;
 import com.morakmorak.morak_back_end.repository.answer.AnswerRepository;
+import com.morakmorak.morak_back_end.repository.redis.ReactionRepository;
 import com.morakmorak.morak_back_end.service.auth_user_service.UserService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +27,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class AnswerServiceTest {
@@ -41,11 +45,17 @@ class AnswerServiceTest {
     AnswerRepository answerRepository;
 
     @Mock
-    AnswerLikeRepository answerLikeRepository;
+    ReactionService reactionService;
 
     @Mock
     PointCalculator pointCalculator;
 
+    @Mock
+    ReportRepository reportRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("답변글의 좋아요를 누를때 회원이 좋아요를 처음누르는거면 201코드와 json을 리턴한다.")
     public void pressLikeButton_suc1(){
@@ -54,7 +64,7 @@ class AnswerServiceTest {
         UserDto.UserInfo userInfo = UserDto.UserInfo.builder().id(1L).build();
         AnswerLike answerLike = AnswerLike.builder().build();
 
-        Answer dbAnswer = Answer.builder().id(1L).answerLike(List.of(answerLike)).build();
+        Answer dbAnswer = Answer.builder().id(1L).article(Article.builder().id(2L).build()).answerLike(List.of(answerLike)).build();
 
 
         AnswerDto.ResponseAnswerLike responseAnswerLike = AnswerDto.ResponseAnswerLike.builder().userId(1L)
@@ -62,8 +72,8 @@ class AnswerServiceTest {
 
         given(answerRepository.findById(anyLong())).willReturn(Optional.of(dbAnswer));
         given(userService.findVerifiedUserById(anyLong())).willReturn(User.builder().id(1L).answerLikes(List.of(answerLike)).build());
-        given(answerLikeRepository.checkUserLiked(1L, 1L)).willReturn(Optional.empty());
-        given(answerLikeRepository.checkUserLiked(1L, 1L)).willReturn(Optional.of(AnswerLike.builder().build()));
+        given(reactionService.toggle(ReactionRepository.Type.ANSWER_LIKE, 1L, 1L))
+                .willReturn(new ReactionRepository.Toggled(true, 1L));
         given(answerMapper.makingResponseAnswerLikeDto(answerId, userInfo.getId(), Boolean.TRUE, 1))
                 .willReturn(responseAnswerLike);
 
@@ -84,7 +94,7 @@ class AnswerServiceTest {
         UserDto.UserInfo userInfo = UserDto.UserInfo.builder().id(1L).build();
         AnswerLike answerLike = AnswerLike.builder().build();
 
-        Answer dbAnswer = Answer.builder().id(1L).build();
+        Answer dbAnswer = Answer.builder().id(1L).article(Article.builder().id(2L).build()).build();
 
 
         AnswerDto.ResponseAnswerLike responseAnswerLike = AnswerDto.ResponseAnswerLike.builder().userId(1L)
@@ -92,9 +102,9 @@ class AnswerServiceTest {
 
         given(answerRepository.findById(anyLong())).willReturn(Optional.of(dbAnswer));
         given(userService.findVerifiedUserById(anyLong())).willReturn(User.builder().id(1L).build());
-        given(answerLikeRepository.checkUserLiked(1L, 1L)).willReturn(Optional.empty());
-        given(answerLikeRepository.checkUserLiked(1L, 1L)).willReturn(Optional.of(AnswerLike.builder().build()));
-        given(answerMapper.makingResponseAnswerLikeDto(answerId, userInfo.getId(), Boolean.TRUE, 0))
+        given(reactionService.toggle(ReactionRepository.Type.ANSWER_LIKE, 1L, 1L))
+                .willReturn(new ReactionRepository.Toggled(false, 0L));
+        given(answerMapper.makingResponseAnswerLikeDto(answerId, userInfo.getId(), Boolean.FALSE, 0))
                 .willReturn(responseAnswerLike);
 
         //when
@@ -140,4 +150,43 @@ class AnswerServiceTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("답변을 신고하면 신고 수가 늘어나고, 누적 신고 수에 도달하면 답변 내용 대신 안내 문구를 보여준다.")
+    public void reportAnswer_suc(){
+        //given
+        UserDto.UserInfo userInfo = UserDto.UserInfo.builder().id(1L).build();
+        Article dbArticle = Article.builder().id(1L).build();
+        Answer dbAnswer = Answer.builder().id(1L).content("답변 내용입니다.").article(dbArticle)
+                .reportCount(Report.BLOCKING_REPORT_COUNT - 1).build();
+        Report report = Report.builder().reason(ReportReason.BAD_LANGUAGE).content("이유").build();
+
+        given(answerRepository.findById(anyLong())).willReturn(Optional.of(dbAnswer));
+        given(userService.findVerifiedUserById(anyLong())).willReturn(User.builder().id(1L).build());
+        given(reportRepository.save(report)).willReturn(Report.builder().id(1L).build());
+
+        //when
+        AnswerDto.ResponseReportAnswer result = answerService.reportAnswer(1L, 1L, userInfo, report);
+
+        //then
+        assertThat(result.getReportId()).isEqualTo(1L);
+        assertThat(dbAnswer.getIsBlocked()).isTrue();
+        assertThat(dbAnswer.getVisibleContent()).isEqualTo(Report.BLOCKED_CONTENT);
+        verify(answerRepository).addReportCount(1L, Report.BLOCKING_REPORT_COUNT);
+    }
+
+    @Test
+    @DisplayName("다른 게시글의 답변을 신고하면 Answer Not Found 를 던진다.")
+    public void reportAnswer_fail(){
+        //given
+        UserDto.UserInfo userInfo = UserDto.UserInfo.builder().id(1L).build();
+        Answer dbAnswer = Answer.builder().id(1L).article(Article.builder().id(2L).build()).build();
+        Report report = Report.builder().reason(ReportReason.BAD_LANGUAGE).content("이유").build();
+
+        given(answerRepository.findById(anyLong())).willReturn(Optional.of(dbAnswer));
+
+        //when
+        //then
+        assertThatThrownBy(() -> answerService.reportAnswer(1L, 1L, userInfo, report))
+                .isInstanceOf(BusinessLogicException.class);
+    }
+}
@@ -1,16 +1,19 @@
 package com.morakmorak.morak_back_end.service;
 
+import com.morakmorak.morak_back_end.domain.ArticleTitleSuggester;
 import com.morakmorak.morak_back_end.domain.PointCalculator;
+import com.morakmorak.morak_back_end.domain.RelatedArticleIndex;
 import com.morakmorak.morak_back_end.dto.*;
 import com.morakmorak.morak_back_end.entity.*;
 import com.morakmorak.morak_back_end.entity.enums.*;
+import com.morakmorak.morak_back_end.event.ArticleChangedEvent;
 import com.morakmorak.morak_back_end.exception.BusinessLogicException;
 import com.morakmorak.morak_back_end.exception.ErrorCode;
 import com.morakmorak.morak_back_end.mapper.ArticleMapper;
 import com.morakmorak.morak_back_end.repository.*;
-import com.morakmorak.morak_back_end.repository.article.ArticleLikeRepository;
 import com.morakmorak.morak_back_end.repository.article.ArticleRepository;
 import com.morakmorak.morak_back_end.repository.article.ArticleTagRepository;
+import com.morakmorak.morak_back_end.repository.redis.ReactionRepository;
 import com.morakmorak.morak_back_end.service.auth_user_service.UserService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,13 +46,15 @@ public class ArticleServiceTest {
     @Mock
     ArticleRepository articleRepository;
     @Mock
-    ArticleLikeRepository articleLikeRepository;
+    ReactionService reactionService;
     @Mock
     ReportRepository reportRepository;
 
     @Mock
     PointCalculator pointCalculator;
     @Mock
+    OutboxService outboxService;
+    @Mock
     CategoryService categoryService;
     @Mock
     TagService tagService;
@@ -56,6 +62,14 @@ public class ArticleServiceTest {
     FileService fileService;
     @Mock
     ArticleTagRepository articleTagRepository;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+    @Mock
+    TrendingArticleService trendingArticleService;
+    @Mock
+    RelatedArticleIndex relatedArticleIndex;
+    @Mock
+    ArticleTitleSuggester articleTitleSuggester;
 
     @Test
     @DisplayName("게시글 등록 서비스로직 성공 테스트")
@@ -79,7 +93,7 @@ public class ArticleServiceTest {
 
         given(userService.findVerifiedUserById(anyLong())).willReturn(User.builder().id(1L).build());
         given(categoryService.findVerifiedCategoryByName(any())).willReturn(Category.builder().id(1L).name(CategoryName.QNA).build());
-        given(fileService.findVerifiedFileById(any())).willReturn(File.builder().build());
+        given(fileService.findAllVerifiedFilesById(any())).willReturn(List.of(File.builder().build()));
         given(tagService.findVerifiedTagByTagName(any())).willReturn(Tag.builder().id(1L).name(TagName.JAVA).build());
         given(articleRepository.save(any())).willReturn(Article.builder().id(1L).build());
         given(articleMapper.articleToResponseSimpleArticle(any())).willReturn(responseSimpleArticle);
@@ -142,7 +156,7 @@ public class ArticleServiceTest {
 
         given(userService.findVerifiedUserById(anyLong())).willReturn(User.builder().id(1L).build());
         given(categoryService.findVerifiedCategoryByName(any())).willReturn(Category.builder().id(1L).name(CategoryName.QNA).build());
-        given(fileService.findVerifiedFileById(any())).willReturn(File.builder().build());
+        given(fileService.findAllVerifiedFilesById(any())).willReturn(List.of(File.builder().build()));
         given(tagService.findVerifiedTagByTagName(any())).willThrow(new BusinessLogicException(ErrorCode.TAG_NOT_FOUND));
 
         //when
@@ -168,7 +182,7 @@ public class ArticleServiceTest {
 
         given(userService.findVerifiedUserById(anyLong())).willReturn(User.builder().id(1L).build());
         given(categoryService.findVerifiedCategoryByName(any())).willReturn(Category.builder().id(1L).name(CategoryName.QNA).build());
-        given(fileService.findVerifiedFileById(any())).willThrow(new BusinessLogicException(ErrorCode.FILE_NOT_FOUND));
+        given(fileService.findAllVerifiedFilesById(any())).willThrow(new BusinessLogicException(ErrorCode.FILE_NOT_FOUND));
         //when
 
         //then
@@ -185,6 +199,7 @@ public class ArticleServiceTest {
           Boolean result = articleService.deleteArticle(article.getId(), userInfo);
           //then
           assertThat(result).isTrue();
+          verify(outboxService).enqueuePoint(eq("point:article:1:removed"), eq(1L), anyInt());
        }
     @Test
     @DisplayName("게시글 수정 성공 테스트")
@@ -227,15 +242,17 @@ public class ArticleServiceTest {
                 ArticleDto.ResponseSimpleArticle.builder().articleId(1L).build();
 
         given(articleRepository.findArticleRelationWithUser(any())).willReturn(Optional.of(article));
-        given(fileService.findVerifiedFileById(any())).willReturn(File.builder().id(2L).build());
-        given(tagService.findVerifiedTagByTagName(any())).willReturn(Tag.builder().name(TagName.NODE).build());
+        given(fileService.findAllVerifiedFilesById(any())).willReturn(List.of(File.builder().id(2L).build()));
+        given(tagService.findVerifiedTagByTagName(any())).willReturn(Tag.builder().id(2L).name(TagName.NODE).build());
+        given(articleTagRepository.findTagIdsByArticleId(1L)).willReturn(List.of(1L));
         given(articleMapper.articleToResponseSimpleArticle(any())).willReturn(responseSimpleArticle);
 
     //when
         ArticleDto.ResponseSimpleArticle update =
                 articleService.update(changeArticle, UserDto.UserInfo.builder().id(1L).build());
         //then
-        verify(articleTagRepository, times(1)).delete(any());
+        verify(articleTagRepository, times(1)).deleteTags(1L, List.of(1L));
+        verify(articleTagRepository, times(1)).insertTags(1L, List.of(2L));
         assertThat(update.getArticleId()).isEqualTo(1L);
         assertThat(article.getTitle()).isEqualTo(changeArticle.getTitle());
         assertThat(article.getContent()).isEqualTo(changeArticle.getContent());
@@ -287,7 +304,7 @@ public class ArticleServiceTest {
                 ArticleDto.ResponseSimpleArticle.builder().articleId(1L).build();
 
         given(articleRepository.findArticleRelationWithUser(any())).willReturn(Optional.of(article));
-        given(fileService.findVerifiedFileById(any())).willThrow(new BusinessLogicException(ErrorCode.FILE_NOT_FOUND));
+        given(fileService.findAllVerifiedFilesById(any())).willThrow(new BusinessLogicException(ErrorCode.FILE_NOT_FOUND));
 
         //when
         //then
@@ -350,9 +367,7 @@ public class ArticleServiceTest {
         //given
             Long articleId = 1L;
             UserDto.UserInfo userInfo = UserDto.UserInfo.builder().id(1L).build();
-            ArticleLike articleLike = ArticleLike.builder().build();
-
-            Article dbArticle = Article.builder().id(1L).articleLikes(List.of(articleLike)).build();
+            Article dbArticle = Article.builder().id(1L).build();
 
             ArticleDto.ResponseArticleLike responseArticleLike =
                     ArticleDto.ResponseArticleLike.builder().userId(1L)
@@ -360,8 +375,8 @@ public class ArticleServiceTest {
 
             given(articleRepository.findById(anyLong())).willReturn(Optional.of(dbArticle));
             given(userService.findVerifiedUserById(anyLong())).willReturn(User.builder().id(1L).build());
-            given(articleLikeRepository.checkUserLiked(1L, 1L)).willReturn(Optional.empty());
-            given(articleLikeRepository.checkUserLiked(1L, 1L)).willReturn(Optional.of(ArticleLike.builder().build()));
+            given(reactionService.toggle(ReactionRepository.Type.ARTICLE_LIKE, 1L, 1L))
+                    .willReturn(new ReactionRepository.Toggled(true, 1L));
             given(articleMapper.makingResponseArticleLikeDto(articleId, userInfo.getId(), Boolean.TRUE, 1))
                     .willReturn(responseArticleLike);
 
@@ -381,7 +396,7 @@ public class ArticleServiceTest {
             Long articleId = 1L;
             UserDto.UserInfo userInfo = UserDto.UserInfo.builder().id(1L).build();
 
-            Article dbArticle = Article.builder().id(1L).build();
+            Article dbArticle = Article.builder().id(1L).likeCount(1).build();
 
             ArticleDto.ResponseArticleLike responseArticleLike =
                     ArticleDto.ResponseArticleLike.builder().userId(1L)
@@ -389,9 +404,9 @@ public class ArticleServiceTest {
 
             given(articleRepository.findById(anyLong())).willReturn(Optional.of(dbArticle));
             given(userService.findVerifiedUserById(anyLong())).willReturn(User.builder().id(1L).build());
-            given(articleLikeRepository.checkUserLiked(1L, 1L)).willReturn(Optional.empty());
-            given(articleLikeRepository.checkUserLiked(1L, 1L)).willReturn(Optional.of(ArticleLike.builder().build()));
-            given(articleMapper.makingResponseArticleLikeDto(articleId, userInfo.getId(), Boolean.TRUE, 0))
+            given(reactionService.toggle(ReactionRepository.Type.ARTICLE_LIKE, 1L, 1L))
+                    .willReturn(new ReactionRepository.Toggled(false, 0L));
+            given(articleMapper.makingResponseArticleLikeDto(articleId, userInfo.getId(), Boolean.FALSE, 0))
                     .willReturn(responseArticleLike);
 
             //when
@@ -466,6 +481,63 @@ public class ArticleServiceTest {
         //then
 
         assertThat(result.getReportId()).isEqualTo(1L);
+        assertThat(dbArticle.getReportCount()).isEqualTo(1);
+        verify(articleRepository).addReportCount(1L);
+        verify(eventPublisher, times(0)).publishEvent(any(ArticleChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("게시글 신고가 누적되어 차단되면 목록과 색인에서 제외되도록 삭제 이벤트를 발행한다.")
+    public void reportArticle_blocked(){
+        //given
+        UserDto.UserInfo userInfo = UserDto.UserInfo.builder().email("test@naver.com").id(1L).build();
+
+        Report report = Report.builder().reason(ReportReason.BAD_LANGUAGE).content("이유").build();
+
+        Article dbArticle = Article.builder().id(1L).title("제목입니다.제목입니다.제목입니다.제목입니다.").content("본문 입니다.본문 입니다.본문 입니다.")
+                .reportCount(Report.BLOCKING_REPORT_COUNT - 1)
+                .build();
+
+        User dbUser = User.builder().id(1L).email("test@naver.com").nickname("nickname").grade(Grade.BRONZE).build();
+
+        given(articleRepository.findById(any())).willReturn(Optional.of(dbArticle));
+        given(userService.findVerifiedUserById(any())).willReturn(dbUser);
+        given(reportRepository.save(any())).willReturn(Report.builder().id(1L).build());
+        given(articleRepository.blockIfReported(1L, Report.BLOCKING_REPORT_COUNT)).willReturn(1);
+
+        //when
+        articleService.reportArticle(1L, userInfo, report);
+
+        //then
+        assertThat(dbArticle.getIsBlocked()).isTrue();
+        verify(eventPublisher).publishEvent(any(ArticleChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("불러온 게시글의 신고 수로는 차단될 차례여도 다른 신고가 먼저 차단했으면 삭제 이벤트를 발행하지 않는다.")
+    public void reportArticle_already_blocked(){
+        //given
+        UserDto.UserInfo userInfo = UserDto.UserInfo.builder().email("test@naver.com").id(1L).build();
+
+        Report report = Report.builder().reason(ReportReason.BAD_LANGUAGE).content("이유").build();
+
+        Article dbArticle = Article.builder().id(1L).title("제목입니다.제목입니다.제목입니다.제목입니다.").content("본문 입니다.본문 입니다.본문 입니다.")
+                .reportCount(Report.BLOCKING_REPORT_COUNT - 1)
+                .build();
+
+        User dbUser = User.builder().id(1L).email("test@naver.com").nickname("nickname").grade(Grade.BRONZE).build();
+
+        given(articleRepository.findById(any())).willReturn(Optional.of(dbArticle));
+        given(userService.findVerifiedUserById(any())).willReturn(dbUser);
+        given(reportRepository.save(any())).willReturn(Report.builder().id(1L).build());
+        given(articleRepository.blockIfReported(1L, Report.BLOCKING_REPORT_COUNT)).willReturn(0);
+
+        //when
+        articleService.reportArticle(1L, userInfo, report);
+
+        //then
+        verify(articleRepository).addReportCount(1L);
+        verify(eventPublisher, times(0)).publishEvent(any(ArticleChangedEvent.class));
     }
     @Test
     @DisplayName("게시글을 신고할때 존재하지 않는 게시글을 신고할때 404예외를 터트린다.")
@@ -1,13 +1,18 @@
 package com.morakmorak.morak_back_end.service;
 
+import com.morakmorak.morak_back_end.domain.CursorSlice;
+import com.morakmorak.morak_back_end.domain.PageCursor;
 import com.morakmorak.morak_back_end.domain.PointCalculator;
+import com.morakmorak.morak_back_end.dto.CommentDto;
+import com.morakmorak.morak_back_end.dto.ResponseCursorPaging;
 import com.morakmorak.morak_back_end.entity.Article;
 import com.morakmorak.morak_back_end.entity.Comment;
 import com.morakmorak.morak_back_end.entity.User;
+import com.morakmorak.morak_back_end.entity.enums.ArticleStatus;
 import com.morakmorak.morak_back_end.exception.BusinessLogicException;
 import com.morakmorak.morak_back_end.exception.ErrorCode;
+import com.morakmorak.morak_back_end.repository.CommentQueryRepository;
 import com.morakmorak.morak_back_end.repository.CommentRepository;
-import com.morakmorak.morak_back_end.repository.notification.NotificationRepository;
 import com.morakmorak.morak_back_end.service.auth_user_service.UserService;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -16,10 +21,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
 
 import static com.morakmorak.morak_back_end.util.TestConstants.CONTENT1;
 import static com.morakmorak.morak_back_end.util.TestConstants.NICKNAME1;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -35,9 +45,13 @@ class CommentServiceTest {
     @Mock
     CommentRepository commentRepository;
     @Mock
+    CommentQueryRepository commentQueryRepository;
+    @Mock
     PointCalculator pointCalculator;
     @Mock
-    NotificationRepository notificationRepository;
+    OutboxService outboxService;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
 
     String VALID_CONTENT = "VALID CONTENT BLAH BLAH";
     Long USERID = 1L;
@@ -67,9 +81,34 @@ class CommentServiceTest {
         given(commentRepository.save(comment)).willReturn(comment);
 
         //when
- commentService.makeComment(1L, 1L, comment,true);
+        ResponseCursorPaging<CommentDto.Response> response = commentService.makeComment(1L, 1L, comment, true);
 
         //then
         verify(commentRepository, times(1)).save(comment);
+        assertThat(response.getData()).hasSize(1);
+        assertThat(response.getData().get(0).getContent()).isEqualTo(VALID_CONTENT);
+        assertThat(response.getCursorInfo().getHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("커서로 댓글을 조회하면 조회된 댓글과 마지막 댓글 id 로 만든 다음 커서를 반환한다.")
+    void findCommentsAsCursor_success() {
+        //given
+        User user = User.builder().id(1L).nickname(NICKNAME1).build();
+        Article article = Article.builder().id(ARTICLEID).articleStatus(ArticleStatus.POSTING).build();
+        Comment comment = Comment.builder().id(7L).content(VALID_CONTENT).user(user).article(article).build();
+        PageCursor nextCursor = PageCursor.of(7L);
+
+        given(articleService.findVerifiedArticle(ARTICLEID)).willReturn(article);
+        given(commentQueryRepository.findAllByArticleId(eq(ARTICLEID), any(), eq(1)))
+                .willReturn(CursorSlice.of(List.of(comment, Comment.builder().id(8L).build()), 1, last -> PageCursor.of(last.getId())));
+
+        //when
+        ResponseCursorPaging<CommentDto.Response> response = commentService.findCommentsAsCursor(ARTICLEID, true, null, 1);
+
+        //then
+        assertThat(response.getData()).extracting(CommentDto.Response::getCommentId).containsExactly(7L);
+        assertThat(response.getCursorInfo().getHasNext()).isTrue();
+        assertThat(response.getCursorInfo().getNextCursor()).isEqualTo(nextCursor.encode());
     }
 }
@@ -0,0 +1,62 @@
+package com.morakmorak.morak_back_end.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morakmorak.morak_back_end.dto.ExportDto;
+import com.morakmorak.morak_back_end.repository.ExportRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+    @InjectMocks
+    ExportService exportService;
+    @Mock
+    ExportRepository exportRepository;
+    @Spy
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("게시글, 답변, 댓글 순으로 한 줄에 하나씩 NDJSON 으로 쓰고, 다 쓴 Stream 은 닫는다.")
+    void exportPostingArticles() throws Exception {
+        //given
+        AtomicBoolean closed = new AtomicBoolean(false);
+
+        given(exportRepository.streamArticles()).willReturn(Stream.of(
+                ExportDto.ArticleRow.builder().articleId(1L).title("제목").build()
+        ).onClose(() -> closed.set(true)));
+        given(exportRepository.streamAnswers()).willReturn(Stream.of(
+                ExportDto.AnswerRow.builder().answerId(2L).articleId(1L).build()
+        ));
+        given(exportRepository.streamComments()).willReturn(Stream.of(
+                ExportDto.CommentRow.builder().commentId(3L).articleId(1L).answerId(2L).build()
+        ));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        exportService.exportPostingArticles(outputStream);
+
+        //then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readTree(lines[0]).get("type").asText()).isEqualTo("article");
+        assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("제목");
+        assertThat(objectMapper.readTree(lines[1]).get("type").asText()).isEqualTo("answer");
+        assertThat(objectMapper.readTree(lines[2]).get("answerId").asLong()).isEqualTo(2L);
+        assertThat(closed).isTrue();
+    }
+}
@@ -0,0 +1,106 @@
+package com.morakmorak.morak_back_end.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morakmorak.morak_back_end.domain.NotificationCoalescer;
+import com.morakmorak.morak_back_end.dto.OutboxDto;
+import com.morakmorak.morak_back_end.entity.enums.OutboxEventType;
+import com.morakmorak.morak_back_end.entity.enums.OutboxStatus;
+import com.morakmorak.morak_back_end.event.NotificationCreatedEvent;
+import com.morakmorak.morak_back_end.repository.OutboxBatchRepository;
+import com.morakmorak.morak_back_end.repository.notification.NotificationBatchRepository;
+import com.morakmorak.morak_back_end.repository.user.UserPointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+    @InjectMocks
+    OutboxService outboxService;
+    @Mock
+    OutboxBatchRepository outboxBatchRepository;
+    @Mock
+    NotificationBatchRepository notificationBatchRepository;
+    @Mock
+    UserPointRepository userPointRepository;
+    @Spy
+    NotificationCoalescer notificationCoalescer = new NotificationCoalescer();
+    @Spy
+    ObjectMapper objectMapper = new ObjectMapper();
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("같은 회원의 포인트는 합쳐서 한 번에 반영하고, 저장한 알림마다 NotificationCreatedEvent 를 발행한 뒤 처리 완료로 표시한다.")
+    void dispatch() throws Exception {
+        //given
+        OutboxDto.NotificationPayload notification = OutboxDto.NotificationPayload.builder()
+                .receiverId(2L).senderId(1L).message("새 답변").uri("/questions/1").build();
+
+        List<OutboxDto.Pending> claimed = List.of(
+                pendingOf(10L, OutboxEventType.POINT, OutboxDto.PointPayload.builder().userId(1L).delta(50).build()),
+                pendingOf(11L, OutboxEventType.POINT, OutboxDto.PointPayload.builder().userId(1L).delta(10).build()),
+                pendingOf(12L, OutboxEventType.NOTIFICATION, notification));
+
+        given(outboxBatchRepository.claim(eq(100), any())).willReturn(claimed);
+        given(notificationBatchRepository.insert(any(), any())).willReturn(List.of(7L));
+        ArgumentCaptor<NotificationCreatedEvent> event = ArgumentCaptor.forClass(NotificationCreatedEvent.class);
+
+        //when
+        int dispatched = outboxService.dispatch(100);
+
+        //then
+        assertThat(dispatched).isEqualTo(3);
+        verify(userPointRepository).addPoints(Map.of(1L, 60));
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getNotificationId()).isEqualTo(7L);
+        assertThat(event.getValue().getUserId()).isEqualTo(2L);
+        verify(outboxBatchRepository).markDone(eq(List.of(10L, 11L, 12L)), any());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 실패하면 FAILED 로 남긴다.")
+    void recordFailure() throws Exception {
+        //given
+        OutboxDto.Pending pending = OutboxDto.Pending.builder()
+                .outboxEventId(10L)
+                .eventType(OutboxEventType.POINT)
+                .idempotencyKey("point:answer:1")
+                .payload("{}")
+                .attempts(OutboxService.MAX_ATTEMPTS - 1)
+                .build();
+        given(outboxBatchRepository.claim(10L)).willReturn(Optional.of(pending));
+
+        //when
+        outboxService.recordFailure(10L);
+
+        //then
+        verify(outboxBatchRepository).markRetry(eq(10L), eq(OutboxService.MAX_ATTEMPTS), eq(OutboxStatus.FAILED), any(), any());
+    }
+
+    private OutboxDto.Pending pendingOf(Long id, OutboxEventType type, Object payload) throws Exception {
+        return OutboxDto.Pending.builder()
+                .outboxEventId(id)
+                .eventType(type)
+                .idempotencyKey(type.name() + ":" + id)
+                .payload(objectMapper.writeValueAsString(payload))
+                .attempts(0)
+                .build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.morakmorak.morak_back_end.service;
+
+import com.morakmorak.morak_back_end.domain.PointCalculator;
+import com.morakmorak.morak_back_end.event.ArticleReactionToggledEvent;
+import com.morakmorak.morak_back_end.repository.ReactionBatchRepository;
+import com.morakmorak.morak_back_end.repository.answer.AnswerLikeRepository;
+import com.morakmorak.morak_back_end.repository.article.ArticleCounterRepository;
+import com.morakmorak.morak_back_end.repository.article.ArticleLikeRepository;
+import com.morakmorak.morak_back_end.repository.redis.ReactionRepository;
+import com.morakmorak.morak_back_end.repository.redis.ReactionRepository.Operation;
+import com.morakmorak.morak_back_end.repository.redis.ReactionRepository.Toggled;
+import com.morakmorak.morak_back_end.repository.redis.ReactionRepository.Type;
+import com.morakmorak.morak_back_end.repository.user.UserPointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReactionServiceTest {
+    @InjectMocks
+    ReactionService reactionService;
+    @Mock
+    ReactionRepository reactionRepository;
+    @Mock
+    ReactionBatchRepository reactionBatchRepository;
+    @Mock
+    ArticleLikeRepository articleLikeRepository;
+    @Mock
+    AnswerLikeRepository answerLikeRepository;
+    @Mock
+    ArticleCounterRepository articleCounterRepository;
+    @Mock
+    UserPointRepository userPointRepository;
+    @Spy
+    PointCalculator pointCalculator;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("Redis 에 아직 올라오지 않은 대상이면 DB 에서 누른 회원을 불러와 채운 뒤 누른다.")
+    void toggle_load() {
+        //given
+        Toggled toggled = new Toggled(true, 3L);
+        given(reactionRepository.toggle(Type.ARTICLE_LIKE, 1L, 2L)).willReturn(Optional.empty(), Optional.of(toggled));
+        given(articleLikeRepository.findUserIdsByArticleId(1L)).willReturn(List.of(3L, 4L));
+
+        //when
+        Toggled result = reactionService.toggle(Type.ARTICLE_LIKE, 1L, 2L);
+
+        //then
+        assertThat(result).isSameAs(toggled);
+        verify(reactionRepository).load(Type.ARTICLE_LIKE, 1L, List.of(3L, 4L));
+        verify(eventPublisher).publishEvent(any(ArticleReactionToggledEvent.class));
+    }
+
+    @Test
+    @DisplayName("같은 회원이 여러 번 누른 경우 마지막 상태만 반영하고, 실제로 바뀐 행만큼 좋아요 수와 포인트를 바꾼다.")
+    void persist() {
+        //given
+        List<Operation> operations = List.of(
+                new Operation(Type.ARTICLE_LIKE, 1L, 2L, true),
+                new Operation(Type.ARTICLE_LIKE, 1L, 2L, false),
+                new Operation(Type.ARTICLE_LIKE, 1L, 2L, true),
+                new Operation(Type.ARTICLE_LIKE, 1L, 3L, true));
+
+        given(reactionBatchRepository.insert(eq(Type.ARTICLE_LIKE), anyList()))
+                .willReturn(List.of(new Operation(Type.ARTICLE_LIKE, 1L, 2L, true)));
+        given(reactionBatchRepository.delete(any(), anyList())).willReturn(List.of());
+        given(reactionBatchRepository.insert(eq(Type.ANSWER_LIKE), anyList())).willReturn(List.of());
+        given(reactionBatchRepository.insert(eq(Type.BOOKMARK), anyList())).willReturn(List.of());
+
+        //when
+        reactionService.persist(operations);
+
+        //then
+        verify(articleCounterRepository).addLikeCounts(Map.of(1L, 1L));
+        verify(userPointRepository).addPoints(Map.of(2L, 1));
+    }
+
+    @Test
+    @DisplayName("게시글/답변 좋아요 증감을 회원별로 합쳐 포인트를 증감 update 로 한 번에 반영하고, 합이 0 인 회원은 제외한다.")
+    void persist_points() {
+        //given
+        List<Operation> operations = List.of(
+                new Operation(Type.ARTICLE_LIKE, 1L, 2L, true),
+                new Operation(Type.ANSWER_LIKE, 5L, 2L, false),
+                new Operation(Type.ANSWER_LIKE, 6L, 3L, true));
+
+        given(reactionBatchRepository.insert(eq(Type.ARTICLE_LIKE), anyList()))
+                .willReturn(List.of(new Operation(Type.ARTICLE_LIKE, 1L, 2L, true)));
+        given(reactionBatchRepository.insert(eq(Type.ANSWER_LIKE), anyList()))
+                .willReturn(List.of(new Operation(Type.ANSWER_LIKE, 6L, 3L, true)));
+        given(reactionBatchRepository.delete(eq(Type.ANSWER_LIKE), anyList()))
+                .willReturn(List.of(new Operation(Type.ANSWER_LIKE, 5L, 2L, false)));
+        given(reactionBatchRepository.delete(eq(Type.ARTICLE_LIKE), anyList())).willReturn(List.of());
+        given(reactionBatchRepository.insert(eq(Type.BOOKMARK), anyList())).willReturn(List.of());
+        given(reactionBatchRepository.delete(eq(Type.BOOKMARK), anyList())).willReturn(List.of());
+
+        //when
+        reactionService.persist(operations);
+
+        //then
+        verify(userPointRepository).addPoints(Map.of(3L, 1));
+    }
+
+    @Test
+    @DisplayName("이미 반영된 건을 다시 반영하면 좋아요 수를 바꾸지 않는다.")
+    void persist_replay() {
+        //given
+        given(reactionBatchRepository.insert(any(), anyList())).willReturn(List.of());
+        given(reactionBatchRepository.delete(any(), anyList())).willReturn(List.of());
+
+        //when
+        reactionService.persist(List.of(new Operation(Type.ARTICLE_LIKE, 1L, 2L, false)));
+
+        //then
+        verify(articleCounterRepository, never()).addLikeCounts(any());
+        verify(userPointRepository, never()).addPoints(any());
+    }
+
+    @Test
+    @DisplayName("Redis 에 올라온 답변은 Redis 에서, 나머지 답변은 한 번의 IN 조회로 좋아요 여부를 확인한다.")
+    void findLikedAnswerIds() {
+        //given
+        given(reactionRepository.containsAll(Type.ANSWER_LIKE, List.of(1L, 2L, 3L), 9L)).willReturn(Map.of(1L, true, 2L, false));
+        given(answerLikeRepository.findLikedAnswerIds(9L, List.of(3L))).willReturn(List.of(3L));
+
+        //when
+        Set<Long> result = reactionService.findLikedAnswerIds(9L, List.of(1L, 2L, 3L));
+
+        //then
+        assertThat(result).containsExactlyInAnyOrder(1L, 3L);
+    }
+}
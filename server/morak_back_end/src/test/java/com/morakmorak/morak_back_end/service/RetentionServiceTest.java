@@ -0,0 +1,144 @@
+package com.morakmorak.morak_back_end.service;
+
+import com.morakmorak.morak_back_end.domain.RetentionPolicy;
+import com.morakmorak.morak_back_end.repository.RetentionRepository;
+import com.morakmorak.morak_back_end.repository.redis.RetentionProgressRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class RetentionServiceTest {
+    @InjectMocks
+    RetentionService retentionService;
+    @Mock
+    RetentionRepository retentionRepository;
+    @Mock
+    AmazonS3StorageService amazonS3StorageService;
+    @Mock
+    RetentionProgressRepository retentionProgressRepository;
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(retentionService, "throttleMillis", 0L);
+        ReflectionTestUtils.setField(retentionService, "maxRunSeconds", 60L);
+    }
+
+    @Test
+    @DisplayName("최솟값부터 최댓값까지 chunkSize 구간으로 나누어 지우고 진행 상황을 남긴다.")
+    void purge() {
+        //given
+        List<Long[]> ranges = new ArrayList<>();
+        RetentionPolicy policy = policyOf(3L, (from, to, now) -> {
+            ranges.add(new Long[]{from, to});
+            return 2;
+        });
+        given(retentionProgressRepository.lock(eq("notification"), any())).willReturn(Optional.of("token"));
+        given(retentionRepository.findMinId("notification", "notification_id")).willReturn(2L);
+        given(retentionRepository.findMaxId("notification", "notification_id")).willReturn(8L);
+
+        //when
+        long deleted = retentionService.purge(policy);
+
+        //then
+        assertThat(deleted).isEqualTo(6L);
+        assertThat(ranges).containsExactly(new Long[]{2L, 4L}, new Long[]{5L, 7L}, new Long[]{8L, 8L});
+        verify(retentionProgressRepository).start(eq("notification"), any(), eq(1L), eq(8L));
+        verify(retentionProgressRepository).chunk("notification", 8L, 2);
+        verify(retentionProgressRepository).finish(eq("notification"), any());
+        verify(retentionProgressRepository).unlock("notification", "token");
+    }
+
+    @Test
+    @DisplayName("다른 서버가 같은 정책의 락을 잡고 있으면 지우지 않는다.")
+    void purge_locked() {
+        //given
+        RetentionPolicy policy = policyOf(3L, (from, to, now) -> 1);
+        given(retentionProgressRepository.lock(eq("notification"), any())).willReturn(Optional.empty());
+
+        //when
+        long deleted = retentionService.purge(policy);
+
+        //then
+        assertThat(deleted).isZero();
+        verifyNoInteractions(retentionRepository);
+        verify(retentionProgressRepository, never()).unlock(any(), any());
+    }
+
+    @Test
+    @DisplayName("실행 시간을 넘기면 멈추고, 다음 실행은 멈춘 구간부터 이어서 지운다.")
+    void purge_resume() {
+        //given
+        ReflectionTestUtils.setField(retentionService, "maxRunSeconds", -1L);
+        List<Long> froms = new ArrayList<>();
+        RetentionPolicy policy = policyOf(10L, (from, to, now) -> {
+            froms.add(from);
+            return 1;
+        });
+        given(retentionProgressRepository.lock(eq("notification"), any())).willReturn(Optional.of("token"));
+        given(retentionProgressRepository.findNextId("notification")).willReturn(0L, 11L);
+        given(retentionRepository.findMinId("notification", "notification_id")).willReturn(1L);
+        given(retentionRepository.findMaxId("notification", "notification_id")).willReturn(30L);
+
+        //when
+        retentionService.purge(policy);
+        retentionService.purge(policy);
+
+        //then
+        assertThat(froms).containsExactly(1L, 11L);
+        verify(retentionProgressRepository).pause("notification", 11L);
+        verify(retentionProgressRepository).pause("notification", 21L);
+        verify(retentionProgressRepository, never()).finish(any(), any());
+    }
+
+    @Test
+    @DisplayName("구간을 지우다 실패하면 실패로 남겨 다음 실행이 실패한 구간부터 다시 지우게 하고 락을 푼다.")
+    void purge_fail() {
+        //given
+        RetentionPolicy policy = policyOf(10L, (from, to, now) -> {
+            if (from == 11L) {
+                throw new IllegalStateException();
+            }
+            return 3;
+        });
+        given(retentionProgressRepository.lock(eq("notification"), any())).willReturn(Optional.of("token"));
+        given(retentionRepository.findMinId("notification", "notification_id")).willReturn(1L);
+        given(retentionRepository.findMaxId("notification", "notification_id")).willReturn(30L);
+
+        //when then
+        assertThatThrownBy(() -> retentionService.purge(policy)).isInstanceOf(IllegalStateException.class);
+        verify(retentionProgressRepository).chunk("notification", 10L, 3);
+        verify(retentionProgressRepository, never()).chunk(eq("notification"), eq(20L), anyInt());
+        verify(retentionProgressRepository).fail("notification");
+        verify(retentionProgressRepository).unlock("notification", "token");
+    }
+
+    private RetentionPolicy policyOf(long chunkSize, RetentionPolicy.Purger purger) {
+        return RetentionPolicy.builder()
+                .name("notification")
+                .table("notification")
+                .idColumn("notification_id")
+                .chunkSize(chunkSize)
+                .purger(purger)
+                .build();
+    }
+}
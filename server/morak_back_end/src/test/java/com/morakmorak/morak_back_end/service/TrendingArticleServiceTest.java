@@ -0,0 +1,123 @@
+package com.morakmorak.morak_back_end.service;
+
+import com.morakmorak.morak_back_end.dto.ArticleDto;
+import com.morakmorak.morak_back_end.entity.Article;
+import com.morakmorak.morak_back_end.entity.Category;
+import com.morakmorak.morak_back_end.entity.enums.CategoryName;
+import com.morakmorak.morak_back_end.event.ArticleChangedEvent;
+import com.morakmorak.morak_back_end.event.TrendingActivityEvent;
+import com.morakmorak.morak_back_end.repository.article.ArticleRepository;
+import com.morakmorak.morak_back_end.repository.redis.TrendingArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.doubleThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingArticleServiceTest {
+    @InjectMocks
+    TrendingArticleService trendingArticleService;
+    @Mock
+    TrendingArticleRepository trendingArticleRepository;
+    @Mock
+    ArticleRepository articleRepository;
+
+    @Test
+    @DisplayName("활동 종류별 가중치만큼 게시글 카테고리의 인기 점수를 올린다.")
+    void record() {
+        //given
+        Article article = Article.builder().id(1L).category(Category.builder().name(CategoryName.QNA).build()).build();
+
+        //when
+        trendingArticleService.record(TrendingActivityEvent.of(article, TrendingArticleService.Activity.ANSWER));
+
+        //then
+        verify(trendingArticleRepository).increase(1L, CategoryName.QNA, TrendingArticleService.Activity.ANSWER.getWeight());
+    }
+
+    @Test
+    @DisplayName("인기 게시글이 없으면 DB 를 조회하지 않고 빈 목록을 반환한다.")
+    void findTrendingArticles_empty() {
+        //given
+        given(trendingArticleRepository.findTopIds(null, 10)).willReturn(List.of());
+
+        //when
+        List<ArticleDto.ResponseListTypeArticle> result = trendingArticleService.findTrendingArticles(null, 10);
+
+        //then
+        assertThat(result).isEmpty();
+        verify(articleRepository, never()).findListTypeArticlesByIds(any());
+    }
+
+    @Test
+    @DisplayName("인기 점수 순서대로 조회한 id 로 게시글 목록을 조회한다.")
+    void findTrendingArticles() {
+        //given
+        given(trendingArticleRepository.findTopIds(CategoryName.INFO, 2)).willReturn(List.of(3L, 1L));
+
+        //when
+        trendingArticleService.findTrendingArticles(CategoryName.INFO, 2);
+
+        //then
+        verify(articleRepository).findListTypeArticlesByIds(List.of(3L, 1L));
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 인기 게시글에서 제거한다.")
+    void remove() {
+        //when
+        trendingArticleService.remove(ArticleChangedEvent.removed(1L));
+
+        //then
+        verify(trendingArticleRepository).remove(1L);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 감쇠 락을 잡고 있으면 감쇠하지 않는다.")
+    void decay_locked() {
+        //given
+        given(trendingArticleRepository.lockDecay(any())).willReturn(Optional.empty());
+
+        //when
+        trendingArticleService.decay();
+
+        //then
+        verify(trendingArticleRepository, never()).decay(anyDouble(), anyDouble());
+        verify(trendingArticleRepository, never()).unlockDecay(any());
+    }
+
+    @Test
+    @DisplayName("마지막 감쇠 이후 지난 시간만큼 감쇠하고, 방금 감쇠했으면 건너뛴다.")
+    void decay_by_elapsed_time() {
+        //given
+        given(trendingArticleRepository.lockDecay(any())).willReturn(Optional.of("token"));
+        given(trendingArticleRepository.findLastDecayedAt())
+                .willReturn(System.currentTimeMillis() - 360 * 60 * 1000L)
+                .willReturn(System.currentTimeMillis());
+
+        //when
+        trendingArticleService.decay();
+        trendingArticleService.decay();
+
+        //then
+        verify(trendingArticleRepository).decay(doubleThat(factor -> Math.abs(factor - 0.5) < 0.001), eq(0.1));
+        verify(trendingArticleRepository).saveLastDecayedAt(anyLong());
+        verify(trendingArticleRepository, times(2)).unlockDecay("token");
+    }
+}
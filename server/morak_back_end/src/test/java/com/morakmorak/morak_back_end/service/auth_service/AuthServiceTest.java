@@ -9,7 +9,7 @@ import com.morakmorak.morak_back_end.entity.User;
 import com.morakmorak.morak_back_end.entity.enums.UserStatus;
 import com.morakmorak.morak_back_end.exception.BusinessLogicException;
 import com.morakmorak.morak_back_end.mapper.UserMapper;
-import com.morakmorak.morak_back_end.repository.user.RoleRepository;
+import com.morakmorak.morak_back_end.repository.ReferenceDataRegistry;
 import com.morakmorak.morak_back_end.repository.user.UserRepository;
 import com.morakmorak.morak_back_end.repository.user.UserRoleRepository;
 import com.morakmorak.morak_back_end.security.util.JwtTokenUtil;
@@ -51,7 +51,7 @@ public class AuthServiceTest {
     JwtTokenUtil jwtTokenUtil;
 
     @Mock
-    RoleRepository roleRepository;
+    ReferenceDataRegistry referenceDataRegistry;
 
     @Mock
     MailSenderImpl authMailSenderImpl;
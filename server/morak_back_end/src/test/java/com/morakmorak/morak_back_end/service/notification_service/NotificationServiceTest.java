@@ -3,12 +3,15 @@ package com.morakmorak.morak_back_end.service.notification_service;
 import com.morakmorak.morak_back_end.dto.NotificationDto;
 import com.morakmorak.morak_back_end.dto.PageInfo;
 import com.morakmorak.morak_back_end.dto.ResponseMultiplePaging;
+import com.morakmorak.morak_back_end.dto.UserDto;
 import com.morakmorak.morak_back_end.entity.Notification;
 import com.morakmorak.morak_back_end.entity.User;
 import com.morakmorak.morak_back_end.exception.BusinessLogicException;
+import com.morakmorak.morak_back_end.event.NotificationUncountedEvent;
 import com.morakmorak.morak_back_end.exception.ErrorCode;
 import com.morakmorak.morak_back_end.repository.notification.NotificationQueryRepository;
 import com.morakmorak.morak_back_end.repository.notification.NotificationRepository;
+import com.morakmorak.morak_back_end.repository.redis.NotificationUnreadRepository;
 import com.morakmorak.morak_back_end.service.NotificationService;
 import com.morakmorak.morak_back_end.service.auth_user_service.UserService;
 import com.morakmorak.morak_back_end.util.TestConstants;
@@ -16,16 +19,22 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static com.morakmorak.morak_back_end.exception.ErrorCode.*;
 import static com.morakmorak.morak_back_end.util.TestConstants.*;
@@ -43,9 +52,15 @@ public class NotificationServiceTest {
     @Mock
     NotificationRepository notificationRepository;
 
+    @Mock
+    NotificationUnreadRepository notificationUnreadRepository;
+
     @Mock
     UserService userService;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("알림 조회 시 아이디로 유저를 찾을 수 없다면 BusinessLogicException 발생")
     void getNotifications_failed() {
@@ -92,13 +107,68 @@ public class NotificationServiceTest {
     @DisplayName("로직이 정상적으로 수행될 경우 해당하는 id를 가진 Notification의 Uri를 반환하고 isCheked를 true로 변환한다.")
     void getNotificationUri_success() {
         //given
-        Notification notification = Notification.builder().uri("/ddd/ddd").build();
+        Notification notification = Notification.builder().uri("/ddd/ddd").user(User.builder().id(ID2).build()).build();
         given(notificationRepository.findById(ID1)).willReturn(Optional.of(notification));
         //when
         String result = notificationService.findNotificationUriBy(ID1);
         //then
         assertThat(result).isEqualTo(notification.getUri());
         assertThat(notification.getIsChecked()).isTrue();
+        ArgumentCaptor<NotificationUncountedEvent> event = ArgumentCaptor.forClass(NotificationUncountedEvent.class);
+        Mockito.verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertThat(event.getValue().getUserId()).isEqualTo(ID2);
+        Mockito.verify(notificationUnreadRepository, never()).decrement(any());
+    }
+
+    @Test
+    @DisplayName("이미 확인한 알림을 다시 열면 읽지 않은 알림 수를 줄이지 않는다.")
+    void getNotificationUri_success2() {
+        //given
+        Notification notification = Notification.builder().uri("/ddd/ddd").isChecked(true).user(User.builder().id(ID2).build()).build();
+        given(notificationRepository.findById(ID1)).willReturn(Optional.of(notification));
+        //when
+        notificationService.findNotificationUriBy(ID1);
+        //then
+        Mockito.verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림 수는 커밋 이후 이벤트를 받아 줄인다.")
+    void uncount() {
+        //when
+        notificationService.uncount(NotificationUncountedEvent.of(ID1));
+        //then
+        Mockito.verify(notificationUnreadRepository).decrement(ID1);
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림 수는 유저를 나누어 덮어쓴 뒤, Redis 에만 남은 키를 지운다.")
+    void reconcileUnreadCounts() {
+        //given
+        Map<Long, Long> firstChunk = LongStream.rangeClosed(1, 1000).boxed()
+                .collect(Collectors.toMap(userId -> userId, userId -> 1L, (a, b) -> a, LinkedHashMap::new));
+        Map<Long, Long> secondChunk = Map.of(1001L, 2L);
+        given(notificationQueryRepository.countUncheckedByUser(0L, 1000)).willReturn(firstChunk);
+        given(notificationQueryRepository.countUncheckedByUser(1000L, 1000)).willReturn(secondChunk);
+        given(notificationUnreadRepository.overwrite(firstChunk)).willReturn(3L);
+        given(notificationUnreadRepository.overwrite(secondChunk)).willReturn(1L);
+        given(notificationUnreadRepository.removeStale(eq(1000), any())).willReturn(2L);
+        //when
+        long reconciled = notificationService.reconcileUnreadCounts();
+        //then
+        assertThat(reconciled).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림 수는 Redis 에서만 조회한다.")
+    void findUnreadCount_success() {
+        //given
+        given(notificationUnreadRepository.find(ID1)).willReturn(3L);
+        //when
+        NotificationDto.UnreadCount result = notificationService.findUnreadCount(UserDto.UserInfo.builder().id(ID1).build());
+        //then
+        assertThat(result.getUnreadCount()).isEqualTo(3L);
+        Mockito.verifyNoInteractions(notificationRepository, notificationQueryRepository, userService);
     }
 
     @Test